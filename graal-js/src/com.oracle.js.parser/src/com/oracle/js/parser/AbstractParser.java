@@ -204,10 +204,19 @@ public abstract class AbstractParser {
         final String comment = (String) lexer.getValueOf(token, isStrictMode);
         // 4 characters for directive comment marker //@\s or //#\s
         if (comment.startsWith(SOURCE_URL_PREFIX, 4)) {
-            source.setExplicitURL(comment.substring(4 + SOURCE_URL_PREFIX.length()));
+            setExplicitURL(comment.substring(4 + SOURCE_URL_PREFIX.length()));
         }
     }
 
+    /**
+     * Sets the URL of the source from a sourceURL directive comment.
+     *
+     * @param url the URL given by the directive
+     */
+    void setExplicitURL(final String url) {
+        source.setExplicitURL(url);
+    }
+
     /**
      * Seek next token.
      *
@@ -194,7 +194,27 @@ public class Lexer extends Scanner {
      */
     public Lexer(final Source source, final int start, final int len, final TokenStream stream, final boolean scripting, final int ecmaScriptVersion, final boolean shebang, final boolean isModule,
                     final boolean pauseOnFunctionBody, final boolean allowBigInt) {
-        super(source.getContent().toString().toCharArray(), 1, start, len);
+        this(source, source.getContent().toString().toCharArray(), start, len, stream, scripting, ecmaScriptVersion, shebang, isModule, pauseOnFunctionBody, allowBigInt);
+    }
+
+    /**
+     * Constructor for a lexer of a segment of the source whose content has already been copied.
+     *
+     * @param source the source
+     * @param content the content of the source
+     * @param start start position in source from which to start lexing
+     * @param len length of source segment to lex
+     * @param stream token stream to lex
+     * @param scripting are we in scripting mode
+     * @param ecmaScriptVersion ECMAScript language version
+     * @param shebang do we support shebang
+     * @param isModule are we in module
+     * @param pauseOnFunctionBody if true, lexer will return from {@link #lexify()} when it
+     *            encounters a function body
+     */
+    Lexer(final Source source, final char[] content, final int start, final int len, final TokenStream stream, final boolean scripting, final int ecmaScriptVersion, final boolean shebang,
+                    final boolean isModule, final boolean pauseOnFunctionBody, final boolean allowBigInt) {
+        super(content, 1, start, len);
         this.source = source;
         this.stream = stream;
         this.scripting = scripting;
@@ -210,6 +230,34 @@ public class Lexer extends Scanner {
         this.internedStrings = new HashMap<>();
     }
 
+    /**
+     * Constructor for a lexer of a segment of the same source, sharing the source content and
+     * options of the given lexer.
+     *
+     * @param lexer lexer of the same source
+     * @param start start position in source from which to start lexing
+     * @param len length of source segment to lex
+     * @param stream token stream to lex
+     * @param pauseOnFunctionBody if true, lexer will return from {@link #lexify()} when it
+     *            encounters a function body
+     */
+    Lexer(final Lexer lexer, final int start, final int len, final TokenStream stream, final boolean pauseOnFunctionBody) {
+        super(lexer.content, 1, start, len);
+        this.source = lexer.source;
+        this.stream = stream;
+        this.scripting = lexer.scripting;
+        this.ecmaScriptVersion = lexer.ecmaScriptVersion;
+        this.shebang = lexer.shebang;
+        this.nested = false;
+        this.isModule = lexer.isModule;
+        this.allowBigInt = lexer.allowBigInt;
+        this.pendingLine = 1;
+        this.last = EOL;
+
+        this.pauseOnFunctionBody = pauseOnFunctionBody;
+        this.internedStrings = new HashMap<>();
+    }
+
     private Lexer(final Lexer lexer, final State state) {
         super(lexer, state);
 
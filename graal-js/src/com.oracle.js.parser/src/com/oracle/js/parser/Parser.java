@@ -107,12 +107,17 @@ import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
 import java.util.function.Consumer;
+import java.util.function.Function;
 
 import org.graalvm.collections.Pair;
 
+import com.oracle.js.parser.Lexer.LexerToken;
 import com.oracle.js.parser.ir.AccessNode;
 import com.oracle.js.parser.ir.BaseNode;
 import com.oracle.js.parser.ir.BinaryNode;
@@ -273,6 +278,20 @@ public class Parser extends AbstractParser {
 
     private boolean isModule;
 
+    /** Pool for parsing top-level function declarations in parallel, if enabled. */
+    private ForkJoinPool parallelParsePool;
+
+    /** Parses top-level function declarations in parallel with this parser, if enabled. */
+    private TopLevelFunctionParser topLevelFunctionParser;
+
+    private boolean preParse;
+
+    /** Nesting depth of the functions currently being pre-parsed. */
+    private int preParseDepth;
+
+    /** Start of the pre-parsed function being parsed by {@link #parseFunction}, or -1. */
+    private int preParsedFunctionStart = -1;
+
     public static final boolean PROFILE_PARSING = Options.getBooleanProperty("parser.profiling", false);
     public static final boolean PROFILE_PARSING_PRINT = Options.getBooleanProperty("parser.profiling.print", true);
 
@@ -356,6 +375,29 @@ public class Parser extends AbstractParser {
         this.reparsedFunction = reparsedFunction;
     }
 
+    /**
+     * Enables parsing the top-level function declarations of large scripts in parallel with this
+     * parser. Only applies to {@link #parse()}.
+     *
+     * @param pool the pool to parse top-level function declarations in, or null to disable
+     *            parallel parsing
+     */
+    public void setParallelParsePool(final ForkJoinPool pool) {
+        this.parallelParsePool = pool;
+    }
+
+    /**
+     * Enables pre-parsing of function bodies. The body of a pre-parsed function is checked for
+     * syntax errors, but only the information needed to create the function is retained, see
+     * {@link FunctionNode#isPreParsed()}. The function has to be parsed again with
+     * {@link #parseFunction(FunctionNode)} before its body can be translated.
+     *
+     * @param preParse whether to pre-parse function bodies
+     */
+    public void setPreParse(final boolean preParse) {
+        this.preParse = preParse;
+    }
+
     /**
      * Set up first token. Skips opening EOL.
      */
@@ -412,6 +454,10 @@ public class Parser extends AbstractParser {
         try {
             prepareLexer(startPos, len);
 
+            if (parallelParsePool != null && reparseFlags == 0 && parentScope == null && reparsedFunction == null && !scripting && len >= TopLevelFunctionParser.MIN_SOURCE_LENGTH) {
+                topLevelFunctionParser = TopLevelFunctionParser.start(parallelParsePool, this, lexer, startPos, len, isStrictMode, lineOffset);
+            }
+
             scanFirstToken();
 
             return program(scriptName, reparseFlags, parentScope);
@@ -420,6 +466,10 @@ public class Parser extends AbstractParser {
 
             return null;
         } finally {
+            if (topLevelFunctionParser != null) {
+                topLevelFunctionParser.finish();
+                topLevelFunctionParser = null;
+            }
             if (PROFILE_PARSING) {
                 long duration = (System.nanoTime() - startTime);
                 if (PROFILE_PARSING_PRINT) {
@@ -690,7 +740,9 @@ public class Parser extends AbstractParser {
                         body,
                         function.getEndParserState(),
                         function.getModule(),
-                        function.getInternalName());
+                        function.getInternalName(),
+                        function.getPreParsedState(),
+                        function.getFreeVariables());
 
         return functionNode;
     }
@@ -1671,7 +1723,8 @@ public class Parser extends AbstractParser {
                 }
                 constructor = constructor.setValue(new FunctionNode(ctor.getSource(), ctor.getLineNumber(), ctor.getToken(), classFinish, classToken, lastToken, className,
                                 className == null ? "" : className.getName(),
-                                ctor.getLength(), ctor.getNumOfParams(), ctor.getParameters(), flags, ctor.getBody(), ctor.getEndParserState(), ctor.getModule(), ctor.getInternalName()));
+                                ctor.getLength(), ctor.getNumOfParams(), ctor.getParameters(), flags, ctor.getBody(), ctor.getEndParserState(), ctor.getModule(), ctor.getInternalName(),
+                                ctor.getPreParsedState(), ctor.getFreeVariables()));
             }
 
             IdentNode invalidPrivateIdent = classNode.verifyAllPrivateIdentifiersValid(lc);
@@ -4758,6 +4811,14 @@ public class Parser extends AbstractParser {
         final int functionLine = line;
         // FUNCTION is tested in caller.
         assert type == FUNCTION;
+        final PreParsedState preParsedState = canPreParseFunction(functionToken) ? new PreParsedState(lexer.content, Token.descPosition(functionToken), functionLine, linePosition, isStrictMode, isModule)
+                        : null;
+        if (topLevelFunctionParser != null && isStatement && topLevel && !async && !expressionStatement && lc.getCurrentFunction().isProgram()) {
+            final FunctionNode function = takeTopLevelFunction(functionToken, functionLine);
+            if (function != null) {
+                return function;
+            }
+        }
         next();
 
         boolean generator = false;
@@ -4805,6 +4866,9 @@ public class Parser extends AbstractParser {
         // If we didn't hide the current default name, then the innermost anonymous function would
         // receive "x3".
         hideDefaultName();
+        if (preParsedState != null) {
+            preParseDepth++;
+        }
 
         try {
             final ParserContextBlockNode parameterBlock = functionNode.createParameterBlock();
@@ -4823,6 +4887,9 @@ public class Parser extends AbstractParser {
         } finally {
             popDefaultName();
             lc.pop(functionNode);
+            if (preParsedState != null) {
+                preParseDepth--;
+            }
         }
 
         if (isStatement && !isAnonymous) {
@@ -4840,6 +4907,10 @@ public class Parser extends AbstractParser {
 
         verifyParameterList(functionNode);
 
+        if (preParsedState != null) {
+            functionBody = dropPreParsedFunctionBody(functionNode, functionBody, preParsedState);
+        }
+
         final FunctionNode function = createFunctionNode(
                         functionNode,
                         functionToken,
@@ -5276,7 +5347,7 @@ public class Parser extends AbstractParser {
         }
 
         stream.reset();
-        lexer = parserState.createLexer(source, lexer, stream, scripting, env.ecmaScriptVersion, shebang, isModule, allowBigInt);
+        lexer = parserState.createLexer(lexer, stream);
         line = parserState.line;
         linePosition = parserState.linePosition;
         // Doesn't really matter, but it's safe to treat it as if there were a semicolon before
@@ -5302,14 +5373,295 @@ public class Parser extends AbstractParser {
             this.linePosition = linePosition;
         }
 
-        Lexer createLexer(final Source source, final Lexer lexer, final TokenStream stream,
-                        final boolean scripting, final int ecmaScriptVersion, final boolean shebang, final boolean isModule, final boolean allowBigInt) {
-            final Lexer newLexer = new Lexer(source, position, lexer.limit - position, stream, scripting, ecmaScriptVersion, shebang, isModule, true, allowBigInt);
+        Lexer createLexer(final Lexer lexer, final TokenStream stream) {
+            final Lexer newLexer = new Lexer(lexer, position, lexer.limit - position, stream, true);
             newLexer.restoreState(new Lexer.State(position, Integer.MAX_VALUE, line, -1, linePosition, SEMICOLON));
             return newLexer;
         }
     }
 
+    /**
+     * Parser state at the start of a pre-parsed function, see {@link #parseFunction}. The source
+     * content is shared by all functions pre-parsed by the same parser, so that it is only copied
+     * once.
+     */
+    private static final class PreParsedState {
+        private final char[] content;
+        private final int position;
+        private final int line;
+        private final int linePosition;
+        private final boolean strict;
+        private final boolean module;
+
+        PreParsedState(final char[] content, final int position, final int line, final int linePosition, final boolean strict, final boolean module) {
+            this.content = content;
+            this.position = position;
+            this.line = line;
+            this.linePosition = linePosition;
+            this.strict = strict;
+            this.module = module;
+        }
+    }
+
+    /**
+     * Returns true if the function starting at the given token is to be pre-parsed. Functions in
+     * class bodies are always parsed in full since they may refer to private names of the class,
+     * as are functions that are likely to be invoked right away, e.g. {@code (function() {})()}.
+     */
+    private boolean canPreParseFunction(final long functionToken) {
+        return preParse && preParseDepth == 0 && Token.descPosition(functionToken) != preParsedFunctionStart && reparsedFunction == null && !env.syntaxExtensions &&
+                        lc.getCurrentClass() == null && last != LPAREN;
+    }
+
+    /**
+     * Records the names that a pre-parsed function may resolve in enclosing scopes and drops its
+     * body, so that only the information needed to create the function is retained.
+     *
+     * @return an empty function body
+     */
+    private Block dropPreParsedFunctionBody(final ParserContextFunctionNode functionNode, final Block body, final PreParsedState preParsedState) {
+        final Scope bodyScope = functionNode.getBodyScope();
+        final Set<String> freeVariables = new LinkedHashSet<>();
+        body.accept(new NodeVisitor<LexicalContext>(new LexicalContext()) {
+            @Override
+            public boolean enterIdentNode(final IdentNode identNode) {
+                // this, new.target, and arguments always refer to the (non-arrow) function itself
+                if (!identNode.isPropertyName() && !identNode.isThis() && !identNode.isSuper() && !identNode.isNewTarget() && !ARGUMENTS_NAME.equals(identNode.getName())) {
+                    freeVariables.add(identNode.getName());
+                }
+                return true;
+            }
+        });
+        freeVariables.removeIf(name -> {
+            for (Scope scope = bodyScope; scope != null; scope = scope.getParent()) {
+                if (scope.hasSymbol(name)) {
+                    return true;
+                } else if (scope.isFunctionTopScope()) {
+                    break;
+                }
+            }
+            return false;
+        });
+        functionNode.setPreParsed(preParsedState, new ArrayList<>(freeVariables));
+
+        final Block functionBody = body.isParameterBlock() ? ((BlockStatement) body.getLastStatement()).getBlock() : body;
+        final Scope emptyScope = Scope.createFunctionBody(bodyScope.getParent(), functionNode.getFlags());
+        emptyScope.close();
+        return new Block(functionBody.getToken(), functionBody.getFinish(), functionBody.getFlags(), emptyScope);
+    }
+
+    /**
+     * Parses a function that has been pre-parsed by a parser for the same source, in the context
+     * it was pre-parsed in. Nested functions are pre-parsed if pre-parsing is enabled. Errors will
+     * be thrown and the error manager will contain information if parsing should fail.
+     *
+     * @param preParsedFunction the pre-parsed function, see {@link FunctionNode#isPreParsed()}
+     * @return the function node with its full body
+     */
+    public FunctionNode parseFunction(final FunctionNode preParsedFunction) {
+        final PreParsedState state = (PreParsedState) preParsedFunction.getPreParsedState();
+        final boolean oldStrictMode = isStrictMode;
+        final boolean oldModule = isModule;
+        try {
+            isStrictMode = state.strict;
+            isModule = state.module;
+            preParsedFunctionStart = state.position;
+
+            final int end = preParsedFunction.getFinish();
+            stream = new TokenStream();
+            lexer = new Lexer(source, state.content, state.position, end - state.position, stream, scripting, env.ecmaScriptVersion, shebang, isModule, false, allowBigInt);
+            lexer.restoreState(new Lexer.State(state.position, end, state.line, -1, state.linePosition, SEMICOLON));
+            line = state.line;
+            linePosition = state.linePosition;
+
+            scanFirstToken();
+
+            return preParsedFunction(preParsedFunction);
+        } catch (final Exception e) {
+            handleParseException(e);
+
+            return null;
+        } finally {
+            preParsedFunctionStart = -1;
+            isStrictMode = oldStrictMode;
+            isModule = oldModule;
+        }
+    }
+
+    private FunctionNode preParsedFunction(final FunctionNode preParsedFunction) {
+        long functionToken = token;
+        final boolean async = preParsedFunction.isAsync();
+        if (async) {
+            assert isAsync() && lookaheadIsAsyncFunction();
+            nextOrEOL();
+            functionToken = Token.recast(functionToken, FUNCTION);
+        }
+        expectDontAdvance(FUNCTION);
+
+        // Parse the function in a synthetic script, like program().
+        final long scriptToken = Token.toDesc(FUNCTION, preParsedFunction.getStart(), preParsedFunction.getFinish() - preParsedFunction.getStart());
+        final Scope topScope = Scope.createGlobal();
+        final ParserContextFunctionNode script = createParserContextFunctionNode(null, scriptToken, FunctionNode.IS_SCRIPT, line, Collections.<IdentNode> emptyList(), 0, topScope);
+        lc.push(script);
+        final ParserContextBlockNode body = newBlock(topScope);
+        functionDeclarations = new ArrayList<>();
+        // The internal name of an anonymous function is inferred from the enclosing expression.
+        final String internalName = preParsedFunction.getInternalName();
+        if (internalName != null) {
+            pushDefaultName(new IdentNode(functionToken, finish, internalName));
+        } else {
+            hideDefaultName();
+        }
+        final FunctionNode function;
+        try {
+            final boolean isStatement = preParsedFunction.isStatement();
+            function = (FunctionNode) functionExpression(isStatement, isStatement, async, functionToken, false);
+        } finally {
+            popDefaultName();
+            functionDeclarations = null;
+            restoreBlock(body);
+            lc.pop(script);
+        }
+        expect(EOF);
+
+        assert function.getId() == preParsedFunction.getId() && function.getFlags() == preParsedFunction.getFlags() : function;
+        // The name may also have been assigned by the enclosing expression.
+        return function.setName(null, preParsedFunction.getName());
+    }
+
+    /**
+     * Takes over a top-level function declaration that has been parsed in parallel, if it was parsed
+     * under the same assumptions as it would be here, and continues after the declaration.
+     *
+     * @return the function node, or null if the declaration has to be parsed here
+     */
+    private FunctionNode takeTopLevelFunction(final long functionToken, final int functionLine) {
+        final TopLevelFunctionParser.ParsedFunction parsed = topLevelFunctionParser.take(Token.descPosition(functionToken));
+        if (parsed == null || parsed.strict != isStrictMode || parsed.line != functionLine) {
+            return null;
+        }
+        final FunctionNode function = parsed.function;
+        final ParserState endParserState = (ParserState) function.getEndParserState();
+        if (function.isAnonymous() || endParserState == null) {
+            return null;
+        }
+        try {
+            for (LexerToken lexerToken : parsed.lexerTokens) {
+                validateLexerToken(lexerToken);
+            }
+        } catch (ParserException e) {
+            // parse the declaration again to report the error at the right position
+            return null;
+        }
+
+        // Continue from the RBRACE of the function body (see skipFunctionBody()).
+        stream.reset();
+        lexer = endParserState.createLexer(lexer, stream);
+        line = endParserState.line;
+        linePosition = endParserState.linePosition;
+        type = SEMICOLON;
+        scanFirstToken();
+        expect(RBRACE);
+
+        final VarNode varNode = new VarNode(functionLine, functionToken, finish, function.getIdent(), function, 0);
+        declareVar(lc.getCurrentScope(), varNode);
+        functionDeclarations.add(varNode);
+        lc.getCurrentFunction().setFlag(parsed.scriptFlags);
+        if (parsed.explicitURL != null && source.getExplicitURL() == null) {
+            source.setExplicitURL(parsed.explicitURL);
+        }
+        return function;
+    }
+
+    /**
+     * Parses the top-level function declaration spanning exactly the given source range with a new
+     * parser. Called from a worker thread of the {@link TopLevelFunctionParser}.
+     */
+    TopLevelFunctionParser.ParsedFunction parseTopLevelFunction(final Lexer sourceLexer, final int start, final int end, final int startLine, final int startLinePosition,
+                    final boolean strict) {
+        final TopLevelFunctionParser.ParsedFunction parsed = new TopLevelFunctionParser.ParsedFunction(startLine, strict);
+        final Parser parser = new TopLevelFunctionDeclarationParser(this, strict, parsed);
+        parser.preParse = preParse;
+        parser.topLevelFunctionDeclaration(sourceLexer, start, end, startLine, startLinePosition, parsed);
+        if (parser.errors.getNumberOfWarnings() != 0) {
+            // let the main parser report the warnings
+            return null;
+        }
+        return parsed;
+    }
+
+    private void topLevelFunctionDeclaration(final Lexer sourceLexer, final int start, final int end, final int startLine, final int startLinePosition,
+                    final TopLevelFunctionParser.ParsedFunction parsed) {
+        stream = new TokenStream();
+        lexer = new Lexer(sourceLexer, start, end - start, stream, false);
+        lexer.restoreState(new Lexer.State(start, end, startLine, -1, startLinePosition, SEMICOLON));
+        line = startLine;
+        linePosition = startLinePosition;
+
+        scanFirstToken();
+        expectDontAdvance(FUNCTION);
+        final long functionToken = token;
+
+        // Parse the declaration in a synthetic script, like program().
+        final long scriptToken = Token.toDesc(FUNCTION, start, end - start);
+        final Scope topScope = Scope.createGlobal();
+        final ParserContextFunctionNode script = createParserContextFunctionNode(null, scriptToken, FunctionNode.IS_SCRIPT, line, Collections.<IdentNode> emptyList(), 0, topScope);
+        final int scriptFlags = script.getFlags();
+        lc.push(script);
+        final ParserContextBlockNode body = newBlock(topScope);
+        functionDeclarations = new ArrayList<>();
+        try {
+            parsed.function = (FunctionNode) functionExpression(true, true, false, functionToken, false);
+        } finally {
+            functionDeclarations = null;
+            restoreBlock(body);
+            lc.pop(script);
+        }
+        // The declaration must end exactly at the end of the range.
+        expect(EOF);
+        parsed.scriptFlags = script.getFlags() & ~scriptFlags;
+    }
+
+    /**
+     * Parser for a top-level function declaration parsed in parallel with the main parser. Lexer
+     * tokens to be validated and sourceURL directives are recorded rather than processed, since the
+     * main parser has to process them in source order.
+     */
+    private static final class TopLevelFunctionDeclarationParser extends Parser {
+        private final Parser mainParser;
+        private final TopLevelFunctionParser.ParsedFunction parsed;
+
+        TopLevelFunctionDeclarationParser(final Parser mainParser, final boolean strict, final TopLevelFunctionParser.ParsedFunction parsed) {
+            super(mainParser.env, mainParser.source, new SilentErrorManager(), strict, mainParser.lineOffset);
+            this.mainParser = mainParser;
+            this.parsed = parsed;
+        }
+
+        @Override
+        protected void validateLexerToken(final LexerToken lexerToken) {
+            parsed.lexerTokens.add(lexerToken);
+        }
+
+        @Override
+        protected Function<Number, String> getNumberToStringConverter() {
+            return mainParser.getNumberToStringConverter();
+        }
+
+        @Override
+        void setExplicitURL(final String url) {
+            parsed.explicitURL = url;
+        }
+    }
+
+    /**
+     * Error manager that throws on errors and only counts warnings.
+     */
+    private static final class SilentErrorManager extends ErrorManager.ThrowErrorManager {
+        @Override
+        protected void message(final String message) {
+        }
+    }
+
     private void addFunctionDeclarations(final ParserContextFunctionNode functionNode) {
         VarNode lastDecl = null;
         for (int i = functionDeclarations.size() - 1; i >= 0; i--) {
@@ -90,6 +90,9 @@ class ParserContextFunctionNode extends ParserContextBaseNode {
     /** Opaque node for parser end state, see {@link Parser} */
     private Object endParserState;
 
+    private Object preParsedState;
+    private List<String> freeVariables;
+
     private int length;
     private int parameterCount;
     private IdentNode duplicateParameterBinding;
@@ -246,6 +249,32 @@ class ParserContextFunctionNode extends ParserContextBaseNode {
         this.endParserState = endParserState;
     }
 
+    /**
+     * Returns the ParserState at the start of this function if only its syntax has been checked.
+     */
+    public Object getPreParsedState() {
+        return preParsedState;
+    }
+
+    /**
+     * Returns the free variables of this function if only its syntax has been checked.
+     */
+    public List<String> getFreeVariables() {
+        return freeVariables;
+    }
+
+    /**
+     * Marks this function as pre-parsed, i.e., its body is not retained and has to be parsed again
+     * from the given ParserState when needed.
+     *
+     * @param preParsedState the parser state at the start of the function
+     * @param freeVariables names referenced in the function that may be declared outside of it
+     */
+    public void setPreParsed(final Object preParsedState, final List<String> freeVariables) {
+        this.preParsedState = preParsedState;
+        this.freeVariables = freeVariables;
+    }
+
     /**
      * Returns the if of this function
      *
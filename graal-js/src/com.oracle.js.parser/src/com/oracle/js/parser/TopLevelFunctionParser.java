@@ -0,0 +1,368 @@
+/*
+ * Copyright (c) 2020, 2020, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * The Universal Permissive License (UPL), Version 1.0
+ *
+ * Subject to the condition set forth below, permission is hereby granted to any
+ * person obtaining a copy of this software, associated documentation and/or
+ * data (collectively the "Software"), free of charge and under any and all
+ * copyright rights in the Software, and any and all patent rights owned or
+ * freely licensable by each licensor hereunder covering either (i) the
+ * unmodified Software as contributed to or provided by such licensor, or (ii)
+ * the Larger Works (as defined below), to deal in both
+ *
+ * (a) the Software, and
+ *
+ * (b) any piece of software and/or hardware listed in the lrgrwrks.txt file if
+ * one is included with the Software each a "Larger Work" to which the Software
+ * is contributed by such licensors),
+ *
+ * without restriction, including without limitation the rights to copy, create
+ * derivative works of, display, perform, and distribute the Software and make,
+ * use, sell, offer for sale, import, export, have made, and have sold the
+ * Software and the Larger Work(s), and to sublicense the foregoing rights on
+ * either these or other terms.
+ *
+ * This license is subject to the following condition:
+ *
+ * The above copyright notice and either this complete permission notice or at a
+ * minimum a reference to the UPL must be included in all copies or substantial
+ * portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.oracle.js.parser;
+
+import static com.oracle.js.parser.TokenType.ESCSTRING;
+import static com.oracle.js.parser.TokenType.RBRACE;
+import static com.oracle.js.parser.TokenType.SEMICOLON;
+import static com.oracle.js.parser.TokenType.STRING;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.RecursiveTask;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import com.oracle.js.parser.Lexer.LexerToken;
+import com.oracle.js.parser.ir.FunctionNode;
+
+/**
+ * Parses the top-level function declarations of a large script in parallel with the main parser.
+ * <p>
+ * A scanner task lexes the script ahead of the main parser, tracking bracket nesting, to find the
+ * source ranges of top-level function declarations, and forks a task for each of them that parses
+ * the declaration with a separate {@link Parser}. When the main parser reaches such a declaration,
+ * it takes over the parsed function and skips the declaration, or parses the declaration itself if
+ * the task has not started yet or did not succeed. The scanner only approximates the parser (e.g.,
+ * regular expression literals are recognized heuristically), so a result is only produced if the
+ * separate parser consumed exactly the scanned range, and only used if it was parsed under the same
+ * assumptions (strictness, line number) as the main parser would have.
+ */
+final class TopLevelFunctionParser {
+    /** Minimum source length for which top-level functions are parsed in parallel. */
+    static final int MIN_SOURCE_LENGTH = 64 * 1024;
+    /** Minimum length of a function declaration worth parsing in parallel. */
+    private static final int MIN_FUNCTION_LENGTH = 1024;
+
+    private final Parser parser;
+    private final Lexer sourceLexer;
+    private final int start;
+    private final int length;
+    private final boolean strict;
+    private final int lineOffset;
+
+    /** Function tasks by start position of the declaration. */
+    private final ConcurrentHashMap<Integer, FunctionTask> tasks = new ConcurrentHashMap<>();
+    private volatile boolean finished;
+
+    private TopLevelFunctionParser(final Parser parser, final Lexer sourceLexer, final int start, final int length, final boolean strict, final int lineOffset) {
+        this.parser = parser;
+        this.sourceLexer = sourceLexer;
+        this.start = start;
+        this.length = length;
+        this.strict = strict;
+        this.lineOffset = lineOffset;
+    }
+
+    /**
+     * Starts scanning the given source range for top-level function declarations in the given
+     * pool.
+     *
+     * @return the parallel parser, or null if the pool cannot take the work
+     */
+    static TopLevelFunctionParser start(final ForkJoinPool pool, final Parser parser, final Lexer sourceLexer, final int start, final int length, final boolean strict, final int lineOffset) {
+        final TopLevelFunctionParser functionParser = new TopLevelFunctionParser(parser, sourceLexer, start, length, strict, lineOffset);
+        try {
+            pool.execute(functionParser.new ScanTask());
+        } catch (RejectedExecutionException e) {
+            return null;
+        }
+        return functionParser;
+    }
+
+    /**
+     * Returns the function declaration starting at the given position, if it has been or is being
+     * parsed in parallel. Otherwise, returns null and the caller has to parse it.
+     */
+    ParsedFunction take(final int position) {
+        final FunctionTask task = tasks.remove(position);
+        if (task == null || task.started.compareAndSet(false, true)) {
+            // not started yet, cheaper to parse it in the main parser
+            return null;
+        }
+        try {
+            return task.join();
+        } catch (RuntimeException | Error e) {
+            // FunctionTask does not complete exceptionally, but never fail the main parser
+            return null;
+        }
+    }
+
+    /**
+     * Stops scanning and cancels all function tasks that have not started yet.
+     */
+    void finish() {
+        finished = true;
+        for (FunctionTask task : tasks.values()) {
+            task.started.set(true);
+        }
+        tasks.clear();
+    }
+
+    private void scan() {
+        final TokenStream stream = new TokenStream();
+        final Lexer lexer = new Lexer(sourceLexer, start, length, stream, false);
+        lexer.line = lexer.pendingLine = lineOffset + 1;
+
+        int line = lineOffset;
+        int linePosition = 0;
+        boolean strictScript = strict;
+        boolean directivePrologue = true;
+        TokenType previous = null;
+        boolean newLine = false;
+        int depth = 0;
+        int[] templateDepths = new int[8];
+        int templateNesting = 0;
+
+        int functionStart = -1;
+        int functionLine = 0;
+        int functionLinePosition = 0;
+        boolean inFunctionBody = false;
+
+        for (int k = 0; !finished; k++) {
+            // No backtracking.
+            stream.commit(k);
+            while (k > stream.last()) {
+                if (stream.isFull()) {
+                    stream.grow();
+                }
+                lexer.lexify();
+            }
+            final long token = stream.get(k);
+            final TokenType type = Token.descType(token);
+            switch (type) {
+                case EOF:
+                    return;
+                case EOL:
+                    line = Token.descLength(token);
+                    linePosition = Token.descPosition(token);
+                    newLine = true;
+                    continue;
+                case COMMENT:
+                case DIRECTIVE_COMMENT:
+                    continue;
+                case LPAREN:
+                case LBRACKET:
+                    depth++;
+                    break;
+                case LBRACE:
+                    if (functionStart >= 0 && depth == 0) {
+                        inFunctionBody = true;
+                    }
+                    depth++;
+                    break;
+                case RPAREN:
+                case RBRACKET:
+                    depth--;
+                    break;
+                case RBRACE:
+                    depth--;
+                    if (templateNesting > 0 && templateDepths[templateNesting - 1] == depth) {
+                        // end of a template literal substitution
+                        templateNesting--;
+                        lexer.pauseOnRightBrace = templateNesting > 0;
+                        lexer.scanTemplateSpan();
+                    } else if (inFunctionBody && depth == 0) {
+                        final int functionEnd = Token.descPosition(token) + Token.descLength(token);
+                        if (functionEnd - functionStart >= MIN_FUNCTION_LENGTH) {
+                            fork(functionStart, functionEnd, functionLine, functionLinePosition, strictScript);
+                        }
+                        functionStart = -1;
+                        inFunctionBody = false;
+                    }
+                    break;
+                case TEMPLATE_HEAD:
+                case TEMPLATE_MIDDLE:
+                    if (templateNesting == templateDepths.length) {
+                        templateDepths = Arrays.copyOf(templateDepths, templateNesting * 2);
+                    }
+                    templateDepths[templateNesting++] = depth;
+                    depth++;
+                    lexer.pauseOnRightBrace = true;
+                    break;
+                case FUNCTION:
+                    if (depth == 0 && functionStart < 0 && isStatementStart(previous, newLine)) {
+                        functionStart = Token.descPosition(token);
+                        functionLine = line;
+                        functionLinePosition = linePosition;
+                    }
+                    break;
+                case DIV:
+                case ASSIGN_DIV:
+                    if (!isExpressionEnd(previous)) {
+                        // the lexer paused here; scan the regular expression literal, which is
+                        // the next token.
+                        if (!lexer.scanLiteral(token, type, null)) {
+                            return;
+                        }
+                        continue;
+                    }
+                    break;
+                case STRING:
+                    if (directivePrologue && (previous == null || previous == SEMICOLON || newLine) && "use strict".equals(lexer.getValueOf(token, strictScript))) {
+                        strictScript = true;
+                    }
+                    break;
+                default:
+                    break;
+            }
+            if (directivePrologue && !((type == STRING || type == ESCSTRING) && (previous == null || previous == SEMICOLON || newLine)) &&
+                            !(type == SEMICOLON && (previous == STRING || previous == ESCSTRING))) {
+                directivePrologue = false;
+            }
+            previous = type;
+            newLine = false;
+        }
+    }
+
+    private void fork(final int functionStart, final int functionEnd, final int functionLine, final int functionLinePosition, final boolean functionStrict) {
+        final FunctionTask task = new FunctionTask(functionStart, functionEnd, functionLine, functionLinePosition, functionStrict);
+        tasks.put(functionStart, task);
+        if (finished) {
+            task.started.set(true);
+        }
+        task.fork();
+    }
+
+    /**
+     * Whether a function keyword after the given token starts a function declaration.
+     */
+    private static boolean isStatementStart(final TokenType previous, final boolean newLine) {
+        return previous == null || previous == SEMICOLON || previous == RBRACE || (newLine && isExpressionEnd(previous));
+    }
+
+    /**
+     * Whether the given token may end an expression, i.e., whether a following slash is a division
+     * rather than the start of a regular expression literal.
+     */
+    private static boolean isExpressionEnd(final TokenType previous) {
+        if (previous == null) {
+            return false;
+        }
+        switch (previous) {
+            case RPAREN:
+            case RBRACKET:
+            case RBRACE:
+            case THIS:
+            case SUPER:
+            case INCPREFIX:
+            case DECPREFIX:
+                return true;
+            case TEMPLATE_HEAD:
+            case TEMPLATE_MIDDLE:
+                return false;
+            default:
+                return previous.getKind() == TokenKind.LITERAL || previous.isContextualKeyword();
+        }
+    }
+
+    /**
+     * Result of parsing a top-level function declaration in parallel. Lexer tokens to be validated
+     * and sourceURL directives encountered in the function are recorded, to be processed by the
+     * main parser in source order.
+     */
+    static final class ParsedFunction {
+        final int line;
+        final boolean strict;
+        final List<LexerToken> lexerTokens = new ArrayList<>();
+        FunctionNode function;
+        /** Flags set on the enclosing script by the function, e.g., for nested eval. */
+        int scriptFlags;
+        String explicitURL;
+
+        ParsedFunction(final int line, final boolean strict) {
+            this.line = line;
+            this.strict = strict;
+        }
+    }
+
+    private final class ScanTask extends RecursiveAction {
+        private static final long serialVersionUID = 5085437536513472018L;
+
+        @Override
+        protected void compute() {
+            try {
+                scan();
+            } catch (Throwable e) {
+                // The lexer failed (or an internal error occurred); the main parser parses the
+                // remaining functions itself and reports the error, if any.
+            }
+        }
+    }
+
+    private final class FunctionTask extends RecursiveTask<ParsedFunction> {
+        private static final long serialVersionUID = -1706412795358318286L;
+
+        final AtomicBoolean started = new AtomicBoolean();
+        private final int functionStart;
+        private final int functionEnd;
+        private final int functionLine;
+        private final int functionLinePosition;
+        private final boolean functionStrict;
+
+        FunctionTask(final int functionStart, final int functionEnd, final int functionLine, final int functionLinePosition, final boolean functionStrict) {
+            this.functionStart = functionStart;
+            this.functionEnd = functionEnd;
+            this.functionLine = functionLine;
+            this.functionLinePosition = functionLinePosition;
+            this.functionStrict = functionStrict;
+        }
+
+        @Override
+        protected ParsedFunction compute() {
+            if (!started.compareAndSet(false, true)) {
+                return null;
+            }
+            try {
+                return parser.parseTopLevelFunction(sourceLexer, functionStart, functionEnd, functionLine, functionLinePosition, functionStrict);
+            } catch (Throwable e) {
+                // Any failure (syntax error, stack overflow, internal error) is left to the main
+                // parser, which parses the function again and reports the error, if any.
+                return null;
+            }
+        }
+    }
+}
@@ -100,6 +100,17 @@ public final class FunctionNode extends LexicalContextExpression implements Flag
     /** Optional internal/inferred function name. */
     private final String internalName;
 
+    /**
+     * Opaque object representing parser state at the start of a function whose body has only been
+     * pre-parsed. Used to parse the function on demand. Null if the function has been fully parsed.
+     */
+    private final Object preParsedState;
+
+    /**
+     * Names referenced in a pre-parsed function, excluding the ones declared in its top scopes.
+     */
+    private final List<String> freeVariables;
+
     private boolean usesAncestorScope;
 
     /** Is anonymous function flag. */
@@ -270,7 +281,9 @@ public final class FunctionNode extends LexicalContextExpression implements Flag
                     final Block body,
                     final Object endParserState,
                     final Module module,
-                    final String internalName) {
+                    final String internalName,
+                    final Object preParsedState,
+                    final List<String> freeVariables) {
         super(token, Token.descPosition(firstToken), finish);
 
         this.source = source;
@@ -287,6 +300,8 @@ public final class FunctionNode extends LexicalContextExpression implements Flag
         this.endParserState = endParserState;
         this.module = module;
         this.internalName = internalName;
+        this.preParsedState = preParsedState;
+        this.freeVariables = freeVariables;
     }
 
     private FunctionNode(
@@ -316,6 +331,8 @@ public final class FunctionNode extends LexicalContextExpression implements Flag
         this.numOfParams = functionNode.numOfParams;
         this.module = functionNode.module;
         this.internalName = functionNode.internalName;
+        this.preParsedState = functionNode.preParsedState;
+        this.freeVariables = functionNode.freeVariables;
     }
 
     @Override
@@ -582,6 +599,34 @@ public final class FunctionNode extends LexicalContextExpression implements Flag
         return endParserState;
     }
 
+    /**
+     * Returns true if only the syntax of this function has been checked and its body has not been
+     * retained. Such a function has an empty body and has to be parsed again before it can be
+     * translated, see {@code Parser.parseFunction}.
+     */
+    public boolean isPreParsed() {
+        return preParsedState != null;
+    }
+
+    /**
+     * Returns the parser state at the start of this function if it is pre-parsed.
+     *
+     * @return the parser state at the start of this function, or null.
+     */
+    public Object getPreParsedState() {
+        return preParsedState;
+    }
+
+    /**
+     * Returns the names referenced in this pre-parsed function, including its nested functions,
+     * that may be resolved in an enclosing scope.
+     *
+     * @return the free variable names of this function, or null if it is not pre-parsed.
+     */
+    public List<String> getFreeVariables() {
+        return freeVariables;
+    }
+
     /**
      * Get the name of this function
      *
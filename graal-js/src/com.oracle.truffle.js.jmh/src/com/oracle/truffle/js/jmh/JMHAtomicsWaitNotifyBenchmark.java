@@ -0,0 +1,141 @@
+/*
+ * Copyright (c) 2020, 2020, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * The Universal Permissive License (UPL), Version 1.0
+ *
+ * Subject to the condition set forth below, permission is hereby granted to any
+ * person obtaining a copy of this software, associated documentation and/or
+ * data (collectively the "Software"), free of charge and under any and all
+ * copyright rights in the Software, and any and all patent rights owned or
+ * freely licensable by each licensor hereunder covering either (i) the
+ * unmodified Software as contributed to or provided by such licensor, or (ii)
+ * the Larger Works (as defined below), to deal in both
+ *
+ * (a) the Software, and
+ *
+ * (b) any piece of software and/or hardware listed in the lrgrwrks.txt file if
+ * one is included with the Software each a "Larger Work" to which the Software
+ * is contributed by such licensors),
+ *
+ * without restriction, including without limitation the rights to copy, create
+ * derivative works of, display, perform, and distribute the Software and make,
+ * use, sell, offer for sale, import, export, have made, and have sold the
+ * Software and the Larger Work(s), and to sublicense the foregoing rights on
+ * either these or other terms.
+ *
+ * This license is subject to the following condition:
+ *
+ * The above copyright notice and either this complete permission notice or at a
+ * minimum a reference to the UPL must be included in all copies or substantial
+ * portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.oracle.truffle.js.jmh;
+
+import org.graalvm.polyglot.Context;
+import org.graalvm.polyglot.Value;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Contention benchmark for {@code Atomics.wait} and {@code Atomics.notify}. A number of agents
+ * block on their own index of a shared buffer and are released round by round by the main agent,
+ * which in turn waits for all of them to acknowledge.
+ */
+@Warmup(iterations = 5)
+@Measurement(iterations = 5)
+@Fork(2)
+public class JMHAtomicsWaitNotifyBenchmark {
+    @State(Scope.Thread)
+    public static class MyState {
+        protected static final int ROUNDS = 100;
+
+        @Param({"1", "8"}) int agents;
+
+        Context context;
+        Value pingPong;
+        Value stop;
+
+        @Setup(Level.Trial)
+        public void doSetup() {
+            context = Context.newBuilder("js").allowExperimentalOptions(true).option("js.test262-mode", "true").build();
+            String code = "const AGENTS = " + agents + ", ACKS = AGENTS, READY = AGENTS + 1;\n" //
+                            + "for (let i = 0; i < AGENTS; i++) {\n" //
+                            + "  $262.agent.start(`\n" //
+                            + "    $262.agent.receiveBroadcast(function(sab) {\n" //
+                            + "      const i32a = new Int32Array(sab);\n" //
+                            + "      const id = Atomics.add(i32a, ${READY}, 1);\n" //
+                            + "      let seen = 0;\n" //
+                            + "      while (seen >= 0) {\n" //
+                            + "        let r;\n" //
+                            + "        while ((r = Atomics.load(i32a, id)) === seen) {\n" //
+                            + "          Atomics.wait(i32a, id, seen);\n" //
+                            + "        }\n" //
+                            + "        seen = r;\n" //
+                            + "        Atomics.add(i32a, ${ACKS}, 1);\n" //
+                            + "        Atomics.notify(i32a, ${ACKS});\n" //
+                            + "      }\n" //
+                            + "      $262.agent.leaving();\n" //
+                            + "    });\n" //
+                            + "  `);\n" //
+                            + "}\n" //
+                            + "const i32a = new Int32Array(new SharedArrayBuffer(Int32Array.BYTES_PER_ELEMENT * (AGENTS + 2)));\n" //
+                            + "$262.agent.broadcast(i32a.buffer);\n" //
+                            + "while (Atomics.load(i32a, READY) < AGENTS) {\n" //
+                            + "  $262.agent.sleep(1);\n" //
+                            + "}\n" //
+                            + "let round = 0;\n" //
+                            + "function release(value) {\n" //
+                            + "  const expected = Atomics.load(i32a, ACKS) + AGENTS;\n" //
+                            + "  for (let i = 0; i < AGENTS; i++) {\n" //
+                            + "    Atomics.store(i32a, i, value);\n" //
+                            + "    Atomics.notify(i32a, i);\n" //
+                            + "  }\n" //
+                            + "  let acks;\n" //
+                            + "  while ((acks = Atomics.load(i32a, ACKS)) < expected) {\n" //
+                            + "    Atomics.wait(i32a, ACKS, acks);\n" //
+                            + "  }\n" //
+                            + "  return acks;\n" //
+                            + "}\n" //
+                            + "[function pingPong(rounds) {\n" //
+                            + "  let acks;\n" //
+                            + "  for (let r = 0; r < rounds; r++) {\n" //
+                            + "    acks = release(++round);\n" //
+                            + "  }\n" //
+                            + "  return acks;\n" //
+                            + "}, function stop() {\n" //
+                            + "  release(-1);\n" //
+                            + "}];"; //
+            Value functions = context.eval("js", code);
+            pingPong = functions.getArrayElement(0);
+            stop = functions.getArrayElement(1);
+        }
+
+        @TearDown(Level.Trial)
+        public void doTearDown() {
+            stop.executeVoid();
+            context.close();
+        }
+    }
+
+    @Benchmark
+    public Value testPingPong(MyState state) {
+        return state.pingPong.execute(MyState.ROUNDS);
+    }
+}
@@ -0,0 +1,135 @@
+/*
+ * Copyright (c) 2020, 2020, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * The Universal Permissive License (UPL), Version 1.0
+ *
+ * Subject to the condition set forth below, permission is hereby granted to any
+ * person obtaining a copy of this software, associated documentation and/or
+ * data (collectively the "Software"), free of charge and under any and all
+ * copyright rights in the Software, and any and all patent rights owned or
+ * freely licensable by each licensor hereunder covering either (i) the
+ * unmodified Software as contributed to or provided by such licensor, or (ii)
+ * the Larger Works (as defined below), to deal in both
+ *
+ * (a) the Software, and
+ *
+ * (b) any piece of software and/or hardware listed in the lrgrwrks.txt file if
+ * one is included with the Software each a "Larger Work" to which the Software
+ * is contributed by such licensors),
+ *
+ * without restriction, including without limitation the rights to copy, create
+ * derivative works of, display, perform, and distribute the Software and make,
+ * use, sell, offer for sale, import, export, have made, and have sold the
+ * Software and the Larger Work(s), and to sublicense the foregoing rights on
+ * either these or other terms.
+ *
+ * This license is subject to the following condition:
+ *
+ * The above copyright notice and either this complete permission notice or at a
+ * minimum a reference to the UPL must be included in all copies or substantial
+ * portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.oracle.truffle.js.jmh;
+
+import java.util.Random;
+
+import org.graalvm.polyglot.Context;
+import org.graalvm.polyglot.Value;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import com.oracle.truffle.js.runtime.doubleconv.DoubleConversion;
+
+@Warmup(iterations = 5)
+@Measurement(iterations = 5)
+@Fork(2)
+public class JMHNumberToStringBenchmark {
+    @State(Scope.Thread)
+    public static class MyState {
+        protected static final int NUMBER_COUNT = 10000;
+
+        Context context;
+        Value toStringAll;
+        Value toFixedAll;
+        Value toPrecisionAll;
+        Value stringify;
+        Value numbers;
+        double[] doubles;
+
+        @Setup(Level.Trial)
+        public void doSetup() {
+            Random random = new Random(42);
+            doubles = new double[NUMBER_COUNT];
+            for (int i = 0; i < NUMBER_COUNT; i++) {
+                // mix of short decimals and full-precision values
+                doubles[i] = i % 2 == 0 ? random.nextInt(1000000) / 100.0 : random.nextDouble() * Math.pow(10, random.nextInt(40) - 20);
+            }
+            context = Context.create("js");
+            numbers = context.eval("js", "[]");
+            for (int i = 0; i < NUMBER_COUNT; i++) {
+                numbers.setArrayElement(i, doubles[i]);
+            }
+            toStringAll = context.eval("js", "(function(a) { var n = 0; for (var i = 0; i < a.length; i++) { n += String(a[i]).length; } return n; })");
+            toFixedAll = context.eval("js", "(function(a) { var n = 0; for (var i = 0; i < a.length; i++) { n += a[i].toFixed(4).length; } return n; })");
+            toPrecisionAll = context.eval("js", "(function(a) { var n = 0; for (var i = 0; i < a.length; i++) { n += a[i].toPrecision(6).length; } return n; })");
+            stringify = context.eval("js", "JSON.stringify");
+        }
+
+        @TearDown(Level.Trial)
+        public void doTearDown() {
+            context.close();
+        }
+    }
+
+    @Benchmark
+    public Value testToString(MyState state) {
+        return state.toStringAll.execute(state.numbers);
+    }
+
+    @Benchmark
+    public Value testToFixed(MyState state) {
+        return state.toFixedAll.execute(state.numbers);
+    }
+
+    @Benchmark
+    public Value testToPrecision(MyState state) {
+        return state.toPrecisionAll.execute(state.numbers);
+    }
+
+    @Benchmark
+    public Value testStringifyDoubleArray(MyState state) {
+        return state.stringify.execute(state.numbers);
+    }
+
+    @Benchmark
+    public void testDoubleConversionToShortest(MyState state, Blackhole blackhole) {
+        for (double d : state.doubles) {
+            blackhole.consume(DoubleConversion.toShortest(d));
+        }
+    }
+
+    @Benchmark
+    public void testDoubleConversionToPrecision(MyState state, Blackhole blackhole) {
+        for (double d : state.doubles) {
+            blackhole.consume(DoubleConversion.toPrecision(d, 6));
+        }
+    }
+
+}
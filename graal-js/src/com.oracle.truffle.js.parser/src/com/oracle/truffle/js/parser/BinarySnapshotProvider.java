@@ -40,7 +40,11 @@
  */
 package com.oracle.truffle.js.parser;
 
+import static com.oracle.truffle.js.runtime.util.BufferUtil.asBaseBuffer;
+
 import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.zip.CRC32;
 
 import com.oracle.truffle.api.source.Source;
 import com.oracle.truffle.js.codec.BinaryDecoder;
@@ -49,16 +53,28 @@ import com.oracle.truffle.js.nodes.JSNodeDecoder;
 import com.oracle.truffle.js.nodes.NodeFactory;
 import com.oracle.truffle.js.runtime.JSContext;
 
+/**
+ * Decodes a program from a binary snapshot written by the snapshot tool. The snapshot consists of
+ * a header (format, node encoding checksum, source length and hash, function table position), the
+ * encoded entry method followed by one extracted method per function, a table with the position
+ * and CRC32 checksum of each extracted method, and a CRC32 checksum of the header, the entry method
+ * and the table. The latter is verified when the snapshot is opened. Function bodies are only
+ * decoded when the function is first called, and only then is their checksum verified, so that the
+ * bodies of functions that are never called are never read (cf. {@link CodeCache}).
+ */
 public class BinarySnapshotProvider implements SnapshotProvider {
-    public static final int MAGIC = 0x314e4942;
+    public static final int MAGIC = 0x344e4942;
     private final ByteBuffer buffer;
+    private final int sourceLength;
+    private final int sourceHash;
+    private final int bodyStart;
+    private final int[] functionOffsets;
+    private final int[] functionLimits;
+    private final int[] functionChecksums;
 
     public BinarySnapshotProvider(ByteBuffer buffer) {
         this.buffer = buffer;
-        assert checkFormat(new BinaryDecoder(buffer));
-    }
-
-    private static boolean checkFormat(BinaryDecoder decoder) {
+        BinaryDecoder decoder = new BinaryDecoder(buffer);
         int magic = decoder.getInt32();
         if (magic != MAGIC) {
             throw new IllegalArgumentException("Unknown format");
@@ -67,23 +83,97 @@ public class BinarySnapshotProvider implements SnapshotProvider {
         if (checksum != JSNodeDecoder.getChecksum()) {
             throw new IllegalArgumentException("Snapshot verification failed");
         }
-        return true;
+        this.sourceLength = decoder.getInt32();
+        this.sourceHash = decoder.getInt32();
+        int tableOffset = decoder.getInt32();
+        this.bodyStart = decoder.getBuffer().position();
+        int checksumOffset = buffer.limit() - Integer.BYTES;
+        if (tableOffset < bodyStart || tableOffset >= checksumOffset) {
+            throw new IllegalArgumentException("Invalid function table");
+        }
+        BinaryDecoder tableDecoder = new BinaryDecoder((ByteBuffer) asBaseBuffer(buffer.duplicate()).limit(checksumOffset).position(tableOffset));
+        int count = tableDecoder.getUInt();
+        if (count < 0 || count > (checksumOffset - tableOffset) / (2 * Integer.BYTES)) {
+            throw new IllegalArgumentException("Invalid function table");
+        }
+        this.functionOffsets = new int[count];
+        this.functionChecksums = new int[count];
+        for (int i = 0; i < count; i++) {
+            int offset = tableDecoder.getInt32();
+            if (offset < bodyStart || offset >= tableOffset) {
+                throw new IllegalArgumentException("Invalid function table");
+            }
+            functionOffsets[i] = offset;
+            functionChecksums[i] = tableDecoder.getInt32();
+        }
+        if (tableDecoder.hasRemaining()) {
+            throw new IllegalArgumentException("Invalid function table");
+        }
+        this.functionLimits = getFunctionLimits(functionOffsets, tableOffset);
+        verifyChecksum(buffer, getEntryLimit(functionOffsets, bodyStart, tableOffset), tableOffset, checksumOffset);
+    }
+
+    /**
+     * Verifies the checksum of the data that is read when the snapshot is opened, i.e., everything
+     * but the extracted methods.
+     */
+    private static void verifyChecksum(ByteBuffer buffer, int entryLimit, int tableOffset, int checksumOffset) {
+        CRC32 crc = new CRC32();
+        crc.update((ByteBuffer) asBaseBuffer(buffer.duplicate()).limit(entryLimit).position(0));
+        crc.update((ByteBuffer) asBaseBuffer(buffer.duplicate()).limit(checksumOffset).position(tableOffset));
+        int checksum = new BinaryDecoder((ByteBuffer) asBaseBuffer(buffer.duplicate()).position(checksumOffset)).getInt32();
+        if (checksum != (int) crc.getValue()) {
+            throw new IllegalArgumentException("Snapshot verification failed");
+        }
+    }
+
+    /**
+     * Returns the end of the entry method, which starts at {@code bodyStart}, i.e. the start of the
+     * next extracted method (or of the function table).
+     */
+    public static int getEntryLimit(int[] offsets, int bodyStart, int tableOffset) {
+        int limit = tableOffset;
+        for (int offset : offsets) {
+            if (offset > bodyStart) {
+                limit = Math.min(limit, offset);
+            }
+        }
+        return limit;
+    }
+
+    /**
+     * Returns the end of each extracted method, i.e. the start of the next one (or of the function
+     * table), so that a function body is never decoded beyond its own bytes.
+     */
+    public static int[] getFunctionLimits(int[] offsets, int tableOffset) {
+        int[] sorted = offsets.clone();
+        Arrays.sort(sorted);
+        int[] limits = new int[offsets.length];
+        for (int i = 0; i < offsets.length; i++) {
+            int next = Arrays.binarySearch(sorted, offsets[i]);
+            while (next < sorted.length && sorted[next] == offsets[i]) {
+                next++;
+            }
+            limits[i] = next < sorted.length ? sorted[next] : tableOffset;
+        }
+        return limits;
     }
 
     public BinarySnapshotProvider(byte[] bytes) {
         this(ByteBuffer.wrap(bytes));
     }
 
+    public int getFunctionCount() {
+        return functionOffsets.length;
+    }
+
     @Override
     public Object apply(NodeFactory nodeFactory, JSContext context, Source source) {
-        BinaryDecoder decoder = new BinaryDecoder(buffer);
-        checkFormat(decoder);
-        int sourceLength = decoder.getInt32();
-        int sourceHash = decoder.getInt32();
         CharSequence code = source.getCharacters();
         if (code.length() != sourceLength || code.hashCode() != sourceHash) {
             throw new IllegalArgumentException("Snapshot verification failed");
         }
-        return new JSNodeDecoder().decodeNode(new NodeDecoder.DecoderState(decoder), nodeFactory, context, source);
+        BinaryDecoder decoder = new BinaryDecoder((ByteBuffer) asBaseBuffer(buffer.duplicate()).position(bodyStart));
+        return new JSNodeDecoder(functionOffsets, functionLimits, functionChecksums).decodeNode(new NodeDecoder.DecoderState(decoder), nodeFactory, context, source);
     }
 }
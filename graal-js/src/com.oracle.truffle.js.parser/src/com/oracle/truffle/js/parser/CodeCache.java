@@ -0,0 +1,192 @@
+/*
+ * Copyright (c) 2020, 2020, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * The Universal Permissive License (UPL), Version 1.0
+ *
+ * Subject to the condition set forth below, permission is hereby granted to any
+ * person obtaining a copy of this software, associated documentation and/or
+ * data (collectively the "Software"), free of charge and under any and all
+ * copyright rights in the Software, and any and all patent rights owned or
+ * freely licensable by each licensor hereunder covering either (i) the
+ * unmodified Software as contributed to or provided by such licensor, or (ii)
+ * the Larger Works (as defined below), to deal in both
+ *
+ * (a) the Software, and
+ *
+ * (b) any piece of software and/or hardware listed in the lrgrwrks.txt file if
+ * one is included with the Software each a "Larger Work" to which the Software
+ * is contributed by such licensors),
+ *
+ * without restriction, including without limitation the rights to copy, create
+ * derivative works of, display, perform, and distribute the Software and make,
+ * use, sell, offer for sale, import, export, have made, and have sold the
+ * Software and the Larger Work(s), and to sublicense the foregoing rights on
+ * either these or other terms.
+ *
+ * This license is subject to the following condition:
+ *
+ * The above copyright notice and either this complete permission notice or at a
+ * minimum a reference to the UPL must be included in all copies or substantial
+ * portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.oracle.truffle.js.parser;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.SeekableByteChannel;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Collections;
+
+import com.oracle.truffle.api.CompilerAsserts;
+import com.oracle.truffle.api.TruffleFile;
+import com.oracle.truffle.api.source.Source;
+import com.oracle.truffle.js.nodes.JSNodeDecoder;
+import com.oracle.truffle.js.nodes.NodeFactory;
+import com.oracle.truffle.js.nodes.ScriptNode;
+import com.oracle.truffle.js.nodes.function.FunctionRootNode;
+import com.oracle.truffle.js.runtime.JSContext;
+import com.oracle.truffle.js.runtime.JSContextOptions;
+import com.oracle.truffle.js.runtime.JSRealm;
+
+/**
+ * Persistent cache of translated scripts in a directory (see {@link JSContextOptions#CODE_CACHE_DIR}
+ * ). Every entry is a binary snapshot as read by {@link BinarySnapshotProvider}, named after a
+ * SHA-256 hash of the source code, prolog and epilog, the parser options, and the node encoding
+ * checksum. A change of any of these (including an engine update that changes the encoding)
+ * results in a different entry, so stale entries are never used; entries that fail verification
+ * nevertheless are deleted. Function bodies are verified only when they are first decoded, so a
+ * corrupt body makes the first call of that function fail rather than the lookup.
+ *
+ * Entries are written ahead of time by {@code SnapshotTool --cache-dir=DIR}.
+ */
+public final class CodeCache {
+
+    public static final String ENTRY_SUFFIX = ".bin";
+    private static final int DIGEST_BUFFER_SIZE = 8192;
+
+    private CodeCache() {
+    }
+
+    public static boolean isEnabled(JSContext context) {
+        return !context.getContextOptions().getCodeCacheDir().isEmpty();
+    }
+
+    /**
+     * Returns the script decoded from the cache entry for the given source, or null if there is no
+     * usable entry.
+     */
+    public static ScriptNode lookup(JSContext context, Source source, String prolog, String epilog, boolean strict) {
+        CompilerAsserts.neverPartOfCompilation();
+        TruffleFile entry;
+        ByteBuffer buffer;
+        try {
+            entry = getEntryFile(context, source, prolog, epilog, strict);
+            if (entry == null || !entry.isRegularFile()) {
+                return null;
+            }
+            buffer = readEntry(entry);
+        } catch (IOException | SecurityException e) {
+            // no access to the cache directory
+            return null;
+        }
+        try {
+            Object root = new BinarySnapshotProvider(buffer).apply(NodeFactory.getInstance(context), context, source);
+            return ScriptNode.fromFunctionRoot(context, (FunctionRootNode) root);
+        } catch (RuntimeException e) {
+            // corrupt or outdated entry: decoding may fail in any way (unexpected node types,
+            // out-of-range indices, truncated data), treat it as a miss
+            delete(entry);
+            return null;
+        }
+    }
+
+    /**
+     * Maps the entry into memory if possible, so that the bodies of functions that are never called
+     * (and hence never decoded) need not be read.
+     */
+    private static ByteBuffer readEntry(TruffleFile entry) throws IOException {
+        try (SeekableByteChannel channel = entry.newByteChannel(Collections.singleton(StandardOpenOption.READ))) {
+            if (channel instanceof FileChannel) {
+                return ((FileChannel) channel).map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            }
+        }
+        return ByteBuffer.wrap(entry.readAllBytes());
+    }
+
+    /**
+     * Returns the cache entry file for the given source, or null if the cache is disabled.
+     */
+    public static TruffleFile getEntryFile(JSContext context, Source source, String prolog, String epilog, boolean strict) {
+        String dir = context.getContextOptions().getCodeCacheDir();
+        if (dir.isEmpty()) {
+            return null;
+        }
+        JSRealm realm = context.getRealm();
+        return realm.getEnv().getPublicTruffleFile(dir).resolve(getEntryName(context, source, prolog, epilog, strict));
+    }
+
+    public static String getEntryName(JSContext context, Source source, String prolog, String epilog, boolean strict) {
+        MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+        updateInt(digest, BinarySnapshotProvider.MAGIC);
+        updateInt(digest, JSNodeDecoder.getChecksum());
+        updateInt(digest, context.getParserOptions().hashCode());
+        updateInt(digest, strict ? 1 : 0);
+        updateChars(digest, prolog);
+        updateChars(digest, source.getCharacters());
+        updateChars(digest, epilog);
+        StringBuilder name = new StringBuilder(64 + ENTRY_SUFFIX.length());
+        for (byte b : digest.digest()) {
+            name.append(Character.forDigit((b >> 4) & 0xF, 16));
+            name.append(Character.forDigit(b & 0xF, 16));
+        }
+        return name.append(ENTRY_SUFFIX).toString();
+    }
+
+    private static void updateInt(MessageDigest digest, int value) {
+        digest.update((byte) (value >>> 24));
+        digest.update((byte) (value >>> 16));
+        digest.update((byte) (value >>> 8));
+        digest.update((byte) value);
+    }
+
+    private static void updateChars(MessageDigest digest, CharSequence chars) {
+        updateInt(digest, chars.length());
+        byte[] buffer = new byte[DIGEST_BUFFER_SIZE];
+        int pos = 0;
+        for (int i = 0; i < chars.length(); i++) {
+            char c = chars.charAt(i);
+            buffer[pos++] = (byte) c;
+            buffer[pos++] = (byte) (c >>> 8);
+            if (pos == buffer.length) {
+                digest.update(buffer, 0, pos);
+                pos = 0;
+            }
+        }
+        digest.update(buffer, 0, pos);
+    }
+
+    private static void delete(TruffleFile entry) {
+        try {
+            entry.delete();
+        } catch (IOException | SecurityException e) {
+            // ignore, the entry will be rejected again next time
+        }
+    }
+}
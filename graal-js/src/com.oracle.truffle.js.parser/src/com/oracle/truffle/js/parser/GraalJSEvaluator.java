@@ -270,8 +270,15 @@ public final class GraalJSEvaluator implements JSParser {
         if (MODULE_MIME_TYPE.equals(mimeType) || (mimeType == null && source.getName().endsWith(MODULE_SOURCE_NAME_SUFFIX))) {
             return fakeScriptForModule(context, source);
         }
+        boolean strict = context.getParserOptions().isStrict();
+        if (CodeCache.isEnabled(context)) {
+            ScriptNode cached = CodeCache.lookup(context, source, prolog, epilog, strict);
+            if (cached != null) {
+                return cached;
+            }
+        }
         try {
-            return JavaScriptTranslator.translateScript(NodeFactory.getInstance(context), context, source, context.getParserOptions().isStrict(), prolog, epilog);
+            return JavaScriptTranslator.translateScript(NodeFactory.getInstance(context), context, source, strict, prolog, epilog);
         } catch (com.oracle.js.parser.ParserException e) {
             throw Errors.createSyntaxError(e.getMessage());
         }
@@ -113,6 +113,9 @@ public final class GraalJSParserHelper {
         errors.setLimit(0);
 
         Parser parser = createParser(context, env, source, errors, parserOptions);
+        if (!eval && prologue.isEmpty() && epilogue.isEmpty()) {
+            parser.setPreParse(context.getContextOptions().isLazyParse());
+        }
 
         FunctionNode parsed;
         if (parseModule) {
@@ -120,6 +123,9 @@ public final class GraalJSParserHelper {
         } else if (eval) {
             parsed = parser.parseEval(evalInFunction, evalScope);
         } else {
+            if (context.getContextOptions().isParallelParse()) {
+                parser.setParallelParsePool(context.getLanguage().getParallelParsePool());
+            }
             parsed = parser.parse();
         }
 
@@ -129,6 +135,26 @@ public final class GraalJSParserHelper {
         return parsed;
     }
 
+    /**
+     * Parses the body of a function that has only been pre-parsed by {@link #parseScript} or
+     * {@link #parseModule}.
+     */
+    public static FunctionNode parseFunction(JSContext context, com.oracle.truffle.api.source.Source truffleSource, FunctionNode preParsedFunction, JSParserOptions parserOptions) {
+        CompilerAsserts.neverPartOfCompilation(NEVER_PART_OF_COMPILATION_MESSAGE);
+        assert preParsedFunction.isPreParsed();
+        ScriptEnvironment env = makeScriptEnvironment(parserOptions);
+        ErrorManager errors = new ErrorManager.StringBuilderErrorManager();
+        errors.setLimit(0);
+
+        Parser parser = createParser(context, env, preParsedFunction.getSource(), errors, parserOptions);
+        parser.setPreParse(true);
+        FunctionNode parsed = parser.parseFunction(preParsedFunction);
+        if (errors.hasErrors()) {
+            throwErrors(truffleSource, errors);
+        }
+        return parsed;
+    }
+
     public static Expression parseExpression(JSContext context, com.oracle.truffle.api.source.Source truffleSource, JSParserOptions parserOptions) {
         CompilerAsserts.neverPartOfCompilation(NEVER_PART_OF_COMPILATION_MESSAGE);
         CharSequence code = truffleSource.getCharacters();
@@ -45,9 +45,13 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.BitSet;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
 import java.util.function.Supplier;
 import java.util.function.UnaryOperator;
 
@@ -78,6 +82,7 @@ import com.oracle.js.parser.ir.LexicalContextNode;
 import com.oracle.js.parser.ir.LexicalContextScope;
 import com.oracle.js.parser.ir.LiteralNode;
 import com.oracle.js.parser.ir.Module;
+import com.oracle.js.parser.ir.Module.ExportEntry;
 import com.oracle.js.parser.ir.Module.ImportEntry;
 import com.oracle.js.parser.ir.ObjectNode;
 import com.oracle.js.parser.ir.ParameterNode;
@@ -177,6 +182,7 @@ import com.oracle.truffle.js.runtime.JSRuntime;
 import com.oracle.truffle.js.runtime.builtins.JSFunctionData;
 import com.oracle.truffle.js.runtime.objects.Dead;
 import com.oracle.truffle.js.runtime.objects.Undefined;
+import com.oracle.truffle.js.runtime.util.BackgroundTranslationQueue;
 import com.oracle.truffle.js.runtime.util.Pair;
 
 abstract class GraalJSTranslator extends com.oracle.js.parser.ir.visitor.TranslatorNodeVisitor<LexicalContext, JavaScriptNode> {
@@ -200,6 +206,11 @@ abstract class GraalJSTranslator extends com.oracle.js.parser.ir.visitor.Transla
     protected final int prologLength;
     private final boolean isParentStrict;
 
+    /** Functions of the program being translated that are likely to be called soon. */
+    private Set<FunctionNode> speculativeFunctions;
+    /** Function data of the {@link #speculativeFunctions} translated so far. */
+    private List<JSFunctionData> speculativeFunctionData;
+
     protected GraalJSTranslator(LexicalContext lc, NodeFactory factory, JSContext context, Source source, int prologLength, Environment environment, boolean isParentStrict) {
         super(lc);
         this.context = context;
@@ -336,6 +347,7 @@ abstract class GraalJSTranslator extends com.oracle.js.parser.ir.visitor.Transla
         boolean functionMode = !isGlobal || (isStrict && isIndirectEval);
 
         boolean lazyTranslation = context.getContextOptions().isLazyTranslation() && functionMode && !functionNode.isProgram() && !inDirectEval;
+        assert lazyTranslation || !functionNode.isPreParsed();
 
         String functionName = getFunctionName(functionNode);
         JSFunctionData functionData;
@@ -356,6 +368,9 @@ abstract class GraalJSTranslator extends com.oracle.js.parser.ir.visitor.Transla
                 translator.translateFunctionOnDemand(functionNode, fd, isStrict, isArrowFunction, isGeneratorFunction, isAsyncFunction, isDerivedConstructor, isGlobal,
                                 needsNewTarget, needsParentFrame, functionName);
             });
+            if (speculativeFunctions != null && speculativeFunctions.contains(functionNode)) {
+                speculativeFunctionData.add(functionData);
+            }
             functionRoot = null;
         } else {
             try (EnvironmentCloseable functionEnv = enterFunctionEnvironment(isStrict, isArrowFunction, isGeneratorFunction, isDerivedConstructor, isAsyncFunction, isGlobal)) {
@@ -380,8 +395,15 @@ abstract class GraalJSTranslator extends com.oracle.js.parser.ir.visitor.Transla
                     declarations = collectGlobalVars(functionNode, isEval);
                 }
 
+                BackgroundTranslationQueue translationQueue = null;
                 if (functionNode.isProgram()) {
                     functionNeedsParentFramePass(functionNode, context);
+
+                    translationQueue = context.getBackgroundTranslationQueue();
+                    if (translationQueue != null) {
+                        speculativeFunctions = collectSpeculativeFunctions(functionNode);
+                        speculativeFunctionData = new ArrayList<>();
+                    }
                 }
 
                 boolean needsParentFrame = functionNode.usesAncestorScope();
@@ -392,6 +414,13 @@ abstract class GraalJSTranslator extends com.oracle.js.parser.ir.visitor.Transla
                 needsParentFrame = currentFunction.needsParentFrame();
                 currentFunction.freeze();
 
+                if (translationQueue != null) {
+                    // the environments of the functions are complete now
+                    translationQueue.schedule(speculativeFunctionData);
+                    speculativeFunctions = null;
+                    speculativeFunctionData = null;
+                }
+
                 functionData = factory.createFunctionData(context, functionNode.getLength(), functionName, isConstructor, isDerivedConstructor, isStrict, isBuiltin,
                                 needsParentFrame, isGeneratorFunction, isAsyncFunction, isClassConstructor, strictFunctionProperties, needsNewTarget);
 
@@ -462,8 +491,12 @@ abstract class GraalJSTranslator extends com.oracle.js.parser.ir.visitor.Transla
         return body;
     }
 
-    private FunctionRootNode translateFunctionOnDemand(FunctionNode functionNode, JSFunctionData functionData, boolean isStrict, boolean isArrowFunction, boolean isGeneratorFunction,
+    private FunctionRootNode translateFunctionOnDemand(FunctionNode preParsedOrFunctionNode, JSFunctionData functionData, boolean isStrict, boolean isArrowFunction, boolean isGeneratorFunction,
                     boolean isAsyncFunction, boolean isDerivedConstructor, boolean isGlobal, boolean needsNewTarget, boolean needsParentFrame, String functionName) {
+        FunctionNode functionNode = preParsedOrFunctionNode;
+        if (functionNode.isPreParsed()) {
+            functionNode = parsePreParsedFunction(functionNode);
+        }
         try (EnvironmentCloseable functionEnv = enterFunctionEnvironment(isStrict, isArrowFunction, isGeneratorFunction, isDerivedConstructor, isAsyncFunction, isGlobal)) {
             FunctionEnvironment currentFunction = currentFunction();
             currentFunction.setFunctionName(functionName);
@@ -486,6 +519,23 @@ abstract class GraalJSTranslator extends com.oracle.js.parser.ir.visitor.Transla
         }
     }
 
+    /**
+     * Parses the body of a pre-parsed function and replaces the pre-parsed function node on top of
+     * the lexical context. The parent frame analysis of the nested functions is redone within the
+     * enclosing scopes since it could not see into the pre-parsed body.
+     */
+    private FunctionNode parsePreParsedFunction(FunctionNode preParsedFunction) {
+        assert lc.getCurrentFunction() == preParsedFunction;
+        FunctionNode parsed = GraalJSParserHelper.parseFunction(context, source, preParsedFunction, context.getParserOptions());
+        parsed.setUsesAncestorScope(preParsedFunction.usesAncestorScope());
+        lc.replace(preParsedFunction, parsed);
+
+        LexicalContext parentLC = lc.copy();
+        parentLC.pop(parsed);
+        functionNeedsParentFramePass(parsed, context, parentLC);
+        return parsed;
+    }
+
     private FunctionRootNode createFunctionRoot(FunctionNode functionNode, JSFunctionData functionData, FunctionEnvironment currentFunction, JavaScriptNode body) {
         SourceSection functionSourceSection = createSourceSection(functionNode);
         FunctionBodyNode functionBody = factory.createFunctionBody(body);
@@ -929,11 +979,15 @@ abstract class GraalJSTranslator extends com.oracle.js.parser.ir.visitor.Transla
     }
 
     private static void functionNeedsParentFramePass(FunctionNode rootFunctionNode, JSContext context) {
+        functionNeedsParentFramePass(rootFunctionNode, context, new LexicalContext());
+    }
+
+    private static void functionNeedsParentFramePass(FunctionNode rootFunctionNode, JSContext context, LexicalContext parentLC) {
         if (!context.getContextOptions().isLazyTranslation()) {
             return; // nothing to do
         }
 
-        com.oracle.js.parser.ir.visitor.NodeVisitor<LexicalContext> visitor = new com.oracle.js.parser.ir.visitor.NodeVisitor<LexicalContext>(new LexicalContext()) {
+        com.oracle.js.parser.ir.visitor.NodeVisitor<LexicalContext> visitor = new com.oracle.js.parser.ir.visitor.NodeVisitor<LexicalContext>(parentLC) {
             @Override
             public boolean enterIdentNode(IdentNode identNode) {
                 if (!identNode.isPropertyName()) {
@@ -1045,6 +1099,16 @@ abstract class GraalJSTranslator extends com.oracle.js.parser.ir.visitor.Transla
                 if (functionNode.hasEval()) {
                     markUsesAncestorScopeUntil(null, false);
                 }
+                if (functionNode.isPreParsed()) {
+                    // the body has not been parsed yet; use the information recorded by the
+                    // pre-parser instead and visit the body when it is parsed on demand.
+                    if (functionNode.getFlag(FunctionNode.HAS_NESTED_EVAL)) {
+                        markUsesAncestorScopeUntil(null, false);
+                    }
+                    for (String varName : functionNode.getFreeVariables()) {
+                        findSymbol(varName);
+                    }
+                }
                 // TODO if function does not have nested functions we can skip it
                 return true;
             }
@@ -1053,6 +1117,52 @@ abstract class GraalJSTranslator extends com.oracle.js.parser.ir.visitor.Transla
         rootFunctionNode.accept(visitor);
     }
 
+    /**
+     * Collects the top-level functions that are called at the top level of the program, either by
+     * name or immediately after their definition, as well as the exported functions of a module.
+     * They are likely to be called soon after the program starts running.
+     */
+    private static Set<FunctionNode> collectSpeculativeFunctions(FunctionNode programNode) {
+        Map<String, FunctionNode> declaredFunctions = new HashMap<>();
+        for (Statement statement : programNode.getBody().getStatements()) {
+            if (statement instanceof VarNode && ((VarNode) statement).isFunctionDeclaration()) {
+                VarNode varNode = (VarNode) statement;
+                declaredFunctions.put(varNode.getName().getName(), (FunctionNode) varNode.getInit());
+            }
+        }
+
+        Set<FunctionNode> result = Collections.newSetFromMap(new IdentityHashMap<>());
+        if (programNode.isModule()) {
+            for (ExportEntry exportEntry : programNode.getModule().getLocalExportEntries()) {
+                FunctionNode function = declaredFunctions.get(exportEntry.getLocalName());
+                if (function != null) {
+                    result.add(function);
+                }
+            }
+        }
+        programNode.getBody().accept(new com.oracle.js.parser.ir.visitor.NodeVisitor<LexicalContext>(new LexicalContext()) {
+            @Override
+            public boolean enterFunctionNode(FunctionNode functionNode) {
+                return false; // only look at calls made at the top level
+            }
+
+            @Override
+            public boolean enterCallNode(CallNode callNode) {
+                Expression callee = callNode.getFunction();
+                if (callee instanceof IdentNode) {
+                    FunctionNode function = declaredFunctions.get(((IdentNode) callee).getName());
+                    if (function != null) {
+                        result.add(function);
+                    }
+                } else if (callee instanceof FunctionNode) {
+                    result.add((FunctionNode) callee);
+                }
+                return true;
+            }
+        });
+        return result;
+    }
+
     private static boolean checkDirectArgumentsAccess(FunctionNode functionNode, FunctionEnvironment currentFunction) {
         class DirectArgumentsAccessVisitor extends com.oracle.js.parser.ir.visitor.NodeVisitor<LexicalContext> {
             boolean directArgumentsAccess = true;
@@ -98,26 +98,6 @@ class DiyFp {
         this.e_ = e;
     }
 
-    // this = this - other.
-    // The exponents of both numbers must be the same and the significand of this
-    // must be bigger than the significand of other.
-    // The result will not be normalized.
-    void subtract(final DiyFp other) {
-        assert (e_ == other.e_);
-        assert Long.compareUnsigned(f_, other.f_) >= 0;
-        f_ -= other.f_;
-    }
-
-    // Returns a - b.
-    // The exponents of both numbers must be the same and this must be bigger
-    // than other. The result will not be normalized.
-    static DiyFp minus(final DiyFp a, final DiyFp b) {
-        final DiyFp result = new DiyFp(a.f_, a.e_);
-        result.subtract(b);
-        return result;
-    }
-
-
     // this = this * other.
     final void multiply(final DiyFp other) {
         // Simply "emulates" a 128 bit multiplication.
@@ -87,6 +87,7 @@ public final class DoubleConversion {
     private static final int kMaxFixedDigitsAfterPoint = 60;
     private static final int kMaxExponentialDigits = 120;
     private static final int kBase10MaximalLength = 17;
+    private static final int kMaxFixedDtoaFractionalDigits = 20;
 
     /**
      * Converts a double number to its shortest string representation.
@@ -97,10 +98,7 @@ public final class DoubleConversion {
     public static String toShortest(final double value) {
         assert Double.isFinite(value) : value;
 
-        final DtoaBuffer buffer = new DtoaBuffer(FastDtoa.kFastDtoaMaximalLength);
-        dtoaShortest(value, buffer);
-
-        return buffer.format(DtoaMode.SHORTEST, 0);
+        return SchubfachDtoa.toShortest(value);
     }
 
     private static void dtoaShortest(final double value, final DtoaBuffer buffer) {
@@ -113,9 +111,8 @@ public final class DoubleConversion {
         if (value == 0) {
             buffer.append('0');
             buffer.decimalPoint = 1;
-        } else if (!fastDtoaShortest(absValue, buffer)) {
-            buffer.reset();
-            bignumDtoa(absValue, DtoaMode.SHORTEST, 0, buffer);
+        } else {
+            SchubfachDtoa.toShortest(absValue, buffer);
         }
     }
 
@@ -158,7 +155,7 @@ public final class DoubleConversion {
     public static String toPrecision(final double value, final int precision) {
         assert Double.isFinite(value) : value;
 
-        final DtoaBuffer buffer = new DtoaBuffer(precision);
+        final DtoaBuffer buffer = new DtoaBuffer(Math.max(precision, kMaxFixedDtoaFractionalDigits));
         dtoaPrecision(value, precision, buffer);
 
         return buffer.format(DtoaMode.PRECISION, 0);
@@ -177,12 +174,37 @@ public final class DoubleConversion {
             }
             buffer.decimalPoint = 1;
 
-        } else if (!fastDtoaCounted(absValue, precision, buffer)) {
+        } else if (!fixedDtoaPrecision(absValue, precision, buffer) && !fastDtoaCounted(absValue, precision, buffer)) {
             buffer.reset();
             bignumDtoa(absValue, DtoaMode.PRECISION, precision, buffer);
         }
     }
 
+    /**
+     * Converts a double number to a string representation with the given number of digits using the
+     * {@code FixedDtoa} algorithm. The position of the decimal point is taken from the shortest
+     * representation, which has the same decimal point as the number itself unless it is a power of
+     * ten (in which case the number may lie just below it).
+     */
+    private static boolean fixedDtoaPrecision(final double v, final int precision, final DtoaBuffer buffer) {
+        assert v > 0 && buffer.getLength() == 0 && buffer.chars.length >= Math.max(precision, kMaxFixedDtoaFractionalDigits);
+
+        SchubfachDtoa.toShortest(v, buffer);
+        final int fractionalCount = precision - buffer.decimalPoint;
+        final boolean powerOfTen = buffer.length == 1 && buffer.chars[0] == '1';
+        buffer.reset();
+        if (powerOfTen || fractionalCount < 0 || fractionalCount > kMaxFixedDtoaFractionalDigits || !FixedDtoa.fastFixedDtoa(v, fractionalCount, buffer)) {
+            buffer.reset();
+            return false;
+        }
+        // FixedDtoa rounds half up, as required, but trims trailing zeros
+        assert buffer.length > 0 && buffer.length <= precision;
+        while (buffer.length < precision) {
+            buffer.append('0');
+        }
+        return true;
+    }
+
     /**
      * Converts a double number to a string representation using the {@code BignumDtoa} algorithm
      * and the specified conversion mode and number of digits.
@@ -198,20 +220,6 @@ public final class DoubleConversion {
         BignumDtoa.bignumDtoa(v, mode, digits, buffer);
     }
 
-    /**
-     * Converts a double number to its shortest string representation using the {@code FastDtoa}
-     * algorithm.
-     *
-     * @param v number to convert
-     * @param buffer buffer to use
-     * @return true if conversion succeeded
-     */
-    public static boolean fastDtoaShortest(final double v, final DtoaBuffer buffer) {
-        assert v > 0 && !Double.isNaN(v) && !Double.isInfinite(v) : v;
-
-        return FastDtoa.grisu3(v, buffer);
-    }
-
     /**
      * Converts a double number to a string representation with the given number of digits using the
      * {@code FastDtoa} algorithm.
@@ -242,6 +250,21 @@ public final class DoubleConversion {
         return FixedDtoa.fastFixedDtoa(v, digits, buffer);
     }
 
+    /**
+     * Converts a decimal string ({@code [+-] digits [. digits] [(e|E) [+-] digits]}, where either
+     * the integer or the fraction digits may be omitted) to the closest double.
+     *
+     * @param input characters to convert
+     * @param start index of the first character
+     * @param end index after the last character
+     * @return converted number or {@link Double#NaN} if the input is not a decimal string
+     */
+    public static double strtod(final CharSequence input, final int start, final int end) {
+        assert 0 <= start && start <= end && end <= input.length();
+
+        return EiselLemireStrtod.strtod(input, start, end);
+    }
+
     /**
      * Computes a representation in exponential format with requestedDigits after the decimal point.
      * The last emitted digit is rounded. If requestedDigits equals -1, then the shortest
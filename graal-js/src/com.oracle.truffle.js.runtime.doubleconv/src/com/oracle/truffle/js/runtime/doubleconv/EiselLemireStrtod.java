@@ -0,0 +1,925 @@
+/*
+ * Copyright (c) 2020, 2020, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * The Universal Permissive License (UPL), Version 1.0
+ *
+ * Subject to the condition set forth below, permission is hereby granted to any
+ * person obtaining a copy of this software, associated documentation and/or
+ * data (collectively the "Software"), free of charge and under any and all
+ * copyright rights in the Software, and any and all patent rights owned or
+ * freely licensable by each licensor hereunder covering either (i) the
+ * unmodified Software as contributed to or provided by such licensor, or (ii)
+ * the Larger Works (as defined below), to deal in both
+ *
+ * (a) the Software, and
+ *
+ * (b) any piece of software and/or hardware listed in the lrgrwrks.txt file if
+ * one is included with the Software each a "Larger Work" to which the Software
+ * is contributed by such licensors),
+ *
+ * without restriction, including without limitation the rights to copy, create
+ * derivative works of, display, perform, and distribute the Software and make,
+ * use, sell, offer for sale, import, export, have made, and have sold the
+ * Software and the Larger Work(s), and to sublicense the foregoing rights on
+ * either these or other terms.
+ *
+ * This license is subject to the following condition:
+ *
+ * The above copyright notice and either this complete permission notice or at a
+ * minimum a reference to the UPL must be included in all copies or substantial
+ * portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.oracle.truffle.js.runtime.doubleconv;
+
+/**
+ * Conversion of decimal strings to doubles, based on the Eisel-Lemire algorithm (Daniel Lemire,
+ * "Number Parsing at a Gigabyte per Second").
+ *
+ * Decimals with up to 19 significant digits are converted exactly, using a 128-bit truncated power
+ * of five, without allocation. Longer decimals and the (very rare) cases in which the truncated
+ * product is not precise enough are delegated to {@link Double#parseDouble(String)}.
+ */
+final class EiselLemireStrtod {
+
+    private static final int MAX_SIGNIFICANT_DIGITS = 19;
+    private static final int MAX_EXPONENT_DIGITS_VALUE = 100_000;
+
+    // exponents for which w * 10^q can be computed exactly in double arithmetic
+    private static final int MAX_EXACT_POWER_OF_TEN = 22;
+    private static final long MAX_EXACT_SIGNIFICAND = 1L << 53;
+
+    private static final int SMALLEST_POWER_OF_TEN = -342;
+    private static final int LARGEST_POWER_OF_TEN = 308;
+
+    private static final int SIGNIFICAND_SIZE = 52;
+    private static final int EXPONENT_BIAS = 1023;
+    private static final int INFINITE_POWER = 0x7FF;
+    private static final long PRECISION_MASK = 0xFFFF_FFFF_FFFF_FFFFL >>> (SIGNIFICAND_SIZE + 3);
+
+    private static final double[] EXACT_POWERS_OF_TEN = {
+                    1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10, 1e11,
+                    1e12, 1e13, 1e14, 1e15, 1e16, 1e17, 1e18, 1e19, 1e20, 1e21, 1e22};
+
+    private EiselLemireStrtod() {
+        // should not be constructed
+    }
+
+    /**
+     * Parses the decimal literal {@code [+-] digits [. digits] [(e|E) [+-] digits]} in
+     * {@code input[start, end)}; the integer or the fraction digits may be omitted, but not both.
+     * Returns {@link Double#NaN} if the input is not such a literal.
+     */
+    static double strtod(final CharSequence input, final int start, final int end) {
+        int pos = start;
+        boolean negative = false;
+        if (pos < end) {
+            final char c = input.charAt(pos);
+            if (c == '-' || c == '+') {
+                negative = c == '-';
+                pos++;
+            }
+        }
+
+        long significand = 0; // unsigned
+        int significantDigits = 0;
+        int exponent = 0;
+        boolean hasDigits = false;
+        boolean truncated = false;
+        char c = 0;
+        while (pos < end && isDigit(c = input.charAt(pos))) {
+            hasDigits = true;
+            if (significantDigits < MAX_SIGNIFICANT_DIGITS) {
+                significand = significand * 10 + (c - '0');
+                if (significand != 0) {
+                    significantDigits++;
+                }
+            } else {
+                truncated = true;
+            }
+            pos++;
+        }
+        if (pos < end && c == '.') {
+            pos++;
+            while (pos < end && isDigit(c = input.charAt(pos))) {
+                hasDigits = true;
+                if (significantDigits < MAX_SIGNIFICANT_DIGITS) {
+                    significand = significand * 10 + (c - '0');
+                    if (significand != 0) {
+                        significantDigits++;
+                    }
+                    exponent--;
+                } else {
+                    truncated = true;
+                }
+                pos++;
+            }
+        }
+        if (!hasDigits) {
+            return Double.NaN;
+        }
+        if (pos < end && (c == 'e' || c == 'E')) {
+            pos++;
+            boolean negativeExponent = false;
+            if (pos < end) {
+                c = input.charAt(pos);
+                if (c == '-' || c == '+') {
+                    negativeExponent = c == '-';
+                    pos++;
+                }
+            }
+            int exponentDigitsValue = 0;
+            boolean hasExponentDigits = false;
+            while (pos < end && isDigit(c = input.charAt(pos))) {
+                hasExponentDigits = true;
+                if (exponentDigitsValue < MAX_EXPONENT_DIGITS_VALUE) {
+                    exponentDigitsValue = exponentDigitsValue * 10 + (c - '0');
+                }
+                pos++;
+            }
+            if (!hasExponentDigits) {
+                return Double.NaN;
+            }
+            exponent += negativeExponent ? -exponentDigitsValue : exponentDigitsValue;
+        }
+        if (pos != end) {
+            return Double.NaN;
+        }
+
+        if (truncated) {
+            return parseDouble(input, start, end);
+        }
+        double value;
+        if (significand == 0) {
+            value = 0;
+        } else if (Long.compareUnsigned(significand, MAX_EXACT_SIGNIFICAND) <= 0 && -MAX_EXACT_POWER_OF_TEN <= exponent && exponent <= MAX_EXACT_POWER_OF_TEN) {
+            // Clinger's fast path: both operands are exact, so is the correctly rounded result
+            value = exponent >= 0 ? significand * EXACT_POWERS_OF_TEN[exponent] : significand / EXACT_POWERS_OF_TEN[-exponent];
+        } else {
+            value = eiselLemire(significand, exponent);
+            if (Double.isNaN(value)) {
+                return parseDouble(input, start, end);
+            }
+        }
+        return negative ? -value : value;
+    }
+
+    private static double parseDouble(final CharSequence input, final int start, final int end) {
+        return Double.parseDouble(input.subSequence(start, end).toString());
+    }
+
+    private static boolean isDigit(final char c) {
+        return '0' <= c && c <= '9';
+    }
+
+    /**
+     * Computes the double closest to {@code w * 10^q}, or returns {@link Double#NaN} if the 128-bit
+     * approximation of the product does not determine it.
+     */
+    private static double eiselLemire(final long w, final int q) {
+        assert w != 0;
+        if (q < SMALLEST_POWER_OF_TEN) {
+            return 0;
+        } else if (q > LARGEST_POWER_OF_TEN) {
+            return Double.POSITIVE_INFINITY;
+        }
+        final int lz = Long.numberOfLeadingZeros(w);
+        final long normalized = w << lz;
+
+        // compute the (truncated) product with the power of five, using the lower half of the
+        // power only if the upper half alone does not determine the significand bits
+        final int index = (q - SMALLEST_POWER_OF_TEN) << 1;
+        long productHigh = unsignedMultiplyHigh(normalized, POWERS_OF_FIVE[index]);
+        long productLow = normalized * POWERS_OF_FIVE[index];
+        if ((productHigh & PRECISION_MASK) == PRECISION_MASK) {
+            final long secondHigh = unsignedMultiplyHigh(normalized, POWERS_OF_FIVE[index + 1]);
+            productLow += secondHigh;
+            if (Long.compareUnsigned(secondHigh, productLow) > 0) {
+                productHigh++;
+            }
+        }
+        if (productLow == -1L && (q < -27 || q > 55)) {
+            // the exact product could carry into the upper half
+            return Double.NaN;
+        }
+
+        final int upperBit = (int) (productHigh >>> 63);
+        final int shift = upperBit + 64 - SIGNIFICAND_SIZE - 3;
+        long significand = productHigh >>> shift;
+        int power2 = power(q) + upperBit - lz + EXPONENT_BIAS;
+        if (power2 <= 0) {
+            // subnormal (or zero)
+            if (-power2 + 1 >= 64) {
+                return 0;
+            }
+            significand >>>= -power2 + 1;
+            significand += significand & 1;
+            significand >>>= 1;
+            // rounding may have produced the smallest normal number
+            power2 = significand < (1L << SIGNIFICAND_SIZE) ? 0 : 1;
+            return Double.longBitsToDouble(((long) power2 << SIGNIFICAND_SIZE) | significand);
+        }
+        if (Long.compareUnsigned(productLow, 1) <= 0 && q >= -4 && q <= 23 && (significand & 3) == 1) {
+            // exactly halfway between two doubles: round to even
+            if ((significand << shift) == productHigh) {
+                significand &= ~1L;
+            }
+        }
+        significand += significand & 1;
+        significand >>>= 1;
+        if (significand >= (2L << SIGNIFICAND_SIZE)) {
+            significand = 1L << SIGNIFICAND_SIZE;
+            power2++;
+        }
+        significand &= ~(1L << SIGNIFICAND_SIZE);
+        if (power2 >= INFINITE_POWER) {
+            return Double.POSITIVE_INFINITY;
+        }
+        return Double.longBitsToDouble(((long) power2 << SIGNIFICAND_SIZE) | significand);
+    }
+
+    /** Returns floor(log2(10^q)) + 63. */
+    private static int power(final int q) {
+        return (((152170 + 65536) * q) >> 16) + 63;
+    }
+
+    private static long unsignedMultiplyHigh(final long x, final long y) {
+        final long kM32 = 0xFFFFFFFFL;
+        final long a = x >>> 32;
+        final long b = x & kM32;
+        final long c = y >>> 32;
+        final long d = y & kM32;
+        final long ac = a * c;
+        final long bc = b * c;
+        final long ad = a * d;
+        final long bd = b * d;
+        final long tmp = (bd >>> 32) + (ad & kM32) + (bc & kM32);
+        return ac + (ad >>> 32) + (bc >>> 32) + (tmp >>> 32);
+    }
+
+    /**
+     * For each q in [-342, 308], the 128 most significant bits of 5^q, truncated (for negative q,
+     * of a value slightly above 5^q). The high and the low half are stored consecutively.
+     */
+    private static final long[] POWERS_OF_FIVE = {
+        0xEEF4_53D6_923B_D65AL, 0x113F_AA29_06A1_3B3FL, //  -342
+        0x9558_B466_1B65_65F8L, 0x4AC7_CA59_A424_C507L, //  -341
+        0xBAAE_E17F_A23E_BF76L, 0x5D79_BCF0_0D2D_F649L, //  -340
+        0xE95A_99DF_8ACE_6F53L, 0xF4D8_2C2C_1079_73DCL, //  -339
+        0x91D8_A02B_B6C1_0594L, 0x7907_1B9B_8A4B_E869L, //  -338
+        0xB64E_C836_A471_46F9L, 0x9748_E282_6CDE_E284L, //  -337
+        0xE3E2_7A44_4D8D_98B7L, 0xFD1B_1B23_0816_9B25L, //  -336
+        0x8E6D_8C6A_B078_7F72L, 0xFE30_F0F5_E50E_20F7L, //  -335
+        0xB208_EF85_5C96_9F4FL, 0xBDBD_2D33_5E51_A935L, //  -334
+        0xDE8B_2B66_B3BC_4723L, 0xAD2C_7880_35E6_1382L, //  -333
+        0x8B16_FB20_3055_AC76L, 0x4C3B_CB50_21AF_CC31L, //  -332
+        0xADDC_B9E8_3C6B_1793L, 0xDF4A_BE24_2A1B_BF3DL, //  -331
+        0xD953_E862_4B85_DD78L, 0xD71D_6DAD_34A2_AF0DL, //  -330
+        0x87D4_713D_6F33_AA6BL, 0x8672_648C_40E5_AD68L, //  -329
+        0xA9C9_8D8C_CB00_9506L, 0x680E_FDAF_511F_18C2L, //  -328
+        0xD43B_F0EF_FDC0_BA48L, 0x0212_BD1B_2566_DEF2L, //  -327
+        0x84A5_7695_FE98_746DL, 0x014B_B630_F760_4B57L, //  -326
+        0xA5CE_D43B_7E3E_9188L, 0x419E_A3BD_3538_5E2DL, //  -325
+        0xCF42_894A_5DCE_35EAL, 0x5206_4CAC_8286_75B9L, //  -324
+        0x8189_95CE_7AA0_E1B2L, 0x7343_EFEB_D194_0993L, //  -323
+        0xA1EB_FB42_1949_1A1FL, 0x1014_EBE6_C5F9_0BF8L, //  -322
+        0xCA66_FA12_9F9B_60A6L, 0xD41A_26E0_7777_4EF6L, //  -321
+        0xFD00_B897_4782_38D0L, 0x8920_B098_9555_22B4L, //  -320
+        0x9E20_735E_8CB1_6382L, 0x55B4_6E5F_5D55_35B0L, //  -319
+        0xC5A8_9036_2FDD_BC62L, 0xEB21_89F7_34AA_831DL, //  -318
+        0xF712_B443_BBD5_2B7BL, 0xA5E9_EC75_01D5_23E4L, //  -317
+        0x9A6B_B0AA_5565_3B2DL, 0x47B2_33C9_2125_366EL, //  -316
+        0xC106_9CD4_EABE_89F8L, 0x999E_C0BB_696E_840AL, //  -315
+        0xF148_440A_256E_2C76L, 0xC006_70EA_43CA_250DL, //  -314
+        0x96CD_2A86_5764_DBCAL, 0x3804_0692_6A5E_5728L, //  -313
+        0xBC80_7527_ED3E_12BCL, 0xC605_0837_04F5_ECF2L, //  -312
+        0xEBA0_9271_E88D_976BL, 0xF786_4A44_C633_682EL, //  -311
+        0x9344_5B87_3158_7EA3L, 0x7AB3_EE6A_FBE0_211DL, //  -310
+        0xB815_7268_FDAE_9E4CL, 0x5960_EA05_BAD8_2964L, //  -309
+        0xE61A_CF03_3D1A_45DFL, 0x6FB9_2487_298E_33BDL, //  -308
+        0x8FD0_C162_0630_6BABL, 0xA5D3_B6D4_79F8_E056L, //  -307
+        0xB3C4_F1BA_87BC_8696L, 0x8F48_A489_9877_186CL, //  -306
+        0xE0B6_2E29_29AB_A83CL, 0x331A_CDAB_FE94_DE87L, //  -305
+        0x8C71_DCD9_BA0B_4925L, 0x9FF0_C08B_7F1D_0B14L, //  -304
+        0xAF8E_5410_288E_1B6FL, 0x07EC_F0AE_5EE4_4DD9L, //  -303
+        0xDB71_E914_32B1_A24AL, 0xC9E8_2CD9_F69D_6150L, //  -302
+        0x8927_31AC_9FAF_056EL, 0xBE31_1C08_3A22_5CD2L, //  -301
+        0xAB70_FE17_C79A_C6CAL, 0x6DBD_630A_48AA_F406L, //  -300
+        0xD64D_3D9D_B981_787DL, 0x092C_BBCC_DAD5_B108L, //  -299
+        0x85F0_4682_93F0_EB4EL, 0x25BB_F560_08C5_8EA5L, //  -298
+        0xA76C_5823_38ED_2621L, 0xAF2A_F2B8_0AF6_F24EL, //  -297
+        0xD147_6E2C_0728_6FAAL, 0x1AF5_AF66_0DB4_AEE1L, //  -296
+        0x82CC_A4DB_8479_45CAL, 0x50D9_8D9F_C890_ED4DL, //  -295
+        0xA37F_CE12_6597_973CL, 0xE50F_F107_BAB5_28A0L, //  -294
+        0xCC5F_C196_FEFD_7D0CL, 0x1E53_ED49_A962_72C8L, //  -293
+        0xFF77_B1FC_BEBC_DC4FL, 0x25E8_E89C_13BB_0F7AL, //  -292
+        0x9FAA_CF3D_F736_09B1L, 0x77B1_9161_8C54_E9ACL, //  -291
+        0xC795_830D_7503_8C1DL, 0xD59D_F5B9_EF6A_2417L, //  -290
+        0xF97A_E3D0_D244_6F25L, 0x4B05_7328_6B44_AD1DL, //  -289
+        0x9BEC_CE62_836A_C577L, 0x4EE3_67F9_430A_EC32L, //  -288
+        0xC2E8_01FB_2445_76D5L, 0x229C_41F7_93CD_A73FL, //  -287
+        0xF3A2_0279_ED56_D48AL, 0x6B43_5275_78C1_110FL, //  -286
+        0x9845_418C_3456_44D6L, 0x830A_1389_6B78_AAA9L, //  -285
+        0xBE56_91EF_416B_D60CL, 0x23CC_986B_C656_D553L, //  -284
+        0xEDEC_366B_11C6_CB8FL, 0x2CBF_BE86_B7EC_8AA8L, //  -283
+        0x94B3_A202_EB1C_3F39L, 0x7BF7_D714_32F3_D6A9L, //  -282
+        0xB9E0_8A83_A5E3_4F07L, 0xDAF5_CCD9_3FB0_CC53L, //  -281
+        0xE858_AD24_8F5C_22C9L, 0xD1B3_400F_8F9C_FF68L, //  -280
+        0x9137_6C36_D999_95BEL, 0x2310_0809_B9C2_1FA1L, //  -279
+        0xB585_4744_8FFF_FB2DL, 0xABD4_0A0C_2832_A78AL, //  -278
+        0xE2E6_9915_B3FF_F9F9L, 0x16C9_0C8F_323F_516CL, //  -277
+        0x8DD0_1FAD_907F_FC3BL, 0xAE3D_A7D9_7F67_92E3L, //  -276
+        0xB144_2798_F49F_FB4AL, 0x99CD_11CF_DF41_779CL, //  -275
+        0xDD95_317F_31C7_FA1DL, 0x4040_5643_D711_D583L, //  -274
+        0x8A7D_3EEF_7F1C_FC52L, 0x4828_35EA_666B_2572L, //  -273
+        0xAD1C_8EAB_5EE4_3B66L, 0xDA32_4365_0005_EECFL, //  -272
+        0xD863_B256_369D_4A40L, 0x90BE_D43E_4007_6A82L, //  -271
+        0x873E_4F75_E222_4E68L, 0x5A77_44A6_E804_A291L, //  -270
+        0xA90D_E353_5AAA_E202L, 0x7115_15D0_A205_CB36L, //  -269
+        0xD351_5C28_3155_9A83L, 0x0D5A_5B44_CA87_3E03L, //  -268
+        0x8412_D999_1ED5_8091L, 0xE858_790A_FE94_86C2L, //  -267
+        0xA517_8FFF_668A_E0B6L, 0x626E_974D_BE39_A872L, //  -266
+        0xCE5D_73FF_402D_98E3L, 0xFB0A_3D21_2DC8_128FL, //  -265
+        0x80FA_687F_881C_7F8EL, 0x7CE6_6634_BC9D_0B99L, //  -264
+        0xA139_029F_6A23_9F72L, 0x1C1F_FFC1_EBC4_4E80L, //  -263
+        0xC987_4347_44AC_874EL, 0xA327_FFB2_66B5_6220L, //  -262
+        0xFBE9_1419_15D7_A922L, 0x4BF1_FF9F_0062_BAA8L, //  -261
+        0x9D71_AC8F_ADA6_C9B5L, 0x6F77_3FC3_603D_B4A9L, //  -260
+        0xC4CE_17B3_9910_7C22L, 0xCB55_0FB4_384D_21D3L, //  -259
+        0xF601_9DA0_7F54_9B2BL, 0x7E2A_53A1_4660_6A48L, //  -258
+        0x99C1_0284_4F94_E0FBL, 0x2EDA_7444_CBFC_426DL, //  -257
+        0xC031_4325_637A_1939L, 0xFA91_1155_FEFB_5308L, //  -256
+        0xF03D_93EE_BC58_9F88L, 0x7935_55AB_7EBA_27CAL, //  -255
+        0x9626_7C75_35B7_63B5L, 0x4BC1_558B_2F34_58DEL, //  -254
+        0xBBB0_1B92_8325_3CA2L, 0x9EB1_AAED_FB01_6F16L, //  -253
+        0xEA9C_2277_23EE_8BCBL, 0x465E_15A9_79C1_CADCL, //  -252
+        0x92A1_958A_7675_175FL, 0x0BFA_CD89_EC19_1EC9L, //  -251
+        0xB749_FAED_1412_5D36L, 0xCEF9_80EC_671F_667BL, //  -250
+        0xE51C_79A8_5916_F484L, 0x82B7_E127_80E7_401AL, //  -249
+        0x8F31_CC09_37AE_58D2L, 0xD1B2_ECB8_B090_8810L, //  -248
+        0xB2FE_3F0B_8599_EF07L, 0x861F_A7E6_DCB4_AA15L, //  -247
+        0xDFBD_CECE_6700_6AC9L, 0x67A7_91E0_93E1_D49AL, //  -246
+        0x8BD6_A141_0060_42BDL, 0xE0C8_BB2C_5C6D_24E0L, //  -245
+        0xAECC_4991_4078_536DL, 0x58FA_E9F7_7388_6E18L, //  -244
+        0xDA7F_5BF5_9096_6848L, 0xAF39_A475_506A_899EL, //  -243
+        0x888F_9979_7A5E_012DL, 0x6D84_06C9_5242_9603L, //  -242
+        0xAAB3_7FD7_D8F5_8178L, 0xC8E5_087B_A6D3_3B83L, //  -241
+        0xD560_5FCD_CF32_E1D6L, 0xFB1E_4A9A_9088_0A64L, //  -240
+        0x855C_3BE0_A17F_CD26L, 0x5CF2_EEA0_9A55_067FL, //  -239
+        0xA6B3_4AD8_C9DF_C06FL, 0xF42F_AA48_C0EA_481EL, //  -238
+        0xD060_1D8E_FC57_B08BL, 0xF13B_94DA_F124_DA26L, //  -237
+        0x823C_1279_5DB6_CE57L, 0x76C5_3D08_D6B7_0858L, //  -236
+        0xA2CB_1717_B524_81EDL, 0x5476_8C4B_0C64_CA6EL, //  -235
+        0xCB7D_DCDD_A26D_A268L, 0xA994_2F5D_CF7D_FD09L, //  -234
+        0xFE5D_5415_0B09_0B02L, 0xD3F9_3B35_435D_7C4CL, //  -233
+        0x9EFA_548D_26E5_A6E1L, 0xC47B_C501_4A1A_6DAFL, //  -232
+        0xC6B8_E9B0_709F_109AL, 0x359A_B641_9CA1_091BL, //  -231
+        0xF867_241C_8CC6_D4C0L, 0xC301_63D2_03C9_4B62L, //  -230
+        0x9B40_7691_D7FC_44F8L, 0x79E0_DE63_425D_CF1DL, //  -229
+        0xC210_9436_4DFB_5636L, 0x9859_15FC_12F5_42E4L, //  -228
+        0xF294_B943_E17A_2BC4L, 0x3E6F_5B7B_17B2_939DL, //  -227
+        0x979C_F3CA_6CEC_5B5AL, 0xA705_992C_EECF_9C42L, //  -226
+        0xBD84_30BD_0827_7231L, 0x50C6_FF78_2A83_8353L, //  -225
+        0xECE5_3CEC_4A31_4EBDL, 0xA4F8_BF56_3524_6428L, //  -224
+        0x940F_4613_AE5E_D136L, 0x871B_7795_E136_BE99L, //  -223
+        0xB913_1798_99F6_8584L, 0x28E2_557B_5984_6E3FL, //  -222
+        0xE757_DD7E_C074_26E5L, 0x331A_EADA_2FE5_89CFL, //  -221
+        0x9096_EA6F_3848_984FL, 0x3FF0_D2C8_5DEF_7621L, //  -220
+        0xB4BC_A50B_065A_BE63L, 0x0FED_077A_756B_53A9L, //  -219
+        0xE1EB_CE4D_C7F1_6DFBL, 0xD3E8_4959_12C6_2894L, //  -218
+        0x8D33_60F0_9CF6_E4BDL, 0x6471_2DD7_ABBB_D95CL, //  -217
+        0xB080_392C_C434_9DECL, 0xBD8D_794D_96AA_CFB3L, //  -216
+        0xDCA0_4777_F541_C567L, 0xECF0_D7A0_FC55_83A0L, //  -215
+        0x89E4_2CAA_F949_1B60L, 0xF416_86C4_9DB5_7244L, //  -214
+        0xAC5D_37D5_B79B_6239L, 0x311C_2875_C522_CED5L, //  -213
+        0xD774_85CB_2582_3AC7L, 0x7D63_3293_366B_828BL, //  -212
+        0x86A8_D39E_F771_64BCL, 0xAE5D_FF9C_0203_3197L, //  -211
+        0xA853_0886_B54D_BDEBL, 0xD9F5_7F83_0283_FDFCL, //  -210
+        0xD267_CAA8_62A1_2D66L, 0xD072_DF63_C324_FD7BL, //  -209
+        0x8380_DEA9_3DA4_BC60L, 0x4247_CB9E_59F7_1E6DL, //  -208
+        0xA461_1653_8D0D_EB78L, 0x52D9_BE85_F074_E608L, //  -207
+        0xCD79_5BE8_7051_6656L, 0x6790_2E27_6C92_1F8BL, //  -206
+        0x806B_D971_4632_DFF6L, 0x00BA_1CD8_A3DB_53B6L, //  -205
+        0xA086_CFCD_97BF_97F3L, 0x80E8_A40E_CCD2_28A4L, //  -204
+        0xC8A8_83C0_FDAF_7DF0L, 0x6122_CD12_8006_B2CDL, //  -203
+        0xFAD2_A4B1_3D1B_5D6CL, 0x796B_8057_2008_5F81L, //  -202
+        0x9CC3_A6EE_C631_1A63L, 0xCBE3_3036_7405_3BB0L, //  -201
+        0xC3F4_90AA_77BD_60FCL, 0xBEDB_FC44_1106_8A9CL, //  -200
+        0xF4F1_B4D5_15AC_B93BL, 0xEE92_FB55_1548_2D44L, //  -199
+        0x9917_1105_2D8B_F3C5L, 0x751B_DD15_2D4D_1C4AL, //  -198
+        0xBF5C_D546_78EE_F0B6L, 0xD262_D45A_78A0_635DL, //  -197
+        0xEF34_0A98_172A_ACE4L, 0x86FB_8971_16C8_7C34L, //  -196
+        0x9580_869F_0E7A_AC0EL, 0xD45D_35E6_AE3D_4DA0L, //  -195
+        0xBAE0_A846_D219_5712L, 0x8974_8360_59CC_A109L, //  -194
+        0xE998_D258_869F_ACD7L, 0x2BD1_A438_703F_C94BL, //  -193
+        0x91FF_8377_5423_CC06L, 0x7B63_06A3_4627_DDCFL, //  -192
+        0xB67F_6455_292C_BF08L, 0x1A3B_C84C_17B1_D542L, //  -191
+        0xE41F_3D6A_7377_EECAL, 0x20CA_BA5F_1D9E_4A93L, //  -190
+        0x8E93_8662_882A_F53EL, 0x547E_B47B_7282_EE9CL, //  -189
+        0xB238_67FB_2A35_B28DL, 0xE99E_619A_4F23_AA43L, //  -188
+        0xDEC6_81F9_F4C3_1F31L, 0x6405_FA00_E2EC_94D4L, //  -187
+        0x8B3C_113C_38F9_F37EL, 0xDE83_BC40_8DD3_DD04L, //  -186
+        0xAE0B_158B_4738_705EL, 0x9624_AB50_B148_D445L, //  -185
+        0xD98D_DAEE_1906_8C76L, 0x3BAD_D624_DD9B_0957L, //  -184
+        0x87F8_A8D4_CFA4_17C9L, 0xE54C_A5D7_0A80_E5D6L, //  -183
+        0xA9F6_D30A_038D_1DBCL, 0x5E9F_CF4C_CD21_1F4CL, //  -182
+        0xD474_87CC_8470_652BL, 0x7647_C320_0069_671FL, //  -181
+        0x84C8_D4DF_D2C6_3F3BL, 0x29EC_D9F4_0041_E073L, //  -180
+        0xA5FB_0A17_C777_CF09L, 0xF468_1071_0052_5890L, //  -179
+        0xCF79_CC9D_B955_C2CCL, 0x7182_148D_4066_EEB4L, //  -178
+        0x81AC_1FE2_93D5_99BFL, 0xC6F1_4CD8_4840_5530L, //  -177
+        0xA217_27DB_38CB_002FL, 0xB8AD_A00E_5A50_6A7CL, //  -176
+        0xCA9C_F1D2_06FD_C03BL, 0xA6D9_0811_F0E4_851CL, //  -175
+        0xFD44_2E46_88BD_304AL, 0x908F_4A16_6D1D_A663L, //  -174
+        0x9E4A_9CEC_1576_3E2EL, 0x9A59_8E4E_0432_87FEL, //  -173
+        0xC5DD_4427_1AD3_CDBAL, 0x40EF_F1E1_853F_29FDL, //  -172
+        0xF754_9530_E188_C128L, 0xD12B_EE59_E68E_F47CL, //  -171
+        0x9A94_DD3E_8CF5_78B9L, 0x82BB_74F8_3019_58CEL, //  -170
+        0xC13A_148E_3032_D6E7L, 0xE36A_5236_3C1F_AF01L, //  -169
+        0xF188_99B1_BC3F_8CA1L, 0xDC44_E6C3_CB27_9AC1L, //  -168
+        0x96F5_600F_15A7_B7E5L, 0x29AB_103A_5EF8_C0B9L, //  -167
+        0xBCB2_B812_DB11_A5DEL, 0x7415_D448_F6B6_F0E7L, //  -166
+        0xEBDF_6617_91D6_0F56L, 0x111B_495B_3464_AD21L, //  -165
+        0x936B_9FCE_BB25_C995L, 0xCAB1_0DD9_00BE_EC34L, //  -164
+        0xB846_87C2_69EF_3BFBL, 0x3D5D_514F_40EE_A742L, //  -163
+        0xE658_29B3_046B_0AFAL, 0x0CB4_A5A3_112A_5112L, //  -162
+        0x8FF7_1A0F_E2C2_E6DCL, 0x47F0_E785_EABA_72ABL, //  -161
+        0xB3F4_E093_DB73_A093L, 0x59ED_2167_6569_0F56L, //  -160
+        0xE0F2_18B8_D250_88B8L, 0x3068_69C1_3EC3_532CL, //  -159
+        0x8C97_4F73_8372_5573L, 0x1E41_4218_C73A_13FBL, //  -158
+        0xAFBD_2350_644E_EACFL, 0xE5D1_929E_F908_98FAL, //  -157
+        0xDBAC_6C24_7D62_A583L, 0xDF45_F746_B74A_BF39L, //  -156
+        0x894B_C396_CE5D_A772L, 0x6B8B_BA8C_328E_B783L, //  -155
+        0xAB9E_B47C_81F5_114FL, 0x066E_A92F_3F32_6564L, //  -154
+        0xD686_619B_A272_55A2L, 0xC80A_537B_0EFE_FEBDL, //  -153
+        0x8613_FD01_4587_7585L, 0xBD06_742C_E95F_5F36L, //  -152
+        0xA798_FC41_96E9_52E7L, 0x2C48_1138_23B7_3704L, //  -151
+        0xD17F_3B51_FCA3_A7A0L, 0xF75A_1586_2CA5_04C5L, //  -150
+        0x82EF_8513_3DE6_48C4L, 0x9A98_4D73_DBE7_22FBL, //  -149
+        0xA3AB_6658_0D5F_DAF5L, 0xC13E_60D0_D2E0_EBBAL, //  -148
+        0xCC96_3FEE_10B7_D1B3L, 0x318D_F905_0799_26A8L, //  -147
+        0xFFBB_CFE9_94E5_C61FL, 0xFDF1_7746_497F_7052L, //  -146
+        0x9FD5_61F1_FD0F_9BD3L, 0xFEB6_EA8B_EDEF_A633L, //  -145
+        0xC7CA_BA6E_7C53_82C8L, 0xFE64_A52E_E96B_8FC0L, //  -144
+        0xF9BD_690A_1B68_637BL, 0x3DFD_CE7A_A3C6_73B0L, //  -143
+        0x9C16_61A6_5121_3E2DL, 0x06BE_A10C_A65C_084EL, //  -142
+        0xC31B_FA0F_E569_8DB8L, 0x486E_494F_CFF3_0A62L, //  -141
+        0xF3E2_F893_DEC3_F126L, 0x5A89_DBA3_C3EF_CCFAL, //  -140
+        0x986D_DB5C_6B3A_76B7L, 0xF896_2946_5A75_E01CL, //  -139
+        0xBE89_5233_8609_1465L, 0xF6BB_B397_F113_5823L, //  -138
+        0xEE2B_A6C0_678B_597FL, 0x746A_A07D_ED58_2E2CL, //  -137
+        0x94DB_4838_40B7_17EFL, 0xA8C2_A44E_B457_1CDCL, //  -136
+        0xBA12_1A46_50E4_DDEBL, 0x92F3_4D62_616C_E413L, //  -135
+        0xE896_A0D7_E51E_1566L, 0x77B0_20BA_F9C8_1D17L, //  -134
+        0x915E_2486_EF32_CD60L, 0x0ACE_1474_DC1D_122EL, //  -133
+        0xB5B5_ADA8_AAFF_80B8L, 0x0D81_9992_1324_56BAL, //  -132
+        0xE323_1912_D5BF_60E6L, 0x10E1_FFF6_97ED_6C69L, //  -131
+        0x8DF5_EFAB_C597_9C8FL, 0xCA8D_3FFA_1EF4_63C1L, //  -130
+        0xB173_6B96_B6FD_83B3L, 0xBD30_8FF8_A6B1_7CB2L, //  -129
+        0xDDD0_467C_64BC_E4A0L, 0xAC7C_B3F6_D05D_DBDEL, //  -128
+        0x8AA2_2C0D_BEF6_0EE4L, 0x6BCD_F07A_423A_A96BL, //  -127
+        0xAD4A_B711_2EB3_929DL, 0x86C1_6C98_D2C9_53C6L, //  -126
+        0xD89D_64D5_7A60_7744L, 0xE871_C7BF_077B_A8B7L, //  -125
+        0x8762_5F05_6C7C_4A8BL, 0x1147_1CD7_64AD_4972L, //  -124
+        0xA93A_F6C6_C79B_5D2DL, 0xD598_E40D_3DD8_9BCFL, //  -123
+        0xD389_B478_7982_3479L, 0x4AFF_1D10_8D4E_C2C3L, //  -122
+        0x8436_10CB_4BF1_60CBL, 0xCEDF_722A_5851_39BAL, //  -121
+        0xA543_94FE_1EED_B8FEL, 0xC297_4EB4_EE65_8828L, //  -120
+        0xCE94_7A3D_A6A9_273EL, 0x733D_2262_29FE_EA32L, //  -119
+        0x811C_CC66_8829_B887L, 0x0806_357D_5A3F_525FL, //  -118
+        0xA163_FF80_2A34_26A8L, 0xCA07_C2DC_B0CF_26F7L, //  -117
+        0xC9BC_FF60_34C1_3052L, 0xFC89_B393_DD02_F0B5L, //  -116
+        0xFC2C_3F38_41F1_7C67L, 0xBBAC_2078_D443_ACE2L, //  -115
+        0x9D9B_A783_2936_EDC0L, 0xD54B_944B_84AA_4C0DL, //  -114
+        0xC502_9163_F384_A931L, 0x0A9E_795E_65D4_DF11L, //  -113
+        0xF643_35BC_F065_D37DL, 0x4D46_17B5_FF4A_16D5L, //  -112
+        0x99EA_0196_163F_A42EL, 0x504B_CED1_BF8E_4E45L, //  -111
+        0xC064_81FB_9BCF_8D39L, 0xE45E_C286_2F71_E1D6L, //  -110
+        0xF07D_A27A_82C3_7088L, 0x5D76_7327_BB4E_5A4CL, //  -109
+        0x964E_858C_91BA_2655L, 0x3A6A_07F8_D510_F86FL, //  -108
+        0xBBE2_26EF_B628_AFEAL, 0x8904_89F7_0A55_368BL, //  -107
+        0xEADA_B0AB_A3B2_DBE5L, 0x2B45_AC74_CCEA_842EL, //  -106
+        0x92C8_AE6B_464F_C96FL, 0x3B0B_8BC9_0012_929DL, //  -105
+        0xB77A_DA06_17E3_BBCBL, 0x09CE_6EBB_4017_3744L, //  -104
+        0xE559_9087_9DDC_AABDL, 0xCC42_0A6A_101D_0515L, //  -103
+        0x8F57_FA54_C2A9_EAB6L, 0x9FA9_4682_4A12_232DL, //  -102
+        0xB32D_F8E9_F354_6564L, 0x4793_9822_DC96_ABF9L, //  -101
+        0xDFF9_7724_7029_7EBDL, 0x5978_7E2B_93BC_56F7L, //  -100
+        0x8BFB_EA76_C619_EF36L, 0x57EB_4EDB_3C55_B65AL, //   -99
+        0xAEFA_E514_77A0_6B03L, 0xEDE6_2292_0B6B_23F1L, //   -98
+        0xDAB9_9E59_9588_85C4L, 0xE95F_AB36_8E45_ECEDL, //   -97
+        0x88B4_02F7_FD75_539BL, 0x11DB_CB02_18EB_B414L, //   -96
+        0xAAE1_03B5_FCD2_A881L, 0xD652_BDC2_9F26_A119L, //   -95
+        0xD599_44A3_7C07_52A2L, 0x4BE7_6D33_46F0_495FL, //   -94
+        0x857F_CAE6_2D84_93A5L, 0x6F70_A440_0C56_2DDBL, //   -93
+        0xA6DF_BD9F_B8E5_B88EL, 0xCB4C_CD50_0F6B_B952L, //   -92
+        0xD097_AD07_A71F_26B2L, 0x7E20_00A4_1346_A7A7L, //   -91
+        0x825E_CC24_C873_782FL, 0x8ED4_0066_8C0C_28C8L, //   -90
+        0xA2F6_7F2D_FA90_563BL, 0x7289_0080_2F0F_32FAL, //   -89
+        0xCBB4_1EF9_7934_6BCAL, 0x4F2B_40A0_3AD2_FFB9L, //   -88
+        0xFEA1_26B7_D781_86BCL, 0xE2F6_10C8_4987_BFA8L, //   -87
+        0x9F24_B832_E6B0_F436L, 0x0DD9_CA7D_2DF4_D7C9L, //   -86
+        0xC6ED_E63F_A05D_3143L, 0x9150_3D1C_7972_0DBBL, //   -85
+        0xF8A9_5FCF_8874_7D94L, 0x75A4_4C63_97CE_912AL, //   -84
+        0x9B69_DBE1_B548_CE7CL, 0xC986_AFBE_3EE1_1ABAL, //   -83
+        0xC244_52DA_229B_021BL, 0xFBE8_5BAD_CE99_6168L, //   -82
+        0xF2D5_6790_AB41_C2A2L, 0xFAE2_7299_423F_B9C3L, //   -81
+        0x97C5_60BA_6B09_19A5L, 0xDCCD_879F_C967_D41AL, //   -80
+        0xBDB6_B8E9_05CB_600FL, 0x5400_E987_BBC1_C920L, //   -79
+        0xED24_6723_473E_3813L, 0x2901_23E9_AAB2_3B68L, //   -78
+        0x9436_C076_0C86_E30BL, 0xF9A0_B672_0AAF_6521L, //   -77
+        0xB944_7093_8FA8_9BCEL, 0xF808_E40E_8D5B_3E69L, //   -76
+        0xE795_8CB8_7392_C2C2L, 0xB60B_1D12_30B2_0E04L, //   -75
+        0x90BD_77F3_483B_B9B9L, 0xB1C6_F22B_5E6F_48C2L, //   -74
+        0xB4EC_D5F0_1A4A_A828L, 0x1E38_AEB6_360B_1AF3L, //   -73
+        0xE228_0B6C_20DD_5232L, 0x25C6_DA63_C38D_E1B0L, //   -72
+        0x8D59_0723_948A_535FL, 0x579C_487E_5A38_AD0EL, //   -71
+        0xB0AF_48EC_79AC_E837L, 0x2D83_5A9D_F0C6_D851L, //   -70
+        0xDCDB_1B27_9818_2244L, 0xF8E4_3145_6CF8_8E65L, //   -69
+        0x8A08_F0F8_BF0F_156BL, 0x1B8E_9ECB_641B_58FFL, //   -68
+        0xAC8B_2D36_EED2_DAC5L, 0xE272_467E_3D22_2F3FL, //   -67
+        0xD7AD_F884_AA87_9177L, 0x5B0E_D81D_CC6A_BB0FL, //   -66
+        0x86CC_BB52_EA94_BAEAL, 0x98E9_4712_9FC2_B4E9L, //   -65
+        0xA87F_EA27_A539_E9A5L, 0x3F23_98D7_47B3_6224L, //   -64
+        0xD29F_E4B1_8E88_640EL, 0x8EEC_7F0D_19A0_3AADL, //   -63
+        0x83A3_EEEE_F915_3E89L, 0x1953_CF68_3004_24ACL, //   -62
+        0xA48C_EAAA_B75A_8E2BL, 0x5FA8_C342_3C05_2DD7L, //   -61
+        0xCDB0_2555_6531_31B6L, 0x3792_F412_CB06_794DL, //   -60
+        0x808E_1755_5F3E_BF11L, 0xE2BB_D88B_BEE4_0BD0L, //   -59
+        0xA0B1_9D2A_B70E_6ED6L, 0x5B6A_CEAE_AE9D_0EC4L, //   -58
+        0xC8DE_0475_64D2_0A8BL, 0xF245_825A_5A44_5275L, //   -57
+        0xFB15_8592_BE06_8D2EL, 0xEED6_E2F0_F0D5_6712L, //   -56
+        0x9CED_737B_B6C4_183DL, 0x5546_4DD6_9685_606BL, //   -55
+        0xC428_D05A_A475_1E4CL, 0xAA97_E14C_3C26_B886L, //   -54
+        0xF533_0471_4D92_65DFL, 0xD53D_D99F_4B30_66A8L, //   -53
+        0x993F_E2C6_D07B_7FABL, 0xE546_A803_8EFE_4029L, //   -52
+        0xBF8F_DB78_849A_5F96L, 0xDE98_5204_72BD_D033L, //   -51
+        0xEF73_D256_A5C0_F77CL, 0x963E_6685_8F6D_4440L, //   -50
+        0x95A8_6376_2798_9AADL, 0xDDE7_0013_79A4_4AA8L, //   -49
+        0xBB12_7C53_B17E_C159L, 0x5560_C018_580D_5D52L, //   -48
+        0xE9D7_1B68_9DDE_71AFL, 0xAAB8_F01E_6E10_B4A6L, //   -47
+        0x9226_7121_62AB_070DL, 0xCAB3_9613_04CA_70E8L, //   -46
+        0xB6B0_0D69_BB55_C8D1L, 0x3D60_7B97_C5FD_0D22L, //   -45
+        0xE45C_10C4_2A2B_3B05L, 0x8CB8_9A7D_B77C_506AL, //   -44
+        0x8EB9_8A7A_9A5B_04E3L, 0x77F3_608E_92AD_B242L, //   -43
+        0xB267_ED19_40F1_C61CL, 0x55F0_38B2_3759_1ED3L, //   -42
+        0xDF01_E85F_912E_37A3L, 0x6B6C_46DE_C52F_6688L, //   -41
+        0x8B61_313B_BABC_E2C6L, 0x2323_AC4B_3B3D_A015L, //   -40
+        0xAE39_7D8A_A96C_1B77L, 0xABEC_975E_0A0D_081AL, //   -39
+        0xD9C7_DCED_53C7_2255L, 0x96E7_BD35_8C90_4A21L, //   -38
+        0x881C_EA14_545C_7575L, 0x7E50_D641_77DA_2E54L, //   -37
+        0xAA24_2499_6973_92D2L, 0xDDE5_0BD1_D5D0_B9E9L, //   -36
+        0xD4AD_2DBF_C3D0_7787L, 0x955E_4EC6_4B44_E864L, //   -35
+        0x84EC_3C97_DA62_4AB4L, 0xBD5A_F13B_EF0B_113EL, //   -34
+        0xA627_4BBD_D0FA_DD61L, 0xECB1_AD8A_EACD_D58EL, //   -33
+        0xCFB1_1EAD_4539_94BAL, 0x67DE_18ED_A581_4AF2L, //   -32
+        0x81CE_B32C_4B43_FCF4L, 0x80EA_CF94_8770_CED7L, //   -31
+        0xA242_5FF7_5E14_FC31L, 0xA125_8379_A94D_028DL, //   -30
+        0xCAD2_F7F5_359A_3B3EL, 0x096E_E458_13A0_4330L, //   -29
+        0xFD87_B5F2_8300_CA0DL, 0x8BCA_9D6E_1888_53FCL, //   -28
+        0x9E74_D1B7_91E0_7E48L, 0x775E_A264_CF55_347EL, //   -27
+        0xC612_0625_7658_9DDAL, 0x9536_4AFE_032A_819EL, //   -26
+        0xF796_87AE_D3EE_C551L, 0x3A83_DDBD_83F5_2205L, //   -25
+        0x9ABE_14CD_4475_3B52L, 0xC492_6A96_7279_3543L, //   -24
+        0xC16D_9A00_9592_8A27L, 0x75B7_053C_0F17_8294L, //   -23
+        0xF1C9_0080_BAF7_2CB1L, 0x5324_C68B_12DD_6339L, //   -22
+        0x971D_A050_74DA_7BEEL, 0xD3F6_FC16_EBCA_5E04L, //   -21
+        0xBCE5_0864_9211_1AEAL, 0x88F4_BB1C_A6BC_F585L, //   -20
+        0xEC1E_4A7D_B695_61A5L, 0x2B31_E9E3_D06C_32E6L, //   -19
+        0x9392_EE8E_921D_5D07L, 0x3AFF_322E_6243_9FD0L, //   -18
+        0xB877_AA32_36A4_B449L, 0x09BE_FEB9_FAD4_87C3L, //   -17
+        0xE695_94BE_C44D_E15BL, 0x4C2E_BE68_7989_A9B4L, //   -16
+        0x901D_7CF7_3AB0_ACD9L, 0x0F9D_3701_4BF6_0A11L, //   -15
+        0xB424_DC35_095C_D80FL, 0x5384_84C1_9EF3_8C95L, //   -14
+        0xE12E_1342_4BB4_0E13L, 0x2865_A5F2_06B0_6FBAL, //   -13
+        0x8CBC_CC09_6F50_88CBL, 0xF93F_87B7_442E_45D4L, //   -12
+        0xAFEB_FF0B_CB24_AAFEL, 0xF78F_69A5_1539_D749L, //   -11
+        0xDBE6_FECE_BDED_D5BEL, 0xB573_440E_5A88_4D1CL, //   -10
+        0x8970_5F41_36B4_A597L, 0x3168_0A88_F895_3031L, //    -9
+        0xABCC_7711_8461_CEFCL, 0xFDC2_0D2B_36BA_7C3EL, //    -8
+        0xD6BF_94D5_E57A_42BCL, 0x3D32_9076_0469_1B4DL, //    -7
+        0x8637_BD05_AF6C_69B5L, 0xA63F_9A49_C2C1_B110L, //    -6
+        0xA7C5_AC47_1B47_8423L, 0x0FCF_80DC_3372_1D54L, //    -5
+        0xD1B7_1758_E219_652BL, 0xD3C3_6113_404E_A4A9L, //    -4
+        0x8312_6E97_8D4F_DF3BL, 0x645A_1CAC_0831_26EAL, //    -3
+        0xA3D7_0A3D_70A3_D70AL, 0x3D70_A3D7_0A3D_70A4L, //    -2
+        0xCCCC_CCCC_CCCC_CCCCL, 0xCCCC_CCCC_CCCC_CCCDL, //    -1
+        0x8000_0000_0000_0000L, 0x0000_0000_0000_0000L, //     0
+        0xA000_0000_0000_0000L, 0x0000_0000_0000_0000L, //     1
+        0xC800_0000_0000_0000L, 0x0000_0000_0000_0000L, //     2
+        0xFA00_0000_0000_0000L, 0x0000_0000_0000_0000L, //     3
+        0x9C40_0000_0000_0000L, 0x0000_0000_0000_0000L, //     4
+        0xC350_0000_0000_0000L, 0x0000_0000_0000_0000L, //     5
+        0xF424_0000_0000_0000L, 0x0000_0000_0000_0000L, //     6
+        0x9896_8000_0000_0000L, 0x0000_0000_0000_0000L, //     7
+        0xBEBC_2000_0000_0000L, 0x0000_0000_0000_0000L, //     8
+        0xEE6B_2800_0000_0000L, 0x0000_0000_0000_0000L, //     9
+        0x9502_F900_0000_0000L, 0x0000_0000_0000_0000L, //    10
+        0xBA43_B740_0000_0000L, 0x0000_0000_0000_0000L, //    11
+        0xE8D4_A510_0000_0000L, 0x0000_0000_0000_0000L, //    12
+        0x9184_E72A_0000_0000L, 0x0000_0000_0000_0000L, //    13
+        0xB5E6_20F4_8000_0000L, 0x0000_0000_0000_0000L, //    14
+        0xE35F_A931_A000_0000L, 0x0000_0000_0000_0000L, //    15
+        0x8E1B_C9BF_0400_0000L, 0x0000_0000_0000_0000L, //    16
+        0xB1A2_BC2E_C500_0000L, 0x0000_0000_0000_0000L, //    17
+        0xDE0B_6B3A_7640_0000L, 0x0000_0000_0000_0000L, //    18
+        0x8AC7_2304_89E8_0000L, 0x0000_0000_0000_0000L, //    19
+        0xAD78_EBC5_AC62_0000L, 0x0000_0000_0000_0000L, //    20
+        0xD8D7_26B7_177A_8000L, 0x0000_0000_0000_0000L, //    21
+        0x8786_7832_6EAC_9000L, 0x0000_0000_0000_0000L, //    22
+        0xA968_163F_0A57_B400L, 0x0000_0000_0000_0000L, //    23
+        0xD3C2_1BCE_CCED_A100L, 0x0000_0000_0000_0000L, //    24
+        0x8459_5161_4014_84A0L, 0x0000_0000_0000_0000L, //    25
+        0xA56F_A5B9_9019_A5C8L, 0x0000_0000_0000_0000L, //    26
+        0xCECB_8F27_F420_0F3AL, 0x0000_0000_0000_0000L, //    27
+        0x813F_3978_F894_0984L, 0x4000_0000_0000_0000L, //    28
+        0xA18F_07D7_36B9_0BE5L, 0x5000_0000_0000_0000L, //    29
+        0xC9F2_C9CD_0467_4EDEL, 0xA400_0000_0000_0000L, //    30
+        0xFC6F_7C40_4581_2296L, 0x4D00_0000_0000_0000L, //    31
+        0x9DC5_ADA8_2B70_B59DL, 0xF020_0000_0000_0000L, //    32
+        0xC537_1912_364C_E305L, 0x6C28_0000_0000_0000L, //    33
+        0xF684_DF56_C3E0_1BC6L, 0xC732_0000_0000_0000L, //    34
+        0x9A13_0B96_3A6C_115CL, 0x3C7F_4000_0000_0000L, //    35
+        0xC097_CE7B_C907_15B3L, 0x4B9F_1000_0000_0000L, //    36
+        0xF0BD_C21A_BB48_DB20L, 0x1E86_D400_0000_0000L, //    37
+        0x9676_9950_B50D_88F4L, 0x1314_4480_0000_0000L, //    38
+        0xBC14_3FA4_E250_EB31L, 0x17D9_55A0_0000_0000L, //    39
+        0xEB19_4F8E_1AE5_25FDL, 0x5DCF_AB08_0000_0000L, //    40
+        0x92EF_D1B8_D0CF_37BEL, 0x5AA1_CAE5_0000_0000L, //    41
+        0xB7AB_C627_0503_05ADL, 0xF14A_3D9E_4000_0000L, //    42
+        0xE596_B7B0_C643_C719L, 0x6D9C_CD05_D000_0000L, //    43
+        0x8F7E_32CE_7BEA_5C6FL, 0xE482_0023_A200_0000L, //    44
+        0xB35D_BF82_1AE4_F38BL, 0xDDA2_802C_8A80_0000L, //    45
+        0xE035_2F62_A19E_306EL, 0xD50B_2037_AD20_0000L, //    46
+        0x8C21_3D9D_A502_DE45L, 0x4526_F422_CC34_0000L, //    47
+        0xAF29_8D05_0E43_95D6L, 0x9670_B12B_7F41_0000L, //    48
+        0xDAF3_F046_51D4_7B4CL, 0x3C0C_DD76_5F11_4000L, //    49
+        0x88D8_762B_F324_CD0FL, 0xA588_0A69_FB6A_C800L, //    50
+        0xAB0E_93B6_EFEE_0053L, 0x8EEA_0D04_7A45_7A00L, //    51
+        0xD5D2_38A4_ABE9_8068L, 0x72A4_9045_98D6_D880L, //    52
+        0x85A3_6366_EB71_F041L, 0x47A6_DA2B_7F86_4750L, //    53
+        0xA70C_3C40_A64E_6C51L, 0x9990_90B6_5F67_D924L, //    54
+        0xD0CF_4B50_CFE2_0765L, 0xFFF4_B4E3_F741_CF6DL, //    55
+        0x8281_8F12_81ED_449FL, 0xBFF8_F10E_7A89_21A4L, //    56
+        0xA321_F2D7_2268_95C7L, 0xAFF7_2D52_192B_6A0DL, //    57
+        0xCBEA_6F8C_EB02_BB39L, 0x9BF4_F8A6_9F76_4490L, //    58
+        0xFEE5_0B70_25C3_6A08L, 0x02F2_36D0_4753_D5B4L, //    59
+        0x9F4F_2726_179A_2245L, 0x01D7_6242_2C94_6590L, //    60
+        0xC722_F0EF_9D80_AAD6L, 0x424D_3AD2_B7B9_7EF5L, //    61
+        0xF8EB_AD2B_84E0_D58BL, 0xD2E0_8987_65A7_DEB2L, //    62
+        0x9B93_4C3B_330C_8577L, 0x63CC_55F4_9F88_EB2FL, //    63
+        0xC278_1F49_FFCF_A6D5L, 0x3CBF_6B71_C76B_25FBL, //    64
+        0xF316_271C_7FC3_908AL, 0x8BEF_464E_3945_EF7AL, //    65
+        0x97ED_D871_CFDA_3A56L, 0x9775_8BF0_E3CB_B5ACL, //    66
+        0xBDE9_4E8E_43D0_C8ECL, 0x3D52_EEED_1CBE_A317L, //    67
+        0xED63_A231_D4C4_FB27L, 0x4CA7_AAA8_63EE_4BDDL, //    68
+        0x945E_455F_24FB_1CF8L, 0x8FE8_CAA9_3E74_EF6AL, //    69
+        0xB975_D6B6_EE39_E436L, 0xB3E2_FD53_8E12_2B44L, //    70
+        0xE7D3_4C64_A9C8_5D44L, 0x60DB_BCA8_7196_B616L, //    71
+        0x90E4_0FBE_EA1D_3A4AL, 0xBC89_55E9_46FE_31CDL, //    72
+        0xB51D_13AE_A4A4_88DDL, 0x6BAB_AB63_98BD_BE41L, //    73
+        0xE264_589A_4DCD_AB14L, 0xC696_963C_7EED_2DD1L, //    74
+        0x8D7E_B760_70A0_8AECL, 0xFC1E_1DE5_CF54_3CA2L, //    75
+        0xB0DE_6538_8CC8_ADA8L, 0x3B25_A55F_4329_4BCBL, //    76
+        0xDD15_FE86_AFFA_D912L, 0x49EF_0EB7_13F3_9EBEL, //    77
+        0x8A2D_BF14_2DFC_C7ABL, 0x6E35_6932_6C78_4337L, //    78
+        0xACB9_2ED9_397B_F996L, 0x49C2_C37F_0796_5404L, //    79
+        0xD7E7_7A8F_87DA_F7FBL, 0xDC33_745E_C97B_E906L, //    80
+        0x86F0_AC99_B4E8_DAFDL, 0x69A0_28BB_3DED_71A3L, //    81
+        0xA8AC_D7C0_2223_11BCL, 0xC408_32EA_0D68_CE0CL, //    82
+        0xD2D8_0DB0_2AAB_D62BL, 0xF50A_3FA4_90C3_0190L, //    83
+        0x83C7_088E_1AAB_65DBL, 0x7926_67C6_DA79_E0FAL, //    84
+        0xA4B8_CAB1_A156_3F52L, 0x5770_01B8_9118_5938L, //    85
+        0xCDE6_FD5E_09AB_CF26L, 0xED4C_0226_B55E_6F86L, //    86
+        0x80B0_5E5A_C60B_6178L, 0x544F_8158_315B_05B4L, //    87
+        0xA0DC_75F1_778E_39D6L, 0x6963_61AE_3DB1_C721L, //    88
+        0xC913_936D_D571_C84CL, 0x03BC_3A19_CD1E_38E9L, //    89
+        0xFB58_7849_4ACE_3A5FL, 0x04AB_48A0_4065_C723L, //    90
+        0x9D17_4B2D_CEC0_E47BL, 0x62EB_0D64_283F_9C76L, //    91
+        0xC45D_1DF9_4271_1D9AL, 0x3BA5_D0BD_324F_8394L, //    92
+        0xF574_6577_930D_6500L, 0xCA8F_44EC_7EE3_6479L, //    93
+        0x9968_BF6A_BBE8_5F20L, 0x7E99_8B13_CF4E_1ECBL, //    94
+        0xBFC2_EF45_6AE2_76E8L, 0x9E3F_EDD8_C321_A67EL, //    95
+        0xEFB3_AB16_C59B_14A2L, 0xC5CF_E94E_F3EA_101EL, //    96
+        0x95D0_4AEE_3B80_ECE5L, 0xBBA1_F1D1_5872_4A12L, //    97
+        0xBB44_5DA9_CA61_281FL, 0x2A8A_6E45_AE8E_DC97L, //    98
+        0xEA15_7514_3CF9_7226L, 0xF52D_09D7_1A32_93BDL, //    99
+        0x924D_692C_A61B_E758L, 0x593C_2626_705F_9C56L, //   100
+        0xB6E0_C377_CFA2_E12EL, 0x6F8B_2FB0_0C77_836CL, //   101
+        0xE498_F455_C38B_997AL, 0x0B6D_FB9C_0F95_6447L, //   102
+        0x8EDF_98B5_9A37_3FECL, 0x4724_BD41_89BD_5EACL, //   103
+        0xB297_7EE3_00C5_0FE7L, 0x58ED_EC91_EC2C_B657L, //   104
+        0xDF3D_5E9B_C0F6_53E1L, 0x2F29_67B6_6737_E3EDL, //   105
+        0x8B86_5B21_5899_F46CL, 0xBD79_E0D2_0082_EE74L, //   106
+        0xAE67_F1E9_AEC0_7187L, 0xECD8_5906_80A3_AA11L, //   107
+        0xDA01_EE64_1A70_8DE9L, 0xE80E_6F48_20CC_9495L, //   108
+        0x8841_34FE_9086_58B2L, 0x3109_058D_147F_DCDDL, //   109
+        0xAA51_823E_34A7_EEDEL, 0xBD4B_46F0_599F_D415L, //   110
+        0xD4E5_E2CD_C1D1_EA96L, 0x6C9E_18AC_7007_C91AL, //   111
+        0x850F_ADC0_9923_329EL, 0x03E2_CF6B_C604_DDB0L, //   112
+        0xA653_9930_BF6B_FF45L, 0x84DB_8346_B786_151CL, //   113
+        0xCFE8_7F7C_EF46_FF16L, 0xE612_6418_6567_9A63L, //   114
+        0x81F1_4FAE_158C_5F6EL, 0x4FCB_7E8F_3F60_C07EL, //   115
+        0xA26D_A399_9AEF_7749L, 0xE3BE_5E33_0F38_F09DL, //   116
+        0xCB09_0C80_01AB_551CL, 0x5CAD_F5BF_D307_2CC5L, //   117
+        0xFDCB_4FA0_0216_2A63L, 0x73D9_732F_C7C8_F7F6L, //   118
+        0x9E9F_11C4_014D_DA7EL, 0x2867_E7FD_DCDD_9AFAL, //   119
+        0xC646_D635_01A1_511DL, 0xB281_E1FD_5415_01B8L, //   120
+        0xF7D8_8BC2_4209_A565L, 0x1F22_5A7C_A91A_4226L, //   121
+        0x9AE7_5759_6946_075FL, 0x3375_788D_E9B0_6958L, //   122
+        0xC1A1_2D2F_C397_8937L, 0x0052_D6B1_641C_83AEL, //   123
+        0xF209_787B_B47D_6B84L, 0xC067_8C5D_BD23_A49AL, //   124
+        0x9745_EB4D_50CE_6332L, 0xF840_B7BA_9636_46E0L, //   125
+        0xBD17_6620_A501_FBFFL, 0xB650_E5A9_3BC3_D898L, //   126
+        0xEC5D_3FA8_CE42_7AFFL, 0xA3E5_1F13_8AB4_CEBEL, //   127
+        0x93BA_47C9_80E9_8CDFL, 0xC66F_336C_36B1_0137L, //   128
+        0xB8A8_D9BB_E123_F017L, 0xB80B_0047_445D_4184L, //   129
+        0xE6D3_102A_D96C_EC1DL, 0xA60D_C059_1574_91E5L, //   130
+        0x9043_EA1A_C7E4_1392L, 0x87C8_9837_AD68_DB2FL, //   131
+        0xB454_E4A1_79DD_1877L, 0x29BA_BE45_98C3_11FBL, //   132
+        0xE16A_1DC9_D854_5E94L, 0xF429_6DD6_FEF3_D67AL, //   133
+        0x8CE2_529E_2734_BB1DL, 0x1899_E4A6_5F58_660CL, //   134
+        0xB01A_E745_B101_E9E4L, 0x5EC0_5DCF_F72E_7F8FL, //   135
+        0xDC21_A117_1D42_645DL, 0x7670_7543_F4FA_1F73L, //   136
+        0x8995_04AE_7249_7EBAL, 0x6A06_494A_791C_53A8L, //   137
+        0xABFA_45DA_0EDB_DE69L, 0x0487_DB9D_1763_6892L, //   138
+        0xD6F8_D750_9292_D603L, 0x45A9_D284_5D3C_42B6L, //   139
+        0x865B_8692_5B9B_C5C2L, 0x0B8A_2392_BA45_A9B2L, //   140
+        0xA7F2_6836_F282_B732L, 0x8E6C_AC77_68D7_141EL, //   141
+        0xD1EF_0244_AF23_64FFL, 0x3207_D795_430C_D926L, //   142
+        0x8335_616A_ED76_1F1FL, 0x7F44_E6BD_49E8_07B8L, //   143
+        0xA402_B9C5_A8D3_A6E7L, 0x5F16_206C_9C62_09A6L, //   144
+        0xCD03_6837_1308_90A1L, 0x36DB_A887_C37A_8C0FL, //   145
+        0x8022_2122_6BE5_5A64L, 0xC249_4954_DA2C_9789L, //   146
+        0xA02A_A96B_06DE_B0FDL, 0xF2DB_9BAA_10B7_BD6CL, //   147
+        0xC835_53C5_C896_5D3DL, 0x6F92_8294_94E5_ACC7L, //   148
+        0xFA42_A8B7_3ABB_F48CL, 0xCB77_2339_BA1F_17F9L, //   149
+        0x9C69_A972_84B5_78D7L, 0xFF2A_7604_1453_6EFBL, //   150
+        0xC384_13CF_25E2_D70DL, 0xFEF5_1385_1968_4ABAL, //   151
+        0xF465_18C2_EF5B_8CD1L, 0x7EB2_5866_5FC2_5D69L, //   152
+        0x98BF_2F79_D599_3802L, 0xEF2F_773F_FBD9_7A61L, //   153
+        0xBEEE_FB58_4AFF_8603L, 0xAAFB_550F_FACF_D8FAL, //   154
+        0xEEAA_BA2E_5DBF_6784L, 0x95BA_2A53_F983_CF38L, //   155
+        0x952A_B45C_FA97_A0B2L, 0xDD94_5A74_7BF2_6183L, //   156
+        0xBA75_6174_393D_88DFL, 0x94F9_7111_9AEE_F9E4L, //   157
+        0xE912_B9D1_478C_EB17L, 0x7A37_CD56_01AA_B85DL, //   158
+        0x91AB_B422_CCB8_12EEL, 0xAC62_E055_C10A_B33AL, //   159
+        0xB616_A12B_7FE6_17AAL, 0x577B_986B_314D_6009L, //   160
+        0xE39C_4976_5FDF_9D94L, 0xED5A_7E85_FDA0_B80BL, //   161
+        0x8E41_ADE9_FBEB_C27DL, 0x1458_8F13_BE84_7307L, //   162
+        0xB1D2_1964_7AE6_B31CL, 0x596E_B2D8_AE25_8FC8L, //   163
+        0xDE46_9FBD_99A0_5FE3L, 0x6FCA_5F8E_D9AE_F3BBL, //   164
+        0x8AEC_23D6_8004_3BEEL, 0x25DE_7BB9_480D_5854L, //   165
+        0xADA7_2CCC_2005_4AE9L, 0xAF56_1AA7_9A10_AE6AL, //   166
+        0xD910_F7FF_2806_9DA4L, 0x1B2B_A151_8094_DA04L, //   167
+        0x87AA_9AFF_7904_2286L, 0x90FB_44D2_F05D_0842L, //   168
+        0xA995_41BF_5745_2B28L, 0x353A_1607_AC74_4A53L, //   169
+        0xD3FA_922F_2D16_75F2L, 0x4288_9B89_9791_5CE8L, //   170
+        0x847C_9B5D_7C2E_09B7L, 0x6995_6135_FEBA_DA11L, //   171
+        0xA59B_C234_DB39_8C25L, 0x43FA_B983_7E69_9095L, //   172
+        0xCF02_B2C2_1207_EF2EL, 0x94F9_67E4_5E03_F4BBL, //   173
+        0x8161_AFB9_4B44_F57DL, 0x1D1B_E0EE_BAC2_78F5L, //   174
+        0xA1BA_1BA7_9E16_32DCL, 0x6462_D92A_6973_1732L, //   175
+        0xCA28_A291_859B_BF93L, 0x7D7B_8F75_03CF_DCFEL, //   176
+        0xFCB2_CB35_E702_AF78L, 0x5CDA_7352_44C3_D43EL, //   177
+        0x9DEF_BF01_B061_ADABL, 0x3A08_8813_6AFA_64A7L, //   178
+        0xC56B_AEC2_1C7A_1916L, 0x088A_AA18_45B8_FDD0L, //   179
+        0xF6C6_9A72_A398_9F5BL, 0x8AAD_549E_5727_3D45L, //   180
+        0x9A3C_2087_A63F_6399L, 0x36AC_54E2_F678_864BL, //   181
+        0xC0CB_28A9_8FCF_3C7FL, 0x8457_6A1B_B416_A7DDL, //   182
+        0xF0FD_F2D3_F3C3_0B9FL, 0x656D_44A2_A11C_51D5L, //   183
+        0x969E_B7C4_7859_E743L, 0x9F64_4AE5_A4B1_B325L, //   184
+        0xBC46_65B5_9670_6114L, 0x873D_5D9F_0DDE_1FEEL, //   185
+        0xEB57_FF22_FC0C_7959L, 0xA90C_B506_D155_A7EAL, //   186
+        0x9316_FF75_DD87_CBD8L, 0x09A7_F124_42D5_88F2L, //   187
+        0xB7DC_BF53_54E9_BECEL, 0x0C11_ED6D_538A_EB2FL, //   188
+        0xE5D3_EF28_2A24_2E81L, 0x8F16_68C8_A86D_A5FAL, //   189
+        0x8FA4_7579_1A56_9D10L, 0xF96E_017D_6944_87BCL, //   190
+        0xB38D_92D7_60EC_4455L, 0x37C9_81DC_C395_A9ACL, //   191
+        0xE070_F78D_3927_556AL, 0x85BB_E253_F47B_1417L, //   192
+        0x8C46_9AB8_43B8_9562L, 0x9395_6D74_78CC_EC8EL, //   193
+        0xAF58_4166_54A6_BABBL, 0x387A_C8D1_9700_27B2L, //   194
+        0xDB2E_51BF_E9D0_696AL, 0x0699_7B05_FCC0_319EL, //   195
+        0x88FC_F317_F222_41E2L, 0x441F_ECE3_BDF8_1F03L, //   196
+        0xAB3C_2FDD_EEAA_D25AL, 0xD527_E81C_AD76_26C3L, //   197
+        0xD60B_3BD5_6A55_86F1L, 0x8A71_E223_D8D3_B074L, //   198
+        0x85C7_0565_6275_7456L, 0xF687_2D56_6784_4E49L, //   199
+        0xA738_C6BE_BB12_D16CL, 0xB428_F8AC_0165_61DBL, //   200
+        0xD106_F86E_69D7_85C7L, 0xE133_36D7_01BE_BA52L, //   201
+        0x82A4_5B45_0226_B39CL, 0xECC0_0246_6117_3473L, //   202
+        0xA34D_7216_42B0_6084L, 0x27F0_02D7_F95D_0190L, //   203
+        0xCC20_CE9B_D35C_78A5L, 0x31EC_038D_F7B4_41F4L, //   204
+        0xFF29_0242_C833_96CEL, 0x7E67_0471_75A1_5271L, //   205
+        0x9F79_A169_BD20_3E41L, 0x0F00_62C6_E984_D386L, //   206
+        0xC758_09C4_2C68_4DD1L, 0x52C0_7B78_A3E6_0868L, //   207
+        0xF92E_0C35_3782_6145L, 0xA770_9A56_CCDF_8A82L, //   208
+        0x9BBC_C7A1_42B1_7CCBL, 0x88A6_6076_400B_B691L, //   209
+        0xC2AB_F989_935D_DBFEL, 0x6ACF_F893_D00E_A435L, //   210
+        0xF356_F7EB_F835_52FEL, 0x0583_F6B8_C412_4D43L, //   211
+        0x9816_5AF3_7B21_53DEL, 0xC372_7A33_7A8B_704AL, //   212
+        0xBE1B_F1B0_59E9_A8D6L, 0x744F_18C0_592E_4C5CL, //   213
+        0xEDA2_EE1C_7064_130CL, 0x1162_DEF0_6F79_DF73L, //   214
+        0x9485_D4D1_C63E_8BE7L, 0x8ADD_CB56_45AC_2BA8L, //   215
+        0xB9A7_4A06_37CE_2EE1L, 0x6D95_3E2B_D717_3692L, //   216
+        0xE811_1C87_C5C1_BA99L, 0xC8FA_8DB6_CCDD_0437L, //   217
+        0x910A_B1D4_DB99_14A0L, 0x1D9C_9892_400A_22A2L, //   218
+        0xB54D_5E4A_127F_59C8L, 0x2503_BEB6_D00C_AB4BL, //   219
+        0xE2A0_B5DC_971F_303AL, 0x2E44_AE64_840F_D61DL, //   220
+        0x8DA4_71A9_DE73_7E24L, 0x5CEA_ECFE_D289_E5D2L, //   221
+        0xB10D_8E14_5610_5DADL, 0x7425_A83E_872C_5F47L, //   222
+        0xDD50_F199_6B94_7518L, 0xD12F_124E_28F7_7719L, //   223
+        0x8A52_96FF_E33C_C92FL, 0x82BD_6B70_D99A_AA6FL, //   224
+        0xACE7_3CBF_DC0B_FB7BL, 0x636C_C64D_1001_550BL, //   225
+        0xD821_0BEF_D30E_FA5AL, 0x3C47_F7E0_5401_AA4EL, //   226
+        0x8714_A775_E3E9_5C78L, 0x65AC_FAEC_3481_0A71L, //   227
+        0xA8D9_D153_5CE3_B396L, 0x7F18_39A7_41A1_4D0DL, //   228
+        0xD310_45A8_341C_A07CL, 0x1EDE_4811_1209_A050L, //   229
+        0x83EA_2B89_2091_E44DL, 0x934A_ED0A_AB46_0432L, //   230
+        0xA4E4_B66B_68B6_5D60L, 0xF81D_A84D_5617_853FL, //   231
+        0xCE1D_E406_42E3_F4B9L, 0x3625_1260_AB9D_668EL, //   232
+        0x80D2_AE83_E9CE_78F3L, 0xC1D7_2B7C_6B42_6019L, //   233
+        0xA107_5A24_E442_1730L, 0xB24C_F65B_8612_F81FL, //   234
+        0xC949_30AE_1D52_9CFCL, 0xDEE0_33F2_6797_B627L, //   235
+        0xFB9B_7CD9_A4A7_443CL, 0x1698_40EF_017D_A3B1L, //   236
+        0x9D41_2E08_06E8_8AA5L, 0x8E1F_2895_60EE_864EL, //   237
+        0xC491_798A_08A2_AD4EL, 0xF1A6_F2BA_B92A_27E2L, //   238
+        0xF5B5_D7EC_8ACB_58A2L, 0xAE10_AF69_6774_B1DBL, //   239
+        0x9991_A6F3_D6BF_1765L, 0xACCA_6DA1_E0A8_EF29L, //   240
+        0xBFF6_10B0_CC6E_DD3FL, 0x17FD_090A_58D3_2AF3L, //   241
+        0xEFF3_94DC_FF8A_948EL, 0xDDFC_4B4C_EF07_F5B0L, //   242
+        0x95F8_3D0A_1FB6_9CD9L, 0x4ABD_AF10_1564_F98EL, //   243
+        0xBB76_4C4C_A7A4_440FL, 0x9D6D_1AD4_1ABE_37F1L, //   244
+        0xEA53_DF5F_D18D_5513L, 0x84C8_6189_216D_C5EDL, //   245
+        0x9274_6B9B_E2F8_552CL, 0x32FD_3CF5_B4E4_9BB4L, //   246
+        0xB711_8682_DBB6_6A77L, 0x3FBC_8C33_221D_C2A1L, //   247
+        0xE4D5_E823_92A4_0515L, 0x0FAB_AF3F_EAA5_334AL, //   248
+        0x8F05_B116_3BA6_832DL, 0x29CB_4D87_F2A7_400EL, //   249
+        0xB2C7_1D5B_CA90_23F8L, 0x743E_20E9_EF51_1012L, //   250
+        0xDF78_E4B2_BD34_2CF6L, 0x914D_A924_6B25_5416L, //   251
+        0x8BAB_8EEF_B640_9C1AL, 0x1AD0_89B6_C2F7_548EL, //   252
+        0xAE96_72AB_A3D0_C320L, 0xA184_AC24_73B5_29B1L, //   253
+        0xDA3C_0F56_8CC4_F3E8L, 0xC9E5_D72D_90A2_741EL, //   254
+        0x8865_8996_17FB_1871L, 0x7E2F_A67C_7A65_8892L, //   255
+        0xAA7E_EBFB_9DF9_DE8DL, 0xDDBB_901B_98FE_EAB7L, //   256
+        0xD51E_A6FA_8578_5631L, 0x552A_7422_7F3E_A565L, //   257
+        0x8533_285C_936B_35DEL, 0xD53A_8895_8F87_275FL, //   258
+        0xA67F_F273_B846_0356L, 0x8A89_2ABA_F368_F137L, //   259
+        0xD01F_EF10_A657_842CL, 0x2D2B_7569_B043_2D85L, //   260
+        0x8213_F56A_67F6_B29BL, 0x9C3B_2962_0E29_FC73L, //   261
+        0xA298_F2C5_01F4_5F42L, 0x8349_F3BA_91B4_7B8FL, //   262
+        0xCB3F_2F76_4271_7713L, 0x241C_70A9_3621_9A73L, //   263
+        0xFE0E_FB53_D30D_D4D7L, 0xED23_8CD3_83AA_0110L, //   264
+        0x9EC9_5D14_63E8_A506L, 0xF436_3804_324A_40AAL, //   265
+        0xC67B_B459_7CE2_CE48L, 0xB143_C605_3EDC_D0D5L, //   266
+        0xF81A_A16F_DC1B_81DAL, 0xDD94_B786_8E94_050AL, //   267
+        0x9B10_A4E5_E991_3128L, 0xCA7C_F2B4_191C_8326L, //   268
+        0xC1D4_CE1F_63F5_7D72L, 0xFD1C_2F61_1F63_A3F0L, //   269
+        0xF24A_01A7_3CF2_DCCFL, 0xBC63_3B39_673C_8CECL, //   270
+        0x976E_4108_8617_CA01L, 0xD5BE_0503_E085_D813L, //   271
+        0xBD49_D14A_A79D_BC82L, 0x4B2D_8644_D8A7_4E18L, //   272
+        0xEC9C_459D_5185_2BA2L, 0xDDF8_E7D6_0ED1_219EL, //   273
+        0x93E1_AB82_52F3_3B45L, 0xCABB_90E5_C942_B503L, //   274
+        0xB8DA_1662_E7B0_0A17L, 0x3D6A_751F_3B93_6243L, //   275
+        0xE710_9BFB_A19C_0C9DL, 0x0CC5_1267_0A78_3AD4L, //   276
+        0x906A_617D_4501_87E2L, 0x27FB_2B80_668B_24C5L, //   277
+        0xB484_F9DC_9641_E9DAL, 0xB1F9_F660_802D_EDF6L, //   278
+        0xE1A6_3853_BBD2_6451L, 0x5E78_73F8_A039_6973L, //   279
+        0x8D07_E334_5563_7EB2L, 0xDB0B_487B_6423_E1E8L, //   280
+        0xB049_DC01_6ABC_5E5FL, 0x91CE_1A9A_3D2C_DA62L, //   281
+        0xDC5C_5301_C56B_75F7L, 0x7641_A140_CC78_10FBL, //   282
+        0x89B9_B3E1_1B63_29BAL, 0xA9E9_04C8_7FCB_0A9DL, //   283
+        0xAC28_20D9_623B_F429L, 0x5463_45FA_9FBD_CD44L, //   284
+        0xD732_290F_BACA_F133L, 0xA97C_1779_47AD_4095L, //   285
+        0x867F_59A9_D4BE_D6C0L, 0x49ED_8EAB_CCCC_485DL, //   286
+        0xA81F_3014_49EE_8C70L, 0x5C68_F256_BFFF_5A74L, //   287
+        0xD226_FC19_5C6A_2F8CL, 0x7383_2EEC_6FFF_3111L, //   288
+        0x8358_5D8F_D9C2_5DB7L, 0xC831_FD53_C5FF_7EABL, //   289
+        0xA42E_74F3_D032_F525L, 0xBA3E_7CA8_B77F_5E55L, //   290
+        0xCD3A_1230_C43F_B26FL, 0x28CE_1BD2_E55F_35EBL, //   291
+        0x8044_4B5E_7AA7_CF85L, 0x7980_D163_CF5B_81B3L, //   292
+        0xA055_5E36_1951_C366L, 0xD7E1_05BC_C332_621FL, //   293
+        0xC86A_B5C3_9FA6_3440L, 0x8DD9_472B_F3FE_FAA7L, //   294
+        0xFA85_6334_878F_C150L, 0xB14F_98F6_F0FE_B951L, //   295
+        0x9C93_5E00_D4B9_D8D2L, 0x6ED1_BF9A_569F_33D3L, //   296
+        0xC3B8_3581_09E8_4F07L, 0x0A86_2F80_EC47_00C8L, //   297
+        0xF4A6_42E1_4C62_62C8L, 0xCD27_BB61_2758_C0FAL, //   298
+        0x98E7_E9CC_CFBD_7DBDL, 0x8038_D51C_B897_789CL, //   299
+        0xBF21_E440_03AC_DD2CL, 0xE047_0A63_E6BD_56C3L, //   300
+        0xEEEA_5D50_0498_1478L, 0x1858_CCFC_E06C_AC74L, //   301
+        0x9552_7A52_02DF_0CCBL, 0x0F37_801E_0C43_EBC8L, //   302
+        0xBAA7_18E6_8396_CFFDL, 0xD305_6025_8F54_E6BAL, //   303
+        0xE950_DF20_247C_83FDL, 0x47C6_B82E_F32A_2069L, //   304
+        0x91D2_8B74_16CD_D27EL, 0x4CDC_331D_57FA_5441L, //   305
+        0xB647_2E51_1C81_471DL, 0xE013_3FE4_ADF8_E952L, //   306
+        0xE3D8_F9E5_63A1_98E5L, 0x5818_0FDD_D977_23A6L, //   307
+        0x8E67_9C2F_5E44_FF8FL, 0x570F_09EA_A7EA_7648L, //   308
+    };
+}
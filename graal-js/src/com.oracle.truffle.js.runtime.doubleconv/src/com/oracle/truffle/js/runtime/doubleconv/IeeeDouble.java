@@ -91,11 +91,6 @@ class IeeeDouble {
     static private final long kInfinity = 0x7FF0000000000000L;
     static private final long kNaN = 0x7FF8000000000000L;
 
-    static DiyFp asDiyFp(final long d64) {
-        assert (!isSpecial(d64));
-        return new DiyFp(significand(d64), exponent(d64));
-    }
-
     // The value encoded by this Double must be strictly greater than 0.
     static DiyFp asNormalizedDiyFp(final long d64) {
         assert (value(d64) > 0.0);
@@ -182,27 +177,6 @@ class IeeeDouble {
     }
 
 
-    // Computes the two boundaries of this.
-    // The bigger boundary (m_plus) is normalized. The lower boundary has the same
-    // exponent as m_plus.
-    // Precondition: the value encoded by this Double must be greater than 0.
-    static void normalizedBoundaries(final long d64, final DiyFp m_minus, final DiyFp m_plus) {
-        assert (value(d64) > 0.0);
-        final DiyFp v = asDiyFp(d64);
-        m_plus.setF((v.f() << 1) + 1);
-        m_plus.setE(v.e() - 1);
-        m_plus.normalize();
-        if (lowerBoundaryIsCloser(d64)) {
-            m_minus.setF((v.f() << 2) - 1);
-            m_minus.setE(v.e() - 2);
-        } else {
-            m_minus.setF((v.f() << 1) - 1);
-            m_minus.setE(v.e() - 1);
-        }
-        m_minus.setF(m_minus.f() << (m_minus.e() - m_plus.e()));
-        m_minus.setE(m_plus.e());
-    }
-
     static boolean lowerBoundaryIsCloser(final long d64) {
         // The boundary is closer if the significand is of the form f == 2^p-1 then
         // the lower boundary is closer.
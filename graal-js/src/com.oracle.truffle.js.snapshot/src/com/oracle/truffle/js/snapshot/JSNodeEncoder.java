@@ -79,6 +79,7 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
 import java.util.stream.Collectors;
+import java.util.zip.CRC32;
 
 import com.oracle.truffle.api.source.SourceSection;
 import com.oracle.truffle.js.codec.BinaryEncoder;
@@ -94,8 +95,12 @@ import com.oracle.truffle.js.runtime.builtins.JSFunctionData;
 
 public class JSNodeEncoder {
     private final BinaryEncoder encoder;
-    private final HashMap<String, Integer> patchPositions = new HashMap<>();
-    private final HashMap<String, Integer> resolvedPositions = new HashMap<>();
+    /** Index of each extracted method in the function offset table. */
+    private final HashMap<String, Integer> functionIndices = new HashMap<>();
+    private final ArrayList<Integer> functionPositions = new ArrayList<>();
+    private int functionTableOffsetPosition = -1;
+    /** Position of the entry method. */
+    private int bodyStart;
 
     private static final int FIRST_REG = 1;
     private final HashMap<Integer, Integer> valueIdToRegMap = new HashMap<>();
@@ -114,6 +119,9 @@ public class JSNodeEncoder {
         putInt32(JSNodeDecoder.getChecksum());
         putInt32(sourceCode.length());
         putInt32(sourceCode.hashCode());
+        functionTableOffsetPosition = encoder.getPosition();
+        putInt32(-1);
+        bodyStart = encoder.getPosition();
     }
 
     private void putBytecode(JSNodeDecoder.Bytecode value) {
@@ -340,31 +348,57 @@ public class JSNodeEncoder {
     }
 
     private void putExtractedPosition(String name) {
-        if (resolvedPositions.containsKey(name)) {
-            assert false : "already resolved " + name;
-            encoder.putInt32(resolvedPositions.get(name));
-            return;
-        }
+        putUInt(getFunctionIndex(name));
+    }
 
-        assert !patchPositions.containsKey(name) : name;
-        patchPositions.put(name, encoder.getPosition());
-        encoder.putInt32(-1);
+    private int getFunctionIndex(String name) {
+        return functionIndices.computeIfAbsent(name, n -> {
+            functionPositions.add(-1);
+            return functionPositions.size() - 1;
+        });
     }
 
     public void markExtractedPosition(String name) {
         int mark = encoder.getPosition();
-        resolvedPositions.put(name, mark);
-        if (patchPositions.containsKey(name)) {
-            int pos = patchPositions.get(name);
+        int index = getFunctionIndex(name);
+        assert functionPositions.get(index) == -1 : "already resolved " + name;
+        functionPositions.set(index, mark);
+        Recording.logv(" -- %d: %d %s", index, mark, name);
+    }
+
+    /**
+     * Appends the function table (the position and CRC32 checksum of each extracted method),
+     * patches its position into the header and appends a CRC32 checksum of the header, the entry
+     * method and the table.
+     */
+    public void finish() {
+        int tableOffset = encoder.getPosition();
+        int[] positions = new int[functionPositions.size()];
+        for (int i = 0; i < positions.length; i++) {
+            positions[i] = functionPositions.get(i);
+            if (positions[i] == -1) {
+                throw new IllegalStateException("unresolved extracted method " + i);
+            }
+        }
+        int[] limits = BinarySnapshotProvider.getFunctionLimits(positions, tableOffset);
+        ByteBuffer methods = encoder.getBuffer();
+        putUInt(positions.length);
+        for (int i = 0; i < positions.length; i++) {
+            putInt32(positions[i]);
+            putInt32(JSNodeDecoder.checksum(methods, positions[i], limits[i]));
+        }
+        if (functionTableOffsetPosition >= 0) {
             ByteBuffer bb = encoder.getBuffer().duplicate().order(ByteOrder.LITTLE_ENDIAN);
-            asBaseBuffer(bb).position(pos);
+            asBaseBuffer(bb).position(functionTableOffsetPosition);
             assert bb.getInt() == -1;
-            Recording.logv(" -- %d: %d %s", pos, mark, name);
-            asBaseBuffer(bb).position(pos);
-            bb.putInt(mark);
-        } else {
-            Recording.logv("nothing to patch: %s (%d)", name, mark);
+            asBaseBuffer(bb).position(functionTableOffsetPosition);
+            bb.putInt(tableOffset);
         }
+        ByteBuffer snapshot = encoder.getBuffer();
+        CRC32 crc = new CRC32();
+        crc.update((ByteBuffer) asBaseBuffer(snapshot.duplicate()).limit(BinarySnapshotProvider.getEntryLimit(positions, bodyStart, tableOffset)));
+        crc.update((ByteBuffer) asBaseBuffer(snapshot.duplicate()).position(tableOffset));
+        putInt32((int) crc.getValue());
     }
 
     private void resetRegisterMapping() {
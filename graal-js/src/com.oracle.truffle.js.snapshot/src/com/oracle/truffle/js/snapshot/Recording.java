@@ -1722,6 +1722,7 @@ public class Recording {
         } else {
             encodeMethod(encoder, ENTRY_METHOD_NAME, insts, Collections.emptyList());
         }
+        encoder.finish();
         try {
             outs.write(byteBufferToByteArray(sink.getBuffer()));
         } catch (IOException e) {
@@ -43,7 +43,9 @@ package com.oracle.truffle.js.snapshot;
 import java.io.File;
 import java.io.FileOutputStream;
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
 import java.util.AbstractMap;
 import java.util.ArrayList;
 import java.util.List;
@@ -55,6 +57,7 @@ import com.oracle.truffle.api.source.Source;
 import com.oracle.truffle.js.lang.JavaScriptLanguage;
 import com.oracle.truffle.js.nodes.NodeFactory;
 import com.oracle.truffle.js.nodes.ScriptNode;
+import com.oracle.truffle.js.parser.CodeCache;
 import com.oracle.truffle.js.parser.JavaScriptTranslator;
 import com.oracle.truffle.js.runtime.JSContext;
 import com.oracle.truffle.js.runtime.JSContextOptions;
@@ -71,6 +74,7 @@ public class SnapshotTool {
         boolean wrapped = false;
         String outDir = null;
         String inDir = null;
+        String cacheDir = null;
         List<String> srcFiles = new ArrayList<>();
         for (String arg : args) {
             if (arg.startsWith("--")) {
@@ -86,29 +90,40 @@ public class SnapshotTool {
                     outDir = requireDirectory(arg.substring(arg.indexOf('=') + 1));
                 } else if (arg.startsWith("--indir=")) {
                     inDir = requireDirectory(arg.substring(arg.indexOf('=') + 1));
+                } else if (arg.startsWith("--cache-dir=")) {
+                    cacheDir = requireDirectory(arg.substring(arg.indexOf('=') + 1));
                 }
             }
         }
 
         SnapshotTool snapshotTool = new SnapshotTool();
-        if (!srcFiles.isEmpty() && outDir != null) {
-            try (Context polyglotContext = Context.newBuilder(JavaScriptLanguage.ID).allowIO(true).allowExperimentalOptions(true).option(JSContextOptions.CLASS_FIELDS_NAME, "true").option(
-                            JSContextOptions.LAZY_TRANSLATION_NAME, "false").build()) {
+        if (!srcFiles.isEmpty() && (outDir != null || cacheDir != null)) {
+            Context.Builder contextBuilder = Context.newBuilder(JavaScriptLanguage.ID).allowIO(true).allowExperimentalOptions(true).option(JSContextOptions.LAZY_TRANSLATION_NAME, "false");
+            if (cacheDir == null) {
+                contextBuilder.option(JSContextOptions.CLASS_FIELDS_NAME, "true");
+            }
+            // code cache entries are keyed by the parser options, so the defaults are used for them
+            try (Context polyglotContext = contextBuilder.build()) {
                 polyglotContext.initialize(JavaScriptLanguage.ID);
                 polyglotContext.enter();
                 for (String srcFile : srcFiles) {
                     File sourceFile = inDir == null ? new File(srcFile) : Paths.get(inDir, srcFile).toFile();
-                    File outputFile = Paths.get(outDir, srcFile + (binary ? ".bin" : ".java")).toFile();
                     if (!sourceFile.isFile()) {
                         throw new IllegalArgumentException("Not a file: " + sourceFile);
                     }
-                    snapshotTool.snapshotScriptFileTo(srcFile, sourceFile, outputFile, binary, wrapped);
+                    if (cacheDir != null) {
+                        snapshotTool.cacheScriptFile(srcFile, sourceFile, cacheDir);
+                    } else {
+                        File outputFile = Paths.get(outDir, srcFile + (binary ? ".bin" : ".java")).toFile();
+                        snapshotTool.snapshotScriptFileTo(srcFile, sourceFile, outputFile, binary, wrapped);
+                    }
                 }
                 snapshotTool.timeStats.print();
                 polyglotContext.leave();
             }
         } else {
             System.out.println("Usage: [--java|--binary] --outdir=DIR [--indir=DIR] --file=FILE [--file=FILE ...]");
+            System.out.println("       --cache-dir=DIR [--indir=DIR] --file=FILE [--file=FILE ...]");
         }
     }
 
@@ -156,6 +171,31 @@ public class SnapshotTool {
         }
     }
 
+    /**
+     * Writes the code cache entry of a script file, as looked up by {@link CodeCache}.
+     */
+    private void cacheScriptFile(String fileName, File sourceFile, String cacheDir) throws IOException {
+        JSRealm realm = JavaScriptLanguage.getCurrentJSRealm();
+        JSContext context = realm.getContext();
+        Recording.logv("recording code cache entry of %s", fileName);
+        Source source = Source.newBuilder(JavaScriptLanguage.ID, realm.getEnv().getPublicTruffleFile(sourceFile.getPath())).name(fileName).build();
+        boolean strict = context.getParserOptions().isStrict();
+        File outputFile = Paths.get(cacheDir, CodeCache.getEntryName(context, source, "", "", strict)).toFile();
+        try (TimerCloseable timer = timeStats.file(fileName)) {
+            Recording rec = new Recording();
+            ScriptNode program = JavaScriptTranslator.translateScript(RecordingProxy.createRecordingNodeFactory(rec, NodeFactory.getInstance(context)), context, source, strict, "", "");
+            rec.finish(program.getRootNode());
+            // write to a temporary file first so that readers never see a partial entry
+            File tmpFile = new File(outputFile.getPath() + ".tmp");
+            try (FileOutputStream outs = new FileOutputStream(tmpFile)) {
+                rec.saveToStream(fileName, outs, true);
+            }
+            Files.move(tmpFile.toPath(), outputFile.toPath(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (RuntimeException e) {
+            throw new RuntimeException(fileName, e);
+        }
+    }
+
     private interface TimerCloseable extends AutoCloseable {
         @Override
         void close();
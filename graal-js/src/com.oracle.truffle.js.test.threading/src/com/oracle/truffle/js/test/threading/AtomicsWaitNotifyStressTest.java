@@ -0,0 +1,107 @@
+/*
+ * Copyright (c) 2020, 2020, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * The Universal Permissive License (UPL), Version 1.0
+ *
+ * Subject to the condition set forth below, permission is hereby granted to any
+ * person obtaining a copy of this software, associated documentation and/or
+ * data (collectively the "Software"), free of charge and under any and all
+ * copyright rights in the Software, and any and all patent rights owned or
+ * freely licensable by each licensor hereunder covering either (i) the
+ * unmodified Software as contributed to or provided by such licensor, or (ii)
+ * the Larger Works (as defined below), to deal in both
+ *
+ * (a) the Software, and
+ *
+ * (b) any piece of software and/or hardware listed in the lrgrwrks.txt file if
+ * one is included with the Software each a "Larger Work" to which the Software
+ * is contributed by such licensors),
+ *
+ * without restriction, including without limitation the rights to copy, create
+ * derivative works of, display, perform, and distribute the Software and make,
+ * use, sell, offer for sale, import, export, have made, and have sold the
+ * Software and the Larger Work(s), and to sublicense the foregoing rights on
+ * either these or other terms.
+ *
+ * This license is subject to the following condition:
+ *
+ * The above copyright notice and either this complete permission notice or at a
+ * minimum a reference to the UPL must be included in all copies or substantial
+ * portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.oracle.truffle.js.test.threading;
+
+import static org.junit.Assert.assertEquals;
+
+import org.graalvm.polyglot.Context;
+import org.graalvm.polyglot.Value;
+import org.junit.Test;
+
+/**
+ * Stress test for {@code Atomics.wait} and {@code Atomics.notify}. A number of agents repeatedly
+ * block on their own index of a shared buffer and are released round by round by the main agent,
+ * which in turn waits for all of them to acknowledge. Fails (or times out) if a wake-up is lost.
+ * See {@code JMHAtomicsWaitNotifyBenchmark} for the corresponding benchmark.
+ */
+public class AtomicsWaitNotifyStressTest {
+
+    private static final int AGENT_COUNT = 8;
+    private static final int ROUNDS = 500;
+
+    @Test(timeout = 120000)
+    public void testPingPong() {
+        try (Context context = TestUtil.newContextBuilder().option("js.test262-mode", "true").build()) {
+            String code = "const AGENTS = " + AGENT_COUNT + ", ROUNDS = " + ROUNDS + ", COUNTER = AGENTS;\n" //
+                            + "for (let i = 0; i < AGENTS; i++) {\n" //
+                            + "  $262.agent.start(`\n" //
+                            + "    $262.agent.receiveBroadcast(function(sab) {\n" //
+                            + "      const i32a = new Int32Array(sab);\n" //
+                            + "      const id = Atomics.add(i32a, AGENTS + 1, 1);\n" //
+                            + "      for (let r = 0; r < ${ROUNDS}; r++) {\n" //
+                            + "        while (Atomics.load(i32a, id) === r) {\n" //
+                            + "          Atomics.wait(i32a, id, r);\n" //
+                            + "        }\n" //
+                            + "        Atomics.add(i32a, ${COUNTER}, 1);\n" //
+                            + "        Atomics.notify(i32a, ${COUNTER});\n" //
+                            + "      }\n" //
+                            + "      $262.agent.report(id);\n" //
+                            + "      $262.agent.leaving();\n" //
+                            + "    });\n" //
+                            + "  `.replace(/AGENTS/g, AGENTS));\n" //
+                            + "}\n" //
+                            + "const i32a = new Int32Array(new SharedArrayBuffer(Int32Array.BYTES_PER_ELEMENT * (AGENTS + 2)));\n" //
+                            + "$262.agent.broadcast(i32a.buffer);\n" //
+                            + "for (let r = 1; r <= ROUNDS; r++) {\n" //
+                            + "  for (let i = 0; i < AGENTS; i++) {\n" //
+                            + "    Atomics.store(i32a, i, r);\n" //
+                            + "    Atomics.notify(i32a, i);\n" //
+                            + "  }\n" //
+                            + "  let acks;\n" //
+                            + "  while ((acks = Atomics.load(i32a, COUNTER)) < r * AGENTS) {\n" //
+                            + "    Atomics.wait(i32a, COUNTER, acks, 100);\n" //
+                            + "  }\n" //
+                            + "}\n" //
+                            + "let reports = 0;\n" //
+                            + "while (reports < AGENTS) {\n" //
+                            + "  if ($262.agent.getReport() !== null) {\n" //
+                            + "    reports++;\n" //
+                            + "  } else {\n" //
+                            + "    $262.agent.sleep(1);\n" //
+                            + "  }\n" //
+                            + "}\n" //
+                            + "Atomics.load(i32a, COUNTER);"; //
+            Value result = context.eval("js", code);
+            assertEquals(AGENT_COUNT * ROUNDS, result.asInt());
+        }
+    }
+
+}
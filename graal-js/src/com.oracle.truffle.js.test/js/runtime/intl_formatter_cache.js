@@ -0,0 +1,68 @@
+/*
+ * Copyright (c) 2020, 2020, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * Licensed under the Universal Permissive License v 1.0 as shown at http://oss.oracle.com/licenses/upl.
+ */
+
+/**
+ * Tests of the per-realm cache of ICU collators and formatters.
+ *
+ * @option intl-formatter-cache-size=4
+ */
+
+load('../assert.js');
+
+var stats0 = Debug.intlFormatterCacheStats();
+for (var i = 0; i < 10; i++) {
+    assertSame('1,234.5', (1234.5).toLocaleString('en-US'));
+    assertSame('1.234,5', (1234.5).toLocaleString('de-DE'));
+    assertSame('$1,234.50', (1234.5).toLocaleString('en-US', {style: 'currency', currency: 'USD'}));
+    assertSame('1234.50', (1234.5).toLocaleString('en-US', {useGrouping: false, minimumFractionDigits: 2}));
+}
+var stats1 = Debug.intlFormatterCacheStats();
+assertTrue(stats1.hits - stats0.hits >= 36);
+assertTrue(stats1.size <= 4);
+
+// formatters with different options must not be mixed up
+var date = new Date(Date.UTC(2020, 0, 2, 3, 4, 5));
+for (var i = 0; i < 3; i++) {
+    assertSame('1/2/2020', date.toLocaleDateString('en-US', {timeZone: 'UTC'}));
+    assertSame('2020', date.toLocaleDateString('en-US', {timeZone: 'UTC', year: 'numeric'}));
+    assertSame('1/1/2020', date.toLocaleDateString('en-US', {timeZone: 'America/Los_Angeles'}));
+    assertSame('03:04:05', date.toLocaleTimeString('en-US', {timeZone: 'UTC', hourCycle: 'h23'}));
+    assertSame('3:04:05 AM', date.toLocaleTimeString('en-US', {timeZone: 'UTC'}));
+    assertSame('2020-01-02', new Intl.DateTimeFormat('sv-SE', {timeZone: 'UTC'}).format(date));
+}
+var stats2 = Debug.intlFormatterCacheStats();
+assertTrue(stats2.evictions > stats1.evictions);
+assertTrue(stats2.size <= 4);
+
+// cached date formats are cloned, so resolved options stay independent
+var dtf1 = new Intl.DateTimeFormat('en-US', {timeZone: 'UTC', calendar: 'gregory'});
+var dtf2 = new Intl.DateTimeFormat('en-US', {timeZone: 'UTC', calendar: 'gregory'});
+assertSame(dtf1.format(date), dtf2.format(date));
+assertSame(JSON.stringify(dtf1.resolvedOptions()), JSON.stringify(dtf2.resolvedOptions()));
+assertSame('gregory', dtf2.resolvedOptions().calendar);
+
+// option getters are still invoked for every call
+var reads = 0;
+var options = {get sensitivity() { reads++; return 'base'; }};
+for (var i = 0; i < 3; i++) {
+    assertSame(0, 'a'.localeCompare('A', 'en', options));
+    assertSame(0, 'a'.localeCompare('á', 'en', options));
+    assertSame(-1, 'a'.localeCompare('b', 'en', options));
+}
+assertSame(9, reads);
+assertTrue('a'.localeCompare('A', 'en', {sensitivity: 'case'}) !== 0);
+assertSame(0, 'a'.localeCompare('á', 'en', {sensitivity: 'case'}));
+assertTrue('a'.localeCompare('á', 'en', {sensitivity: 'accent'}) !== 0);
+
+var collator1 = new Intl.Collator('de-u-kn');
+var collator2 = new Intl.Collator('de-u-kn');
+assertSame(-1, collator1.compare('2', '10'));
+assertSame(-1, collator2.compare('2', '10'));
+assertSame(1, new Intl.Collator('de').compare('2', '10'));
+assertSame(true, collator2.resolvedOptions().numeric);
+
+true;
@@ -0,0 +1,104 @@
+/*
+ * Copyright (c) 2020, 2020, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * Licensed under the Universal Permissive License v 1.0 as shown at http://oss.oracle.com/licenses/upl.
+ */
+/*
+ * Tests of JSON.parse with repeated key sequences (cached object shapes) and number arrays.
+ */
+
+load('../assert.js');
+
+// records with the same keys
+var records = JSON.parse('[{"a":1,"b":"x"},{"a":2,"b":"y"},{"a":3.5,"b":null},{"a":"s","b":{"c":[1]}}]');
+assertSame(4, records.length);
+assertSame(1, records[0].a);
+assertSame("y", records[1].b);
+assertSame(3.5, records[2].a);
+assertSame(null, records[2].b);
+assertSame("s", records[3].a);
+assertSame(1, records[3].b.c[0]);
+for (var i = 0; i < records.length; i++) {
+    assertSame("a,b", Object.keys(records[i]).join());
+}
+
+// prefix of a cached key sequence, and a different successor
+var objs = JSON.parse('[{"a":1,"b":2,"c":3},{"a":1,"b":2},{"a":1,"d":4},{"a":1,"b":2,"c":3}]');
+assertSame("a,b,c", Object.keys(objs[0]).join());
+assertSame("a,b", Object.keys(objs[1]).join());
+assertSame("a,d", Object.keys(objs[2]).join());
+assertSame("a,b,c", Object.keys(objs[3]).join());
+assertSame(3, objs[3].c);
+
+// duplicate keys: last value wins, first position is kept
+for (var i = 0; i < 3; i++) {
+    var dup = JSON.parse('{"a":1,"b":2,"a":3}');
+    assertSame("a,b", Object.keys(dup).join());
+    assertSame(3, dup.a);
+}
+
+// index keys are elements
+for (var i = 0; i < 3; i++) {
+    var idx = JSON.parse('{"1":"one","x":"ex","0":"zero"}');
+    assertSame("0,1,x", Object.keys(idx).join());
+}
+
+// escaped keys must not be confused with raw input
+var esc = JSON.parse('[{"a\\\\b":1},{"a\\\\b":2},{"a\\b":3}]');
+assertSame(1, esc[0]["a\\b"]);
+assertSame(2, esc[1]["a\\b"]);
+assertSame(3, esc[2]["a\b"]);
+assertSame(undefined, esc[2]["a\\b"]);
+
+// key that is a prefix of the predicted one
+var pre = JSON.parse('[{"abc":1},{"ab":2},{"abcd":3}]');
+assertSame(1, pre[0].abc);
+assertSame(2, pre[1].ab);
+assertSame(3, pre[2].abcd);
+
+// more key sequences than the cache holds, also nested in a parsed object
+for (var round = 0; round < 2; round++) {
+    var many = [];
+    for (var i = 0; i < 4096; i++) {
+        many.push('{"a' + (i & 7) + '":' + i + ',"b' + ((i >> 3) & 7) + '":{"c' + ((i >> 6) & 7) + '":"' + i + '"},"d' + (i >> 9) + '":[' + i + ']}');
+    }
+    var parsedMany = JSON.parse('{"first":1,"list":[' + many.join(',') + '],"last":2}');
+    assertSame("first,list,last", Object.keys(parsedMany).join());
+    assertSame(2, parsedMany.last);
+    for (var i = 0; i < 4096; i += 37) {
+        var m = parsedMany.list[i];
+        assertSame('a' + (i & 7) + ',b' + ((i >> 3) & 7) + ',d' + (i >> 9), Object.keys(m).join());
+        assertSame(i, m['a' + (i & 7)]);
+        assertSame(String(i), m['b' + ((i >> 3) & 7)]['c' + ((i >> 6) & 7)]);
+        assertSame(i, m['d' + (i >> 9)][0]);
+    }
+}
+var after = JSON.parse('[{"p":1,"q":2},{"p":3,"q":4}]');
+assertSame("p,q", Object.keys(after[1]).join());
+assertSame(4, after[1].q);
+
+// number arrays
+var ints = JSON.parse('[1,2,3,-4]');
+assertSame(4, ints.length);
+assertSame(-4, ints[3]);
+ints.push("str");
+assertSame("str", ints[4]);
+var doubles = JSON.parse('[1,2.5,-0,1e3]');
+assertSame(2.5, doubles[1]);
+assertSame(-Infinity, 1 / doubles[2]);
+assertSame(1000, doubles[3]);
+var mixed = JSON.parse('[1,"2",[3],{"x":4}]');
+assertSame("2", mixed[1]);
+assertSame(3, mixed[2][0]);
+assertSame(4, mixed[3].x);
+assertSame(0, JSON.parse('[]').length);
+
+// values are writable and objects extensible
+var r = JSON.parse('{"a":1,"b":2}');
+r.a = "changed";
+r.c = 3;
+assertSame("changed", r.a);
+assertSame("a,b,c", Object.keys(r).join());
+
+true;
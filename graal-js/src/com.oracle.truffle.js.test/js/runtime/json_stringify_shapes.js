@@ -0,0 +1,89 @@
+/*
+ * Copyright (c) 2020, 2020, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * Licensed under the Universal Permissive License v 1.0 as shown at http://oss.oracle.com/licenses/upl.
+ */
+/*
+ * Tests of JSON.stringify of identically shaped objects and number arrays.
+ */
+
+load('../assert.js');
+
+function Rec(id, name) {
+    this.id = id;
+    this.name = name;
+}
+
+var recs = [];
+for (var i = 0; i < 20; i++) {
+    recs.push({id: i, name: "n" + i, "quote\"d": i % 2 === 0, nested: {x: i / 2}});
+}
+var json = JSON.stringify(recs);
+assertSame('{"id":3,"name":"n3","quote\\"d":false,"nested":{"x":1.5}}', JSON.stringify(recs[3]));
+assertSame(JSON.stringify(JSON.parse(json)), json);
+
+// non-enumerable, accessor and undefined-valued properties
+var o = {a: 1, b: undefined, c: function() {}};
+Object.defineProperty(o, "hidden", {value: 2, enumerable: false});
+Object.defineProperty(o, "acc", {get: function() { return 42; }, enumerable: true});
+for (var i = 0; i < 3; i++) {
+    assertSame('{"a":1,"acc":42}', JSON.stringify(o));
+}
+
+// toJSON modifying the object being serialized
+for (var i = 0; i < 3; i++) {
+    var holder = {first: {toJSON: function() { delete holder.second; holder.third = 3; return "t"; }}, second: 2};
+    assertSame('{"first":"t"}', JSON.stringify(holder));
+}
+
+// replacer function and property list
+for (var i = 0; i < 3; i++) {
+    var r = new Rec(i, "x");
+    assertSame('{"id":' + (i * 10) + ',"name":"x"}', JSON.stringify(r, function(k, v) { return typeof v === "number" ? v * 10 : v; }));
+    assertSame('{"name":"x"}', JSON.stringify(r, ["name"]));
+}
+
+// indentation
+assertSame('{\n  "id": 1,\n  "name": "y"\n}', JSON.stringify(new Rec(1, "y"), null, 2));
+
+// many shapes in one call site
+var shapes = [];
+for (var i = 0; i < 40; i++) {
+    var s = {};
+    s["k" + i] = i;
+    s.common = "c";
+    shapes.push(s);
+}
+for (var round = 0; round < 3; round++) {
+    for (var i = 0; i < shapes.length; i++) {
+        assertSame('{"k' + i + '":' + i + ',"common":"c"}', JSON.stringify(shapes[i]));
+    }
+}
+assertSame(JSON.stringify(JSON.parse(JSON.stringify(shapes))), JSON.stringify(shapes));
+
+// a large result followed by small ones, then shapes seen only after many others
+var large = [];
+for (var i = 0; i < 100000; i++) {
+    large.push({id: i});
+}
+assertSame(1288891, JSON.stringify(large).length);
+for (var round = 0; round < 3; round++) {
+    var late = {};
+    late.late = round;
+    late["k" + round] = "v";
+    assertSame('{"late":' + round + ',"k' + round + '":"v"}', JSON.stringify(late));
+    assertSame('{"late":' + round + ',"k' + round + '":"v"}', JSON.stringify(late));
+    assertSame('{"late":' + round + ',"k' + round + '":"v"}', JSON.stringify(late));
+}
+
+// number arrays
+assertSame('[1,2,3]', JSON.stringify([1, 2, 3]));
+assertSame('[1.5,-0.25,0,null,null,3]', JSON.stringify([1.5, -0.25, -0, NaN, Infinity, 3]));
+assertSame('[\n 1,\n 2\n]', JSON.stringify([1, 2], null, 1));
+assertSame('[1,null,3]', JSON.stringify([1, , 3]));
+assertSame('[]', JSON.stringify([]));
+assertSame('[[1,2],[0.5]]', JSON.stringify([[1, 2], [0.5]]));
+assertSame('[2,4]', JSON.stringify([1, 2], function(k, v) { return typeof v === "number" ? v * 2 : v; }));
+
+true;
@@ -0,0 +1,55 @@
+/*
+ * Copyright (c) 2020, 2020, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * Licensed under the Universal Permissive License v 1.0 as shown at http://oss.oracle.com/licenses/upl.
+ */
+/*
+ * Test deep lazy string (rope) concatenation, rebalancing, and indexed access.
+ */
+
+load('../assert.js');
+
+var html = '';
+var parts = [];
+for (var i = 0; i < 100000; i++) {
+    var part = '<li id="item' + i + '">entry</li>';
+    html += part;
+    parts.push(part);
+}
+var expected = parts.join('');
+
+assertSame(expected.length, html.length);
+for (var j = 0; j < expected.length; j += 997) {
+    assertSame(expected.charCodeAt(j), html.charCodeAt(j));
+    assertSame(expected.charAt(j), html.charAt(j));
+}
+assertSame(expected.charCodeAt(expected.length - 1), html.charCodeAt(html.length - 1));
+assertTrue(isNaN(html.charCodeAt(html.length)));
+assertSame('', html.charAt(-1));
+
+var prepended = '';
+for (var k = 0; k < 10000; k++) {
+    prepended = k + ',' + prepended;
+}
+assertSame('9999,9998,', prepended.substring(0, 10));
+assertSame('1,0,', prepended.substring(prepended.length - 4));
+
+// short ropes, and ropes indexed more often, are flattened by charAt
+var shortRope = 'abcdefghijklmnopqrstuvwxyz' + 'ABCDEFGHIJKLMNOPQRSTUVWXYZ';
+assertSame('z', shortRope.charAt(25));
+assertSame(65, shortRope.charCodeAt(26));
+var scanned = '';
+var scannedExpected = '';
+for (var m = 0; m < 200; m++) {
+    scanned += 'chunk' + m + ';';
+    scannedExpected = scannedExpected.concat('chunk', m, ';');
+}
+for (var n = 0; n < scanned.length; n++) {
+    assertSame(scannedExpected.charCodeAt(n), scanned.charCodeAt(n));
+}
+
+assertSame(expected, html);
+assertSame(expected.indexOf('item99999'), html.indexOf('item99999'));
+
+true;
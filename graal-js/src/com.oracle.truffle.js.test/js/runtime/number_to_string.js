@@ -0,0 +1,68 @@
+/*
+ * Copyright (c) 2020, 2020, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * Licensed under the Universal Permissive License v 1.0 as shown at http://oss.oracle.com/licenses/upl.
+ */
+
+/**
+ * Tests of Number::toString, toPrecision and toExponential for values close to the edges of the
+ * shortest and fixed digit conversions.
+ */
+
+load('../assert.js');
+
+// shortest representation, closest to the value, even digit on a tie
+assertSame('5e-324', String(Number.MIN_VALUE));
+assertSame('1e-323', String(2 * Number.MIN_VALUE));
+assertSame('1.5e-323', String(3 * Number.MIN_VALUE));
+assertSame('2.2250738585072014e-308', String(2.2250738585072014e-308));
+assertSame('1.7976931348623157e+308', String(Number.MAX_VALUE));
+assertSame('9007199254740992', String(Math.pow(2, 53)));
+assertSame('123456789012345680000', String(123456789012345680000));
+assertSame('1e+21', String(1e21));
+assertSame('1e+23', String(1e23));
+assertSame('0.000001', String(1e-6));
+assertSame('1e-7', String(1e-7));
+assertSame('0.30000000000000004', String(0.1 + 0.2));
+assertSame('-1.5', String(-1.5));
+assertSame('0', String(-0));
+assertSame('5e-324', Number.MIN_VALUE.toExponential());
+assertSame('1.7976931348623157e+308', Number.MAX_VALUE.toExponential());
+
+// shortest representations of powers of two
+var p = 1;
+var expected = ['1', '2', '4', '8', '16', '32', '64', '128', '256', '512', '1024'];
+for (var i = 0; i < expected.length; i++, p *= 2) {
+    assertSame(expected[i], String(p));
+}
+assertSame('8.98846567431158e+307', String(Math.pow(2, 1023)));
+assertSame('2.2250738585072014e-308', String(Math.pow(2, -1022)));
+
+// toPrecision rounds half up and may carry into the next power of ten
+assertSame('10', (9.96).toPrecision(2));
+assertSame('1.00e+3', (999.96).toPrecision(3));
+assertSame('0.00100', (0.000999999).toPrecision(3));
+assertSame('0.000123', (0.000123).toPrecision(3));
+assertSame('1.3', (1.25).toPrecision(2));
+assertSame('1.0', (0.99999999999999994).toPrecision(2));
+assertSame('1.000000000000000000000', (1).toPrecision(22));
+assertSame('0.1000000000000000055511', (0.1).toPrecision(22));
+assertSame('1.000e+21', (1e21).toPrecision(4));
+assertSame('9.99999999999999916e+22', (99999999999999991611392).toPrecision(18));
+assertSame('1.00000e+23', (1e23).toPrecision(6));
+assertSame('123456789.000000000000', (123456789).toPrecision(21));
+
+// toExponential
+assertSame('1.23e+5', (123456).toExponential(2));
+assertSame('1.0e+1', (9.96).toExponential(1));
+assertSame('5.0e-7', (4.99999e-7).toExponential(1));
+assertSame('1.2500000000000000000000e+0', (1.25).toExponential(22));
+
+// toFixed
+assertSame('0.000', (0.0001).toFixed(3));
+assertSame('1.00', (1.005).toFixed(2));
+assertSame('1.01', (1.0051).toFixed(2));
+assertSame('1000000000000000128.00', (1e18 + 100).toFixed(2));
+
+true;
@@ -0,0 +1,50 @@
+/*
+ * Copyright (c) 2020, 2020, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * Licensed under the Universal Permissive License v 1.0 as shown at http://oss.oracle.com/licenses/upl.
+ */
+
+/**
+ * Tests of the context-wide cache of compiled regular expressions.
+ *
+ * @option regex-cache-size=4
+ */
+
+load('../assert.js');
+
+function create(i) {
+    return new RegExp('a' + i + 'b', 'i');
+}
+
+var stats0 = Debug.regexCacheStats();
+for (var round = 0; round < 2; round++) {
+    for (var i = 0; i < 6; i++) {
+        var regex = create(i);
+        assertTrue(regex.test('xA' + i + 'Bx'));
+        assertFalse(regex.test('xA' + (i + 1) + 'Bx'));
+        assertSame('i', regex.flags);
+    }
+}
+var stats1 = Debug.regexCacheStats();
+assertTrue(stats1.misses - stats0.misses >= 6);
+assertTrue(stats1.evictions > stats0.evictions);
+assertTrue(stats1.size <= 4);
+
+// same pattern and flags
+create(7);
+create(7);
+var stats2 = Debug.regexCacheStats();
+assertTrue(stats2.hits > stats1.hits);
+
+// different flags
+assertTrue(new RegExp('a7b', 'g').test('a7b'));
+assertFalse(new RegExp('a7b', 'g').test('A7B'));
+
+// invalid patterns are reported every time
+for (var i = 0; i < 2; i++) {
+    assertThrows(() => new RegExp('(', ''), SyntaxError);
+    assertThrows(() => new RegExp('a', 'gg'), SyntaxError);
+}
+
+true;
@@ -0,0 +1,88 @@
+/*
+ * Copyright (c) 2020, 2020, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * Licensed under the Universal Permissive License v 1.0 as shown at http://oss.oracle.com/licenses/upl.
+ */
+
+/**
+ * Tests of the RegExp.prototype[@@replace] and [@@split] fast paths.
+ */
+
+load('../assert.js');
+
+function replaceLiteral(s) {
+    return s.replace(/[aeiou]/g, '');
+}
+function replaceTemplate(s, template) {
+    return s.replace(/(\w+)-(\w+)/g, template);
+}
+function replaceNamed(s) {
+    return s.replace(/(?<key>\w+)=(?<value>\w+)/g, '$<value>:$<key>');
+}
+
+for (var i = 0; i < 1000; i++) {
+    assertSame('hll wrld', replaceLiteral('hello world'));
+    assertSame('', replaceLiteral('aeiou'));
+    assertSame('xyz', replaceLiteral('xyz'));
+    assertSame('b-a d-c', replaceTemplate('a-b c-d', '$2-$1'));
+    assertSame('[a-b] [c-d]', replaceTemplate('a-b c-d', '[$&]'));
+    assertSame('$1 $1', replaceTemplate('a-b c-d', '$$1'));
+    assertSame('a-b|', replaceTemplate('a-b', "$`$&|$'"));
+    assertSame('2:1 4:3', replaceNamed('1=2 3=4'));
+    // dynamic replace values
+    assertSame('h_ll_ w_rld', 'hello world'.replace(/[aeiou]/g, String.fromCharCode(95)));
+    assertSame('x$y', 'xay'.replace(/a/g, '$' + ''));
+}
+
+// empty matches
+assertSame('-a-b-', 'ab'.replace(/(?:)/g, '-'));
+assertSame('-😀-', '😀'.replace(/(?:)/gu, '-'));
+
+// non-global and sticky replace
+var re = /a/y;
+assertSame('xab', 'aab'.replace(re, 'x'));
+assertSame(1, re.lastIndex);
+assertSame('axb', 'aab'.replace(re, 'x'));
+assertSame(2, re.lastIndex);
+assertSame('aab', 'aab'.replace(re, 'x'));
+assertSame(0, re.lastIndex);
+assertSame('Xaa', 'aaa'.replace(/a/, 'X'));
+
+function split(s, re, limit) {
+    return s.split(re, limit);
+}
+for (var i = 0; i < 1000; i++) {
+    assertSame('a,b,c', split('a1b2c', /\d/).join());
+    assertSame('a,1,b,2,c', split('a1b2c', /(\d)/).join());
+    assertSame('a,b', split('a1b2c', /\d/, 2).join());
+    assertSame('a,1', split('a1b2c', /(\d)/, 2).join());
+    assertSame(0, split('a1b2c', /\d/, 0).length);
+    assertSame('a,b,c', split('abc', /(?:)/).join());
+    assertSame('', split('', /a/).join());
+    assertSame(1, split('', /a/).length);
+    assertSame(0, split('', /(?:)/).length);
+    assertSame('a,,b', split('a11b', /1/).join());
+    // sticky regexes split like non-sticky ones
+    assertSame('a,b,c', split('a1b2c', /\d/y).join());
+    assertSame('a,1,b', split('a1b', /(\d)/y).join());
+}
+
+var sticky = /,/y;
+sticky.lastIndex = 3;
+assertSame('a,b,c', 'a,b,c'.split(sticky).join('|').replace(/\|/g, ','));
+assertSame(3, 'a,b,c'.split(sticky).length);
+assertSame(3, sticky.lastIndex);
+
+// undefined captures
+var parts = 'ab'.split(/(x)?b/);
+assertSame(3, parts.length);
+assertSame(undefined, parts[1]);
+
+// result arrays are ordinary arrays
+parts = 'a1b'.split(/\d/);
+parts.push('c');
+parts[0] = 'z';
+assertSame('z,b,c', parts.join());
+
+true;
@@ -0,0 +1,69 @@
+/*
+ * Copyright (c) 2020, 2020, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * Licensed under the Universal Permissive License v 1.0 as shown at http://oss.oracle.com/licenses/upl.
+ */
+/*
+ * Test sparse array storage and its transition back to a contiguous array.
+ */
+
+load('../assert.js');
+
+var a = [];
+a[1e6] = 1;
+a[10] = 2.5;
+a[5] = 'x';
+a[4294967294] = 3;
+assertSame(4294967295, a.length);
+assertSame(1, a[1e6]);
+assertSame(2.5, a[10]);
+assertSame('x', a[5]);
+assertSame(undefined, a[6]);
+assertSame('5,10,1000000,4294967294', Object.keys(a).join());
+assertSame('SparseArray', Debug.arraytype(a));
+
+var visited = [];
+a.forEach(function(v, i) { visited.push(i); });
+assertSame('5,10,1000000,4294967294', visited.join());
+assertSame(4294967294, a.lastIndexOf(3));
+
+delete a[10];
+assertFalse(10 in a);
+a.length = 1e6;
+assertSame('5', Object.keys(a).join());
+
+// filling all holes switches back to a contiguous array
+var b = new Array(300000);
+for (var i = b.length - 1; i >= 0; i--) {
+    b[i] = i;
+}
+assertSame(300000, b.length);
+assertSame(299999, b[299999]);
+assertSame(299999 * 300000 / 2, b.reduce(function(x, y) { return x + y; }));
+b.push(0.5);
+assertSame(0.5, b[300000]);
+
+// isolated indices far apart, then filling the holes in between
+function fillHoles(valueOf) {
+    var c = [];
+    c[0] = valueOf(0);
+    c[100000] = valueOf(100000);
+    assertSame('SparseArray', Debug.arraytype(c));
+    for (var i = 1; i < 100000; i += 1000) {
+        c[i] = valueOf(i);
+    }
+    assertSame('SparseArray', Debug.arraytype(c));
+    assertSame(102, Object.keys(c).length);
+    for (var i = 1; i < 100000; i++) {
+        c[i] = valueOf(i);
+    }
+    assertSame(100001, c.length);
+    assertSame(valueOf(99999), c[99999]);
+    return Debug.arraytype(c);
+}
+assertSame('ZeroBasedIntArray', fillHoles(function(i) { return i; }));
+assertSame('ZeroBasedDoubleArray', fillHoles(function(i) { return i + 0.5; }));
+assertSame('ZeroBasedObjectArray', fillHoles(function(i) { return i % 3 === 0 ? 'o' + i : i; }));
+
+true;
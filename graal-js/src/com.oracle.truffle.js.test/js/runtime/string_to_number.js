@@ -0,0 +1,86 @@
+/*
+ * Copyright (c) 2020, 2020, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * Licensed under the Universal Permissive License v 1.0 as shown at http://oss.oracle.com/licenses/upl.
+ */
+
+/**
+ * Tests of the conversion of decimal strings to numbers by Number, parseFloat and JSON.parse.
+ */
+
+load('../assert.js');
+
+function assertSameValue(expected, actual) {
+    assertTrue(Object.is(expected, actual));
+}
+
+function check(expected, str) {
+    assertSameValue(expected, Number(str));
+    assertSameValue(expected, parseFloat(str));
+    assertSameValue(expected, parseFloat(str + 'x'));
+    assertSameValue(expected, JSON.parse('[' + str + ']')[0]);
+    assertSameValue(expected, JSON.parse('{"a":' + str + '}').a);
+}
+
+check(0.1, '0.1');
+check(-0, '-0');
+check(-0, '-0.0e5');
+check(1.5e300, '1.5e300');
+check(1.5e300, '1.5E+300');
+check(123.456, '123.456');
+check(1e-7, '1e-7');
+check(1e23, '1e23');
+check(9007199254740992, '9007199254740993');
+check(9007199254740996, '9007199254740995');
+check(Number.MAX_VALUE, '1.7976931348623157e308');
+check(Number.MAX_VALUE, '1.7976931348623158e308');
+check(Infinity, '1.7976931348623159e308');
+check(Infinity, '1e309');
+check(-Infinity, '-1e99999999999');
+check(Number.MIN_VALUE, '4.9406564584124654e-324');
+check(Number.MIN_VALUE, '2.4703282292062328e-324');
+check(0, '2.4703282292062327e-324');
+check(0, '1e-99999999999');
+check(2.2250738585072014e-308, '2.2250738585072013e-308');
+check(2.225073858507201e-308, '2.2250738585072011e-308');
+check(18446744073709552000, '18446744073709551615');
+check(1e19, '9999999999999999999.5');
+check(1.2345678901234568e29, '123456789012345678901234567890');
+check(1e-30, '0.000000000000000000000000000001');
+check(1, '1.00000000000000011102230246251565404236316680908203125');
+check(1.0000000000000002, '1.00000000000000011102230246251565404236316680908203126');
+
+// JavaScript-only syntax
+assertSame(0.5, Number('.5'));
+assertSame(5, Number('5.'));
+assertSame(50, Number('5.e1'));
+assertSame(0.5, Number('+.5'));
+assertSame(12.5, Number(' \n12.5\t'));
+assertSame(0.5, parseFloat('.5e'));
+assertSame(5, parseFloat('5e+'));
+
+// Java-only syntax
+assertSameValue(NaN, Number('1d'));
+assertSameValue(NaN, Number('1f'));
+assertSameValue(NaN, Number('0x1p3'));
+assertSameValue(NaN, Number('1.5\u0001'));
+assertSameValue(NaN, Number('.'));
+assertSameValue(NaN, Number('1e'));
+assertSameValue(NaN, Number('1_000.5'));
+assertSame(1, parseFloat('1d'));
+
+// concatenated strings (flattened before parsing)
+var digits = '';
+for (var i = 0; i < 10; i++) {
+    digits += i;
+}
+assertSame(123456789.00123, Number('123456789.0' + digits.substring(0, 4)));
+assertSame(0.123456789, Number('0.' + digits.substring(1)));
+assertSame(0.123456789, parseFloat('0.' + digits.substring(1)));
+
+// parseInt falls back to decimal parsing for long integers
+assertSame(123456789012345680000, parseInt('123456789012345678901'));
+assertSame(-1e21, parseInt('-1000000000000000000000.5'));
+
+true;
@@ -0,0 +1,170 @@
+/*
+ * Copyright (c) 2020, 2020, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * Licensed under the Universal Permissive License v 1.0 as shown at http://oss.oracle.com/licenses/upl.
+ */
+
+/**
+ * Tests of the bulk implementations of TypedArray fill, copyWithin, slice, set, indexOf and includes.
+ */
+
+load('../assert.js');
+
+function assertElements(expected, actual) {
+    assertSame(expected.length, actual.length);
+    for (var i = 0; i < expected.length; i++) {
+        assertSame(expected[i], actual[i]);
+    }
+}
+
+var numberTypes = [Int8Array, Uint8Array, Uint8ClampedArray, Int16Array, Uint16Array, Int32Array, Uint32Array, Float32Array, Float64Array];
+
+// fill
+numberTypes.forEach(function(Type) {
+    for (var len = 0; len < 40; len++) {
+        var ta = new Type(len);
+        ta.fill(7, 1, -1);
+        for (var i = 0; i < len; i++) {
+            assertSame(i >= 1 && i < len - 1 ? 7 : 0, ta[i]);
+        }
+    }
+    // only the view is filled
+    var buffer = new ArrayBuffer(Type.BYTES_PER_ELEMENT * 10);
+    new Type(buffer, Type.BYTES_PER_ELEMENT * 2, 5).fill(3);
+    assertElements([0, 0, 3, 3, 3, 3, 3, 0, 0, 0], new Type(buffer));
+});
+assertElements([255, 255, 255], new Uint8ClampedArray(3).fill(300));
+assertElements([-1, -1, -1], new Int16Array(3).fill(0xffff));
+assertElements([0.5, 0.5, 0.5], new Float32Array(3).fill(0.5));
+assertSame(true, Object.is(new Float64Array(17).fill(-0)[16], -0));
+assertElements([-5n, -5n, -5n], new BigInt64Array(3).fill(-5n));
+assertElements([2n ** 64n - 1n, 2n ** 64n - 1n], new BigUint64Array(2).fill(-1n));
+
+// copyWithin with overlapping ranges in both directions
+numberTypes.forEach(function(Type) {
+    var ta = new Type([1, 2, 3, 4, 5, 6, 7, 8]);
+    ta.copyWithin(2, 0, 5);
+    assertElements([1, 2, 1, 2, 3, 4, 5, 8], ta);
+    ta = new Type([1, 2, 3, 4, 5, 6, 7, 8]);
+    ta.copyWithin(0, 3);
+    assertElements([4, 5, 6, 7, 8, 6, 7, 8], ta);
+    ta = new Type(new ArrayBuffer(Type.BYTES_PER_ELEMENT * 6), Type.BYTES_PER_ELEMENT, 4);
+    ta.set([1, 2, 3, 4]);
+    ta.copyWithin(1, 0, 2);
+    assertElements([1, 1, 2, 4], ta);
+    assertElements([0, 1, 1, 2, 4, 0], new Type(ta.buffer));
+});
+assertElements([3n, 4n, 3n, 4n], new BigInt64Array([1n, 2n, 3n, 4n]).copyWithin(0, 2));
+var detachOnConversion = new Int8Array(4);
+assertThrows(() => detachOnConversion.copyWithin({valueOf() { Debug.typedArrayDetachBuffer(detachOnConversion.buffer); return 0; }}, 1), TypeError);
+
+// slice with the same element type and with a different species
+numberTypes.forEach(function(Type) {
+    var ta = new Type([1, 2, 3, 4, 5, 6]);
+    var sliced = ta.slice(1, -1);
+    assertElements([2, 3, 4, 5], sliced);
+    sliced[0] = 42;
+    assertSame(2, ta[1]);
+    var view = new Type(ta.buffer, Type.BYTES_PER_ELEMENT * 2);
+    assertElements([4, 5], view.slice(1, 3));
+});
+var float64 = new Float64Array([1.5, -0, NaN, 4]);
+var float64Slice = float64.slice(1);
+assertSame(true, Object.is(float64Slice[0], -0));
+assertSame(true, isNaN(float64Slice[1]));
+assertElements([2n, 3n], new BigInt64Array([1n, 2n, 3n]).slice(1));
+
+class Int8Species extends Uint8Array {
+    static get [Symbol.species]() {
+        return Int8Array;
+    }
+}
+assertElements([-1, 2], new Int8Species([255, 2, 3]).slice(0, 2));
+
+// species constructor returning a view of the same buffer
+var shared = new Uint8Array([1, 2, 3, 4, 5, 6, 7, 8]);
+shared.constructor = {};
+shared.constructor[Symbol.species] = function(length) {
+    return new Uint8Array(shared.buffer, 2, length);
+};
+shared.slice(0, 4);
+assertElements([1, 2, 1, 2, 1, 2, 7, 8], shared);
+
+// set between arrays of the same element type
+var target = new Int16Array(6);
+target.set(new Int16Array([1, -2, 3]), 2);
+assertElements([0, 0, 1, -2, 3, 0], target);
+var overlapping = new Int32Array([1, 2, 3, 4, 5]);
+overlapping.set(overlapping.subarray(0, 3), 2);
+assertElements([1, 2, 1, 2, 3], overlapping);
+
+// indexOf and includes
+[Int8Array, Uint8Array, Uint8ClampedArray, Int16Array, Uint16Array].forEach(function(Type) {
+    for (var len = 0; len < 40; len++) {
+        var ta = new Type(len);
+        for (var pos = 0; pos < len; pos++) {
+            ta.fill(0);
+            ta[pos] = 100;
+            assertSame(pos, ta.indexOf(100));
+            assertSame(pos, ta.indexOf(100, pos));
+            assertSame(-1, ta.indexOf(100, pos + 1));
+            assertSame(true, ta.includes(100));
+            assertSame(false, ta.includes(100, pos + 1));
+            assertSame(len === 1 ? -1 : (pos === 0 ? 1 : 0), ta.indexOf(0));
+        }
+    }
+});
+var int8 = new Int8Array([1, -1, 127, -128]);
+assertSame(1, int8.indexOf(-1));
+assertSame(-1, int8.indexOf(255));
+assertSame(3, int8.indexOf(-128));
+assertSame(-1, int8.indexOf(128));
+var uint8 = new Uint8Array([1, 255, 0]);
+assertSame(1, uint8.indexOf(255));
+assertSame(-1, uint8.indexOf(-1));
+assertSame(-1, uint8.indexOf(256));
+assertSame(2, uint8.indexOf(-0));
+assertSame(-1, uint8.indexOf(1.5));
+assertSame(-1, uint8.indexOf('1'));
+assertSame(false, uint8.includes(NaN));
+var int16 = new Int16Array([5, -1, 0x7fff, -0x8000]);
+assertSame(1, int16.indexOf(-1));
+assertSame(-1, int16.indexOf(0xffff));
+assertSame(3, int16.indexOf(-0x8000));
+var uint16 = new Uint16Array([5, 0xffff]);
+assertSame(1, uint16.indexOf(0xffff));
+assertSame(-1, uint16.indexOf(-1));
+var uint32 = new Uint32Array([1, 0xffffffff, 2]);
+assertSame(1, uint32.indexOf(0xffffffff));
+assertSame(-1, uint32.indexOf(-1));
+assertSame(2, uint32.indexOf(2, -1));
+var int32 = new Int32Array([1, -1]);
+assertSame(1, int32.indexOf(-1));
+assertSame(-1, int32.indexOf(0xffffffff));
+var float32 = new Float32Array([0.5, NaN, -0, 0.1]);
+assertSame(0, float32.indexOf(0.5));
+assertSame(-1, float32.indexOf(NaN));
+assertSame(true, float32.includes(NaN));
+assertSame(2, float32.indexOf(0));
+assertSame(-1, float32.indexOf(0.1));
+assertSame(3, float32.indexOf(Math.fround(0.1)));
+var float64Search = new Float64Array([1, NaN, 0]);
+assertSame(-1, float64Search.indexOf(NaN));
+assertSame(true, float64Search.includes(NaN));
+assertSame(false, float64Search.includes(NaN, 2));
+assertSame(2, float64Search.indexOf(-0));
+var bigInt64 = new BigInt64Array([1n, -1n]);
+assertSame(1, bigInt64.indexOf(-1n));
+assertSame(-1, bigInt64.indexOf(-1));
+assertSame(true, new BigUint64Array([2n ** 64n - 1n]).includes(2n ** 64n - 1n));
+
+// detached while converting fromIndex
+var detached = new Uint8Array(4);
+assertSame(-1, detached.indexOf(0, {valueOf() { Debug.typedArrayDetachBuffer(detached.buffer); return 0; }}));
+detached = new Uint8Array(4);
+assertSame(true, detached.includes(undefined, {valueOf() { Debug.typedArrayDetachBuffer(detached.buffer); return 0; }}));
+detached = new Uint8Array(4);
+assertSame(false, detached.includes(0, {valueOf() { Debug.typedArrayDetachBuffer(detached.buffer); return 0; }}));
+
+true;
@@ -0,0 +1,14 @@
+/*
+ * Copyright (c) 2020, 2020, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * Licensed under the Universal Permissive License v 1.0 as shown at http://oss.oracle.com/licenses/upl.
+ */
+
+/**
+ * Tests of the bulk TypedArray operations on direct (ByteBuffer-backed) array buffers.
+ *
+ * @option direct-byte-buffer=true
+ */
+
+load('typed_array_bulk.js');
@@ -80,4 +80,119 @@ public class AtomicsBuiltinsTest {
         }
     }
 
+    /**
+     * A broadcast interrupts the thread of the agent; this must not end a wait in progress.
+     */
+    @Test
+    public void testWaitNotEndedByBroadcast() {
+        try (Context context = JSTest.newContextBuilder().option(JSContextOptions.TEST262_MODE_NAME, "true").build()) {
+            String code = "$262.agent.start(`\n" //
+                            + "  let waited = false;\n" //
+                            + "  $262.agent.receiveBroadcast(function(sab) {\n" //
+                            + "    if (waited) {\n" //
+                            + "      $262.agent.leaving();\n" //
+                            + "      return;\n" //
+                            + "    }\n" //
+                            + "    waited = true;\n" //
+                            + "    const i32a = new Int32Array(sab);\n" //
+                            + "    $262.agent.report('waiting');\n" //
+                            + "    $262.agent.report(Atomics.wait(i32a, 0, 0));\n" //
+                            + "  });\n" //
+                            + "`);\n" //
+                            + "const sab = new SharedArrayBuffer(Int32Array.BYTES_PER_ELEMENT * 4);\n" //
+                            + "$262.agent.broadcast(sab);\n" //
+                            + "const i32a = new Int32Array(sab);\n" //
+                            + "function getReport() {\n" //
+                            + "  let r;\n" //
+                            + "  while ((r = $262.agent.getReport()) === null) {\n" //
+                            + "    $262.agent.sleep(5);\n" //
+                            + "  }\n" //
+                            + "  return r;\n" //
+                            + "}\n" //
+                            + "const reports = [getReport()];\n" //
+                            + "$262.agent.sleep(50);\n" //
+                            + "$262.agent.broadcast(sab);\n" //
+                            + "$262.agent.sleep(50);\n" //
+                            + "while (Atomics.notify(i32a, 0) === 0) {\n" //
+                            + "  $262.agent.sleep(5);\n" //
+                            + "}\n" //
+                            + "reports.push(getReport());\n" //
+                            + "reports.join();"; //
+            Assert.assertEquals("waiting,ok", context.eval(JavaScriptLanguage.ID, code).asString());
+        }
+    }
+
+    @Test
+    public void testWaitAsync() {
+        try (Context context = JSTest.newContextBuilder().option(JSContextOptions.ECMASCRIPT_VERSION_NAME, "2021").build()) {
+            String code = "const i32a = new Int32Array(new SharedArrayBuffer(Int32Array.BYTES_PER_ELEMENT * 4));\n" //
+                            + "var results = [];\n" //
+                            + "var notEqual = Atomics.waitAsync(i32a, 0, 1);\n" //
+                            + "var noTimeout = Atomics.waitAsync(i32a, 0, 0, 0);\n" //
+                            + "var first = Atomics.waitAsync(i32a, 0, 0);\n" //
+                            + "var second = Atomics.waitAsync(i32a, 0, 0);\n" //
+                            + "var other = Atomics.waitAsync(i32a, 1, 0);\n" //
+                            + "first.value.then(v => results.push('first:' + v));\n" //
+                            + "second.value.then(v => results.push('second:' + v));\n" //
+                            + "var notified = Atomics.notify(i32a, 0, 1);"; //
+            context.eval(JavaScriptLanguage.ID, code);
+            Assert.assertEquals("false,not-equal", context.eval(JavaScriptLanguage.ID, "[notEqual.async, notEqual.value].join()").asString());
+            Assert.assertEquals("false,timed-out", context.eval(JavaScriptLanguage.ID, "[noTimeout.async, noTimeout.value].join()").asString());
+            Assert.assertTrue(context.eval(JavaScriptLanguage.ID, "first.async && first.value instanceof Promise").asBoolean());
+            Assert.assertEquals(1, context.eval(JavaScriptLanguage.ID, "notified").asInt());
+            // waiters are notified in FIFO order and only for the given index
+            Assert.assertEquals("first:ok", context.eval(JavaScriptLanguage.ID, "results.join()").asString());
+            Assert.assertEquals(1, context.eval(JavaScriptLanguage.ID, "Atomics.notify(i32a, 0)").asInt());
+            Assert.assertEquals("first:ok,second:ok", context.eval(JavaScriptLanguage.ID, "results.join()").asString());
+            Assert.assertEquals(1, context.eval(JavaScriptLanguage.ID, "Atomics.notify(i32a, 1)").asInt());
+        }
+    }
+
+    /**
+     * The agent that waits asynchronously has no pending work, so it has to be woken up by the
+     * notification or the timeout to settle its promises.
+     */
+    @Test
+    public void testWaitAsyncWakesAgent() {
+        try (Context context = JSTest.newContextBuilder().option(JSContextOptions.TEST262_MODE_NAME, "true").option(JSContextOptions.ECMASCRIPT_VERSION_NAME, "2021").build()) {
+            String code = "$262.agent.start(`\n" //
+                            + "  $262.agent.receiveBroadcast(function(sab) {\n" //
+                            + "    const i32a = new Int32Array(sab);\n" //
+                            + "    Atomics.waitAsync(i32a, 1, 0, 10).value.then(v => $262.agent.report('timeout:' + v));\n" //
+                            + "    Atomics.waitAsync(i32a, 0, 0).value.then(v => { $262.agent.report('notify:' + v); $262.agent.leaving(); });\n" //
+                            + "    $262.agent.report('waiting');\n" //
+                            + "  });\n" //
+                            + "`);\n" //
+                            + "const sab = new SharedArrayBuffer(Int32Array.BYTES_PER_ELEMENT * 4);\n" //
+                            + "$262.agent.broadcast(sab);\n" //
+                            + "const i32a = new Int32Array(sab);\n" //
+                            + "function getReport() {\n" //
+                            + "  let r;\n" //
+                            + "  while ((r = $262.agent.getReport()) === null) {\n" //
+                            + "    $262.agent.sleep(5);\n" //
+                            + "  }\n" //
+                            + "  return r;\n" //
+                            + "}\n" //
+                            + "const reports = [getReport(), getReport()];\n" //
+                            + "while (Atomics.notify(i32a, 0) === 0) {\n" //
+                            + "  $262.agent.sleep(5);\n" //
+                            + "}\n" //
+                            + "reports.push(getReport());\n" //
+                            // the timed-out waiter has been removed from the waiter list
+                            + "reports.push(Atomics.notify(i32a, 1));\n" //
+                            + "reports.join();"; //
+            Assert.assertEquals("waiting,timeout:timed-out,notify:ok,0", context.eval(JavaScriptLanguage.ID, code).asString());
+        }
+    }
+
+    @Test
+    public void testWaitAsyncClosedAgent() {
+        try (Context context = JSTest.newContextBuilder().option(JSContextOptions.ECMASCRIPT_VERSION_NAME, "2021").build()) {
+            context.eval(JavaScriptLanguage.ID, "var i32a = new Int32Array(new SharedArrayBuffer(16)); Atomics.waitAsync(i32a, 0, 0); Atomics.waitAsync(i32a, 0, 0, 1e6);");
+            JavaScriptLanguage.getJSRealm(context).getAgent().close();
+            // the waiters of a closed agent are not notified anymore
+            Assert.assertEquals(0, context.eval(JavaScriptLanguage.ID, "Atomics.notify(i32a, 0)").asInt());
+        }
+    }
+
 }
@@ -47,10 +47,17 @@ import org.junit.Test;
 
 import com.oracle.truffle.js.test.JSTest;
 
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
 import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
 
 import static com.oracle.truffle.js.lang.JavaScriptLanguage.ID;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 
 public class InteropByteBufferTest {
@@ -161,4 +168,62 @@ public class InteropByteBufferTest {
             assertEquals(jBuffer.get(2), 43);
         }
     }
+
+    private static File createTempFile(int length) throws IOException {
+        File file = File.createTempFile("mapped", ".bin");
+        file.deleteOnExit();
+        byte[] content = new byte[length];
+        for (int i = 0; i < length; i++) {
+            content[i] = (byte) i;
+        }
+        Files.write(file.toPath(), content);
+        return file;
+    }
+
+    @Test
+    public void testMappedBufferToTypedArray() throws IOException {
+        File file = createTempFile(16);
+        try (RandomAccessFile raf = new RandomAccessFile(file, "rw"); Context context = JSTest.newContextBuilder().build()) {
+            MappedByteBuffer buffer = raf.getChannel().map(FileChannel.MapMode.READ_WRITE, 4, 8);
+            context.getBindings("js").putMember("buffer", buffer);
+            Value sum = context.eval(ID, "var ia = new Int8Array(new ArrayBuffer(buffer)); ia[0] = 42; ia.reduce((a, b) => a + b);");
+            assertEquals(42 + 5 + 6 + 7 + 8 + 9 + 10 + 11, sum.asInt());
+            assertEquals(42, buffer.get(0));
+        }
+        assertEquals(42, Files.readAllBytes(file.toPath())[4]);
+    }
+
+    @Test
+    public void testMapFile() throws IOException {
+        File file = createTempFile(16);
+        try (Context context = JSTest.newContextBuilder().allowIO(true).allowHostClassLookup(className -> true).build()) {
+            context.getBindings("js").putMember("path", file.getAbsolutePath());
+            Value result = context.eval(ID, "var ab = Java.mapFile(path, 8);" +
+                            "var ia = new Uint8Array(ab);" +
+                            "ia[1] = 0xff;" +
+                            "var r = [ab.byteLength, ia[0], ia[7]];" +
+                            "Java.unmapFile(ab);" +
+                            "r.push(ab.byteLength, ia.length);" +
+                            "r;");
+            assertEquals(8, result.getArrayElement(0).asInt());
+            assertEquals(8, result.getArrayElement(1).asInt());
+            assertEquals(15, result.getArrayElement(2).asInt());
+            assertEquals(0, result.getArrayElement(3).asInt());
+            assertEquals(0, result.getArrayElement(4).asInt());
+            assertTrue(context.eval(ID, "Java.unmapFile(ab); ab.byteLength === 0").asBoolean());
+        }
+        assertEquals((byte) 0xff, Files.readAllBytes(file.toPath())[9]);
+    }
+
+    @Test
+    public void testMapFileShared() throws IOException {
+        File file = createTempFile(16);
+        try (Context context = JSTest.newContextBuilder().allowIO(true).allowHostClassLookup(className -> true).build()) {
+            context.getBindings("js").putMember("path", file.getAbsolutePath());
+            context.eval(ID, "var sab = Java.mapFile(path, 0, 4, true); Atomics.add(new Int32Array(sab), 0, 1);");
+            assertTrue(context.eval(ID, "sab instanceof SharedArrayBuffer && sab.byteLength === 4").asBoolean());
+            assertFalse(context.eval(ID, "try { Java.unmapFile(sab); true; } catch (e) { !(e instanceof TypeError); }").asBoolean());
+            assertFalse(context.eval(ID, "try { Java.unmapFile(new ArrayBuffer(4)); true; } catch (e) { !(e instanceof TypeError); }").asBoolean());
+        }
+    }
 }
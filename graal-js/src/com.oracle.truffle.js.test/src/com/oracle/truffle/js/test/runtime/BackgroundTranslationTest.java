@@ -0,0 +1,122 @@
+/*
+ * Copyright (c) 2020, 2020, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * The Universal Permissive License (UPL), Version 1.0
+ *
+ * Subject to the condition set forth below, permission is hereby granted to any
+ * person obtaining a copy of this software, associated documentation and/or
+ * data (collectively the "Software"), free of charge and under any and all
+ * copyright rights in the Software, and any and all patent rights owned or
+ * freely licensable by each licensor hereunder covering either (i) the
+ * unmodified Software as contributed to or provided by such licensor, or (ii)
+ * the Larger Works (as defined below), to deal in both
+ *
+ * (a) the Software, and
+ *
+ * (b) any piece of software and/or hardware listed in the lrgrwrks.txt file if
+ * one is included with the Software each a "Larger Work" to which the Software
+ * is contributed by such licensors),
+ *
+ * without restriction, including without limitation the rights to copy, create
+ * derivative works of, display, perform, and distribute the Software and make,
+ * use, sell, offer for sale, import, export, have made, and have sold the
+ * Software and the Larger Work(s), and to sublicense the foregoing rights on
+ * either these or other terms.
+ *
+ * This license is subject to the following condition:
+ *
+ * The above copyright notice and either this complete permission notice or at a
+ * minimum a reference to the UPL must be included in all copies or substantial
+ * portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.oracle.truffle.js.test.runtime;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import org.graalvm.polyglot.Context;
+import org.graalvm.polyglot.Value;
+import org.junit.Test;
+
+import com.oracle.truffle.js.lang.JavaScriptLanguage;
+import com.oracle.truffle.js.runtime.JSContextOptions;
+import com.oracle.truffle.js.runtime.util.BackgroundTranslationQueue;
+import com.oracle.truffle.js.test.JSTest;
+
+public class BackgroundTranslationTest {
+
+    private static final String WAIT_FOR_TRANSLATION = "function waitForTranslation() {\n" +
+                    "  var start = Date.now();\n" +
+                    "  var stats;\n" +
+                    "  do {\n" +
+                    "    stats = Debug.backgroundTranslationStats();\n" +
+                    "  } while (stats.translated + stats.dropped < stats.scheduled && Date.now() - start < 10000);\n" +
+                    "}\n";
+
+    private static Context newContext() {
+        return JSTest.newContextBuilder().option(JSContextOptions.BACKGROUND_TRANSLATION_NAME, "true").option(JSContextOptions.DEBUG_BUILTIN_NAME, "true").build();
+    }
+
+    @Test
+    public void testTopLevelCalls() {
+        try (Context context = newContext()) {
+            Value result = context.eval(JavaScriptLanguage.ID, WAIT_FOR_TRANSLATION +
+                            "var x = 20;\n" +
+                            "function a() { return x; }\n" +
+                            "function b(y) { return function() { return y; }; }\n" +
+                            "function notCalled() { return 0; }\n" +
+                            "waitForTranslation();\n" +
+                            "a() + b(22)();");
+            assertEquals(42, result.asInt());
+            Value stats = context.eval(JavaScriptLanguage.ID, "Debug.backgroundTranslationStats()");
+            // waitForTranslation, a, b
+            assertEquals(3, stats.getMember("scheduled").asInt());
+            assertEquals(0, stats.getMember("dropped").asInt());
+            assertTrue(stats.getMember("firstCallsTranslated").asInt() >= 2);
+            // the inner function of b, at least
+            assertTrue(stats.getMember("firstCallsUntranslated").asInt() >= 1);
+        }
+    }
+
+    @Test
+    public void testImmediatelyInvokedFunction() {
+        try (Context context = newContext()) {
+            Value result = context.eval(JavaScriptLanguage.ID, "(function() { var v = 42; return (function() { return v; })(); })();");
+            assertEquals(42, result.asInt());
+            Value stats = context.eval(JavaScriptLanguage.ID, "Debug.backgroundTranslationStats()");
+            assertEquals(1, stats.getMember("scheduled").asInt());
+        }
+    }
+
+    @Test
+    public void testCancelled() {
+        try (Context context = newContext()) {
+            context.initialize(JavaScriptLanguage.ID);
+            context.enter();
+            BackgroundTranslationQueue translationQueue = JavaScriptLanguage.getJSRealm(context).getContext().getBackgroundTranslationQueue();
+            translationQueue.cancel();
+            context.leave();
+            Value result = context.eval(JavaScriptLanguage.ID, "function a() { return 42; }\n" +
+                            "a();");
+            assertEquals(42, result.asInt());
+            assertEquals(0, translationQueue.getScheduledCount());
+            assertEquals(0, translationQueue.getTranslatedCount());
+        }
+    }
+
+    @Test
+    public void testDisabled() {
+        try (Context context = JSTest.newContextBuilder().option(JSContextOptions.DEBUG_BUILTIN_NAME, "true").build()) {
+            assertTrue(context.eval(JavaScriptLanguage.ID, "Debug.backgroundTranslationStats()").isNull());
+        }
+    }
+}
@@ -0,0 +1,156 @@
+/*
+ * Copyright (c) 2020, 2020, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * The Universal Permissive License (UPL), Version 1.0
+ *
+ * Subject to the condition set forth below, permission is hereby granted to any
+ * person obtaining a copy of this software, associated documentation and/or
+ * data (collectively the "Software"), free of charge and under any and all
+ * copyright rights in the Software, and any and all patent rights owned or
+ * freely licensable by each licensor hereunder covering either (i) the
+ * unmodified Software as contributed to or provided by such licensor, or (ii)
+ * the Larger Works (as defined below), to deal in both
+ *
+ * (a) the Software, and
+ *
+ * (b) any piece of software and/or hardware listed in the lrgrwrks.txt file if
+ * one is included with the Software each a "Larger Work" to which the Software
+ * is contributed by such licensors),
+ *
+ * without restriction, including without limitation the rights to copy, create
+ * derivative works of, display, perform, and distribute the Software and make,
+ * use, sell, offer for sale, import, export, have made, and have sold the
+ * Software and the Larger Work(s), and to sublicense the foregoing rights on
+ * either these or other terms.
+ *
+ * This license is subject to the following condition:
+ *
+ * The above copyright notice and either this complete permission notice or at a
+ * minimum a reference to the UPL must be included in all copies or substantial
+ * portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.oracle.truffle.js.test.runtime;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import org.junit.Test;
+
+import com.oracle.truffle.js.runtime.util.JSHashMap;
+
+public class JSHashMapTest {
+
+    @Test
+    public void testInsertionOrder() {
+        JSHashMap map = new JSHashMap();
+        for (int i = 0; i < 100; i++) {
+            map.put(i % 2 == 0 ? i : String.valueOf(i), i);
+        }
+        assertEquals(100, map.size());
+        JSHashMap.Cursor cursor = map.getEntries();
+        for (int i = 0; i < 100; i++) {
+            assertTrue(cursor.advance());
+            assertEquals(i % 2 == 0 ? i : String.valueOf(i), cursor.getKey());
+            assertEquals(i, cursor.getValue());
+        }
+        assertFalse(cursor.advance());
+    }
+
+    @Test
+    public void testSpecializedKeys() {
+        JSHashMap map = new JSHashMap();
+        map.putInt(42, "int");
+        map.putString("42", "string");
+        assertEquals("int", map.get(42));
+        assertEquals("int", map.getInt(42));
+        assertEquals("string", map.get("42"));
+        assertEquals("string", map.getString("42"));
+        assertNull(map.getInt(43));
+        assertTrue(map.hasInt(42));
+        assertTrue(map.removeString("42"));
+        assertFalse(map.hasString("42"));
+        assertFalse(map.removeString("42"));
+        assertEquals(1, map.size());
+    }
+
+    @Test
+    public void testCursorSurvivesRehash() {
+        JSHashMap map = new JSHashMap();
+        for (int i = 0; i < 100; i++) {
+            map.putInt(i, i);
+        }
+        JSHashMap.Cursor cursor = map.getEntries();
+        List<Object> seen = new ArrayList<>();
+        while (cursor.advance()) {
+            int key = (Integer) cursor.getKey();
+            seen.add(key);
+            // removing the current entry and appending new ones forces several rehashes
+            map.removeInt(key);
+            if (key < 100) {
+                map.putInt(key + 1000, key);
+            }
+        }
+        assertEquals(200, seen.size());
+        assertEquals(0, map.size());
+        assertEquals(1099, seen.get(199));
+    }
+
+    @Test
+    public void testCursorAfterClear() {
+        JSHashMap map = new JSHashMap();
+        map.put("a", 1);
+        map.put("b", 2);
+        JSHashMap.Cursor cursor = map.getEntries();
+        assertTrue(cursor.advance());
+        JSHashMap.Cursor copy = cursor.copy();
+        map.clear();
+        map.put("c", 3);
+        assertTrue(cursor.advance());
+        assertEquals("c", cursor.getKey());
+        assertFalse(cursor.advance());
+        assertTrue(copy.advance());
+        assertEquals("c", copy.getKey());
+    }
+
+    @Test
+    public void testRandomOperations() {
+        Random random = new Random(42);
+        JSHashMap map = new JSHashMap();
+        Map<Object, Object> expected = new LinkedHashMap<>();
+        for (int i = 0; i < 20000; i++) {
+            int k = random.nextInt(500);
+            Object key = random.nextBoolean() ? (Object) k : "k" + k;
+            if (random.nextInt(3) == 0) {
+                assertEquals(expected.remove(key) != null, map.remove(key));
+            } else {
+                expected.put(key, i);
+                map.put(key, i);
+            }
+            assertEquals(expected.size(), map.size());
+        }
+        JSHashMap.Cursor cursor = map.getEntries();
+        for (Map.Entry<Object, Object> entry : expected.entrySet()) {
+            assertTrue(cursor.advance());
+            assertEquals(entry.getKey(), cursor.getKey());
+            assertEquals(entry.getValue(), cursor.getValue());
+        }
+        assertFalse(cursor.advance());
+    }
+}
@@ -0,0 +1,112 @@
+/*
+ * Copyright (c) 2020, 2020, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * The Universal Permissive License (UPL), Version 1.0
+ *
+ * Subject to the condition set forth below, permission is hereby granted to any
+ * person obtaining a copy of this software, associated documentation and/or
+ * data (collectively the "Software"), free of charge and under any and all
+ * copyright rights in the Software, and any and all patent rights owned or
+ * freely licensable by each licensor hereunder covering either (i) the
+ * unmodified Software as contributed to or provided by such licensor, or (ii)
+ * the Larger Works (as defined below), to deal in both
+ *
+ * (a) the Software, and
+ *
+ * (b) any piece of software and/or hardware listed in the lrgrwrks.txt file if
+ * one is included with the Software each a "Larger Work" to which the Software
+ * is contributed by such licensors),
+ *
+ * without restriction, including without limitation the rights to copy, create
+ * derivative works of, display, perform, and distribute the Software and make,
+ * use, sell, offer for sale, import, export, have made, and have sold the
+ * Software and the Larger Work(s), and to sublicense the foregoing rights on
+ * either these or other terms.
+ *
+ * This license is subject to the following condition:
+ *
+ * The above copyright notice and either this complete permission notice or at a
+ * minimum a reference to the UPL must be included in all copies or substantial
+ * portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.oracle.truffle.js.test.runtime;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import org.graalvm.polyglot.Context;
+import org.graalvm.polyglot.PolyglotException;
+import org.graalvm.polyglot.Source;
+import org.junit.Test;
+
+import com.oracle.truffle.js.lang.JavaScriptLanguage;
+import com.oracle.truffle.js.runtime.JSContextOptions;
+import com.oracle.truffle.js.test.JSTest;
+
+public class LazyParseTest {
+
+    private static Context newContext() {
+        return JSTest.newContextBuilder().option(JSContextOptions.LAZY_PARSE_NAME, "true").build();
+    }
+
+    private static String eval(String code) {
+        try (Context context = newContext()) {
+            return context.eval(JavaScriptLanguage.ID, code).toString();
+        }
+    }
+
+    @Test
+    public void testClosures() {
+        assertEquals("6", eval("var a = 1; function outer(b) { let c = 3; function inner() { return a + b + c; } return inner; } outer(2)();"));
+        assertEquals("3", eval("function counter() { var n = 0; return function() { return ++n; }; } var c = counter(); c(); c(); c();"));
+        assertEquals("42", eval("function f() { var x = 42; function g() { return function() { return x; }; } return g()(); } f();"));
+    }
+
+    @Test
+    public void testNestedEval() {
+        assertEquals("3", eval("function f(x) { var y = 2; return (function() { return eval('x + y'); })(); } f(1);"));
+        assertEquals("5", eval("function f() { var v = 5; function g() { function h() { return eval('v'); } return h(); } return g(); } f();"));
+    }
+
+    @Test
+    public void testFunctionNames() {
+        assertEquals("foo,bar,baz", eval("var foo = function() {}; var o = {bar: function() {}}; function baz() {} [foo.name, o.bar.name, baz.name].join();"));
+        assertEquals("fact", eval("var f = function fact(n) { return n <= 1 ? fact : fact(n - 1); }; f(3).name;"));
+        assertEquals("function add(a, b) { return a + b; }", eval("function add(a, b) { return a + b; } add.toString();"));
+    }
+
+    @Test
+    public void testStrictMode() {
+        assertEquals("true", eval("'use strict'; function f() { return this === undefined; } f();"));
+        assertEquals("true", eval("function f() { 'use strict'; return (function() { return this === undefined; })(); } f();"));
+    }
+
+    @Test
+    public void testModule() {
+        try (Context context = newContext()) {
+            Source source = Source.newBuilder(JavaScriptLanguage.ID, "let x = 20; export function f() { return x + 22; } globalThis.result = f();", "lazy.mjs").buildLiteral();
+            context.eval(source);
+            assertEquals(42, context.getBindings(JavaScriptLanguage.ID).getMember("result").asInt());
+        }
+    }
+
+    @Test
+    public void testSyntaxErrors() {
+        try (Context context = newContext()) {
+            context.eval(JavaScriptLanguage.ID, "function f() { var x = ; }");
+            fail("expected a syntax error");
+        } catch (PolyglotException e) {
+            assertTrue(e.isSyntaxError());
+        }
+    }
+}
@@ -0,0 +1,97 @@
+/*
+ * Copyright (c) 2020, 2020, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * The Universal Permissive License (UPL), Version 1.0
+ *
+ * Subject to the condition set forth below, permission is hereby granted to any
+ * person obtaining a copy of this software, associated documentation and/or
+ * data (collectively the "Software"), free of charge and under any and all
+ * copyright rights in the Software, and any and all patent rights owned or
+ * freely licensable by each licensor hereunder covering either (i) the
+ * unmodified Software as contributed to or provided by such licensor, or (ii)
+ * the Larger Works (as defined below), to deal in both
+ *
+ * (a) the Software, and
+ *
+ * (b) any piece of software and/or hardware listed in the lrgrwrks.txt file if
+ * one is included with the Software each a "Larger Work" to which the Software
+ * is contributed by such licensors),
+ *
+ * without restriction, including without limitation the rights to copy, create
+ * derivative works of, display, perform, and distribute the Software and make,
+ * use, sell, offer for sale, import, export, have made, and have sold the
+ * Software and the Larger Work(s), and to sublicense the foregoing rights on
+ * either these or other terms.
+ *
+ * This license is subject to the following condition:
+ *
+ * The above copyright notice and either this complete permission notice or at a
+ * minimum a reference to the UPL must be included in all copies or substantial
+ * portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.oracle.truffle.js.test.runtime;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import org.graalvm.polyglot.Context;
+import org.junit.Test;
+
+import com.oracle.truffle.js.lang.JavaScriptLanguage;
+import com.oracle.truffle.js.test.JSTest;
+
+/**
+ * Tests of the promise job queue, which holds both reaction job records and job functions.
+ */
+public class PromiseJobQueueTest {
+
+    @Test
+    public void testJobOrder() {
+        try (Context context = JSTest.newContextBuilder().build()) {
+            String code = "var log = [];\n" +
+                            "var resolvePending;\n" +
+                            "var resolved = Promise.resolve(1);\n" +
+                            "resolved.then(v => log.push('a' + v)).then(() => log.push('a2'));\n" +
+                            "new Promise(r => resolvePending = r).then(v => log.push('p' + v));\n" +
+                            "Promise.reject(2).catch(v => log.push('r' + v));\n" +
+                            "(async function() { log.push('f0'); await null; log.push('f1'); await resolved; log.push('f2'); })();\n" +
+                            "Promise.resolve({then(r) { log.push('t'); r(3); }}).then(v => log.push('t' + v));\n" +
+                            "Promise.resolve().then(() => { throw 4; }).catch(v => log.push('e' + v));\n" +
+                            "resolvePending(5);\n" +
+                            "log.push('sync');";
+            context.eval(JavaScriptLanguage.ID, code);
+            assertEquals("f0,sync,a1,r2,f1,t,p5,a2,f2,t3,e4", context.eval(JavaScriptLanguage.ID, "log.join()").asString());
+        }
+    }
+
+    @Test
+    public void testManyAwaits() {
+        try (Context context = JSTest.newContextBuilder().build()) {
+            context.eval(JavaScriptLanguage.ID, "var n = 0; (async function() { for (var i = 0; i < 10000; i++) { n += await i; } })();");
+            assertEquals(49995000, context.eval(JavaScriptLanguage.ID, "n").asInt());
+        }
+    }
+
+    @Test
+    public void testAsyncStackTrace() {
+        try (Context context = JSTest.newContextBuilder().build()) {
+            String code = "var stack;\n" +
+                            "async function inner() { await null; throw new Error('x'); }\n" +
+                            "async function outer() { await inner(); }\n" +
+                            "outer().catch(e => stack = e.stack);";
+            context.eval(JavaScriptLanguage.ID, code);
+            String stack = context.eval(JavaScriptLanguage.ID, "stack").asString();
+            assertTrue(stack, stack.contains("inner"));
+            assertTrue(stack, stack.contains("outer"));
+        }
+    }
+}
@@ -0,0 +1,127 @@
+/*
+ * Copyright (c) 2020, 2020, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * The Universal Permissive License (UPL), Version 1.0
+ *
+ * Subject to the condition set forth below, permission is hereby granted to any
+ * person obtaining a copy of this software, associated documentation and/or
+ * data (collectively the "Software"), free of charge and under any and all
+ * copyright rights in the Software, and any and all patent rights owned or
+ * freely licensable by each licensor hereunder covering either (i) the
+ * unmodified Software as contributed to or provided by such licensor, or (ii)
+ * the Larger Works (as defined below), to deal in both
+ *
+ * (a) the Software, and
+ *
+ * (b) any piece of software and/or hardware listed in the lrgrwrks.txt file if
+ * one is included with the Software each a "Larger Work" to which the Software
+ * is contributed by such licensors),
+ *
+ * without restriction, including without limitation the rights to copy, create
+ * derivative works of, display, perform, and distribute the Software and make,
+ * use, sell, offer for sale, import, export, have made, and have sold the
+ * Software and the Larger Work(s), and to sublicense the foregoing rights on
+ * either these or other terms.
+ *
+ * This license is subject to the following condition:
+ *
+ * The above copyright notice and either this complete permission notice or at a
+ * minimum a reference to the UPL must be included in all copies or substantial
+ * portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.oracle.truffle.js.test.runtime;
+
+import static org.junit.Assert.assertEquals;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.zone.ZoneOffsetTransition;
+import java.time.zone.ZoneRules;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import org.graalvm.polyglot.Context;
+import org.junit.Test;
+
+import com.oracle.truffle.js.lang.JavaScriptLanguage;
+import com.oracle.truffle.js.runtime.JSContextOptions;
+import com.oracle.truffle.js.runtime.util.TimeZoneOffsetCache;
+import com.oracle.truffle.js.test.JSTest;
+
+public class TimeZoneOffsetCacheTest {
+
+    private static final String[] ZONES = {"UTC", "America/New_York", "Europe/London", "Europe/Dublin", "Australia/Lord_Howe", "Pacific/Apia", "Asia/Kolkata", "America/Sao_Paulo",
+                    "Antarctica/Troll"};
+
+    private static final long HOUR = 60 * 60 * 1000L;
+
+    private static long expectedOffsetFromLocal(ZoneRules rules, long localTime) {
+        LocalDateTime localDateTime = LocalDateTime.ofEpochSecond(Math.floorDiv(localTime, 1000L), (int) Math.floorMod(localTime, 1000L) * 1_000_000, ZoneOffset.UTC);
+        return rules.getOffset(localDateTime).getTotalSeconds() * 1000L;
+    }
+
+    @Test
+    public void testAgainstZoneRules() {
+        Random random = new Random(42);
+        for (String id : ZONES) {
+            ZoneId zoneId = ZoneId.of(id);
+            ZoneRules rules = zoneId.getRules();
+            List<Long> times = new ArrayList<>();
+            List<ZoneOffsetTransition> transitions = new ArrayList<>(rules.getTransitions());
+            Instant instant = Instant.parse("2030-01-01T00:00:00Z");
+            for (int i = 0; i < 8; i++) {
+                ZoneOffsetTransition transition = rules.nextTransition(instant);
+                if (transition == null) {
+                    break;
+                }
+                transitions.add(transition);
+                instant = transition.getInstant();
+            }
+            for (ZoneOffsetTransition transition : transitions) {
+                long transitionTime = transition.toEpochSecond() * 1000L;
+                for (long delta = -26 * HOUR; delta <= 26 * HOUR; delta += 15 * 60 * 1000L) {
+                    times.add(transitionTime + delta);
+                    times.add(transitionTime + delta - 1);
+                }
+            }
+            for (int i = 0; i < 1000; i++) {
+                times.add((long) ((random.nextDouble() * 2 - 1) * 8.64e15));
+            }
+            Collections.shuffle(times, random);
+
+            TimeZoneOffsetCache cache = new TimeZoneOffsetCache(zoneId);
+            for (long t : times) {
+                assertEquals(id + " " + t, rules.getOffset(Instant.ofEpochMilli(t)).getTotalSeconds() * 1000L, cache.getOffsetFromUTC(t));
+                assertEquals(id + " " + t, expectedOffsetFromLocal(rules, t), cache.getOffsetFromLocal(t));
+            }
+        }
+    }
+
+    @Test
+    public void testLocalTimeFields() {
+        try (Context context = JSTest.newContextBuilder().option(JSContextOptions.TIME_ZONE_NAME, "America/New_York").build()) {
+            // DST starts on 2020-03-08 at 2:00 and ends on 2020-11-01 at 2:00 local time
+            assertEquals("1,3,7", context.eval(JavaScriptLanguage.ID,
+                            "var d = new Date(Date.UTC(2020, 2, 8, 6, 59)); [d.getHours(), new Date(d.getTime() + 60000).getHours(), new Date(d.getTime() - 7 * 3600000).getDate()].join()").toString());
+            assertEquals("3", context.eval(JavaScriptLanguage.ID, "new Date(2020, 2, 8, 2, 30).getHours()").toString());
+            assertEquals("1:30 -240", context.eval(JavaScriptLanguage.ID, "var d = new Date(2020, 10, 1, 1, 30); d.getHours() + ':' + d.getMinutes() + ' ' + -d.getTimezoneOffset()").toString());
+            assertEquals("300", context.eval(JavaScriptLanguage.ID, "new Date(2020, 0, 1).getTimezoneOffset()").toString());
+        }
+        try (Context context = JSTest.newContextBuilder().option(JSContextOptions.TIME_ZONE_NAME, "Asia/Kolkata").build()) {
+            assertEquals("5:30", context.eval(JavaScriptLanguage.ID, "var d = new Date(Date.UTC(2020, 0, 1)); d.getHours() + ':' + d.getMinutes()").toString());
+        }
+    }
+}
@@ -0,0 +1,214 @@
+/*
+ * Copyright (c) 2020, 2020, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * The Universal Permissive License (UPL), Version 1.0
+ *
+ * Subject to the condition set forth below, permission is hereby granted to any
+ * person obtaining a copy of this software, associated documentation and/or
+ * data (collectively the "Software"), free of charge and under any and all
+ * copyright rights in the Software, and any and all patent rights owned or
+ * freely licensable by each licensor hereunder covering either (i) the
+ * unmodified Software as contributed to or provided by such licensor, or (ii)
+ * the Larger Works (as defined below), to deal in both
+ *
+ * (a) the Software, and
+ *
+ * (b) any piece of software and/or hardware listed in the lrgrwrks.txt file if
+ * one is included with the Software each a "Larger Work" to which the Software
+ * is contributed by such licensors),
+ *
+ * without restriction, including without limitation the rights to copy, create
+ * derivative works of, display, perform, and distribute the Software and make,
+ * use, sell, offer for sale, import, export, have made, and have sold the
+ * Software and the Larger Work(s), and to sublicense the foregoing rights on
+ * either these or other terms.
+ *
+ * This license is subject to the following condition:
+ *
+ * The above copyright notice and either this complete permission notice or at a
+ * minimum a reference to the UPL must be included in all copies or substantial
+ * portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.oracle.truffle.js.test.tools;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.zip.CRC32;
+
+import org.graalvm.polyglot.Context;
+import org.junit.Test;
+
+import com.oracle.truffle.api.source.Source;
+import com.oracle.truffle.js.codec.BinaryDecoder;
+import com.oracle.truffle.js.lang.JavaScriptLanguage;
+import com.oracle.truffle.js.nodes.NodeFactory;
+import com.oracle.truffle.js.nodes.ScriptNode;
+import com.oracle.truffle.js.parser.BinarySnapshotProvider;
+import com.oracle.truffle.js.parser.CodeCache;
+import com.oracle.truffle.js.parser.JavaScriptTranslator;
+import com.oracle.truffle.js.runtime.JSContext;
+import com.oracle.truffle.js.runtime.JSContextOptions;
+import com.oracle.truffle.js.snapshot.Recording;
+import com.oracle.truffle.js.snapshot.RecordingProxy;
+import com.oracle.truffle.js.test.JSTest;
+
+public class CodeCacheTest {
+
+    private static final String CODE = "function twice(n) { return n * 2; } twice(21);";
+
+    private static Context createContext(Path cacheDir) {
+        return JSTest.newContextBuilder().allowIO(true).option(JSContextOptions.CODE_CACHE_DIR_NAME, cacheDir.toString()).build();
+    }
+
+    private static Path writeEntry(Path cacheDir, String code) throws IOException {
+        try (Context context = createContext(cacheDir)) {
+            context.initialize(JavaScriptLanguage.ID);
+            context.enter();
+            JSContext jsContext = JavaScriptLanguage.getJSRealm(context).getContext();
+            Source source = Source.newBuilder(JavaScriptLanguage.ID, code, "cached.js").build();
+            boolean strict = jsContext.getParserOptions().isStrict();
+            Path entry = cacheDir.resolve(CodeCache.getEntryName(jsContext, source, "", "", strict));
+            Recording rec = new Recording();
+            ScriptNode program = JavaScriptTranslator.translateScript(RecordingProxy.createRecordingNodeFactory(rec, NodeFactory.getInstance(jsContext)), jsContext, source, strict, "", "");
+            rec.finish(program.getRootNode());
+            try (OutputStream outs = Files.newOutputStream(entry)) {
+                rec.saveToStream("cached.js", outs, true);
+            }
+            context.leave();
+            return entry;
+        }
+    }
+
+    /** Size of the snapshot header, the function table offset is its last int. */
+    private static final int HEADER_SIZE = 5 * Integer.BYTES;
+
+    private static int getTableOffset(byte[] bytes) {
+        return ByteBuffer.wrap(bytes).order(ByteOrder.LITTLE_ENDIAN).getInt(HEADER_SIZE - Integer.BYTES);
+    }
+
+    /**
+     * Recomputes the checksum of the data verified when the snapshot is opened (header, entry
+     * method and function table).
+     */
+    private static void updateChecksum(byte[] bytes) {
+        int tableOffset = getTableOffset(bytes);
+        BinaryDecoder table = new BinaryDecoder((ByteBuffer) ByteBuffer.wrap(bytes).position(tableOffset));
+        int[] offsets = new int[table.getUInt()];
+        for (int i = 0; i < offsets.length; i++) {
+            offsets[i] = table.getInt32();
+            table.getInt32();
+        }
+        int entryLimit = BinarySnapshotProvider.getEntryLimit(offsets, HEADER_SIZE, tableOffset);
+        CRC32 crc = new CRC32();
+        crc.update(bytes, 0, entryLimit);
+        crc.update(bytes, tableOffset, bytes.length - Integer.BYTES - tableOffset);
+        int checksum = (int) crc.getValue();
+        for (int i = 0; i < Integer.BYTES; i++) {
+            bytes[bytes.length - Integer.BYTES + i] = (byte) (checksum >>> (8 * i));
+        }
+    }
+
+    private static int eval(Path cacheDir, String code) {
+        try (Context context = createContext(cacheDir)) {
+            return context.eval(JavaScriptLanguage.ID, code).asInt();
+        }
+    }
+
+    @Test
+    public void testCachedScript() throws IOException {
+        Path cacheDir = Files.createTempDirectory("js-code-cache");
+        Path entry = writeEntry(cacheDir, CODE);
+        assertTrue(Files.isRegularFile(entry));
+        assertEquals(42, eval(cacheDir, CODE));
+        assertTrue(Files.isRegularFile(entry));
+        // a different source does not use the entry
+        assertEquals(44, eval(cacheDir, CODE.replace("21", "22")));
+        assertTrue(Files.isRegularFile(entry));
+    }
+
+    @Test
+    public void testCorruptEntryIsDeleted() throws IOException {
+        Path cacheDir = Files.createTempDirectory("js-code-cache");
+        Path entry = writeEntry(cacheDir, CODE);
+        Files.write(entry, new byte[]{1, 2, 3, 4, 5, 6, 7, 8});
+        assertEquals(42, eval(cacheDir, CODE));
+        assertFalse(Files.exists(entry));
+    }
+
+    @Test
+    public void testCorruptFunctionTable() throws IOException {
+        Path cacheDir = Files.createTempDirectory("js-code-cache");
+        Path entry = writeEntry(cacheDir, CODE);
+        byte[] bytes = Files.readAllBytes(entry);
+        bytes[getTableOffset(bytes) + 1] ^= 0x5a;
+        Files.write(entry, bytes);
+        assertEquals(42, eval(cacheDir, CODE));
+        assertFalse(Files.exists(entry));
+    }
+
+    @Test
+    public void testUncalledFunctionBodyIsNotVerified() throws IOException {
+        String code = "function twice(n) { return n * 2; } 42;";
+        Path cacheDir = Files.createTempDirectory("js-code-cache");
+        Path entry = writeEntry(cacheDir, code);
+        byte[] bytes = Files.readAllBytes(entry);
+        // the body of twice() is the last method; it is verified only when it is first decoded
+        bytes[getTableOffset(bytes) - 1] ^= 0x5a;
+        Files.write(entry, bytes);
+        assertEquals(42, eval(cacheDir, code));
+        assertTrue(Files.isRegularFile(entry));
+    }
+
+    @Test
+    public void testUndecodableEntryIsDeleted() throws IOException {
+        Path cacheDir = Files.createTempDirectory("js-code-cache");
+        Path entry = writeEntry(cacheDir, CODE);
+        byte[] bytes = Files.readAllBytes(entry);
+        // garble the start of the entry method but keep the checksum valid, so that the entry
+        // passes verification and fails only while it is decoded
+        Arrays.fill(bytes, HEADER_SIZE, HEADER_SIZE + 8, (byte) 0xff);
+        updateChecksum(bytes);
+        Files.write(entry, bytes);
+        assertEquals(42, eval(cacheDir, CODE));
+        assertFalse(Files.exists(entry));
+    }
+
+    @Test
+    public void testEntryName() {
+        try (Context context = createContext(Paths.get("."))) {
+            context.initialize(JavaScriptLanguage.ID);
+            context.enter();
+            JSContext jsContext = JavaScriptLanguage.getJSRealm(context).getContext();
+            Source source = Source.newBuilder(JavaScriptLanguage.ID, CODE, "a.js").build();
+            Source sameContent = Source.newBuilder(JavaScriptLanguage.ID, CODE, "b.js").build();
+            Source otherContent = Source.newBuilder(JavaScriptLanguage.ID, CODE + " ", "a.js").build();
+            String name = CodeCache.getEntryName(jsContext, source, "", "", false);
+            assertTrue(name.endsWith(CodeCache.ENTRY_SUFFIX));
+            assertEquals(name, CodeCache.getEntryName(jsContext, sameContent, "", "", false));
+            assertNotEquals(name, CodeCache.getEntryName(jsContext, otherContent, "", "", false));
+            assertNotEquals(name, CodeCache.getEntryName(jsContext, source, "", "", true));
+            assertNotEquals(name, CodeCache.getEntryName(jsContext, source, "(function(){", "})", false));
+            context.leave();
+        }
+    }
+}
@@ -0,0 +1,192 @@
+/*
+ * Copyright (c) 2020, 2020, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * The Universal Permissive License (UPL), Version 1.0
+ *
+ * Subject to the condition set forth below, permission is hereby granted to any
+ * person obtaining a copy of this software, associated documentation and/or
+ * data (collectively the "Software"), free of charge and under any and all
+ * copyright rights in the Software, and any and all patent rights owned or
+ * freely licensable by each licensor hereunder covering either (i) the
+ * unmodified Software as contributed to or provided by such licensor, or (ii)
+ * the Larger Works (as defined below), to deal in both
+ *
+ * (a) the Software, and
+ *
+ * (b) any piece of software and/or hardware listed in the lrgrwrks.txt file if
+ * one is included with the Software each a "Larger Work" to which the Software
+ * is contributed by such licensors),
+ *
+ * without restriction, including without limitation the rights to copy, create
+ * derivative works of, display, perform, and distribute the Software and make,
+ * use, sell, offer for sale, import, export, have made, and have sold the
+ * Software and the Larger Work(s), and to sublicense the foregoing rights on
+ * either these or other terms.
+ *
+ * This license is subject to the following condition:
+ *
+ * The above copyright notice and either this complete permission notice or at a
+ * minimum a reference to the UPL must be included in all copies or substantial
+ * portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.oracle.truffle.js.test.tools;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.graalvm.polyglot.Context;
+import org.junit.Test;
+
+import com.oracle.js.parser.ir.FunctionNode;
+import com.oracle.js.parser.ir.LexicalContext;
+import com.oracle.js.parser.ir.visitor.NodeVisitor;
+import com.oracle.truffle.api.source.Source;
+import com.oracle.truffle.js.lang.JavaScriptLanguage;
+import com.oracle.truffle.js.parser.GraalJSParserHelper;
+import com.oracle.truffle.js.parser.internal.ir.debug.PrintVisitor;
+import com.oracle.truffle.js.runtime.JSContext;
+import com.oracle.truffle.js.runtime.JSContextOptions;
+import com.oracle.truffle.js.test.JSTest;
+
+/**
+ * Checks that parsing top-level function declarations in parallel yields the same result as
+ * parsing sequentially.
+ */
+public class ParallelParseTest {
+
+    private static final int FUNCTION_COUNT = 40;
+
+    /**
+     * Returns the printed tree and the function nodes of the parsed script, or the syntax error.
+     */
+    private static String parse(String code, boolean parallel) {
+        try (Context context = JSTest.newContextBuilder().option(JSContextOptions.PARALLEL_PARSE_NAME, String.valueOf(parallel)).build()) {
+            context.initialize(JavaScriptLanguage.ID);
+            context.enter();
+            try {
+                JSContext jsContext = JavaScriptLanguage.getJSRealm(context).getContext();
+                Source source = Source.newBuilder(JavaScriptLanguage.ID, code, "parallel.js").build();
+                FunctionNode program = GraalJSParserHelper.parseScript(jsContext, source, jsContext.getParserOptions());
+                return new PrintVisitor(program, true, false).toString() + functions(program);
+            } catch (StackOverflowError e) {
+                return "StackOverflowError";
+            } catch (RuntimeException e) {
+                return "error: " + e.getMessage();
+            } finally {
+                context.leave();
+            }
+        }
+    }
+
+    private static String functions(FunctionNode program) {
+        List<String> functions = new ArrayList<>();
+        program.accept(new NodeVisitor<LexicalContext>(new LexicalContext()) {
+            @Override
+            public boolean enterFunctionNode(FunctionNode functionNode) {
+                functions.add(functionNode.getName() + "@" + functionNode.getLineNumber() + ":" + functionNode.getStart() + "-" + functionNode.getFinish() + " flags=" + functionNode.getFlags() +
+                                " strict=" + functionNode.isStrict() + " length=" + functionNode.getLength());
+                return true;
+            }
+        });
+        return String.join("\n", functions);
+    }
+
+    private static void assertSameResult(String code) {
+        String sequential = parse(code, false);
+        assertEquals(sequential, parse(code, true));
+    }
+
+    private static String repeat(String s, int count) {
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < count; i++) {
+            sb.append(s);
+        }
+        return sb.toString();
+    }
+
+    /**
+     * A top-level function declaration large enough to be parsed in parallel.
+     */
+    private static String function(int index, String params, String extra) {
+        StringBuilder sb = new StringBuilder();
+        sb.append("function f").append(index).append("(").append(params).append(") {\n");
+        sb.append(extra);
+        for (int j = 0; j < 20; j++) {
+            sb.append("  var v").append(j).append(" = a + b * ").append(j).append(" / 2 + /re[/]x/g.source.length + `t${a + {x: [").append(j).append("]}.x[0]}t`;\n");
+            sb.append("  if (v").append(j).append(" > ").append(j).append(") { b = function inner").append(j).append("(c) { return c ? v").append(j).append(" : arguments; }; } // }\n");
+        }
+        sb.append("  return b;\n}\n");
+        return sb.toString();
+    }
+
+    private static String script(String prologue, int special, String specialParams, String specialExtra) {
+        StringBuilder sb = new StringBuilder(prologue);
+        for (int i = 0; i < FUNCTION_COUNT; i++) {
+            sb.append("var x").append(i).append(" = ").append(i).append(" / 2; /* function g() { */\n");
+            if (i == special) {
+                sb.append(function(i, specialParams, specialExtra));
+            } else {
+                sb.append(function(i, "a, b", ""));
+            }
+        }
+        sb.append("f0(1, 2);\n");
+        return sb.toString();
+    }
+
+    @Test
+    public void testSameFunctionTree() {
+        String code = script("", -1, null, null);
+        String result = parse(code, true);
+        assertTrue(result, result.contains("function f39"));
+        assertEquals(parse(code, false), result);
+        assertSameResult(script("'use strict';\n", -1, null, null));
+        // a sloppy mode construct in a non-strict script
+        assertSameResult(script("", 20, "a, b", "  with (a) { b; }\n"));
+    }
+
+    @Test
+    public void testSyntaxErrors() {
+        String code = script("", 20, "a, b", "  var = 1;\n");
+        String result = parse(code, true);
+        assertTrue(result, result.startsWith("error: "));
+        assertEquals(parse(code, false), result);
+        // errors in several functions are reported like in sequential parsing
+        String twoErrors = script("", 10, "a, b", "  )\n").replace("function f30(a, b) {\n", "function f30(a, b) {\n  var 1;\n");
+        assertSameResult(twoErrors);
+        // error in the last function
+        assertSameResult(script("", FUNCTION_COUNT - 1, "a, b", "  return return;\n"));
+    }
+
+    @Test
+    public void testStrictModeEarlyErrors() {
+        assertSameResult(script("'use strict';\n", 25, "a, b", "  with (a) { b; }\n"));
+        assertSameResult(script("'use strict';\n", 25, "a, b", "  var eval = 010;\n"));
+        assertSameResult(script("\"use strict\"; var y = 0;\n", 5, "a, b", "  delete a;\n"));
+        // the directive of the function applies to its parameters
+        assertSameResult(script("", 25, "a, b, a", "  'use strict';\n"));
+        assertSameResult(script("", 25, "a, b, eval", "  \"use strict\";\n"));
+        // not a directive, the script is not strict
+        assertSameResult(script("var s = 'x';\n'use strict';\n", 25, "a, b", "  with (a) { b; }\n"));
+    }
+
+    @Test
+    public void testDeeplyNested() {
+        for (int depth : new int[]{100, 10000}) {
+            String nested = "  b = " + repeat("[", depth) + repeat("]", depth) + ";\n  b = " + repeat("(", depth) + "a" + repeat(")", depth) + ";\n";
+            assertSameResult(script("", 20, "a, b", nested));
+            assertSameResult(script("", 20, "a, b", "  {" + repeat("{", depth) + repeat("}", depth) + "}\n"));
+        }
+    }
+}
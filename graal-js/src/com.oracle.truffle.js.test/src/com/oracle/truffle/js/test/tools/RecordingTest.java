@@ -40,9 +40,17 @@
  */
 package com.oracle.truffle.js.test.tools;
 
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.OutputStream;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Arrays;
 
 import org.junit.Test;
 
@@ -51,6 +59,8 @@ import com.oracle.truffle.api.source.Source;
 import com.oracle.truffle.js.lang.JavaScriptLanguage;
 import com.oracle.truffle.js.nodes.NodeFactory;
 import com.oracle.truffle.js.nodes.ScriptNode;
+import com.oracle.truffle.js.nodes.function.FunctionRootNode;
+import com.oracle.truffle.js.parser.BinarySnapshotProvider;
 import com.oracle.truffle.js.parser.JavaScriptTranslator;
 import com.oracle.truffle.js.runtime.JSContext;
 import com.oracle.truffle.js.snapshot.Recording;
@@ -88,4 +98,61 @@ public class RecordingTest extends JSTest {
 
         testHelper.close();
     }
+
+    @Test
+    public void recordingFunctionTableTest() {
+        testHelper.enterContext();
+
+        JSContext context = testHelper.getJSContext();
+        Source source = Source.newBuilder(JavaScriptLanguage.ID,
+                        "function a() { return 1; } function b() { return function c() { return 2; }; } a() + b()();",
+                        "functionTableTest").build();
+
+        Recording rec = new Recording();
+        ScriptNode program = JavaScriptTranslator.translateScript(RecordingProxy.createRecordingNodeFactory(rec, NodeFactory.getInstance(context)), context, source, false, "", "");
+        rec.finish(program.getRootNode());
+
+        ByteArrayOutputStream outs = new ByteArrayOutputStream();
+        rec.saveToStream("functionTableTest", outs, true);
+        byte[] bytes = outs.toByteArray();
+
+        BinarySnapshotProvider snapshot = new BinarySnapshotProvider(bytes);
+        assertTrue(snapshot.getFunctionCount() >= 3);
+        ScriptNode decoded = ScriptNode.fromFunctionRoot(context, (FunctionRootNode) snapshot.apply(NodeFactory.getInstance(context), context, source));
+        assertEquals(3, decoded.run(testHelper.getRealm()));
+
+        // a truncated function table is rejected up front
+        try {
+            new BinarySnapshotProvider(Arrays.copyOf(bytes, bytes.length - 1));
+            fail("expected IllegalArgumentException");
+        } catch (IllegalArgumentException | BufferUnderflowException e) {
+            // expected
+        }
+
+        // so are a corrupt header and function table
+        int tableOffset = ByteBuffer.wrap(bytes).order(ByteOrder.LITTLE_ENDIAN).getInt(4 * Integer.BYTES);
+        for (int i = 0; i < bytes.length; i = (i == 5 * Integer.BYTES - 1) ? tableOffset : i + 1) {
+            byte[] corrupt = bytes.clone();
+            corrupt[i] ^= 0x5a;
+            try {
+                new BinarySnapshotProvider(corrupt);
+                fail("expected IllegalArgumentException");
+            } catch (IllegalArgumentException | BufferUnderflowException e) {
+                // expected
+            }
+        }
+
+        // a corrupt function body is only detected when it is decoded, i.e., on the first call
+        byte[] corruptBody = bytes.clone();
+        corruptBody[tableOffset - 1] ^= 0x5a;
+        BinarySnapshotProvider corruptSnapshot = new BinarySnapshotProvider(corruptBody);
+        try {
+            ScriptNode.fromFunctionRoot(context, (FunctionRootNode) corruptSnapshot.apply(NodeFactory.getInstance(context), context, source)).run(testHelper.getRealm());
+            fail("expected IllegalArgumentException");
+        } catch (IllegalArgumentException e) {
+            // expected
+        }
+
+        testHelper.close();
+    }
 }
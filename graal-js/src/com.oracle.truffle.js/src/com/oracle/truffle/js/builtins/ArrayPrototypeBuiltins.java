@@ -360,8 +360,7 @@ public final class ArrayPrototypeBuiltins extends JSBuiltinsContainer.SwitchEnum
                     errorBranch.enter();
                     throw Errors.createTypeErrorDetachedBuffer();
                 }
-                TypedArray typedArray = typedArrayTypeProfile.profile(JSArrayBufferView.typedArrayGetArrayType(dynObj));
-                return typedArray.length(dynObj);
+                return getTypedArrayType(dynObj).length(dynObj);
             } else {
                 if (getLengthNode == null) {
                     CompilerDirectives.transferToInterpreterAndInvalidate();
@@ -371,6 +370,11 @@ public final class ArrayPrototypeBuiltins extends JSBuiltinsContainer.SwitchEnum
             }
         }
 
+        protected final TypedArray getTypedArrayType(DynamicObject typedArray) {
+            assert isTypedArrayImplementation;
+            return typedArrayTypeProfile.profile(JSArrayBufferView.typedArrayGetArrayType(typedArray));
+        }
+
         protected final boolean isCallable(Object callback) {
             if (isCallableNode == null) {
                 CompilerDirectives.transferToInterpreterAndInvalidate();
@@ -961,6 +965,7 @@ public final class ArrayPrototypeBuiltins extends JSBuiltinsContainer.SwitchEnum
         private final ConditionProfile sizeIsZero = ConditionProfile.createBinaryProfile();
         private final ConditionProfile offsetProfile1 = ConditionProfile.createBinaryProfile();
         private final ConditionProfile offsetProfile2 = ConditionProfile.createBinaryProfile();
+        private final ConditionProfile sameTypeProfile = ConditionProfile.createBinaryProfile();
 
         @Specialization
         protected Object slice(Object thisObj, Object[] args,
@@ -979,6 +984,14 @@ public final class ArrayPrototypeBuiltins extends JSBuiltinsContainer.SwitchEnum
             long size = startPos <= endPos ? endPos - startPos : 0;
             Object resultArray = getArraySpeciesConstructorNode().createEmptyContainer(thisArrayObj, size);
             if (sizeIsZero.profile(size > 0)) {
+                if (isTypedArrayImplementation) {
+                    checkHasDetachedBuffer((DynamicObject) thisArrayObj);
+                    if (sameTypeProfile.profile(isSameTypeDistinctBuffer((DynamicObject) thisArrayObj, (DynamicObject) resultArray))) {
+                        getTypedArrayType((DynamicObject) thisArrayObj).copyElements((DynamicObject) thisArrayObj, (int) startPos,
+                                        JSArrayBufferView.typedArrayGetArrayType((DynamicObject) resultArray), (DynamicObject) resultArray, 0, (int) size, true);
+                        return resultArray;
+                    }
+                }
                 forEachIndexCall(thisArrayObj, null, startPos, startPos, endPos, resultArray);
             }
             if (!isTypedArrayImplementation) {
@@ -987,6 +1000,15 @@ public final class ArrayPrototypeBuiltins extends JSBuiltinsContainer.SwitchEnum
             return resultArray;
         }
 
+        /**
+         * Elements can be copied as bytes if the species constructor created a typed array of the
+         * same element type. Overlapping views of the same buffer take the element-wise path.
+         */
+        private static boolean isSameTypeDistinctBuffer(DynamicObject source, DynamicObject result) {
+            return JSArrayBufferView.typedArrayGetArrayType(source).getFactory() == JSArrayBufferView.typedArrayGetArrayType(result).getFactory() &&
+                            JSArrayBufferView.getArrayBuffer(source) != JSArrayBufferView.getArrayBuffer(result);
+        }
+
         @Override
         protected MaybeResultNode makeMaybeResultNode() {
             return new ForEachIndexCallNode.MaybeResultNode() {
@@ -1450,6 +1472,14 @@ public final class ArrayPrototypeBuiltins extends JSBuiltinsContainer.SwitchEnum
             if (fromIndexValue < 0) {
                 return -1;
             }
+            if (isTypedArrayImplementation && isForward()) {
+                DynamicObject typedArray = (DynamicObject) thisJSObject;
+                if (JSArrayBufferView.hasDetachedBuffer(typedArray, getContext())) {
+                    // detached while converting fromIndex
+                    return -1;
+                }
+                return getTypedArrayType(typedArray).indexOf(typedArray, (int) fromIndexValue, (int) len, searchElement, false, true);
+            }
             return forEachIndexCall(thisJSObject, Undefined.instance, searchElement, fromIndexValue, len, -1);
         }
 
@@ -2877,6 +2907,15 @@ public final class ArrayPrototypeBuiltins extends JSBuiltinsContainer.SwitchEnum
             }
             long count = Math.min(finalIdx - from, len - to);
 
+            if (isTypedArrayImplementation) {
+                if (count > 0) {
+                    DynamicObject typedArray = (DynamicObject) obj;
+                    checkHasDetachedBuffer(typedArray);
+                    getTypedArrayType(typedArray).copyWithin(typedArray, (int) to, (int) from, (int) count, true);
+                }
+                return obj;
+            }
+
             long direction;
             if (from < to && to < (from + count)) {
                 direction = -1;
@@ -2932,6 +2971,18 @@ public final class ArrayPrototypeBuiltins extends JSBuiltinsContainer.SwitchEnum
                 return true;
             }
 
+            if (isTypedArrayImplementation) {
+                if (k >= len) {
+                    return false;
+                }
+                DynamicObject typedArray = (DynamicObject) thisObj;
+                if (JSArrayBufferView.hasDetachedBuffer(typedArray, getContext())) {
+                    // detached while converting fromIndex, all elements read as undefined
+                    return searchElement == Undefined.instance;
+                }
+                return getTypedArrayType(typedArray).indexOf(typedArray, (int) k, (int) len, searchElement, true, true) >= 0;
+            }
+
             while (k < len) {
                 Object currentElement = read(thisObj, k);
 
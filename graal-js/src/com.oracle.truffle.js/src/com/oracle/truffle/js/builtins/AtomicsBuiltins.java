@@ -65,9 +65,11 @@ import com.oracle.truffle.js.nodes.cast.JSToIntegerAsLongNode;
 import com.oracle.truffle.js.nodes.cast.JSToNumberNode;
 import com.oracle.truffle.js.nodes.function.JSBuiltin;
 import com.oracle.truffle.js.nodes.function.JSBuiltinNode;
+import com.oracle.truffle.js.nodes.promise.NewPromiseCapabilityNode;
 import com.oracle.truffle.js.runtime.BigInt;
 import com.oracle.truffle.js.runtime.Errors;
-import com.oracle.truffle.js.runtime.JSAgentWaiterList.JSAgentWaiterListEntry;
+import com.oracle.truffle.js.runtime.JSAgentWaiterList.WaiterBucket;
+import com.oracle.truffle.js.runtime.JSAgentWaiterList.WaiterRecord;
 import com.oracle.truffle.js.runtime.JSConfig;
 import com.oracle.truffle.js.runtime.JSContext;
 import com.oracle.truffle.js.runtime.JSException;
@@ -79,7 +81,11 @@ import com.oracle.truffle.js.runtime.builtins.BuiltinEnum;
 import com.oracle.truffle.js.runtime.builtins.JSArrayBuffer;
 import com.oracle.truffle.js.runtime.builtins.JSArrayBufferView;
 import com.oracle.truffle.js.runtime.builtins.JSSharedArrayBuffer;
+import com.oracle.truffle.js.runtime.builtins.JSUserObject;
+import com.oracle.truffle.js.runtime.objects.JSAttributes;
 import com.oracle.truffle.js.runtime.objects.JSObject;
+import com.oracle.truffle.js.runtime.objects.JSObjectUtil;
+import com.oracle.truffle.js.runtime.objects.PromiseCapabilityRecord;
 import com.oracle.truffle.js.runtime.objects.Undefined;
 
 /**
@@ -108,7 +114,9 @@ public final class AtomicsBuiltins extends JSBuiltinsContainer.SwitchEnum<Atomic
         isLockFree(1),
 
         // ES9?
-        notify(3);
+        notify(3),
+
+        waitAsync(4);
 
         private final int length;
 
@@ -125,6 +133,8 @@ public final class AtomicsBuiltins extends JSBuiltinsContainer.SwitchEnum<Atomic
         public int getECMAScriptVersion() {
             if (this.equals(notify)) {
                 return JSConfig.ECMAScript2019;
+            } else if (this.equals(waitAsync)) {
+                return JSConfig.ECMAScript2021;
             }
             return JSConfig.ECMAScript2017;
         }
@@ -156,7 +166,9 @@ public final class AtomicsBuiltins extends JSBuiltinsContainer.SwitchEnum<Atomic
             case notify:
                 return AtomicsWakeNodeGen.create(context, builtin, args().fixedArgs(3).createArgumentNodes(context));
             case wait:
-                return AtomicsWaitNodeGen.create(context, builtin, args().fixedArgs(4).createArgumentNodes(context));
+                return AtomicsWaitNodeGen.create(context, builtin, false, args().fixedArgs(4).createArgumentNodes(context));
+            case waitAsync:
+                return AtomicsWaitNodeGen.create(context, builtin, true, args().fixedArgs(4).createArgumentNodes(context));
             case isLockFree:
                 return AtomicsIsLockFreeNodeGen.create(context, builtin, args().fixedArgs(1).createArgumentNodes(context));
         }
@@ -811,16 +823,15 @@ public final class AtomicsBuiltins extends JSBuiltinsContainer.SwitchEnum<Atomic
                 c = Integer.max(tmp, 0);
             }
 
-            JSAgentWaiterListEntry wl = SharedMemorySync.getWaiterList(getContext(), target, i);
+            WaiterBucket wl = SharedMemorySync.getWaiterListIfPresent(getContext(), target, i);
+            if (wl == null) {
+                // nobody has ever waited on this buffer
+                return 0;
+            }
 
             SharedMemorySync.enterCriticalSection(getContext(), wl);
             try {
-                int[] waiters = SharedMemorySync.removeWaiters(getContext(), wl, c);
-                int n;
-                for (n = 0; n < waiters.length; n++) {
-                    SharedMemorySync.wakeWaiter(getContext(), waiters[n]);
-                }
-                return n;
+                return SharedMemorySync.notifyWaiters(getContext(), wl, i, c);
             } finally {
                 SharedMemorySync.leaveCriticalSection(getContext(), wl);
             }
@@ -828,7 +839,9 @@ public final class AtomicsBuiltins extends JSBuiltinsContainer.SwitchEnum<Atomic
     }
 
     /**
-     * Thread Sleep.
+     * Thread Sleep. Also implements {@code Atomics.waitAsync}, which registers the waiter without
+     * suspending the agent and returns a promise that is resolved when the waiter is notified or
+     * times out.
      */
     public abstract static class AtomicsWaitNode extends AtomicsOperationNode {
 
@@ -836,11 +849,15 @@ public final class AtomicsBuiltins extends JSBuiltinsContainer.SwitchEnum<Atomic
         private static final String NOT_EQUAL = "not-equal";
         private static final String TIMED_OUT = "timed-out";
 
+        private final boolean waitAsync;
+
         @Child private JSToBigIntNode toBigIntNode;
         @Child private JSToInt32Node toInt32Node;
+        @Child private NewPromiseCapabilityNode newPromiseCapabilityNode;
 
-        public AtomicsWaitNode(JSContext context, JSBuiltin builtin) {
+        public AtomicsWaitNode(JSContext context, JSBuiltin builtin, boolean waitAsync) {
             super(context, builtin);
+            this.waitAsync = waitAsync;
         }
 
         protected AtomicsLoadNode createHelperNode() {
@@ -850,7 +867,7 @@ public final class AtomicsBuiltins extends JSBuiltinsContainer.SwitchEnum<Atomic
         @Specialization
         protected Object doGeneric(VirtualFrame frame, Object maybeTarget, Object index, Object value, Object timeout,
                         @Cached("create()") JSToIndexNode toIndexNode,
-                        @Cached("create()") JSToNumberNode timeToInt32Node,
+                        @Cached("create()") JSToNumberNode timeToNumberNode,
                         @Cached("createHelperNode()") AtomicsLoadNode loadNode) {
 
             DynamicObject target = ensureDynamicObject(maybeTarget);
@@ -860,35 +877,42 @@ public final class AtomicsBuiltins extends JSBuiltinsContainer.SwitchEnum<Atomic
 
             boolean isInt32 = isInt32SharedBufferView(maybeTarget);
             long v = isInt32 ? toInt32(value) : toBigInt(value).longValue();
-            int t = Integer.MAX_VALUE;
-            Number tmp = timeToInt32Node.executeNumber(timeout);
-            if (!JSRuntime.isNaN(tmp)) {
-                t = Integer.max(tmp.intValue(), 0);
+            double t = Double.POSITIVE_INFINITY;
+            double tmp = JSRuntime.doubleValue(timeToNumberNode.executeNumber(timeout));
+            if (!Double.isNaN(tmp)) {
+                t = Math.max(tmp, 0);
             }
 
-            if (!SharedMemorySync.agentCanSuspend(getContext())) {
+            if (!waitAsync && !SharedMemorySync.agentCanSuspend(getContext())) {
                 throw createTypeErrorUnsupported();
             }
-            JSAgentWaiterListEntry wl = SharedMemorySync.getWaiterList(getContext(), target, i);
+            WaiterBucket wl = SharedMemorySync.getWaiterList(getContext(), target, i);
             SharedMemorySync.enterCriticalSection(getContext(), wl);
             try {
                 Object w = loadNode.executeWithBufferAndIndex(frame, maybeTarget, i);
                 boolean isNotEqual = isInt32 ? !(w instanceof Integer) || (int) w != (int) v
                                 : !(w instanceof BigInt) || ((BigInt) w).longValue() != v;
                 if (isNotEqual) {
-                    return NOT_EQUAL;
+                    return result(NOT_EQUAL, false);
                 }
-                int id = getContext().getJSAgent().getSignifier();
-                SharedMemorySync.addWaiter(getContext(), wl, id);
-                if (t < 0) {
-                    return TIMED_OUT;
+                if (t == 0) {
+                    return result(TIMED_OUT, false);
                 }
-                boolean awoken = SharedMemorySync.suspendAgent(getContext(), wl, id, t);
+                long deadline = SharedMemorySync.waitDeadline(t);
+                if (waitAsync) {
+                    PromiseCapabilityRecord promiseCapability = newPromiseCapability();
+                    WaiterRecord waiter = WaiterRecord.createAsync(i, wl, getContext().getJSAgent(), getContext().getRealm(), promiseCapability, deadline);
+                    SharedMemorySync.addWaiter(getContext(), wl, waiter);
+                    getContext().registerAsyncWaiter(waiter);
+                    return result(promiseCapability.getPromise(), true);
+                }
+                WaiterRecord waiter = WaiterRecord.createSync(i, wl, getContext().getJSAgent(), deadline);
+                SharedMemorySync.addWaiter(getContext(), wl, waiter);
+                boolean awoken = SharedMemorySync.suspendAgent(getContext(), wl, waiter);
                 if (awoken) {
-                    assert !wl.contains(id);
                     return OK;
                 } else {
-                    SharedMemorySync.removeWaiter(getContext(), wl, id);
+                    SharedMemorySync.removeWaiter(getContext(), wl, waiter);
                     return TIMED_OUT;
                 }
             } finally {
@@ -896,6 +920,29 @@ public final class AtomicsBuiltins extends JSBuiltinsContainer.SwitchEnum<Atomic
             }
         }
 
+        private Object result(Object value, boolean async) {
+            if (waitAsync) {
+                return createAsyncResult(value, async);
+            }
+            return value;
+        }
+
+        @TruffleBoundary
+        private DynamicObject createAsyncResult(Object value, boolean async) {
+            DynamicObject resultObj = JSUserObject.create(getContext());
+            JSObjectUtil.putDataProperty(getContext(), resultObj, "async", async, JSAttributes.getDefault());
+            JSObjectUtil.putDataProperty(getContext(), resultObj, "value", value, JSAttributes.getDefault());
+            return resultObj;
+        }
+
+        private PromiseCapabilityRecord newPromiseCapability() {
+            if (newPromiseCapabilityNode == null) {
+                CompilerDirectives.transferToInterpreterAndInvalidate();
+                newPromiseCapabilityNode = insert(NewPromiseCapabilityNode.create(getContext()));
+            }
+            return newPromiseCapabilityNode.executeDefault();
+        }
+
         private int toInt32(Object v) {
             if (toInt32Node == null) {
                 CompilerDirectives.transferToInterpreterAndInvalidate();
@@ -1785,6 +1785,13 @@ public final class ConstructorBuiltins extends JSBuiltinsContainer.SwitchEnum<Co
             if (maybeBuffer instanceof ByteBuffer) {
                 ByteBuffer byteBuffer = (ByteBuffer) maybeBuffer;
                 if (isDirect.profile(byteBuffer.isDirect())) {
+                    if (byteBuffer.isReadOnly()) {
+                        errorBranch.enter();
+                        throw Errors.createTypeError("Read-only buffers are not supported");
+                    }
+                    if (useShared) {
+                        return swapPrototype(JSSharedArrayBuffer.createSharedArrayBuffer(getContext(), byteBuffer), newTarget);
+                    }
                     return swapPrototype(JSArrayBuffer.createDirectArrayBuffer(getContext(), byteBuffer), newTarget);
                 } else {
                     return swapPrototype(JSArrayBuffer.createArrayBuffer(getContext(), byteBuffer.array()), newTarget);
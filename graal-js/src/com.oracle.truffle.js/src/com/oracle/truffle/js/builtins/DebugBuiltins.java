@@ -63,6 +63,7 @@ import com.oracle.truffle.api.profiles.ValueProfile;
 import com.oracle.truffle.api.source.Source;
 import com.oracle.truffle.js.builtins.DebugBuiltinsFactory.DebugArrayTypeNodeGen;
 import com.oracle.truffle.js.builtins.DebugBuiltinsFactory.DebugAssertIntNodeGen;
+import com.oracle.truffle.js.builtins.DebugBuiltinsFactory.DebugBackgroundTranslationStatsNodeGen;
 import com.oracle.truffle.js.builtins.DebugBuiltinsFactory.DebugClassNameNodeGen;
 import com.oracle.truffle.js.builtins.DebugBuiltinsFactory.DebugClassNodeGen;
 import com.oracle.truffle.js.builtins.DebugBuiltinsFactory.DebugCompileFunctionNodeGen;
@@ -73,12 +74,14 @@ import com.oracle.truffle.js.builtins.DebugBuiltinsFactory.DebugDumpCountersNode
 import com.oracle.truffle.js.builtins.DebugBuiltinsFactory.DebugDumpFunctionTreeNodeGen;
 import com.oracle.truffle.js.builtins.DebugBuiltinsFactory.DebugHeapDumpNodeGen;
 import com.oracle.truffle.js.builtins.DebugBuiltinsFactory.DebugInspectNodeGen;
+import com.oracle.truffle.js.builtins.DebugBuiltinsFactory.DebugIntlFormatterCacheStatsNodeGen;
 import com.oracle.truffle.js.builtins.DebugBuiltinsFactory.DebugIsHolesArrayNodeGen;
 import com.oracle.truffle.js.builtins.DebugBuiltinsFactory.DebugJSStackNodeGen;
 import com.oracle.truffle.js.builtins.DebugBuiltinsFactory.DebugLoadModuleNodeGen;
 import com.oracle.truffle.js.builtins.DebugBuiltinsFactory.DebugNeverPartOfCompilationNodeGen;
 import com.oracle.truffle.js.builtins.DebugBuiltinsFactory.DebugPrintObjectNodeGen;
 import com.oracle.truffle.js.builtins.DebugBuiltinsFactory.DebugPrintSourceAttributionNodeGen;
+import com.oracle.truffle.js.builtins.DebugBuiltinsFactory.DebugRegexCacheStatsNodeGen;
 import com.oracle.truffle.js.builtins.DebugBuiltinsFactory.DebugShapeNodeGen;
 import com.oracle.truffle.js.builtins.DebugBuiltinsFactory.DebugStringCompareNodeGen;
 import com.oracle.truffle.js.builtins.DebugBuiltinsFactory.DebugSystemPropertiesNodeGen;
@@ -118,6 +121,9 @@ import com.oracle.truffle.js.runtime.objects.Null;
 import com.oracle.truffle.js.runtime.objects.PropertyDescriptor;
 import com.oracle.truffle.js.runtime.objects.ScriptOrModule;
 import com.oracle.truffle.js.runtime.objects.Undefined;
+import com.oracle.truffle.js.runtime.util.BackgroundTranslationQueue;
+import com.oracle.truffle.js.runtime.util.IntlFormatterCache;
+import com.oracle.truffle.js.runtime.util.RegexCache;
 import com.oracle.truffle.object.DynamicObjectImpl;
 
 /**
@@ -157,7 +163,10 @@ public final class DebugBuiltins extends JSBuiltinsContainer.SwitchEnum<DebugBui
         systemProperty(1),
         systemProperties(0),
         neverPartOfCompilation(0),
-        dumpHeap(2);
+        dumpHeap(2),
+        backgroundTranslationStats(0),
+        regexCacheStats(0),
+        intlFormatterCacheStats(0);
 
         private final int length;
 
@@ -229,6 +238,12 @@ public final class DebugBuiltins extends JSBuiltinsContainer.SwitchEnum<DebugBui
 
             case dumpHeap:
                 return DebugHeapDumpNodeGen.create(context, builtin, args().fixedArgs(2).createArgumentNodes(context));
+            case backgroundTranslationStats:
+                return DebugBackgroundTranslationStatsNodeGen.create(context, builtin, args().createArgumentNodes(context));
+            case regexCacheStats:
+                return DebugRegexCacheStatsNodeGen.create(context, builtin, args().createArgumentNodes(context));
+            case intlFormatterCacheStats:
+                return DebugIntlFormatterCacheStatsNodeGen.create(context, builtin, args().createArgumentNodes(context));
         }
         return null;
     }
@@ -689,6 +704,73 @@ public final class DebugBuiltins extends JSBuiltinsContainer.SwitchEnum<DebugBui
         }
     }
 
+    public abstract static class DebugBackgroundTranslationStats extends JSBuiltinNode {
+
+        public DebugBackgroundTranslationStats(JSContext context, JSBuiltin builtin) {
+            super(context, builtin);
+        }
+
+        @TruffleBoundary
+        @Specialization
+        protected Object backgroundTranslationStats() {
+            BackgroundTranslationQueue translationQueue = getContext().getBackgroundTranslationQueue();
+            if (translationQueue == null) {
+                return Undefined.instance;
+            }
+            DynamicObject result = JSUserObject.create(getContext());
+            JSObject.set(result, "scheduled", (double) translationQueue.getScheduledCount());
+            JSObject.set(result, "translated", (double) translationQueue.getTranslatedCount());
+            JSObject.set(result, "dropped", (double) translationQueue.getDroppedCount());
+            JSObject.set(result, "firstCallsTranslated", (double) translationQueue.getFirstCallsTranslatedCount());
+            JSObject.set(result, "firstCallsUntranslated", (double) translationQueue.getFirstCallsUntranslatedCount());
+            return result;
+        }
+    }
+
+    public abstract static class DebugRegexCacheStats extends JSBuiltinNode {
+
+        public DebugRegexCacheStats(JSContext context, JSBuiltin builtin) {
+            super(context, builtin);
+        }
+
+        @TruffleBoundary
+        @Specialization
+        protected Object regexCacheStats() {
+            RegexCache cache = getContext().getRegexCache();
+            if (cache == null) {
+                return Undefined.instance;
+            }
+            DynamicObject result = JSUserObject.create(getContext());
+            JSObject.set(result, "size", cache.size());
+            JSObject.set(result, "hits", (double) cache.getHitCount());
+            JSObject.set(result, "misses", (double) cache.getMissCount());
+            JSObject.set(result, "evictions", (double) cache.getEvictionCount());
+            return result;
+        }
+    }
+
+    public abstract static class DebugIntlFormatterCacheStats extends JSBuiltinNode {
+
+        public DebugIntlFormatterCacheStats(JSContext context, JSBuiltin builtin) {
+            super(context, builtin);
+        }
+
+        @TruffleBoundary
+        @Specialization
+        protected Object intlFormatterCacheStats() {
+            IntlFormatterCache cache = getContext().getRealm().getIntlFormatterCache();
+            if (cache == null) {
+                return Undefined.instance;
+            }
+            DynamicObject result = JSUserObject.create(getContext());
+            JSObject.set(result, "size", cache.size());
+            JSObject.set(result, "hits", (double) cache.getHitCount());
+            JSObject.set(result, "misses", (double) cache.getMissCount());
+            JSObject.set(result, "evictions", (double) cache.getEvictionCount());
+            return result;
+        }
+    }
+
     public abstract static class DebugSystemProperty extends JSBuiltinNode {
 
         public DebugSystemProperty(JSContext context, JSBuiltin builtin) {
@@ -40,6 +40,12 @@
  */
 package com.oracle.truffle.js.builtins;
 
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.SeekableByteChannel;
+import java.nio.file.StandardOpenOption;
+import java.util.EnumSet;
 import java.util.List;
 
 import com.oracle.truffle.api.CallTarget;
@@ -69,13 +75,17 @@ import com.oracle.truffle.js.builtins.JavaBuiltinsFactory.JavaIsJavaObjectNodeGe
 import com.oracle.truffle.js.builtins.JavaBuiltinsFactory.JavaIsScriptFunctionNodeGen;
 import com.oracle.truffle.js.builtins.JavaBuiltinsFactory.JavaIsScriptObjectNodeGen;
 import com.oracle.truffle.js.builtins.JavaBuiltinsFactory.JavaIsTypeNodeGen;
+import com.oracle.truffle.js.builtins.JavaBuiltinsFactory.JavaMapFileNodeGen;
 import com.oracle.truffle.js.builtins.JavaBuiltinsFactory.JavaSuperNodeGen;
 import com.oracle.truffle.js.builtins.JavaBuiltinsFactory.JavaSynchronizedNodeGen;
 import com.oracle.truffle.js.builtins.JavaBuiltinsFactory.JavaToNodeGen;
 import com.oracle.truffle.js.builtins.JavaBuiltinsFactory.JavaTypeNameNodeGen;
 import com.oracle.truffle.js.builtins.JavaBuiltinsFactory.JavaTypeNodeGen;
+import com.oracle.truffle.js.builtins.JavaBuiltinsFactory.JavaUnmapFileNodeGen;
 import com.oracle.truffle.js.nodes.access.RealmNode;
 import com.oracle.truffle.js.nodes.access.WriteElementNode;
+import com.oracle.truffle.js.nodes.cast.JSToBooleanNode;
+import com.oracle.truffle.js.nodes.cast.JSToIndexNode;
 import com.oracle.truffle.js.nodes.cast.JSToObjectArrayNode;
 import com.oracle.truffle.js.nodes.cast.JSToStringNode;
 import com.oracle.truffle.js.nodes.function.JSBuiltin;
@@ -93,12 +103,15 @@ import com.oracle.truffle.js.runtime.JSRuntime;
 import com.oracle.truffle.js.runtime.JavaScriptRootNode;
 import com.oracle.truffle.js.runtime.builtins.BuiltinEnum;
 import com.oracle.truffle.js.runtime.builtins.JSArray;
+import com.oracle.truffle.js.runtime.builtins.JSArrayBuffer;
 import com.oracle.truffle.js.runtime.builtins.JSFunction;
 import com.oracle.truffle.js.runtime.builtins.JSFunctionData;
+import com.oracle.truffle.js.runtime.builtins.JSSharedArrayBuffer;
 import com.oracle.truffle.js.runtime.java.JavaAccess;
 import com.oracle.truffle.js.runtime.java.adapter.JavaAdapterFactory;
 import com.oracle.truffle.js.runtime.objects.JSObject;
 import com.oracle.truffle.js.runtime.objects.Undefined;
+import com.oracle.truffle.js.runtime.util.DirectByteBufferHelper;
 
 public final class JavaBuiltins extends JSBuiltinsContainer.SwitchEnum<JavaBuiltins.Java> {
 
@@ -117,6 +130,8 @@ public final class JavaBuiltins extends JSBuiltinsContainer.SwitchEnum<JavaBuilt
         isType(1),
         typeName(1),
         addToClasspath(1),
+        mapFile(1),
+        unmapFile(1),
 
         extend(1) {
             @Override
@@ -160,6 +175,10 @@ public final class JavaBuiltins extends JSBuiltinsContainer.SwitchEnum<JavaBuilt
                 return JavaIsJavaObjectNodeGen.create(context, builtin, args().fixedArgs(1).createArgumentNodes(context));
             case addToClasspath:
                 return JavaAddToClasspathNodeGen.create(context, builtin, args().fixedArgs(1).createArgumentNodes(context));
+            case mapFile:
+                return JavaMapFileNodeGen.create(context, builtin, args().fixedArgs(4).createArgumentNodes(context));
+            case unmapFile:
+                return JavaUnmapFileNodeGen.create(context, builtin, args().fixedArgs(1).createArgumentNodes(context));
 
             case extend:
                 if (!JSConfig.SubstrateVM) {
@@ -694,4 +713,81 @@ public final class JavaBuiltins extends JSBuiltinsContainer.SwitchEnum<JavaBuilt
             return doString(toStringNode.executeString(fileName));
         }
     }
+
+    /**
+     * Maps a region of a file into memory and returns an {@code ArrayBuffer} (or a
+     * {@code SharedArrayBuffer}) over it: {@code Java.mapFile(path, offset, length, shared)}. If the
+     * length is omitted, the file is mapped from {@code offset} to its end.
+     */
+    abstract static class JavaMapFileNode extends JSBuiltinNode {
+        JavaMapFileNode(JSContext context, JSBuiltin builtin) {
+            super(context, builtin);
+        }
+
+        @Specialization
+        protected DynamicObject mapFile(Object fileName, Object offset, Object length, Object shared,
+                        @Cached("create()") JSToStringNode toStringNode,
+                        @Cached("create()") JSToIndexNode toOffsetNode,
+                        @Cached("create()") JSToIndexNode toLengthNode,
+                        @Cached("create()") JSToBooleanNode toBooleanNode) {
+            String name = toStringNode.executeString(fileName);
+            long position = toOffsetNode.executeLong(offset);
+            long byteLength = length == Undefined.instance ? -1 : toLengthNode.executeLong(length);
+            return doMap(name, position, byteLength, toBooleanNode.executeBoolean(shared));
+        }
+
+        @TruffleBoundary
+        private DynamicObject doMap(String fileName, long position, long length, boolean shared) {
+            TruffleLanguage.Env env = getContext().getRealm().getEnv();
+            try (SeekableByteChannel channel = env.getPublicTruffleFile(fileName).newByteChannel(EnumSet.of(StandardOpenOption.READ, StandardOpenOption.WRITE))) {
+                if (!(channel instanceof FileChannel)) {
+                    throw Errors.createTypeError("File system does not support memory-mapped files");
+                }
+                FileChannel fileChannel = (FileChannel) channel;
+                long byteLength = length;
+                if (byteLength < 0) {
+                    byteLength = fileChannel.size() - position;
+                    if (byteLength < 0) {
+                        throw Errors.createRangeError("Offset is outside the bounds of the file");
+                    }
+                }
+                if (byteLength > getContext().getContextOptions().getMaxTypedArrayLength()) {
+                    throw Errors.createRangeError("Array buffer allocation failed");
+                }
+                ByteBuffer buffer = DirectByteBufferHelper.map(fileChannel, position, (int) byteLength);
+                if (shared) {
+                    return JSSharedArrayBuffer.createSharedArrayBuffer(getContext(), buffer);
+                } else {
+                    return JSArrayBuffer.createMappedArrayBuffer(getContext(), buffer);
+                }
+            } catch (IOException | SecurityException | UnsupportedOperationException e) {
+                throw Errors.createErrorFromException(e);
+            }
+        }
+    }
+
+    /**
+     * Detaches an {@code ArrayBuffer} created by {@code Java.mapFile} and unmaps its file region
+     * without waiting for the garbage collector.
+     */
+    abstract static class JavaUnmapFileNode extends JSBuiltinNode {
+        JavaUnmapFileNode(JSContext context, JSBuiltin builtin) {
+            super(context, builtin);
+        }
+
+        @Specialization(guards = "isJSMappedArrayBuffer(buffer)")
+        protected static Object unmap(DynamicObject buffer) {
+            JSArrayBuffer.unmapArrayBuffer(buffer);
+            return Undefined.instance;
+        }
+
+        @Fallback
+        protected static Object unmapOther(@SuppressWarnings("unused") Object buffer) {
+            throw Errors.createTypeError("ArrayBuffer created by Java.mapFile expected");
+        }
+
+        protected static boolean isJSMappedArrayBuffer(Object buffer) {
+            return JSArrayBuffer.isJSMappedArrayBuffer(buffer);
+        }
+    }
 }
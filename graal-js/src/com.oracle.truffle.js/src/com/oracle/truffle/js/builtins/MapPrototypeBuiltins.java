@@ -175,6 +175,16 @@ public final class MapPrototypeBuiltins extends JSBuiltinsContainer.SwitchEnum<M
             super(context, builtin);
         }
 
+        @Specialization(guards = "isJSMap(thisObj)")
+        protected static boolean deleteInt(DynamicObject thisObj, int key) {
+            return JSMap.getInternalMap(thisObj).removeInt(key);
+        }
+
+        @Specialization(guards = "isJSMap(thisObj)")
+        protected static boolean deleteString(DynamicObject thisObj, String key) {
+            return JSMap.getInternalMap(thisObj).removeString(key);
+        }
+
         @Specialization(guards = "isJSMap(thisObj)")
         protected boolean delete(DynamicObject thisObj, Object key) {
             Object normalizedKey = normalize(key);
@@ -197,10 +207,23 @@ public final class MapPrototypeBuiltins extends JSBuiltinsContainer.SwitchEnum<M
             super(context, builtin);
         }
 
+        @Specialization(guards = "isJSMap(thisObj)")
+        protected static Object getInt(DynamicObject thisObj, int key) {
+            return undefinedIfAbsent(JSMap.getInternalMap(thisObj).getInt(key));
+        }
+
+        @Specialization(guards = "isJSMap(thisObj)")
+        protected static Object getString(DynamicObject thisObj, String key) {
+            return undefinedIfAbsent(JSMap.getInternalMap(thisObj).getString(key));
+        }
+
         @Specialization(guards = "isJSMap(thisObj)")
         protected Object get(DynamicObject thisObj, Object key) {
             Object normalizedKey = normalize(key);
-            Object value = JSMap.getInternalMap(thisObj).get(normalizedKey);
+            return undefinedIfAbsent(JSMap.getInternalMap(thisObj).get(normalizedKey));
+        }
+
+        private static Object undefinedIfAbsent(Object value) {
             if (value != null) {
                 return value;
             } else {
@@ -224,6 +247,18 @@ public final class MapPrototypeBuiltins extends JSBuiltinsContainer.SwitchEnum<M
             super(context, builtin);
         }
 
+        @Specialization(guards = "isJSMap(thisObj)")
+        protected static DynamicObject setInt(DynamicObject thisObj, int key, Object value) {
+            JSMap.getInternalMap(thisObj).putInt(key, value);
+            return thisObj;
+        }
+
+        @Specialization(guards = "isJSMap(thisObj)")
+        protected static DynamicObject setString(DynamicObject thisObj, String key, Object value) {
+            JSMap.getInternalMap(thisObj).putString(key, value);
+            return thisObj;
+        }
+
         @Specialization(guards = "isJSMap(thisObj)")
         protected DynamicObject set(DynamicObject thisObj, Object key, Object value) {
             Object normalizedKey = normalize(key);
@@ -247,6 +282,16 @@ public final class MapPrototypeBuiltins extends JSBuiltinsContainer.SwitchEnum<M
             super(context, builtin);
         }
 
+        @Specialization(guards = "isJSMap(thisObj)")
+        protected static boolean hasInt(DynamicObject thisObj, int key) {
+            return JSMap.getInternalMap(thisObj).hasInt(key);
+        }
+
+        @Specialization(guards = "isJSMap(thisObj)")
+        protected static boolean hasString(DynamicObject thisObj, String key) {
+            return JSMap.getInternalMap(thisObj).hasString(key);
+        }
+
         @Specialization(guards = "isJSMap(thisObj)")
         protected boolean has(DynamicObject thisObj, Object key) {
             Object normalizedKey = normalize(key);
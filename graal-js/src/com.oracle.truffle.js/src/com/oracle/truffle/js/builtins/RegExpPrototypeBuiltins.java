@@ -550,12 +550,13 @@ public final class RegExpPrototypeBuiltins extends JSBuiltinsContainer.SwitchEnu
         @Child private PropertyGetNode getLengthNode;
         @Child private JSToUInt32Node toUInt32Node;
         @Child private JSToLengthNode toLengthNode;
-        @Child private JSRegExpExecIntlNode.JSRegExpExecIntlIgnoreLastIndexNode execIgnoreLastIndexNode;
+        @Child private CompileRegexNode compileRegexNode;
         @Child private TRegexUtil.TRegexCompiledRegexAccessor compiledRegexAccessor;
         @Child private TRegexUtil.TRegexFlagsAccessor flagsAccessor;
         @Child private TRegexUtil.TRegexResultAccessor resultAccessor;
         @Child private IsPristineObjectNode isPristineObjectNode;
         @Child private IsJSClassNode isJSRegExpNode;
+        private final BranchProfile growProfile = BranchProfile.create();
         private final ConditionProfile sizeZeroProfile = ConditionProfile.createBinaryProfile();
         private final ConditionProfile sameMatchEnd = ConditionProfile.createBinaryProfile();
         private final ConditionProfile resultIsNull = ConditionProfile.createBinaryProfile();
@@ -683,32 +684,35 @@ public final class RegExpPrototypeBuiltins extends JSBuiltinsContainer.SwitchEnu
             return array;
         }
 
+        /**
+         * Split of a pristine RegExp. Matches directly on the compiled regex and collects the
+         * substrings before creating the result array, without the splitter RegExp object and
+         * the per-match result objects of the generic algorithm.
+         */
         private DynamicObject splitInternal(DynamicObject rx, String str, long lim) {
             initTRegexAccessors();
             Object tRegexCompiledRegex = compiledRegexProfile.profile(JSRegExp.getCompiledRegexUnchecked(rx, isJSRegExp(rx)));
             Object tRegexFlags = compiledRegexAccessor.flags(tRegexCompiledRegex);
             boolean unicodeMatching = flagsAccessor.unicode(tRegexFlags);
-            DynamicObject splitter;
+            Object splitterRegex;
             if (stickyFlagSet.profile(flagsAccessor.sticky(tRegexFlags))) {
-                DynamicObject regexpConstructor = getContext().getRealm().getRegExpConstructor();
-                splitter = (DynamicObject) getArraySpeciesConstructorNode().construct(regexpConstructor, rx, removeStickyFlag(tRegexFlags));
+                splitterRegex = getCompileRegexNode().compile(compiledRegexAccessor.pattern(tRegexCompiledRegex), removeStickyFlag(tRegexFlags));
             } else {
-                splitter = rx;
+                splitterRegex = tRegexCompiledRegex;
             }
-            DynamicObject array = JSArray.createEmptyZeroLength(getContext());
+            int groupCount = compiledRegexAccessor.groupCount(tRegexCompiledRegex);
+            SimpleArrayList<Object> splits = new SimpleArrayList<>();
             int size = str.length();
-            int arrayLength = 0;
             int prevMatchEnd = 0;
             int fromIndex = 0;
             int matchStart = -1;
             int matchEnd = -1;
             Object lastRegexResult = null;
             do {
-                Object tRegexResult = execIgnoreLastIndexNode.execute(splitter, str, fromIndex);
+                Object tRegexResult = JSRegExpExecIntlNode.executeCompiledRegex(splitterRegex, str, fromIndex, compiledRegexAccessor);
                 if (resultIsNull.profile(!resultAccessor.isMatch(tRegexResult))) {
                     if (sizeZeroProfile.profile(size == 0) || matchStart < 0) {
-                        write(array, 0, str);
-                        return array;
+                        return JSArray.createConstant(getContext(), new Object[]{str});
                     }
                     break;
                 } else {
@@ -720,19 +724,17 @@ public final class RegExpPrototypeBuiltins extends JSBuiltinsContainer.SwitchEnu
                     if (matchEnd == prevMatchEnd) {
                         fromIndex = movePosition(str, unicodeMatching, fromIndex);
                     } else {
-                        write(array, arrayLength++, Boundaries.substring(str, prevMatchEnd, matchStart));
-                        if (arrayLength == lim) {
+                        splits.add(Boundaries.substring(str, prevMatchEnd, matchStart), growProfile);
+                        if (splits.size() == lim) {
                             prematureReturnBranch.enter();
-                            return array;
+                            return JSArray.createConstant(getContext(), splits.toArray());
                         }
                         prevMatchEnd = matchEnd;
-                        long numberOfCaptures = compiledRegexAccessor.groupCount(tRegexCompiledRegex);
-                        for (int i = 1; i < numberOfCaptures; i++) {
-                            write(array, arrayLength, TRegexUtil.TRegexMaterializeResultNode.materializeGroup(resultAccessor, tRegexResult, i, str));
-                            arrayLength++;
-                            if (arrayLength == lim) {
+                        for (int i = 1; i < groupCount; i++) {
+                            splits.add(TRegexUtil.TRegexMaterializeResultNode.materializeGroup(resultAccessor, tRegexResult, i, str), growProfile);
+                            if (splits.size() == lim) {
                                 prematureReturnBranch.enter();
-                                return array;
+                                return JSArray.createConstant(getContext(), splits.toArray());
                             }
                         }
                         if (matchStart == matchEnd) {
@@ -747,9 +749,9 @@ public final class RegExpPrototypeBuiltins extends JSBuiltinsContainer.SwitchEnu
                 getContext().getRealm().setStaticRegexResult(getContext(), tRegexCompiledRegex, str, matchStart, lastRegexResult);
             }
             if (matchStart != matchEnd || prevMatchEnd < size) {
-                write(array, arrayLength, Boundaries.substring(str, prevMatchEnd, size));
+                splits.add(Boundaries.substring(str, prevMatchEnd, size), growProfile);
             }
-            return array;
+            return JSArray.createConstant(getContext(), splits.toArray());
         }
 
         private String removeStickyFlag(Object tRegexFlags) {
@@ -795,15 +797,22 @@ public final class RegExpPrototypeBuiltins extends JSBuiltinsContainer.SwitchEnu
         }
 
         private void initTRegexAccessors() {
-            if (compiledRegexAccessor == null || flagsAccessor == null || resultAccessor == null || execIgnoreLastIndexNode == null) {
+            if (compiledRegexAccessor == null || flagsAccessor == null || resultAccessor == null) {
                 CompilerDirectives.transferToInterpreterAndInvalidate();
                 compiledRegexAccessor = insert(TRegexUtil.TRegexCompiledRegexAccessor.create());
                 flagsAccessor = insert(TRegexUtil.TRegexFlagsAccessor.create());
                 resultAccessor = insert(TRegexUtil.TRegexResultAccessor.create());
-                execIgnoreLastIndexNode = insert(JSRegExpExecIntlNode.JSRegExpExecIntlIgnoreLastIndexNode.create(getContext(), false));
             }
         }
 
+        private CompileRegexNode getCompileRegexNode() {
+            if (compileRegexNode == null) {
+                CompilerDirectives.transferToInterpreterAndInvalidate();
+                compileRegexNode = insert(CompileRegexNode.create(getContext()));
+            }
+            return compileRegexNode;
+        }
+
         private boolean isJSObject(DynamicObject rx) {
             if (isObjectNode == null) {
                 CompilerDirectives.transferToInterpreterAndInvalidate();
@@ -923,6 +932,7 @@ public final class RegExpPrototypeBuiltins extends JSBuiltinsContainer.SwitchEnu
         private final ConditionProfile noMatchProfile = ConditionProfile.createBinaryProfile();
         private final ConditionProfile validPositionProfile = ConditionProfile.createBinaryProfile();
         private final ConditionProfile hasNamedCaptureGroupsProfile = ConditionProfile.createBinaryProfile();
+        private final ConditionProfile literalReplaceProfile = ConditionProfile.createBinaryProfile();
         private final BranchProfile dollarProfile = BranchProfile.create();
         final StringBuilderProfile stringBuilderProfile;
         final BranchProfile invalidGroupNumberProfile = BranchProfile.create();
@@ -945,10 +955,12 @@ public final class RegExpPrototypeBuiltins extends JSBuiltinsContainer.SwitchEnu
                         @Cached("replaceValue") String cachedReplaceValue,
                         @Cached(value = "parseReplaceValueWithNCG(replaceValue)", dimensions = 1) ReplaceStringParser.Token[] cachedParsedReplaceValueWithNamedCG,
                         @Cached(value = "parseReplaceValueWithoutNCG(replaceValue)", dimensions = 1) ReplaceStringParser.Token[] cachedParsedReplaceValueWithoutNamedCG,
+                        @Cached("isLiteralReplaceValue(replaceValue)") boolean cachedLiteralReplaceValue,
                         @Cached("create()") JSToStringNode toString1Node) {
             checkObject(rx);
             if (isPristine(rx)) {
-                return replaceInternal(rx, toString1Node.executeString(searchString), cachedReplaceValue, cachedParsedReplaceValueWithNamedCG, cachedParsedReplaceValueWithoutNamedCG);
+                return replaceInternal(rx, toString1Node.executeString(searchString), cachedReplaceValue, cachedLiteralReplaceValue, cachedParsedReplaceValueWithNamedCG,
+                                cachedParsedReplaceValueWithoutNamedCG);
             }
             return replaceAccordingToSpec(rx, toString1Node.executeString(searchString), cachedReplaceValue, false);
         }
@@ -965,7 +977,7 @@ public final class RegExpPrototypeBuiltins extends JSBuiltinsContainer.SwitchEnu
                 String replaceString = toString2(replaceValue);
                 replaceVal = replaceString;
                 if (isPristine(rx)) {
-                    return replaceInternal(rx, toString1Node.executeString(searchString), replaceString, null, null);
+                    return replaceInternal(rx, toString1Node.executeString(searchString), replaceString, isLiteralReplaceValue(replaceString), null, null);
                 }
             }
             return replaceAccordingToSpec(rx, toString1Node.executeString(searchString), replaceVal, functionalReplace);
@@ -994,6 +1006,13 @@ public final class RegExpPrototypeBuiltins extends JSBuiltinsContainer.SwitchEnu
             return ReplaceStringParser.parse(replaceValue, 100, parseNamedCG);
         }
 
+        /**
+         * A replace value without {@code $} is inserted as is, without any substitutions.
+         */
+        static boolean isLiteralReplaceValue(String replaceValue) {
+            return replaceValue.indexOf('$') < 0;
+        }
+
         private void initTRegexAccessors() {
             if (compiledRegexAccessor == null || flagsAccessor == null || resultAccessor == null || execIgnoreLastIndexNode == null) {
                 CompilerDirectives.transferToInterpreterAndInvalidate();
@@ -1004,15 +1023,24 @@ public final class RegExpPrototypeBuiltins extends JSBuiltinsContainer.SwitchEnu
             }
         }
 
-        private String replaceInternal(DynamicObject rx, String s, String replaceString, ReplaceStringParser.Token[] parsedWithNamedCG, ReplaceStringParser.Token[] parsedWithoutNamedCG) {
+        private String replaceInternal(DynamicObject rx, String s, String replaceString, boolean literalReplace, ReplaceStringParser.Token[] parsedWithNamedCG,
+                        ReplaceStringParser.Token[] parsedWithoutNamedCG) {
             initTRegexAccessors();
             Object tRegexCompiledRegex = compiledRegexProfile.profile(JSRegExp.getCompiledRegexUnchecked(rx, isJSRegExp(rx)));
             Object tRegexFlags = compiledRegexAccessor.flags(tRegexCompiledRegex);
             boolean global = globalProfile.profile(flagsAccessor.global(tRegexFlags));
             boolean unicode = unicodeProfile.profile(flagsAccessor.unicode(tRegexFlags));
             boolean sticky = stickyProfile.profile(flagsAccessor.sticky(tRegexFlags));
+            boolean literal = literalReplaceProfile.profile(literalReplace);
             int length = s.length();
             StringBuilder accumulatedResult = stringBuilderProfile.newStringBuilder(length + 16);
+            ReplaceStringConsumerTRegex consumer = null;
+            boolean namedCG = false;
+            if (!literal) {
+                // substitutions are read directly from the TRegex result, one consumer per call
+                consumer = new ReplaceStringConsumerTRegex(accumulatedResult, s, replaceString, tRegexCompiledRegex);
+                namedCG = hasNamedCaptureGroupsProfile.profile(!getNamedCaptureGroupsAccessor().isNull(compiledRegexAccessor.namedCaptureGroups(tRegexCompiledRegex)));
+            }
             int lastMatchEnd = 0;
             int matchStart = -1;
             int lastIndex = sticky ? (int) toLength(getLastIndex(rx)) : 0;
@@ -1035,13 +1063,15 @@ public final class RegExpPrototypeBuiltins extends JSBuiltinsContainer.SwitchEnu
                 int matchEnd = resultAccessor.captureGroupEnd(tRegexResult, 0);
                 assert matchStart >= 0 && matchStart <= length && matchStart >= lastMatchEnd;
                 stringBuilderProfile.append(accumulatedResult, s, lastMatchEnd, matchStart);
-                boolean namedCG = hasNamedCaptureGroupsProfile.profile(!getNamedCaptureGroupsAccessor().isNull(compiledRegexAccessor.namedCaptureGroups(tRegexCompiledRegex)));
-                if (parsedWithNamedCG == null) {
-                    ReplaceStringParser.process(replaceString, compiledRegexAccessor.groupCount(tRegexCompiledRegex), namedCG, dollarProfile,
-                                    new ReplaceStringConsumerTRegex(accumulatedResult, s, replaceString, matchStart, matchEnd, tRegexResult, tRegexCompiledRegex), this);
+                if (literal) {
+                    stringBuilderProfile.append(accumulatedResult, replaceString);
                 } else {
-                    ReplaceStringParser.processParsed(namedCG ? parsedWithNamedCG : parsedWithoutNamedCG,
-                                    new ReplaceStringConsumerTRegex(accumulatedResult, s, replaceString, matchStart, matchEnd, tRegexResult, tRegexCompiledRegex), this);
+                    consumer.setMatch(matchStart, matchEnd, tRegexResult);
+                    if (parsedWithNamedCG == null) {
+                        ReplaceStringParser.process(replaceString, compiledRegexAccessor.groupCount(tRegexCompiledRegex), namedCG, dollarProfile, consumer, this);
+                    } else {
+                        ReplaceStringParser.processParsed(namedCG ? parsedWithNamedCG : parsedWithoutNamedCG, consumer, this);
+                    }
                 }
                 lastMatchEnd = matchEnd;
                 if (global) {
@@ -1071,21 +1101,24 @@ public final class RegExpPrototypeBuiltins extends JSBuiltinsContainer.SwitchEnu
             private final StringBuilder sb;
             private final String input;
             private final String replaceStr;
-            private final int startPos;
-            private final int endPos;
-            private final Object tRegexResult;
             private final Object tRegexCompiledRegex;
+            private int startPos;
+            private int endPos;
+            private Object tRegexResult;
 
-            private ReplaceStringConsumerTRegex(StringBuilder sb, String input, String replaceStr, int startPos, int endPos, Object tRegexResult, Object tRegexCompiledRegex) {
+            private ReplaceStringConsumerTRegex(StringBuilder sb, String input, String replaceStr, Object tRegexCompiledRegex) {
                 this.sb = sb;
                 this.input = input;
                 this.replaceStr = replaceStr;
-                this.startPos = startPos;
-                this.endPos = endPos;
-                this.tRegexResult = tRegexResult;
                 this.tRegexCompiledRegex = tRegexCompiledRegex;
             }
 
+            void setMatch(int matchStart, int matchEnd, Object regexResult) {
+                this.startPos = matchStart;
+                this.endPos = matchEnd;
+                this.tRegexResult = regexResult;
+            }
+
             @Override
             public void literal(JSRegExpReplaceNode node, int start, int end) {
                 node.stringBuilderProfile.append(sb, replaceStr, start, end);
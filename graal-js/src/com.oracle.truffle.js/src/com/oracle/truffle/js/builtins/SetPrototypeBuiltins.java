@@ -171,6 +171,16 @@ public final class SetPrototypeBuiltins extends JSBuiltinsContainer.SwitchEnum<S
             super(context, builtin);
         }
 
+        @Specialization(guards = "isJSSet(thisObj)")
+        protected static boolean deleteInt(DynamicObject thisObj, int key) {
+            return JSSet.getInternalSet(thisObj).removeInt(key);
+        }
+
+        @Specialization(guards = "isJSSet(thisObj)")
+        protected static boolean deleteString(DynamicObject thisObj, String key) {
+            return JSSet.getInternalSet(thisObj).removeString(key);
+        }
+
         @Specialization(guards = "isJSSet(thisObj)")
         protected boolean delete(DynamicObject thisObj, Object key) {
             Object normalizedKey = normalize(key);
@@ -193,6 +203,18 @@ public final class SetPrototypeBuiltins extends JSBuiltinsContainer.SwitchEnum<S
             super(context, builtin);
         }
 
+        @Specialization(guards = "isJSSet(thisObj)")
+        protected static DynamicObject addInt(DynamicObject thisObj, int key) {
+            JSSet.getInternalSet(thisObj).putInt(key, PRESENT);
+            return thisObj;
+        }
+
+        @Specialization(guards = "isJSSet(thisObj)")
+        protected static DynamicObject addString(DynamicObject thisObj, String key) {
+            JSSet.getInternalSet(thisObj).putString(key, PRESENT);
+            return thisObj;
+        }
+
         @Specialization(guards = "isJSSet(thisObj)")
         protected DynamicObject add(DynamicObject thisObj, Object key) {
             Object normalizedKey = normalize(key);
@@ -216,6 +238,16 @@ public final class SetPrototypeBuiltins extends JSBuiltinsContainer.SwitchEnum<S
             super(context, builtin);
         }
 
+        @Specialization(guards = "isJSSet(thisObj)")
+        protected static boolean hasInt(DynamicObject thisObj, int key) {
+            return JSSet.getInternalSet(thisObj).hasInt(key);
+        }
+
+        @Specialization(guards = "isJSSet(thisObj)")
+        protected static boolean hasString(DynamicObject thisObj, String key) {
+            return JSSet.getInternalSet(thisObj).hasString(key);
+        }
+
         @Specialization(guards = "isJSSet(thisObj)")
         protected boolean has(DynamicObject thisObj, Object key) {
             Object normalizedKey = normalize(key);
@@ -544,6 +544,16 @@ public final class StringPrototypeBuiltins extends JSBuiltinsContainer.SwitchEnu
             }
         }
 
+        @Specialization
+        protected String lazyStringCharAt(JSLazyString thisStr, int pos) {
+            if (indexOutOfBounds.profile(pos < 0 || pos >= thisStr.length())) {
+                return "";
+            } else {
+                // flattens long lazy strings only after repeated accesses
+                return String.valueOf(thisStr.charAt(pos));
+            }
+        }
+
         @Specialization
         protected String charAt(Object thisObj, Object index) {
             requireObjectCoercible(thisObj);
@@ -594,13 +604,12 @@ public final class StringPrototypeBuiltins extends JSBuiltinsContainer.SwitchEnu
         }
 
         @Specialization
-        protected Object charCodeAtLazyString(JSLazyString thisStr, int index,
-                        @Cached("createBinaryProfile()") ConditionProfile flatten) {
+        protected Object charCodeAtLazyString(JSLazyString thisStr, int index) {
             if (indexOutOfBounds.profile(0 > index || index >= thisStr.length())) {
                 return Double.NaN;
             } else {
-                String s = thisStr.toString(flatten);
-                return Integer.valueOf(s.charAt(index));
+                // flattens long lazy strings only after repeated accesses
+                return Integer.valueOf(thisStr.charAt(index));
             }
         }
 
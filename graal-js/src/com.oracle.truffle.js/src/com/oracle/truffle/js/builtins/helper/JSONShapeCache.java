@@ -0,0 +1,224 @@
+/*
+ * Copyright (c) 2020, 2020, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * The Universal Permissive License (UPL), Version 1.0
+ *
+ * Subject to the condition set forth below, permission is hereby granted to any
+ * person obtaining a copy of this software, associated documentation and/or
+ * data (collectively the "Software"), free of charge and under any and all
+ * copyright rights in the Software, and any and all patent rights owned or
+ * freely licensable by each licensor hereunder covering either (i) the
+ * unmodified Software as contributed to or provided by such licensor, or (ii)
+ * the Larger Works (as defined below), to deal in both
+ *
+ * (a) the Software, and
+ *
+ * (b) any piece of software and/or hardware listed in the lrgrwrks.txt file if
+ * one is included with the Software each a "Larger Work" to which the Software
+ * is contributed by such licensors),
+ *
+ * without restriction, including without limitation the rights to copy, create
+ * derivative works of, display, perform, and distribute the Software and make,
+ * use, sell, offer for sale, import, export, have made, and have sold the
+ * Software and the Larger Work(s), and to sublicense the foregoing rights on
+ * either these or other terms.
+ *
+ * This license is subject to the following condition:
+ *
+ * The above copyright notice and either this complete permission notice or at a
+ * minimum a reference to the UPL must be included in all copies or substantial
+ * portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.oracle.truffle.js.builtins.helper;
+
+import com.oracle.truffle.api.CompilerDirectives.TruffleBoundary;
+import com.oracle.truffle.api.object.DynamicObject;
+import com.oracle.truffle.api.object.Property;
+import com.oracle.truffle.api.object.Shape;
+
+/**
+ * Caches the shapes of objects created by {@link TruffleJSONParser}, keyed by the sequence of
+ * property names. Records of a JSON payload usually share the same keys in the same order, so
+ * after the first such object has been created via the generic property definition path, all
+ * subsequent ones can be created by switching directly to the final shape and storing the values.
+ *
+ * The cache is a trie rooted at the initial (empty) object shape; every node corresponds to a key
+ * sequence and remembers the shape an object with exactly these keys ended up with. Key strings
+ * stored in the trie are also used to intern property names across the parsed input. When the
+ * trie is full, it is cleared and learns the key sequences of the current input anew.
+ */
+public final class JSONShapeCache {
+
+    /** Maximum number of members of an object whose shape is cached. */
+    static final int MAX_DEPTH = 64;
+    /** Maximum number of different successor keys per key sequence. */
+    static final int MAX_CHILDREN = 8;
+    /** Maximum number of key sequences per cache; the cache is cleared when it is exceeded. */
+    static final int MAX_NODES = 1024;
+
+    private final Node root;
+    private int nodeCount;
+
+    public JSONShapeCache(Shape initialShape) {
+        this.root = new Node(null, null, 0);
+        this.root.shape = initialShape;
+    }
+
+    /**
+     * Returns the root node if objects with the given initial shape are covered by this cache.
+     */
+    Node getRoot(Shape initialShape) {
+        return root.shape == initialShape ? root : null;
+    }
+
+    public Shape getInitialShape() {
+        return root.shape;
+    }
+
+    /**
+     * Removes all key sequences. Nodes still referenced by a parser are detached from the trie;
+     * they remain usable, but are not found anymore.
+     */
+    private void clear() {
+        root.children = null;
+        root.childCount = 0;
+        root.lastChild = null;
+        nodeCount = 0;
+    }
+
+    final class Node {
+        final String key;
+        final Node parent;
+        final int depth;
+        /** Whether {@link #key} can be matched against the raw (unescaped) JSON input. */
+        final boolean plainKey;
+
+        /** Final shape of an object having exactly the keys up to this node; may be null. */
+        Shape shape;
+        /** Properties of {@link #shape} in key order. */
+        Property[] properties;
+
+        private Node[] children;
+        private int childCount;
+        /** Most recently used child, used to predict the next key. */
+        Node lastChild;
+
+        Node(String key, Node parent, int depth) {
+            this.key = key;
+            this.parent = parent;
+            this.depth = depth;
+            this.plainKey = key != null && isPlainKey(key);
+        }
+
+        private static boolean isPlainKey(String key) {
+            for (int i = 0; i < key.length(); i++) {
+                char c = key.charAt(i);
+                if (c < ' ' || c == '"' || c == '\\') {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        /**
+         * Returns the child node for the given key, creating it if necessary. Returns null if this
+         * key sequence is not cacheable (too long or too polymorphic).
+         */
+        Node child(String childKey) {
+            Node last = lastChild;
+            if (last != null && last.key.equals(childKey)) {
+                return last;
+            }
+            return childSlow(childKey);
+        }
+
+        @TruffleBoundary
+        private Node childSlow(String childKey) {
+            for (int i = 0; i < childCount; i++) {
+                Node child = children[i];
+                if (child.key.equals(childKey)) {
+                    lastChild = child;
+                    return child;
+                }
+            }
+            if (depth >= MAX_DEPTH || childCount >= MAX_CHILDREN) {
+                return null;
+            }
+            if (nodeCount >= MAX_NODES) {
+                // the key sequences seen so far are not representative of the current input
+                clear();
+                if (this != root) {
+                    // this node has just been detached
+                    return null;
+                }
+            }
+            if (children == null) {
+                children = new Node[2];
+            } else if (childCount == children.length) {
+                Node[] newChildren = new Node[Math.min(children.length * 2, MAX_CHILDREN)];
+                System.arraycopy(children, 0, newChildren, 0, childCount);
+                children = newChildren;
+            }
+            Node child = new Node(childKey, this, depth + 1);
+            children[childCount++] = child;
+            nodeCount++;
+            lastChild = child;
+            return child;
+        }
+
+        /**
+         * Tries to initialize a freshly created object with the cached final shape. The object must
+         * have the initial shape and the values must be in key order. Returns false if the cached
+         * shape is missing or obsolete, or if any value does not fit the cached property locations.
+         */
+        boolean tryInitialize(DynamicObject object, Shape initialShape, Object[] values, int valuesStart) {
+            Shape finalShape = shape;
+            if (finalShape == null || !finalShape.isValid() || object.getShape() != initialShape) {
+                return false;
+            }
+            Property[] props = properties;
+            for (int i = 0; i < props.length; i++) {
+                if (!props[i].getLocation().canSet(values[valuesStart + i])) {
+                    return false;
+                }
+            }
+            object.setShapeAndGrow(initialShape, finalShape);
+            for (int i = 0; i < props.length; i++) {
+                props[i].setSafe(object, values[valuesStart + i], null);
+            }
+            return true;
+        }
+
+        /**
+         * Remembers the shape of an object that has been created via the generic path. The shape is
+         * only cached if the object has exactly one own property per key of this node.
+         */
+        @TruffleBoundary
+        void update(Shape initialShape, Shape finalShape) {
+            if (finalShape == shape || finalShape.getPropertyCount() != initialShape.getPropertyCount() + depth) {
+                return;
+            }
+            Property[] props = new Property[depth];
+            Node node = this;
+            for (int i = depth - 1; i >= 0; i--) {
+                Property prop = finalShape.getProperty(node.key);
+                if (prop == null) {
+                    return;
+                }
+                props[i] = prop;
+                node = node.parent;
+            }
+            this.properties = props;
+            this.shape = finalShape;
+        }
+    }
+}
@@ -51,22 +51,33 @@ import com.oracle.truffle.api.interop.TruffleObject;
 import com.oracle.truffle.api.interop.UnknownIdentifierException;
 import com.oracle.truffle.api.interop.UnsupportedMessageException;
 import com.oracle.truffle.api.object.DynamicObject;
+import com.oracle.truffle.api.object.Property;
+import com.oracle.truffle.api.object.Shape;
 import com.oracle.truffle.js.nodes.JSGuards;
 import com.oracle.truffle.js.nodes.JavaScriptBaseNode;
 import com.oracle.truffle.js.nodes.access.PropertyGetNode;
 import com.oracle.truffle.js.nodes.function.JSFunctionCallNode;
 import com.oracle.truffle.js.runtime.Errors;
 import com.oracle.truffle.js.runtime.JSArguments;
+import com.oracle.truffle.js.runtime.JSConfig;
 import com.oracle.truffle.js.runtime.JSContext;
 import com.oracle.truffle.js.runtime.JSRuntime;
 import com.oracle.truffle.js.runtime.Symbol;
+import com.oracle.truffle.js.runtime.array.ScriptArray;
+import com.oracle.truffle.js.runtime.array.dyn.AbstractDoubleArray;
+import com.oracle.truffle.js.runtime.array.dyn.AbstractIntArray;
+import com.oracle.truffle.js.runtime.array.dyn.ConstantDoubleArray;
+import com.oracle.truffle.js.runtime.array.dyn.ConstantIntArray;
 import com.oracle.truffle.js.runtime.builtins.JSArray;
 import com.oracle.truffle.js.runtime.builtins.JSBigInt;
 import com.oracle.truffle.js.runtime.builtins.JSBoolean;
 import com.oracle.truffle.js.runtime.builtins.JSClass;
 import com.oracle.truffle.js.runtime.builtins.JSNumber;
 import com.oracle.truffle.js.runtime.builtins.JSString;
+import com.oracle.truffle.js.runtime.builtins.JSUserObject;
 import com.oracle.truffle.js.runtime.objects.JSObject;
+import com.oracle.truffle.js.runtime.objects.JSProperty;
+import com.oracle.truffle.js.runtime.objects.JSShape;
 import com.oracle.truffle.js.runtime.objects.Null;
 import com.oracle.truffle.js.runtime.objects.Undefined;
 import com.oracle.truffle.js.runtime.truffleinterop.JSInteropUtil;
@@ -79,6 +90,12 @@ public abstract class JSONStringifyStringNode extends JavaScriptBaseNode {
     @Child private JSFunctionCallNode callToJSONFunction;
     private final StringBuilderProfile stringBuilderProfile;
 
+    /**
+     * Number of times objects of a shape are serialized generically before a plan is created (and
+     * cached on the shape), so that shapes that are serialized only once do not pay for a plan.
+     */
+    private static final int OBJECT_PLAN_THRESHOLD = 2;
+
     protected JSONStringifyStringNode(JSContext context) {
         this.context = context;
         this.stringBuilderProfile = StringBuilderProfile.create(context.getStringLengthLimit());
@@ -99,7 +116,7 @@ public abstract class JSONStringifyStringNode extends JavaScriptBaseNode {
             if (!isStringifyable(value)) {
                 return Undefined.instance;
             }
-            StringBuilder builder = new StringBuilder();
+            StringBuilder builder = stringBuilderProfile.newStringBuilder();
             jsonStrExecute(builder, data, value);
             return stringBuilderProfile.toString(builder);
         } catch (StackOverflowError ex) {
@@ -172,6 +189,16 @@ public abstract class JSONStringifyStringNode extends JavaScriptBaseNode {
         }
     }
 
+    private void appendDouble(StringBuilder builder, double d) {
+        if (Double.isNaN(d) || Double.isInfinite(d)) {
+            stringBuilderProfile.append(builder, Null.NAME);
+        } else if (JSRuntime.doubleIsRepresentableAsInt(d)) {
+            stringBuilderProfile.append(builder, (int) d);
+        } else {
+            stringBuilderProfile.append(builder, JSRuntime.doubleToString(d));
+        }
+    }
+
     @TruffleBoundary
     private Object jsonStrPrepare(JSONData data, String key, Object holder) {
         Object value;
@@ -266,7 +293,13 @@ public abstract class JSONStringifyStringNode extends JavaScriptBaseNode {
         boolean hasContent;
         if (data.getPropertyList() == null) {
             if (JSObject.isJSObject(value)) {
-                hasContent = serializeJSONObjectProperties(builder, data, value, indent, JSObject.enumerableOwnNames((DynamicObject) value));
+                DynamicObject valueObj = (DynamicObject) value;
+                ObjectPlan plan = getObjectPlan(valueObj);
+                if (plan != null) {
+                    hasContent = serializeJSONObjectPlan(builder, data, valueObj, indent, plan);
+                } else {
+                    hasContent = serializeJSONObjectProperties(builder, data, value, indent, JSObject.enumerableOwnNames(valueObj));
+                }
             } else {
                 hasContent = serializeForeignObjectProperties(builder, data, value, indent);
             }
@@ -301,6 +334,74 @@ public abstract class JSONStringifyStringNode extends JavaScriptBaseNode {
         return hasContent;
     }
 
+    /**
+     * Serializes an ordinary object using the cached plan of its shape. The keys are those of the
+     * shape at the start; if the object is modified during serialization (by toJSON or a replacer
+     * function), the remaining values are read generically.
+     */
+    private boolean serializeJSONObjectPlan(StringBuilder builder, JSONData data, DynamicObject obj, int indent, ObjectPlan plan) {
+        boolean isFirst = true;
+        boolean hasContent = false;
+        for (int i = 0; i < plan.keys.length; i++) {
+            String name = plan.keys[i];
+            Object value;
+            if (obj.getShape() == plan.shape) {
+                value = plan.properties[i].get(obj, false);
+            } else {
+                value = JSObject.get(obj, name);
+            }
+            Object strPPrepared = jsonStrPreparePart2(data, name, obj, value);
+            if (isStringifyable(strPPrepared)) {
+                if (isFirst) {
+                    concatFirstStep(builder, data);
+                    isFirst = false;
+                } else {
+                    appendSeparator(builder, data, indent);
+                }
+                stringBuilderProfile.append(builder, plan.quotedKeys[i]);
+                appendColon(builder, data);
+                jsonStrExecute(builder, data, strPPrepared);
+                hasContent = true;
+            }
+        }
+        return hasContent;
+    }
+
+    private ObjectPlan getObjectPlan(DynamicObject obj) {
+        Shape shape = obj.getShape();
+        if (!JSConfig.FastOwnKeys || JSObject.getJSClass(obj) != JSUserObject.INSTANCE || !shape.isValid()) {
+            return null;
+        }
+        ObjectPlan plan = (ObjectPlan) JSShape.getJSONStringifyPlan(shape);
+        if (plan == null) {
+            if (JSShape.countJSONStringifyMiss(shape) < OBJECT_PLAN_THRESHOLD) {
+                return null;
+            }
+            plan = createObjectPlan(shape);
+            JSShape.setJSONStringifyPlan(shape, plan);
+        }
+        return plan.properties == null ? null : plan;
+    }
+
+    private ObjectPlan createObjectPlan(Shape shape) {
+        List<String> names = JSShape.getEnumerablePropertyNames(shape);
+        String[] keys = names.toArray(new String[names.size()]);
+        Property[] properties = new Property[keys.length];
+        String[] quotedKeys = new String[keys.length];
+        for (int i = 0; i < keys.length; i++) {
+            Property property = shape.getProperty(keys[i]);
+            if (!JSProperty.isData(property) || JSProperty.isProxy(property)) {
+                // accessors must be called; not worth caching
+                return new ObjectPlan(shape, null, null, null);
+            }
+            properties[i] = property;
+            StringBuilder quoted = new StringBuilder(keys[i].length() + 2);
+            jsonQuote(quoted, keys[i]);
+            quotedKeys[i] = quoted.toString();
+        }
+        return new ObjectPlan(shape, keys, quotedKeys, properties);
+    }
+
     private void appendColon(StringBuilder builder, JSONData data) {
         stringBuilderProfile.append(builder, ':');
         if (data.getGap().length() > 0) {
@@ -375,12 +476,14 @@ public abstract class JSONStringifyStringNode extends JavaScriptBaseNode {
         }
         int len = (int) length;
         concatStart(builder, '[');
+        if (isArray && data.getReplacerFnObj() == null && serializeNumberArray(builder, data, (DynamicObject) value, len, indent)) {
+            concatEnd(builder, data, stepback, ']', len > 0);
+            data.popStack();
+            data.setIndent(stepback);
+            return;
+        }
         for (int index = 0; index < len; index++) {
-            if (index == 0) {
-                concatFirstStep(builder, data);
-            } else {
-                appendSeparator(builder, data, indent);
-            }
+            appendArrayElementSeparator(builder, data, index, indent);
             Object strPPrepared;
             if (isArray) {
                 strPPrepared = jsonStrPrepareArray(data, index, (DynamicObject) value);
@@ -402,6 +505,43 @@ public abstract class JSONStringifyStringNode extends JavaScriptBaseNode {
         data.setIndent(stepback);
     }
 
+    /**
+     * Serializes an array with int or double storage and no holes. Its elements are primitives, so
+     * no toJSON lookups are necessary and the elements need not be boxed.
+     */
+    private boolean serializeNumberArray(StringBuilder builder, JSONData data, DynamicObject array, int len, int indent) {
+        ScriptArray arrayType = JSObject.getArray(array);
+        if (arrayType.length(array) != len || arrayType.hasHoles(array)) {
+            return false;
+        }
+        if (arrayType instanceof AbstractIntArray || arrayType instanceof ConstantIntArray) {
+            for (int index = 0; index < len; index++) {
+                appendArrayElementSeparator(builder, data, index, indent);
+                int element = arrayType instanceof ConstantIntArray ? ConstantIntArray.getElementInt(array, index, false)
+                                : ((AbstractIntArray) arrayType).getInBoundsFastInt(array, index, false);
+                stringBuilderProfile.append(builder, element);
+            }
+            return true;
+        } else if (arrayType instanceof AbstractDoubleArray || arrayType instanceof ConstantDoubleArray) {
+            for (int index = 0; index < len; index++) {
+                appendArrayElementSeparator(builder, data, index, indent);
+                double element = arrayType instanceof ConstantDoubleArray ? ConstantDoubleArray.getElementDouble(array, index, false)
+                                : ((AbstractDoubleArray) arrayType).getInBoundsFastDouble(array, index, false);
+                appendDouble(builder, element);
+            }
+            return true;
+        }
+        return false;
+    }
+
+    private void appendArrayElementSeparator(StringBuilder builder, JSONData data, int index, int indent) {
+        if (index == 0) {
+            concatFirstStep(builder, data);
+        } else {
+            appendSeparator(builder, data, indent);
+        }
+    }
+
     private static void checkStackDepth(JSONData data) {
         if (data.stackTooDeep()) {
             throwStackError();
@@ -514,6 +654,25 @@ public abstract class JSONStringifyStringNode extends JavaScriptBaseNode {
         stringBuilderProfile.append(builder, Character.forDigit(c & 0xF, 16));
     }
 
+    /**
+     * Serialization plan of an ordinary object shape: its enumerable own keys in order, their
+     * quoted form, and the corresponding properties. A plan without properties marks a shape that
+     * cannot be serialized this way. Plans are immutable and shared via the shape.
+     */
+    static final class ObjectPlan {
+        final Shape shape;
+        final String[] keys;
+        final String[] quotedKeys;
+        final Property[] properties;
+
+        ObjectPlan(Shape shape, String[] keys, String[] quotedKeys, Property[] properties) {
+            this.shape = shape;
+            this.keys = keys;
+            this.quotedKeys = quotedKeys;
+            this.properties = properties;
+        }
+    }
+
     private Object truffleGetSize(Object obj) {
         return JSInteropUtil.getArraySize(obj, InteropLibrary.getFactory().getUncached(), this);
     }
@@ -404,7 +404,7 @@ public abstract class JSRegExpExecIntlNode extends JavaScriptBaseNode {
         }
     }
 
-    private static Object executeCompiledRegex(Object compiledRegex, String input, long fromIndex,
+    public static Object executeCompiledRegex(Object compiledRegex, String input, long fromIndex,
                     TRegexUtil.TRegexCompiledRegexAccessor compiledRegexAccessor) {
         try {
             return compiledRegexAccessor.exec(compiledRegex, input, fromIndex);
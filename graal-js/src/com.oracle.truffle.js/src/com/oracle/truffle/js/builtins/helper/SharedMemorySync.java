@@ -42,11 +42,14 @@ package com.oracle.truffle.js.builtins.helper;
 
 import static com.oracle.truffle.js.runtime.builtins.JSArrayBufferView.typedArrayGetArrayType;
 
+import java.util.concurrent.locks.LockSupport;
+
 import com.oracle.truffle.api.CompilerDirectives.TruffleBoundary;
 import com.oracle.truffle.api.object.DynamicObject;
 import com.oracle.truffle.js.runtime.BigInt;
 import com.oracle.truffle.js.runtime.JSAgentWaiterList;
-import com.oracle.truffle.js.runtime.JSAgentWaiterList.JSAgentWaiterListEntry;
+import com.oracle.truffle.js.runtime.JSAgentWaiterList.WaiterBucket;
+import com.oracle.truffle.js.runtime.JSAgentWaiterList.WaiterRecord;
 import com.oracle.truffle.js.runtime.JSContext;
 import com.oracle.truffle.js.runtime.JSRuntime;
 import com.oracle.truffle.js.runtime.array.TypedArray;
@@ -216,20 +219,31 @@ public final class SharedMemorySync {
     // ##### Thread Wake/Park primitives
 
     @SuppressWarnings("unused")
-    public static JSAgentWaiterListEntry getWaiterList(JSContext cx, DynamicObject target, int indexPos) {
+    public static WaiterBucket getWaiterList(JSContext cx, DynamicObject target, int indexPos) {
+        DynamicObject arrayBuffer = JSArrayBufferView.getArrayBuffer(target, JSArrayBufferView.isJSArrayBufferView(target));
+        JSAgentWaiterList waiterList = JSSharedArrayBuffer.getWaiterList(arrayBuffer);
+        return waiterList.getBucketForIndex(indexPos);
+    }
+
+    /**
+     * Like {@link #getWaiterList}, but returns {@code null} if no agent has ever waited on the
+     * buffer.
+     */
+    @SuppressWarnings("unused")
+    public static WaiterBucket getWaiterListIfPresent(JSContext cx, DynamicObject target, int indexPos) {
         DynamicObject arrayBuffer = JSArrayBufferView.getArrayBuffer(target, JSArrayBufferView.isJSArrayBufferView(target));
         JSAgentWaiterList waiterList = JSSharedArrayBuffer.getWaiterList(arrayBuffer);
-        return waiterList.getListForIndex(indexPos);
+        return waiterList.getBucketForIndexIfPresent(indexPos);
     }
 
     @TruffleBoundary
-    public static void enterCriticalSection(JSContext cx, JSAgentWaiterListEntry wl) {
+    public static void enterCriticalSection(JSContext cx, WaiterBucket wl) {
         assert !cx.getJSAgent().inCriticalSection();
         cx.getJSAgent().criticalSectionEnter(wl);
     }
 
     @TruffleBoundary
-    public static void leaveCriticalSection(JSContext cx, JSAgentWaiterListEntry wl) {
+    public static void leaveCriticalSection(JSContext cx, WaiterBucket wl) {
         cx.getJSAgent().criticalSectionLeave(wl);
     }
 
@@ -237,53 +251,69 @@ public final class SharedMemorySync {
         return cx.getJSAgent().canBlock();
     }
 
+    /**
+     * Converts a wait timeout in milliseconds to a {@link System#nanoTime()} deadline.
+     */
+    @TruffleBoundary
+    public static long waitDeadline(double timeout) {
+        if (timeout == Double.POSITIVE_INFINITY) {
+            return WaiterRecord.NO_DEADLINE;
+        }
+        long nanos = (long) Math.min(timeout * 1e6, Long.MAX_VALUE / 2);
+        return System.nanoTime() + nanos;
+    }
+
     @TruffleBoundary
-    public static void addWaiter(JSContext cx, JSAgentWaiterListEntry wl, int id) {
+    public static void addWaiter(JSContext cx, WaiterBucket wl, WaiterRecord w) {
         assert cx.getJSAgent().inCriticalSection();
-        assert !wl.contains(id);
-        wl.add(id);
+        wl.add(w);
     }
 
     @TruffleBoundary
-    public static void removeWaiter(JSContext cx, JSAgentWaiterListEntry wl, int w) {
+    public static boolean removeWaiter(JSContext cx, WaiterBucket wl, WaiterRecord w) {
         assert cx.getJSAgent().inCriticalSection();
-        assert wl.contains(w);
-        wl.remove(w);
+        return wl.remove(w);
     }
 
     /* ECMA2017 24.4.1.9 - Suspend returns true if agent was woken by another agent */
     @TruffleBoundary
-    public static boolean suspendAgent(JSContext cx, JSAgentWaiterListEntry wl, int w, int timeout) {
+    public static boolean suspendAgent(JSContext cx, WaiterBucket wl, WaiterRecord w) {
         assert cx.getJSAgent().inCriticalSection();
         assert wl.contains(w);
-        assert cx.getJSAgent().getSignifier() == w;
         assert cx.getJSAgent().canBlock();
         cx.getJSAgent().criticalSectionLeave(wl);
-        boolean interrupt = false;
+        boolean interrupted = false;
         try {
-            Thread.sleep(timeout);
-        } catch (InterruptedException e) {
-            interrupt = true;
+            while (!w.isNotified()) {
+                if (w.getDeadline() == WaiterRecord.NO_DEADLINE) {
+                    LockSupport.park(wl);
+                } else {
+                    long remaining = w.getDeadline() - System.nanoTime();
+                    if (remaining <= 0) {
+                        break;
+                    }
+                    LockSupport.parkNanos(wl, remaining);
+                }
+                if (Thread.interrupted()) {
+                    // e.g., a broadcast of the debug agent; it does not end the wait, but must not
+                    // get lost either
+                    interrupted = true;
+                }
+            }
+        } finally {
+            cx.getJSAgent().criticalSectionEnter(wl);
+            if (interrupted) {
+                Thread.currentThread().interrupt();
+            }
         }
-        cx.getJSAgent().criticalSectionEnter(wl);
-        return interrupt;
+        // the notified flag is only set while holding the critical section
+        return w.isNotified();
     }
 
-    /* ECMA2017 24.4.1.10 - Wake up another agent */
+    /* ECMA2017 24.4.1.10 - Remove and wake up to count waiters of the index */
     @TruffleBoundary
-    public static void wakeWaiter(JSContext cx, int w) {
+    public static int notifyWaiters(JSContext cx, WaiterBucket wl, int indexPos, int count) {
         assert cx.getJSAgent().inCriticalSection();
-        cx.getJSAgent().wakeAgent(w);
-    }
-
-    @TruffleBoundary
-    public static int[] removeWaiters(JSContext cx, JSAgentWaiterListEntry wl, int count) {
-        assert cx.getJSAgent().inCriticalSection();
-        int c = Integer.min(wl.size(), count);
-        int[] removed = new int[c];
-        while (c-- > 0) {
-            removed[c] = wl.poll();
-        }
-        return removed;
+        return wl.notifyWaiters(indexPos, count);
     }
 }
@@ -40,16 +40,20 @@
  */
 package com.oracle.truffle.js.builtins.helper;
 
+import java.util.Arrays;
+
 import com.oracle.truffle.api.CompilerDirectives.TruffleBoundary;
 import com.oracle.truffle.api.object.DynamicObject;
+import com.oracle.truffle.api.object.Shape;
 import com.oracle.truffle.js.runtime.Errors;
+import com.oracle.truffle.js.runtime.JSConfig;
 import com.oracle.truffle.js.runtime.JSContext;
 import com.oracle.truffle.js.runtime.JSException;
+import com.oracle.truffle.js.runtime.JSRealm;
 import com.oracle.truffle.js.runtime.JSRuntime;
-import com.oracle.truffle.js.runtime.array.ScriptArray;
-import com.oracle.truffle.js.runtime.builtins.JSAbstractArray;
 import com.oracle.truffle.js.runtime.builtins.JSArray;
 import com.oracle.truffle.js.runtime.builtins.JSUserObject;
+import com.oracle.truffle.js.runtime.doubleconv.DoubleConversion;
 import com.oracle.truffle.js.runtime.objects.Null;
 
 public class TruffleJSONParser {
@@ -60,20 +64,30 @@ public class TruffleJSONParser {
     protected String parseStr;
     protected int parseDepth;
 
+    private final JSRealm realm;
+    private JSONShapeCache shapeCache;
+    /** Members and elements of the objects and arrays currently being parsed. */
+    private String[] keyStack = new String[INITIAL_STACK_SIZE];
+    private Object[] valueStack = new Object[INITIAL_STACK_SIZE];
+    private int stackTop;
+
     protected static final char[] NullLiteral = new char[]{'n', 'u', 'l', 'l'};
     protected static final char[] BooleanTrueLiteral = new char[]{'t', 'r', 'u', 'e'};
     protected static final char[] BooleanFalseLiteral = new char[]{'f', 'a', 'l', 's', 'e'};
     protected static final int MAX_PARSE_DEPTH = 100000;
+    private static final int INITIAL_STACK_SIZE = 16;
 
     private static final String MALFORMED_NUMBER = "malformed number";
 
     public TruffleJSONParser(JSContext context) {
         this.context = context;
+        this.realm = context.getRealm();
     }
 
     public Object parse(String value) {
         this.pos = 0;
         this.parseDepth = 0;
+        this.stackTop = 0;
         this.parseStr = value;
         this.len = parseStr.length();
         try {
@@ -94,6 +108,7 @@ public class TruffleJSONParser {
             throwSyntaxError(null);
         } finally {
             parseStr = null;
+            Arrays.fill(valueStack, null);
         }
         return null;
     }
@@ -144,7 +159,7 @@ public class TruffleJSONParser {
         assert isObject(get());
         incDepth();
         read(); // parseJSONValue ensures this char is a "{"
-        DynamicObject object = JSUserObject.create(context);
+        DynamicObject object = JSUserObject.create(context, realm);
         if (get() != '}') {
             parseJSONMemberList(object);
             if (get() != '}') {
@@ -157,32 +172,88 @@ public class TruffleJSONParser {
     }
 
     private void parseJSONMemberList(DynamicObject object) {
-        Member member = parseJSONMember();
-        JSRuntime.createDataProperty(object, member.getKey(), member.getValue());
+        Shape initialShape = object.getShape();
+        JSONShapeCache.Node node = getShapeCacheRoot(initialShape);
+        int start = stackTop;
+        node = parseJSONMember(node);
         while (get() == ',') {
             read();
-            member = parseJSONMember();
-            JSRuntime.createDataProperty(object, member.getKey(), member.getValue());
+            node = parseJSONMember(node);
+        }
+        if (node == null || !node.tryInitialize(object, initialShape, valueStack, start)) {
+            for (int i = start; i < stackTop; i++) {
+                JSRuntime.createDataProperty(object, keyStack[i], valueStack[i]);
+            }
+            if (node != null) {
+                node.update(initialShape, object.getShape());
+            }
         }
+        stackTop = start;
     }
 
-    private Member parseJSONMember() {
-        String jsonString = parseJSONString();
+    /**
+     * Parses a member and pushes its key and value onto the stack. Returns the shape cache node
+     * for the key sequence parsed so far, or null if it is not cached.
+     */
+    private JSONShapeCache.Node parseJSONMember(JSONShapeCache.Node node) {
+        String key;
+        JSONShapeCache.Node next;
+        if (node != null && matchPredictedKey(node.lastChild)) {
+            next = node.lastChild;
+            key = next.key;
+        } else {
+            key = parseJSONString();
+            next = node == null ? null : node.child(key);
+            if (next != null) {
+                key = next.key; // intern
+            }
+        }
         read(':');
         Object jsonValue = parseJSONValue();
-        return new Member(jsonString, jsonValue);
+        push(key, jsonValue);
+        return next;
+    }
+
+    /**
+     * Checks whether the input at the current position is the quoted key of the predicted node and
+     * skips over it if so, avoiding the allocation of the key string.
+     */
+    private boolean matchPredictedKey(JSONShapeCache.Node predicted) {
+        if (predicted == null || !predicted.plainKey || !isStringQuote(get())) {
+            return false;
+        }
+        String key = predicted.key;
+        int keyEnd = pos + 1 + key.length();
+        if (keyEnd < len && isStringQuote(get(keyEnd)) && parseStr.regionMatches(pos + 1, key, 0, key.length())) {
+            pos = keyEnd;
+            read();
+            return true;
+        }
+        return false;
+    }
+
+    private JSONShapeCache.Node getShapeCacheRoot(Shape initialShape) {
+        if (!JSConfig.JSONShapeCache) {
+            return null;
+        }
+        if (shapeCache == null) {
+            shapeCache = realm.getJSONShapeCache(initialShape);
+        }
+        return shapeCache.getRoot(initialShape);
     }
 
     private Object parseJSONArray() {
         assert isArray(get());
         incDepth();
         read(); // parseJSONValue ensures this is a "["
-        DynamicObject array = JSArray.createEmptyZeroLength(context);
+        DynamicObject array;
         if (get() != ']') {
-            parseJSONElementList(array);
+            array = parseJSONElementList();
             if (get() != ']') {
                 error("closing quote ] expected");
             }
+        } else {
+            array = JSArray.createEmptyZeroLength(context);
         }
         read(']');
         decDepth();
@@ -208,17 +279,63 @@ public class TruffleJSONParser {
         this.parseDepth--;
     }
 
-    protected ScriptArray parseJSONElementList(DynamicObject arrayObject) {
-        int index = 0;
-        ScriptArray scriptArray = JSAbstractArray.arrayGetArrayType(arrayObject);
-        scriptArray = scriptArray.setElement(arrayObject, index, parseJSONValue(), false);
+    protected DynamicObject parseJSONElementList() {
+        int start = stackTop;
+        push(null, parseJSONValue());
         while (get() == ',') {
             read();
-            index++;
-            scriptArray = scriptArray.setElement(arrayObject, index, parseJSONValue(), false);
+            push(null, parseJSONValue());
+        }
+        DynamicObject array = createArray(start, stackTop);
+        stackTop = start;
+        return array;
+    }
+
+    /**
+     * Creates an array from the values on the stack, using int or double storage directly if all
+     * elements are numbers.
+     */
+    private DynamicObject createArray(int start, int end) {
+        boolean allInts = true;
+        boolean allNumbers = true;
+        for (int i = start; i < end; i++) {
+            Object value = valueStack[i];
+            if (!(value instanceof Integer)) {
+                allInts = false;
+                if (!(value instanceof Double)) {
+                    allNumbers = false;
+                    break;
+                }
+            }
+        }
+        int length = end - start;
+        if (allInts) {
+            int[] elements = new int[length];
+            for (int i = 0; i < length; i++) {
+                elements[i] = (int) valueStack[start + i];
+            }
+            return JSArray.createZeroBasedIntArray(context, elements);
+        } else if (allNumbers) {
+            double[] elements = new double[length];
+            for (int i = 0; i < length; i++) {
+                elements[i] = ((Number) valueStack[start + i]).doubleValue();
+            }
+            return JSArray.createZeroBasedDoubleArray(context, elements);
+        } else {
+            Object[] elements = Arrays.copyOfRange(valueStack, start, end);
+            return JSArray.createZeroBasedObjectArray(context, elements);
+        }
+    }
+
+    private void push(String key, Object value) {
+        if (stackTop == valueStack.length) {
+            int newLength = valueStack.length * 2;
+            valueStack = Arrays.copyOf(valueStack, newLength);
+            keyStack = Arrays.copyOf(keyStack, newLength);
         }
-        JSAbstractArray.arraySetArrayType(arrayObject, scriptArray);
-        return scriptArray;
+        keyStack[stackTop] = key;
+        valueStack[stackTop] = value;
+        stackTop++;
     }
 
     protected String parseJSONString() {
@@ -407,23 +524,17 @@ public class TruffleJSONParser {
                 }
             }
         }
-        String valueStr = parseStr.substring(startPos, endPos);
-        return parseAsDouble(sign, valueStr);
+        return parseAsDouble(sign, parseStr, startPos, endPos);
     }
 
-    protected static Number parseAsDouble(int sign, String valueStr) {
-        return Double.parseDouble(valueStr) * sign;
+    protected static Number parseAsDouble(int sign, String input, int startPos, int endPos) {
+        return DoubleConversion.strtod(input, startPos, endPos) * sign;
     }
 
-    protected int readDigits() {
-        int sign = 1;
+    protected void readDigits() {
         char cur = get();
-        if (cur == '-') {
-            read();
-            sign = -1;
-        } else if (cur == '+') {
+        if (cur == '-' || cur == '+') {
             read();
-            sign = 1;
         }
         if (!posValid()) {
             error(MALFORMED_NUMBER);
@@ -440,7 +551,6 @@ public class TruffleJSONParser {
         if (pos == startPos) {
             error("Expected number but found ident");
         }
-        return sign * Integer.parseInt(parseStr.substring(startPos, pos));
     }
 
     protected boolean isExponentPart() {
@@ -548,22 +658,4 @@ public class TruffleJSONParser {
         }
         return true;
     }
-
-    protected final class Member {
-        private final String key;
-        private final Object value;
-
-        public Member(String key, Object value) {
-            this.key = key;
-            this.value = value;
-        }
-
-        public String getKey() {
-            return key;
-        }
-
-        public Object getValue() {
-            return value;
-        }
-    }
 }
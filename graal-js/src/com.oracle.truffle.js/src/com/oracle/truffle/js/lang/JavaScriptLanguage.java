@@ -45,6 +45,8 @@ import java.util.Arrays;
 import java.util.Collection;
 import java.util.List;
 import java.util.Map.Entry;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
 
 import org.graalvm.options.OptionDescriptor;
 import org.graalvm.options.OptionDescriptors;
@@ -113,6 +115,7 @@ import com.oracle.truffle.js.runtime.builtins.JSFunction;
 import com.oracle.truffle.js.runtime.objects.JSScope;
 import com.oracle.truffle.js.runtime.objects.Undefined;
 import com.oracle.truffle.js.runtime.truffleinterop.JavaScriptLanguageView;
+import com.oracle.truffle.js.runtime.util.BackgroundTranslationQueue;
 
 @ProvidedTags({
                 StandardTags.StatementTag.class,
@@ -168,6 +171,13 @@ public final class JavaScriptLanguage extends AbstractJavaScriptLanguage {
 
     private final Assumption promiseJobsQueueEmptyAssumption;
 
+    /**
+     * Pool of the engine for parsing top-level function declarations in parallel (see
+     * {@link JSContextOptions#PARALLEL_PARSE}), so that parsing does not compete with the
+     * embedder for the common pool. Created on first use.
+     */
+    private volatile ForkJoinPool parallelParsePool;
+
     public static final OptionDescriptors OPTION_DESCRIPTORS;
     static {
         ArrayList<OptionDescriptor> options = new ArrayList<>();
@@ -455,6 +465,14 @@ public final class JavaScriptLanguage extends AbstractJavaScriptLanguage {
         if (options.isProfileTime() && options.isProfileTimePrintCumulative()) {
             context.getTimeProfiler().printCumulative();
         }
+        realm.getAgent().close();
+        if (!multiContext) {
+            // the JSContext is shared by other realms otherwise
+            BackgroundTranslationQueue translationQueue = context.getBackgroundTranslationQueue();
+            if (translationQueue != null) {
+                translationQueue.cancel();
+            }
+        }
         realm.setGlobalObject(Undefined.instance);
     }
 
@@ -530,6 +548,34 @@ public final class JavaScriptLanguage extends AbstractJavaScriptLanguage {
         return promiseJobsQueueEmptyAssumption;
     }
 
+    /**
+     * Returns the pool for parsing top-level function declarations in parallel, or {@code null} if
+     * there is only a single processor available.
+     */
+    @TruffleBoundary
+    public ForkJoinPool getParallelParsePool() {
+        ForkJoinPool pool = parallelParsePool;
+        if (pool == null) {
+            int parallelism = Runtime.getRuntime().availableProcessors() - 1;
+            if (parallelism < 1) {
+                return null;
+            }
+            synchronized (this) {
+                pool = parallelParsePool;
+                if (pool == null) {
+                    pool = new ForkJoinPool(parallelism, p -> {
+                        ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(p);
+                        thread.setName("JS-Parallel-Parse-" + thread.getPoolIndex());
+                        thread.setDaemon(true);
+                        return thread;
+                    }, null, false);
+                    parallelParsePool = pool;
+                }
+            }
+        }
+        return pool;
+    }
+
     public JSContext getJSContext() {
         return languageContext;
     }
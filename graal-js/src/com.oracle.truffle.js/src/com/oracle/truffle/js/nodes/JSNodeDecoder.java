@@ -46,6 +46,7 @@ import java.lang.reflect.Array;
 import java.nio.ByteBuffer;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.zip.CRC32;
 
 import com.oracle.truffle.api.Truffle;
 import com.oracle.truffle.api.frame.FrameDescriptor;
@@ -140,6 +141,22 @@ public class JSNodeDecoder {
         return Arrays.asList(SINGLETONS).indexOf(singleton);
     }
 
+    /** Positions of the extracted (function) methods, indexed by call sites. */
+    private final int[] functionOffsets;
+    /** End positions (exclusive) of the extracted methods. */
+    private final int[] functionLimits;
+    /** CRC32 checksums of the extracted methods, verified when a method is first decoded. */
+    private final int[] functionChecksums;
+    private final boolean[] functionVerified;
+
+    public JSNodeDecoder(int[] functionOffsets, int[] functionLimits, int[] functionChecksums) {
+        assert functionOffsets.length == functionLimits.length && functionOffsets.length == functionChecksums.length;
+        this.functionOffsets = functionOffsets;
+        this.functionLimits = functionLimits;
+        this.functionChecksums = functionChecksums;
+        this.functionVerified = new boolean[functionOffsets.length];
+    }
+
     public static int getChecksum() {
         return GEN.getChecksum();
     }
@@ -276,12 +293,13 @@ public class JSNodeDecoder {
                     storeResult(state, createJumpTarget(state.getInt()));
                     break;
                 case ID_CALL_EXTRACTED: {
-                    final int position = state.getInt32();
+                    final int index = state.getUInt();
+                    final ByteBuffer buffer = getFunctionBuffer(state, index);
                     if (VERBOSE) {
-                        System.err.println("callex pos:" + position);
+                        System.err.println("callex pos:" + buffer.position());
                     }
                     final Object[] arguments = getObjectArray(state);
-                    final ByteBuffer buffer = ((ByteBuffer) asBaseBuffer(state.getBuffer().duplicate()).position(position));
+                    verifyFunction(buffer, index);
                     NodeDecoder.DecoderState extracted = new NodeDecoder.DecoderState(new BinaryDecoder(buffer), arguments);
                     storeResult(state, decodeNode(extracted, nodeFactory, context, source));
                     break;
@@ -290,20 +308,20 @@ public class JSNodeDecoder {
                     if (VERBOSE) {
                         System.err.println("callex-lazy@:" + state.getBuffer().position());
                     }
-                    final int position = state.getInt32();
+                    final int index = state.getUInt();
+                    final ByteBuffer buffer = getFunctionBuffer(state, index);
                     if (VERBOSE) {
-                        System.err.println("callex-lazy pos:" + position);
+                        System.err.println("callex-lazy pos:" + buffer.position());
                     }
                     JSFunctionData functionData = (JSFunctionData) state.getObject();
                     final Object[] arguments = getObjectArray(state);
                     functionData.setLazyInit(new JSFunctionData.Initializer() {
-                        private final ByteBuffer buffer = ((ByteBuffer) asBaseBuffer(state.getBuffer().duplicate()).position(position));
-
                         @Override
                         public void initializeRoot(JSFunctionData fd) {
                             if (VERBOSE) {
                                 System.out.println("Decoding: " + fd.getName());
                             }
+                            verifyFunction(buffer, index);
                             NodeDecoder.DecoderState extracted = new NodeDecoder.DecoderState(new BinaryDecoder(buffer), arguments);
                             decodeNode(extracted, nodeFactory, context, source);
                         }
@@ -348,6 +366,44 @@ public class JSNodeDecoder {
         throw new IllegalStateException("reached end of buffer without return");
     }
 
+    /**
+     * Returns a buffer positioned at the start of the extracted method with the given index and
+     * limited to its end. The index comes from the call site and is checked here, i.e. while the
+     * enclosing method is decoded, so that an invalid index is not only detected once a lazily
+     * decoded function is called.
+     */
+    private ByteBuffer getFunctionBuffer(NodeDecoder.DecoderState state, int index) {
+        if (index < 0 || index >= functionOffsets.length) {
+            throw new IllegalArgumentException("Invalid function index");
+        }
+        ByteBuffer buffer = state.getBuffer().duplicate();
+        asBaseBuffer(buffer).limit(functionLimits[index]).position(functionOffsets[index]);
+        return buffer;
+    }
+
+    /**
+     * Verifies the checksum of an extracted method before it is decoded for the first time. This is
+     * done only then, so that the bodies of functions that are never called are never read.
+     */
+    private void verifyFunction(ByteBuffer buffer, int index) {
+        if (!functionVerified[index]) {
+            if (checksum(buffer, functionOffsets[index], functionLimits[index]) != functionChecksums[index]) {
+                throw new IllegalArgumentException("Snapshot verification failed");
+            }
+            functionVerified[index] = true;
+        }
+    }
+
+    /**
+     * Returns the CRC32 checksum of the bytes of {@code buffer} between {@code start} (inclusive)
+     * and {@code end} (exclusive).
+     */
+    public static int checksum(ByteBuffer buffer, int start, int end) {
+        CRC32 crc = new CRC32();
+        crc.update((ByteBuffer) asBaseBuffer(buffer.duplicate()).limit(end).position(start));
+        return (int) crc.getValue();
+    }
+
     private static void storeResult(NodeDecoder.DecoderState state, Object value) {
         state.setObjReg(state.getReg(), value);
     }
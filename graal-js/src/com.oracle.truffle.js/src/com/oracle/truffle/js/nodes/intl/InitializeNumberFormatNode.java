@@ -154,7 +154,7 @@ public abstract class InitializeNumberFormatNode extends JavaScriptBaseNode {
             String signDisplay = getSignDisplayOption.executeValue(options);
             state.setSignDisplay(signDisplay);
 
-            state.initializeNumberFormatter();
+            state.initializeNumberFormatter(context);
         } catch (MissingResourceException e) {
             throw Errors.createICU4JDataError(e);
         }
@@ -72,6 +72,7 @@ import com.oracle.truffle.js.runtime.builtins.JSError;
 import com.oracle.truffle.js.runtime.builtins.JSFunction;
 import com.oracle.truffle.js.runtime.builtins.JSFunctionData;
 import com.oracle.truffle.js.runtime.objects.PromiseCapabilityRecord;
+import com.oracle.truffle.js.runtime.objects.PromiseReactionJobRecord;
 import com.oracle.truffle.js.runtime.objects.PromiseReactionRecord;
 import com.oracle.truffle.js.runtime.objects.Undefined;
 
@@ -95,14 +96,30 @@ public class PromiseReactionJobNode extends JavaScriptBaseNode {
         return new PromiseReactionJobNode(context);
     }
 
+    /**
+     * Creates a job function object, for jobs that are passed to the embedder.
+     */
     public DynamicObject execute(Object reaction, Object argument) {
-        JSFunctionData functionData = context.getOrCreateBuiltinFunctionData(JSContext.BuiltinFunctionKey.PromiseReactionJob, (c) -> createPromiseReactionJobImpl(c));
+        JSFunctionData functionData = getPromiseReactionJobFunctionData();
         DynamicObject function = JSFunction.create(context.getRealm(), functionData);
         setReaction.setValue(function, reaction);
         setArgument.setValue(function, argument);
         return function;
     }
 
+    /**
+     * Creates a job record to be enqueued with {@link JSContext#promiseEnqueueJob}; unlike
+     * {@link #execute}, no job function object is created.
+     */
+    public PromiseReactionJobRecord createJob(Object reaction, Object argument) {
+        CallTarget callTarget = getPromiseReactionJobFunctionData().getCallTarget();
+        return new PromiseReactionJobRecord(context.getRealm(), callTarget, (PromiseReactionRecord) reaction, argument);
+    }
+
+    private JSFunctionData getPromiseReactionJobFunctionData() {
+        return context.getOrCreateBuiltinFunctionData(JSContext.BuiltinFunctionKey.PromiseReactionJob, (c) -> createPromiseReactionJobImpl(c));
+    }
+
     private static JSFunctionData createPromiseReactionJobImpl(JSContext context) {
         CallTarget callTarget = Truffle.getRuntime().createCallTarget(new PromiseReactionJobRootNode(context));
         return JSFunctionData.createCallOnly(context, callTarget, 0, "");
@@ -117,6 +134,7 @@ public class PromiseReactionJobNode extends JavaScriptBaseNode {
         @Child private JSFunctionCallNode callHandlerNode;
         @Child private TryCatchNode.GetErrorObjectNode getErrorObjectNode;
         private final ConditionProfile handlerProf = ConditionProfile.createBinaryProfile();
+        private final ConditionProfile jobRecordProf = ConditionProfile.createBinaryProfile();
         private final ValueProfile typeProfile = ValueProfile.createClassProfile();
 
         PromiseReactionJobRootNode(JSContext context) {
@@ -128,9 +146,17 @@ public class PromiseReactionJobNode extends JavaScriptBaseNode {
 
         @Override
         public Object execute(VirtualFrame frame) {
-            DynamicObject functionObject = JSFrameUtil.getFunctionObject(frame);
-            PromiseReactionRecord reaction = (PromiseReactionRecord) getReaction.getValue(functionObject);
-            Object argument = getArgument.getValue(functionObject);
+            Object[] arguments = frame.getArguments();
+            PromiseReactionRecord reaction;
+            Object argument;
+            if (jobRecordProf.profile(isJobRecordCall(arguments))) {
+                reaction = (PromiseReactionRecord) JSArguments.getUserArgument(arguments, 0);
+                argument = JSArguments.getUserArgument(arguments, 1);
+            } else {
+                DynamicObject functionObject = JSFrameUtil.getFunctionObject(frame);
+                reaction = (PromiseReactionRecord) getReaction.getValue(functionObject);
+                argument = getArgument.getValue(functionObject);
+            }
 
             PromiseCapabilityRecord promiseCapability = reaction.getCapability();
             Object handler = reaction.getHandler();
@@ -178,6 +204,23 @@ public class PromiseReactionJobNode extends JavaScriptBaseNode {
             return status;
         }
 
+        /**
+         * Job records pass the reaction and the argument as user arguments, job function objects
+         * are called without arguments.
+         */
+        private static boolean isJobRecordCall(Object[] arguments) {
+            return JSArguments.getUserArgumentCount(arguments) == 2;
+        }
+
+        private PromiseReactionRecord getReactionFromFrame(Frame frame) {
+            Object[] arguments = frame.getArguments();
+            if (isJobRecordCall(arguments)) {
+                return (PromiseReactionRecord) JSArguments.getUserArgument(arguments, 0);
+            } else {
+                return (PromiseReactionRecord) getReaction.getValue(JSFrameUtil.getFunctionObject(frame));
+            }
+        }
+
         private boolean shouldCatch(Throwable exception) {
             if (getErrorObjectNode == null) {
                 CompilerDirectives.transferToInterpreterAndInvalidate();
@@ -221,8 +264,7 @@ public class PromiseReactionJobNode extends JavaScriptBaseNode {
                 return null;
             }
 
-            DynamicObject functionObject = JSFrameUtil.getFunctionObject(frame);
-            PromiseReactionRecord reaction = (PromiseReactionRecord) getReaction.getValue(functionObject);
+            PromiseReactionRecord reaction = getReactionFromFrame(frame);
             PromiseCapabilityRecord promiseCapability = reaction.getCapability();
             if (promiseCapability != null) {
                 return AwaitNode.findAsyncStackFramesFromPromise(promiseCapability.getPromise());
@@ -44,6 +44,8 @@ import java.lang.ref.WeakReference;
 import java.util.ArrayDeque;
 import java.util.Deque;
 import java.util.Iterator;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.atomic.AtomicInteger;
 
 import org.graalvm.collections.EconomicSet;
@@ -51,11 +53,13 @@ import org.graalvm.collections.Equivalence;
 
 import com.oracle.truffle.api.CompilerDirectives.TruffleBoundary;
 import com.oracle.truffle.api.object.DynamicObject;
-import com.oracle.truffle.js.runtime.JSAgentWaiterList.JSAgentWaiterListEntry;
+import com.oracle.truffle.js.runtime.JSAgentWaiterList.WaiterBucket;
+import com.oracle.truffle.js.runtime.JSAgentWaiterList.WaiterRecord;
 import com.oracle.truffle.js.runtime.builtins.JSArrayBufferView;
 import com.oracle.truffle.js.runtime.builtins.JSFinalizationRegistry;
 import com.oracle.truffle.js.runtime.builtins.JSFunction;
 import com.oracle.truffle.js.runtime.builtins.JSSharedArrayBuffer;
+import com.oracle.truffle.js.runtime.objects.PromiseReactionJobRecord;
 import com.oracle.truffle.js.runtime.objects.Undefined;
 
 /**
@@ -73,9 +77,10 @@ public abstract class JSAgent implements EcmaAgent {
     private boolean inCriticalSection;
 
     /**
-     * ECMA 8.4 "PromiseJobs" job queue.
+     * ECMA 8.4 "PromiseJobs" job queue. Contains job function objects and (for reaction jobs)
+     * {@link PromiseReactionJobRecord}s.
      */
-    private final Deque<DynamicObject> promiseJobsQueue;
+    private final Deque<Object> promiseJobsQueue;
 
     /**
      * According to ECMA2017 8.4 the queue of pending jobs (promises reactions) must be processed
@@ -94,15 +99,27 @@ public abstract class JSAgent implements EcmaAgent {
 
     private final Deque<WeakReference<DynamicObject>> finalizationRegistryQueue;
 
+    /**
+     * Unsettled {@code Atomics.waitAsync} waiters of this agent. Only accessed by this agent.
+     */
+    private EconomicSet<WaiterRecord> asyncWaiters;
+
+    /**
+     * {@code Atomics.waitAsync} waiters of this agent that have been notified by any agent or have
+     * timed out, and whose promise still has to be resolved.
+     */
+    private final Queue<WaiterRecord> readyAsyncWaiters;
+
+    private volatile boolean closed;
+
     public JSAgent(boolean canBlock) {
         this.signifier = signifierGenerator.incrementAndGet();
         this.canBlock = canBlock;
         this.promiseJobsQueue = new ArrayDeque<>(4);
         this.finalizationRegistryQueue = new ArrayDeque<>(4);
+        this.readyAsyncWaiters = new ConcurrentLinkedQueue<>();
     }
 
-    public abstract void wakeAgent(int w);
-
     public int getSignifier() {
         return signifier;
     }
@@ -115,13 +132,13 @@ public abstract class JSAgent implements EcmaAgent {
         return inCriticalSection;
     }
 
-    public void criticalSectionEnter(JSAgentWaiterListEntry wl) {
+    public void criticalSectionEnter(WaiterBucket wl) {
         assert !inCriticalSection;
         wl.lock();
         inCriticalSection = true;
     }
 
-    public void criticalSectionLeave(JSAgentWaiterListEntry wl) {
+    public void criticalSectionLeave(WaiterBucket wl) {
         assert inCriticalSection;
         inCriticalSection = false;
         wl.unlock();
@@ -150,21 +167,38 @@ public abstract class JSAgent implements EcmaAgent {
         promiseJobsQueue.push(job);
     }
 
+    @TruffleBoundary
+    public final void enqueuePromiseJob(PromiseReactionJobRecord job) {
+        promiseJobsQueue.push(job);
+    }
+
     @TruffleBoundary
     public final void processAllPromises() {
         try {
-            while (!promiseJobsQueue.isEmpty()) {
-                DynamicObject nextJob = promiseJobsQueue.pollLast();
-                if (JSFunction.isJSFunction(nextJob)) {
-                    JSRealm functionRealm = JSFunction.getRealm(nextJob);
-                    Object prev = functionRealm.getTruffleContext().enter();
-                    try {
-                        JSFunction.call(nextJob, Undefined.instance, JSArguments.EMPTY_ARGUMENTS_ARRAY);
-                    } finally {
-                        functionRealm.getTruffleContext().leave(prev);
+            settleAsyncWaiters();
+            do {
+                while (!promiseJobsQueue.isEmpty()) {
+                    Object nextJob = promiseJobsQueue.pollLast();
+                    if (nextJob instanceof PromiseReactionJobRecord) {
+                        PromiseReactionJobRecord reactionJob = (PromiseReactionJobRecord) nextJob;
+                        Object prev = reactionJob.getRealm().getTruffleContext().enter();
+                        try {
+                            reactionJob.run();
+                        } finally {
+                            reactionJob.getRealm().getTruffleContext().leave(prev);
+                        }
+                    } else if (JSFunction.isJSFunction(nextJob)) {
+                        DynamicObject jobFunction = (DynamicObject) nextJob;
+                        JSRealm functionRealm = JSFunction.getRealm(jobFunction);
+                        Object prev = functionRealm.getTruffleContext().enter();
+                        try {
+                            JSFunction.call(jobFunction, Undefined.instance, JSArguments.EMPTY_ARGUMENTS_ARRAY);
+                        } finally {
+                            functionRealm.getTruffleContext().leave(prev);
+                        }
                     }
                 }
-            }
+            } while (settleAsyncWaiters());
         } finally {
             // Ensure that there are no leftovers when the processing
             // is terminated by an exception (like ExitException).
@@ -176,6 +210,95 @@ public abstract class JSAgent implements EcmaAgent {
         }
     }
 
+    /**
+     * Registers an async waiter that has just been added to its bucket and starts its timeout. Must
+     * be called while holding the bucket lock.
+     */
+    @TruffleBoundary
+    public final void registerAsyncWaiter(WaiterRecord waiter) {
+        assert waiter.isAsync();
+        if (asyncWaiters == null) {
+            asyncWaiters = EconomicSet.create(Equivalence.IDENTITY);
+        }
+        asyncWaiters.add(waiter);
+        waiter.scheduleTimeout();
+    }
+
+    /**
+     * Called when an async waiter of this agent has been notified or has timed out, by the
+     * notifying agent or the timeout thread.
+     */
+    final void asyncWaiterReady(WaiterRecord waiter) {
+        if (closed) {
+            return;
+        }
+        readyAsyncWaiters.add(waiter);
+        asyncWaitersReady();
+    }
+
+    /**
+     * Called (possibly from another thread) when the promises of some {@code Atomics.waitAsync}
+     * waiters can be settled. They are settled by the next {@link #processAllPromises()}; agents
+     * that run an event loop should make sure that it is called soon, even if there is no other
+     * work pending.
+     */
+    protected void asyncWaitersReady() {
+    }
+
+    /**
+     * Returns {@code true} if this agent has {@code Atomics.waitAsync} promises that have not been
+     * resolved yet.
+     */
+    public final boolean hasPendingAsyncWaiters() {
+        return asyncWaiters != null && !asyncWaiters.isEmpty();
+    }
+
+    /**
+     * Resolves the promises of async waiters that have been notified or whose timeout has elapsed.
+     * Returns {@code true} if any promise has been resolved.
+     */
+    private boolean settleAsyncWaiters() {
+        if (!hasPendingAsyncWaiters()) {
+            return false;
+        }
+        boolean settled = false;
+        WaiterRecord waiter;
+        while ((waiter = readyAsyncWaiters.poll()) != null) {
+            if (asyncWaiters.contains(waiter)) {
+                asyncWaiters.remove(waiter);
+                resolveAsyncWaiter(waiter, waiter.isNotified() ? "ok" : "timed-out");
+                settled = true;
+            }
+        }
+        return settled;
+    }
+
+    private static void resolveAsyncWaiter(WaiterRecord waiter, String result) {
+        JSRealm realm = waiter.getRealm();
+        Object prev = realm.getTruffleContext().enter();
+        try {
+            JSRuntime.call(waiter.getPromiseCapability().getResolve(), Undefined.instance, new Object[]{result});
+        } finally {
+            realm.getTruffleContext().leave(prev);
+        }
+    }
+
+    /**
+     * Called when the agent (i.e., its context) is disposed. Removes its pending async waiters
+     * from the waiter lists, so that other agents do not notify them anymore.
+     */
+    @TruffleBoundary
+    public void close() {
+        closed = true;
+        if (asyncWaiters != null) {
+            for (WaiterRecord waiter : asyncWaiters) {
+                waiter.cancel();
+            }
+            asyncWaiters.clear();
+        }
+        readyAsyncWaiters.clear();
+    }
+
     /**
      * Cleanup the finalizationRegistries that are unreferenced; cleanup referenced ones according
      * to 4.1.3 Execution and 4.1.4.1 HostCleanupFinalizatioRegistry.
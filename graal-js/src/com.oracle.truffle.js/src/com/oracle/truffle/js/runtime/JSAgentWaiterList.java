@@ -40,35 +40,87 @@
  */
 package com.oracle.truffle.js.runtime;
 
-import com.oracle.truffle.api.CompilerDirectives.TruffleBoundary;
-import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.ConcurrentLinkedQueue;
-import java.util.concurrent.locks.Lock;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
 import java.util.concurrent.locks.ReentrantLock;
 
+import com.oracle.truffle.api.CompilerDirectives.TruffleBoundary;
+import com.oracle.truffle.js.runtime.objects.PromiseCapabilityRecord;
+
 /**
  * Java-based implementation of ECMA2017 WaiterList (24.4.1.2).
+ *
+ * Waiters are kept in a fixed number of buckets selected by a hash of the element index. Each
+ * bucket is an intrusive FIFO list of {@link WaiterRecord}s guarded by its own lock, so agents
+ * waiting on different indices rarely contend and indices are never boxed. Blocked agents are
+ * suspended with {@link LockSupport#parkNanos} and resumed with {@link LockSupport#unpark} by the
+ * notifying agent. The buckets are only allocated once an agent waits on the buffer.
  */
-public class JSAgentWaiterList {
+public final class JSAgentWaiterList {
+
+    private static final int BUCKET_COUNT = 16;
 
-    private final Map<Integer, JSAgentWaiterListEntry> waiters;
+    private volatile WaiterBucket[] buckets;
 
-    private final Lock globalMonitor;
+    private final ReentrantLock globalMonitor;
 
     @TruffleBoundary
     public JSAgentWaiterList() {
-        this.waiters = new ConcurrentHashMap<>();
         this.globalMonitor = new ReentrantLock();
     }
 
-    public JSAgentWaiterListEntry getListForIndex(int indexPos) {
-        JSAgentWaiterListEntry list = Boundaries.mapPutIfAbsent(waiters, indexPos, new JSAgentWaiterListEntry());
-        if (list == null) {
-            return Boundaries.mapGet(waiters, indexPos);
-        } else {
-            return list;
+    /**
+     * Returns the bucket of the given index, allocating the buckets if no agent has waited on this
+     * buffer yet.
+     */
+    public WaiterBucket getBucketForIndex(int indexPos) {
+        WaiterBucket[] table = buckets;
+        if (table == null) {
+            table = createBuckets();
+        }
+        return table[bucketIndex(indexPos)];
+    }
+
+    /**
+     * Returns the bucket of the given index, or {@code null} if no agent has ever waited on this
+     * buffer (so there is nobody to notify).
+     */
+    public WaiterBucket getBucketForIndexIfPresent(int indexPos) {
+        WaiterBucket[] table = buckets;
+        if (table == null) {
+            // Synchronize with createBuckets(): either we see the buckets, or the waiter that is
+            // about to create them is guaranteed to observe our preceding writes to the buffer.
+            table = getBuckets();
+            if (table == null) {
+                return null;
+            }
+        }
+        return table[bucketIndex(indexPos)];
+    }
+
+    private static int bucketIndex(int indexPos) {
+        int h = indexPos * 0x9E3779B9;
+        return (h ^ (h >>> 16)) & (BUCKET_COUNT - 1);
+    }
+
+    @TruffleBoundary
+    private synchronized WaiterBucket[] getBuckets() {
+        return buckets;
+    }
+
+    @TruffleBoundary
+    private synchronized WaiterBucket[] createBuckets() {
+        WaiterBucket[] table = buckets;
+        if (table == null) {
+            table = new WaiterBucket[BUCKET_COUNT];
+            for (int i = 0; i < BUCKET_COUNT; i++) {
+                table[i] = new WaiterBucket();
+            }
+            buckets = table;
         }
+        return table;
     }
 
     public void lock() {
@@ -79,15 +131,18 @@ public class JSAgentWaiterList {
         globalMonitor.unlock();
     }
 
-    public static final class JSAgentWaiterListEntry extends ConcurrentLinkedQueue<Integer> {
+    /**
+     * A critical section of the waiter list. Holds the waiters of all indices hashing to it, in
+     * the order they started waiting.
+     */
+    public static final class WaiterBucket {
 
-        private static final long serialVersionUID = 2655886588267252886L;
+        private final ReentrantLock indexMonitor;
 
-        private final Lock indexMonitor;
+        private WaiterRecord head;
+        private WaiterRecord tail;
 
-        @TruffleBoundary
-        public JSAgentWaiterListEntry() {
-            super();
+        WaiterBucket() {
             this.indexMonitor = new ReentrantLock();
         }
 
@@ -99,6 +154,221 @@ public class JSAgentWaiterList {
             indexMonitor.unlock();
         }
 
+        public boolean isHeldByCurrentThread() {
+            return indexMonitor.isHeldByCurrentThread();
+        }
+
+        public void add(WaiterRecord w) {
+            assert isHeldByCurrentThread();
+            assert !w.queued;
+            w.prev = tail;
+            w.next = null;
+            if (tail == null) {
+                head = w;
+            } else {
+                tail.next = w;
+            }
+            tail = w;
+            w.queued = true;
+        }
+
+        /**
+         * Removes the waiter from this bucket. Returns {@code false} if the waiter has already been
+         * removed by a notifying agent.
+         */
+        public boolean remove(WaiterRecord w) {
+            assert isHeldByCurrentThread();
+            if (!w.queued) {
+                return false;
+            }
+            if (w.prev == null) {
+                head = w.next;
+            } else {
+                w.prev.next = w.next;
+            }
+            if (w.next == null) {
+                tail = w.prev;
+            } else {
+                w.next.prev = w.prev;
+            }
+            w.prev = null;
+            w.next = null;
+            w.queued = false;
+            return true;
+        }
+
+        public boolean contains(WaiterRecord w) {
+            assert isHeldByCurrentThread();
+            return w.queued;
+        }
+
+        /**
+         * Removes and wakes up to {@code count} waiters of the given index, in FIFO order. Returns
+         * the number of waiters woken.
+         */
+        public int notifyWaiters(int indexPos, int count) {
+            assert isHeldByCurrentThread();
+            int n = 0;
+            WaiterRecord w = head;
+            while (w != null && n < count) {
+                WaiterRecord next = w.next;
+                if (w.index == indexPos) {
+                    remove(w);
+                    w.notifyWaiter();
+                    n++;
+                }
+                w = next;
+            }
+            return n;
+        }
+    }
+
+    /**
+     * A single agent waiting on an index. Synchronous waiters park their thread; asynchronous
+     * waiters (created by {@code Atomics.waitAsync}) carry the promise to resolve instead and are
+     * handed back to their agent on notification or timeout.
+     */
+    public static final class WaiterRecord {
+
+        public static final long NO_DEADLINE = Long.MAX_VALUE;
+
+        private final int index;
+        private final WaiterBucket bucket;
+        private final JSAgent agent;
+        private final Thread thread;
+        private final JSRealm realm;
+        private final PromiseCapabilityRecord promiseCapability;
+        private final long deadline;
+
+        private WaiterRecord prev;
+        private WaiterRecord next;
+        private boolean queued;
+        /** Pending timeout of an async waiter, guarded by the bucket lock. */
+        private Future<?> timeoutTask;
+
+        private volatile boolean notified;
+
+        private WaiterRecord(int index, WaiterBucket bucket, JSAgent agent, Thread thread, JSRealm realm, PromiseCapabilityRecord promiseCapability, long deadline) {
+            this.index = index;
+            this.bucket = bucket;
+            this.agent = agent;
+            this.thread = thread;
+            this.realm = realm;
+            this.promiseCapability = promiseCapability;
+            this.deadline = deadline;
+        }
+
+        public static WaiterRecord createSync(int index, WaiterBucket bucket, JSAgent agent, long deadline) {
+            return new WaiterRecord(index, bucket, agent, Thread.currentThread(), null, null, deadline);
+        }
+
+        public static WaiterRecord createAsync(int index, WaiterBucket bucket, JSAgent agent, JSRealm realm, PromiseCapabilityRecord promiseCapability, long deadline) {
+            return new WaiterRecord(index, bucket, agent, null, realm, promiseCapability, deadline);
+        }
+
+        public WaiterBucket getBucket() {
+            return bucket;
+        }
+
+        public boolean isAsync() {
+            return promiseCapability != null;
+        }
+
+        public boolean isNotified() {
+            return notified;
+        }
+
+        public long getDeadline() {
+            return deadline;
+        }
+
+        public PromiseCapabilityRecord getPromiseCapability() {
+            return promiseCapability;
+        }
+
+        /**
+         * The realm in which the promise of an async waiter is resolved.
+         */
+        public JSRealm getRealm() {
+            return realm;
+        }
+
+        private void notifyWaiter() {
+            notified = true;
+            if (isAsync()) {
+                cancelTimeout();
+                agent.asyncWaiterReady(this);
+            } else {
+                LockSupport.unpark(thread);
+            }
+        }
+
+        /**
+         * Schedules the removal of an async waiter once its deadline has passed. Must be called
+         * while holding the bucket lock, after the waiter has been added to the bucket.
+         */
+        @TruffleBoundary
+        void scheduleTimeout() {
+            assert isAsync() && bucket.isHeldByCurrentThread() && queued;
+            if (deadline != NO_DEADLINE) {
+                timeoutTask = TimeoutScheduler.INSTANCE.schedule(this::timeout, deadline - System.nanoTime(), TimeUnit.NANOSECONDS);
+            }
+        }
+
+        private void timeout() {
+            boolean timedOut;
+            bucket.lock();
+            try {
+                timedOut = bucket.remove(this);
+                timeoutTask = null;
+            } finally {
+                bucket.unlock();
+            }
+            // otherwise, it has been notified (or cancelled) in the meantime
+            if (timedOut) {
+                agent.asyncWaiterReady(this);
+            }
+        }
+
+        /**
+         * Removes an async waiter from its bucket without settling it. Used when its agent is
+         * closed so that the waiter is not counted by {@code Atomics.notify} anymore.
+         */
+        @TruffleBoundary
+        void cancel() {
+            bucket.lock();
+            try {
+                bucket.remove(this);
+                cancelTimeout();
+            } finally {
+                bucket.unlock();
+            }
+        }
+
+        private void cancelTimeout() {
+            assert bucket.isHeldByCurrentThread();
+            if (timeoutTask != null) {
+                timeoutTask.cancel(false);
+                timeoutTask = null;
+            }
+        }
     }
 
+    /**
+     * Daemon thread that expires the timeouts of {@code Atomics.waitAsync} waiters, so that their
+     * agents are woken up without having to poll.
+     */
+    private static final class TimeoutScheduler {
+        static final ScheduledThreadPoolExecutor INSTANCE = create();
+
+        private static ScheduledThreadPoolExecutor create() {
+            ScheduledThreadPoolExecutor executor = new ScheduledThreadPoolExecutor(1, r -> {
+                Thread thread = new Thread(r, "JS-Atomics-WaitAsync-Timeout");
+                thread.setDaemon(true);
+                return thread;
+            });
+            executor.setRemoveOnCancelPolicy(true);
+            return executor;
+        }
+    }
 }
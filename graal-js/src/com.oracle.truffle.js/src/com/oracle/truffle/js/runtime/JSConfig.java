@@ -92,11 +92,21 @@ public final class JSConfig {
 
     // JSON options
     public static final boolean TruffleJSONParser = true;
+    /** Cache the shapes of parsed JSON objects per key sequence. */
+    public static final boolean JSONShapeCache = true;
 
     // LazyString options
     public static final boolean LazyStrings = true;
     public static final int MinLazyStringLength = 20;
     public static final int ConcatToLeafLimit = MinLazyStringLength / 2;
+    /** Rebalance lazy string (rope) trees that are deeper than this. */
+    public static final int LazyStringMaxDepth = 48;
+    /** Allow charAt and substring on lazy strings without flattening them first. */
+    public static final boolean LazyStringIndexedAccess = true;
+    /** Lazy strings up to this length are flattened on the first charAt. */
+    public static final int LazyStringIndexedAccessMinLength = 256;
+    /** Number of charAt calls on a lazy string that walk the tree before it is flattened. */
+    public static final int LazyStringIndexedAccessLimit = 64;
 
     // Parser options
     public static final boolean ReturnOptimizer = true;
@@ -155,4 +165,6 @@ public final class JSConfig {
     /** Traces all array writes with their access mode. */
     public static final boolean TraceArrayWrites = false;
     public static final boolean TraceDictionaryObject = false;
+    /** Traces lazy string flattening with the JS caller that caused it. */
+    public static final boolean TraceLazyStringFlatten = false;
 }
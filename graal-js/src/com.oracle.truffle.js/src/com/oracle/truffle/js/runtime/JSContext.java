@@ -127,11 +127,14 @@ import com.oracle.truffle.js.runtime.objects.JSPrototypeData;
 import com.oracle.truffle.js.runtime.objects.JSShape;
 import com.oracle.truffle.js.runtime.objects.JSShapeData;
 import com.oracle.truffle.js.runtime.objects.Null;
+import com.oracle.truffle.js.runtime.objects.PromiseReactionJobRecord;
 import com.oracle.truffle.js.runtime.objects.ScriptOrModule;
 import com.oracle.truffle.js.runtime.objects.Undefined;
+import com.oracle.truffle.js.runtime.util.BackgroundTranslationQueue;
 import com.oracle.truffle.js.runtime.util.CompilableBiFunction;
 import com.oracle.truffle.js.runtime.util.CompilableFunction;
 import com.oracle.truffle.js.runtime.util.DebugJSAgent;
+import com.oracle.truffle.js.runtime.util.RegexCache;
 import com.oracle.truffle.js.runtime.util.TRegexUtil;
 import com.oracle.truffle.js.runtime.util.TimeProfiler;
 
@@ -325,6 +328,10 @@ public class JSContext {
 
     private volatile ClassValue<Class<?>> javaAdapterClasses;
 
+    private volatile BackgroundTranslationQueue backgroundTranslationQueue;
+
+    private volatile RegexCache regexCache;
+
     private final JSFunctionFactory functionFactory;
     private final JSFunctionFactory constructorFactory;
     private final JSFunctionFactory strictFunctionFactory;
@@ -686,6 +693,23 @@ public class JSContext {
         realm.getAgent().enqueuePromiseJob(job);
     }
 
+    /**
+     * ECMA 8.4.1 EnqueueJob of a PromiseReactionJob.
+     */
+    public final void promiseEnqueueJob(PromiseReactionJobRecord job) {
+        invalidatePromiseQueueNotUsedAssumption();
+        job.getRealm().getAgent().enqueuePromiseJob(job);
+    }
+
+    /**
+     * Registers an {@code Atomics.waitAsync} waiter whose promise will be resolved by the promise
+     * job processing of the current agent.
+     */
+    public final void registerAsyncWaiter(JSAgentWaiterList.WaiterRecord waiter) {
+        invalidatePromiseQueueNotUsedAssumption();
+        getJSAgent().registerAsyncWaiter(waiter);
+    }
+
     private void invalidatePromiseQueueNotUsedAssumption() {
         Assumption promiseJobsQueueEmptyAssumption = language.getPromiseJobsQueueEmptyAssumption();
         if (promiseJobsQueueEmptyAssumption.isValid()) {
@@ -1483,6 +1507,47 @@ public class JSContext {
         return contextOptions;
     }
 
+    /**
+     * Returns the queue of functions to be translated in the background, or {@code null} if
+     * background translation is disabled.
+     */
+    public BackgroundTranslationQueue getBackgroundTranslationQueue() {
+        if (!contextOptions.isBackgroundTranslation()) {
+            return null;
+        }
+        BackgroundTranslationQueue result = backgroundTranslationQueue;
+        if (result == null) {
+            synchronized (this) {
+                result = backgroundTranslationQueue;
+                if (result == null) {
+                    result = backgroundTranslationQueue = new BackgroundTranslationQueue();
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Returns the cache of compiled regular expressions shared by all realms of this context, or
+     * {@code null} if it is disabled.
+     */
+    public RegexCache getRegexCache() {
+        int cacheSize = contextOptions.getRegexCacheSize();
+        if (cacheSize <= 0) {
+            return null;
+        }
+        RegexCache result = regexCache;
+        if (result == null) {
+            synchronized (this) {
+                result = regexCache;
+                if (result == null) {
+                    result = regexCache = new RegexCache(cacheSize);
+                }
+            }
+        }
+        return result;
+    }
+
     public Class<?> getJavaAdapterClassFor(Class<?> clazz) {
         if (JSConfig.SubstrateVM) {
             throw Errors.unsupported("JavaAdapter");
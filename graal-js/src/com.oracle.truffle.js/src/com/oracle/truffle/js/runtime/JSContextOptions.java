@@ -388,11 +388,25 @@ public final class JSContextOptions {
     @Option(name = LOCALE_NAME, category = OptionCategory.EXPERT, help = "Use a specific default locale for locale-sensitive operations.") //
     public static final OptionKey<String> LOCALE = new OptionKey<>("");
 
+    public static final String CODE_CACHE_DIR_NAME = JS_OPTION_PREFIX + "code-cache-dir";
+    @Option(name = CODE_CACHE_DIR_NAME, category = OptionCategory.EXPERT, help = "Directory of the persistent code cache consulted before parsing scripts (populated by the snapshot tool).") //
+    public static final OptionKey<String> CODE_CACHE_DIR = new OptionKey<>("");
+
     public static final String FUNCTION_CONSTRUCTOR_CACHE_SIZE_NAME = JS_OPTION_PREFIX + "function-constructor-cache-size";
     @Option(name = FUNCTION_CONSTRUCTOR_CACHE_SIZE_NAME, category = OptionCategory.EXPERT, help = "Maximum size of the parsing cache used by the Function constructor to avoid re-parsing known sources.") //
     public static final OptionKey<Integer> FUNCTION_CONSTRUCTOR_CACHE_SIZE = new OptionKey<>(32);
     @CompilationFinal private int functionConstructorCacheSize;
 
+    public static final String REGEX_CACHE_SIZE_NAME = JS_OPTION_PREFIX + "regex-cache-size";
+    @Option(name = REGEX_CACHE_SIZE_NAME, category = OptionCategory.EXPERT, help = "Maximum size of the context-wide cache of compiled regular expressions, 0 to disable.") //
+    public static final OptionKey<Integer> REGEX_CACHE_SIZE = new OptionKey<>(64);
+    @CompilationFinal private int regexCacheSize;
+
+    public static final String INTL_FORMATTER_CACHE_SIZE_NAME = JS_OPTION_PREFIX + "intl-formatter-cache-size";
+    @Option(name = INTL_FORMATTER_CACHE_SIZE_NAME, category = OptionCategory.EXPERT, help = "Maximum size of the per-realm cache of ICU collators and formatters, 0 to disable.") //
+    public static final OptionKey<Integer> INTL_FORMATTER_CACHE_SIZE = new OptionKey<>(32);
+    @CompilationFinal private int intlFormatterCacheSize;
+
     public static final String STRING_LENGTH_LIMIT_NAME = JS_OPTION_PREFIX + "string-length-limit";
     @Option(name = STRING_LENGTH_LIMIT_NAME, category = OptionCategory.EXPERT, help = "Maximum string length.") //
     public static final OptionKey<Integer> STRING_LENGTH_LIMIT = new OptionKey<>(JSConfig.StringLengthLimit);
@@ -435,6 +449,21 @@ public final class JSContextOptions {
     public static final OptionKey<Boolean> LAZY_TRANSLATION = new OptionKey<>(false);
     @CompilationFinal private boolean lazyTranslation;
 
+    public static final String PARALLEL_PARSE_NAME = JS_OPTION_PREFIX + "parallel-parse";
+    @Option(name = PARALLEL_PARSE_NAME, category = OptionCategory.EXPERT, help = "Parse top-level function declarations of large scripts in parallel.") //
+    public static final OptionKey<Boolean> PARALLEL_PARSE = new OptionKey<>(false);
+    @CompilationFinal private boolean parallelParse;
+
+    public static final String LAZY_PARSE_NAME = JS_OPTION_PREFIX + "lazy-parse";
+    @Option(name = LAZY_PARSE_NAME, category = OptionCategory.EXPERT, help = "Only check the syntax of function bodies and parse them on first invocation. Implies lazy translation.") //
+    public static final OptionKey<Boolean> LAZY_PARSE = new OptionKey<>(false);
+    @CompilationFinal private boolean lazyParse;
+
+    public static final String BACKGROUND_TRANSLATION_NAME = JS_OPTION_PREFIX + "background-translation";
+    @Option(name = BACKGROUND_TRANSLATION_NAME, category = OptionCategory.EXPERT, help = "Translate functions that are likely to be called soon on a background thread. Implies lazy translation.") //
+    public static final OptionKey<Boolean> BACKGROUND_TRANSLATION = new OptionKey<>(false);
+    @CompilationFinal private boolean backgroundTranslation;
+
     public static final String MAX_TYPED_ARRAY_LENGTH_NAME = JS_OPTION_PREFIX + "max-typed-array-length";
     @Option(name = MAX_TYPED_ARRAY_LENGTH_NAME, category = OptionCategory.EXPERT, help = "Maximum allowed length for TypedArrays.") //
     public static final OptionKey<Integer> MAX_TYPED_ARRAY_LENGTH = new OptionKey<>(JSConfig.MaxTypedArrayLength);
@@ -536,13 +565,18 @@ public final class JSContextOptions {
         this.testV8Mode = readBooleanOption(TESTV8_MODE);
         this.validateRegExpLiterals = readBooleanOption(VALIDATE_REGEXP_LITERALS);
         this.functionConstructorCacheSize = readIntegerOption(FUNCTION_CONSTRUCTOR_CACHE_SIZE);
+        this.regexCacheSize = readIntegerOption(REGEX_CACHE_SIZE);
+        this.intlFormatterCacheSize = readIntegerOption(INTL_FORMATTER_CACHE_SIZE);
         this.stringLengthLimit = readIntegerOption(STRING_LENGTH_LIMIT);
         this.bindMemberFunctions = readBooleanOption(BIND_MEMBER_FUNCTIONS);
         this.commonJSRequire = readBooleanOption(COMMONJS_REQUIRE);
         this.regexRegressionTestMode = readBooleanOption(REGEX_REGRESSION_TEST_MODE);
         this.interopCompletePromises = readBooleanOption(INTEROP_COMPLETE_PROMISES);
         this.testCloneUninitialized = readBooleanOption(TEST_CLONE_UNINITIALIZED);
-        this.lazyTranslation = readBooleanOption(LAZY_TRANSLATION);
+        this.lazyParse = readBooleanOption(LAZY_PARSE);
+        this.backgroundTranslation = readBooleanOption(BACKGROUND_TRANSLATION);
+        this.lazyTranslation = readBooleanOption(LAZY_TRANSLATION) || lazyParse || backgroundTranslation;
+        this.parallelParse = readBooleanOption(PARALLEL_PARSE);
         this.stackTraceLimit = readIntegerOption(STACK_TRACE_LIMIT);
         this.maxTypedArrayLength = readIntegerOption(MAX_TYPED_ARRAY_LENGTH);
         this.maxApplyArgumentLength = readIntegerOption(MAX_APPLY_ARGUMENT_LENGTH);
@@ -827,10 +861,22 @@ public final class JSContextOptions {
         return LOCALE.getValue(optionValues);
     }
 
+    public String getCodeCacheDir() {
+        return CODE_CACHE_DIR.getValue(optionValues);
+    }
+
     public int getFunctionConstructorCacheSize() {
         return functionConstructorCacheSize;
     }
 
+    public int getRegexCacheSize() {
+        return regexCacheSize;
+    }
+
+    public int getIntlFormatterCacheSize() {
+        return intlFormatterCacheSize;
+    }
+
     public int getStringLengthLimit() {
         return stringLengthLimit;
     }
@@ -865,6 +911,18 @@ public final class JSContextOptions {
         return lazyTranslation;
     }
 
+    public boolean isParallelParse() {
+        return parallelParse;
+    }
+
+    public boolean isLazyParse() {
+        return lazyParse;
+    }
+
+    public boolean isBackgroundTranslation() {
+        return backgroundTranslation;
+    }
+
     public boolean isProfileTimePrintCumulative() {
         CompilerAsserts.neverPartOfCompilation("Context patchable option profile-time-print-cumulative was assumed not to be accessed in compiled code.");
         return PROFILE_TIME_PRINT_CUMULATIVE.getValue(optionValues);
@@ -931,6 +989,8 @@ public final class JSContextOptions {
         hash = 53 * hash + (this.testV8Mode ? 1 : 0);
         hash = 53 * hash + (this.validateRegExpLiterals ? 1 : 0);
         hash = 53 * hash + this.functionConstructorCacheSize;
+        hash = 53 * hash + this.regexCacheSize;
+        hash = 53 * hash + this.intlFormatterCacheSize;
         hash = 53 * hash + this.stringLengthLimit;
         hash = 53 * hash + (this.bindMemberFunctions ? 1 : 0);
         hash = 53 * hash + (this.commonJSRequire ? 1 : 0);
@@ -938,6 +998,9 @@ public final class JSContextOptions {
         hash = 53 * hash + (this.interopCompletePromises ? 1 : 0);
         hash = 53 * hash + (this.testCloneUninitialized ? 1 : 0);
         hash = 53 * hash + (this.lazyTranslation ? 1 : 0);
+        hash = 53 * hash + (this.parallelParse ? 1 : 0);
+        hash = 53 * hash + (this.lazyParse ? 1 : 0);
+        hash = 53 * hash + (this.backgroundTranslation ? 1 : 0);
         hash = 53 * hash + this.stackTraceLimit;
         hash = 53 * hash + (this.asyncStackTraces ? 1 : 0);
         hash = 53 * hash + this.maxTypedArrayLength;
@@ -1047,6 +1110,12 @@ public final class JSContextOptions {
         if (this.functionConstructorCacheSize != other.functionConstructorCacheSize) {
             return false;
         }
+        if (this.regexCacheSize != other.regexCacheSize) {
+            return false;
+        }
+        if (this.intlFormatterCacheSize != other.intlFormatterCacheSize) {
+            return false;
+        }
         if (this.stringLengthLimit != other.stringLengthLimit) {
             return false;
         }
@@ -1068,6 +1137,15 @@ public final class JSContextOptions {
         if (this.lazyTranslation != other.lazyTranslation) {
             return false;
         }
+        if (this.parallelParse != other.parallelParse) {
+            return false;
+        }
+        if (this.lazyParse != other.lazyParse) {
+            return false;
+        }
+        if (this.backgroundTranslation != other.backgroundTranslation) {
+            return false;
+        }
         if (this.stackTraceLimit != other.stackTraceLimit) {
             return false;
         }
@@ -91,6 +91,7 @@ import com.oracle.truffle.js.builtins.StringIteratorPrototypeBuiltins;
 import com.oracle.truffle.js.builtins.commonjs.CommonJSRequireBuiltin;
 import com.oracle.truffle.js.builtins.commonjs.GlobalCommonJSRequireBuiltins;
 import com.oracle.truffle.js.builtins.commonjs.NpmCompatibleESModuleLoader;
+import com.oracle.truffle.js.builtins.helper.JSONShapeCache;
 import com.oracle.truffle.js.lang.JavaScriptLanguage;
 import com.oracle.truffle.js.nodes.JavaScriptNode;
 import com.oracle.truffle.js.runtime.JSContext.BuiltinFunctionKey;
@@ -151,8 +152,10 @@ import com.oracle.truffle.js.runtime.objects.JSObjectUtil;
 import com.oracle.truffle.js.runtime.objects.PropertyDescriptor;
 import com.oracle.truffle.js.runtime.objects.PropertyProxy;
 import com.oracle.truffle.js.runtime.objects.Undefined;
+import com.oracle.truffle.js.runtime.util.IntlFormatterCache;
 import com.oracle.truffle.js.runtime.util.PrintWriterWrapper;
 import com.oracle.truffle.js.runtime.util.TRegexUtil;
+import com.oracle.truffle.js.runtime.util.TimeZoneOffsetCache;
 
 /**
  * Container for JavaScript globals (i.e. an ECMAScript 6 Realm object).
@@ -309,6 +312,12 @@ public class JSRealm {
 
     private volatile Map<Object, DynamicObject> templateRegistry;
 
+    /** Shapes of objects created by JSON.parse, keyed by property names; created lazily. */
+    private JSONShapeCache jsonShapeCache;
+
+    /** Resolved ICU collators and formatters, keyed by locale and options; created lazily. */
+    private IntlFormatterCache intlFormatterCache;
+
     private final DynamicObject globalScope;
 
     private DynamicObject scriptEngineImportScope;
@@ -337,6 +346,8 @@ public class JSRealm {
      * Local time zone ID. Initialized lazily.
      */
     @CompilationFinal private ZoneId localTimeZoneId;
+    /** Offsets of the local time zone; replaced when the time zone changes. */
+    private TimeZoneOffsetCache timeZoneOffsetCache;
 
     public static final long NANOSECONDS_PER_MILLISECOND = 1000000;
     private SplittableRandom random;
@@ -1024,6 +1035,32 @@ public class JSRealm {
         }
     }
 
+    public final JSONShapeCache getJSONShapeCache(Shape initialShape) {
+        JSONShapeCache cache = jsonShapeCache;
+        if (cache == null || cache.getInitialShape() != initialShape) {
+            cache = new JSONShapeCache(initialShape);
+            jsonShapeCache = cache;
+        }
+        return cache;
+    }
+
+    /**
+     * Returns the cache of ICU collators and formatters of this realm, or {@code null} if it is
+     * disabled.
+     */
+    public final IntlFormatterCache getIntlFormatterCache() {
+        IntlFormatterCache cache = intlFormatterCache;
+        if (cache == null) {
+            int cacheSize = context.getContextOptions().getIntlFormatterCacheSize();
+            if (cacheSize <= 0) {
+                return null;
+            }
+            cache = new IntlFormatterCache(cacheSize);
+            intlFormatterCache = cache;
+        }
+        return cache;
+    }
+
     public final Object getEvalFunctionObject() {
         return evalFunctionObject;
     }
@@ -2081,6 +2118,16 @@ public class JSRealm {
         return id;
     }
 
+    public TimeZoneOffsetCache getTimeZoneOffsetCache() {
+        ZoneId zoneId = getLocalTimeZoneId();
+        TimeZoneOffsetCache cache = timeZoneOffsetCache;
+        if (cache == null || cache.getZoneId() != zoneId) {
+            cache = new TimeZoneOffsetCache(zoneId);
+            timeZoneOffsetCache = cache;
+        }
+        return cache;
+    }
+
     @TruffleBoundary
     private ZoneId getTimeZoneFromEnv() {
         OptionValues options = getEnv().getOptions();
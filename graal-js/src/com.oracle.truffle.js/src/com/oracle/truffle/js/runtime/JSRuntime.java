@@ -538,22 +538,14 @@ public final class JSRuntime {
     }
 
     /**
-     * Like {@link Double#parseDouble(String)}, but does not allow trailing {@code d} or {@code f}.
+     * Like {@link Double#parseDouble(String)}, but only accepts decimal literals (e.g., no trailing
+     * {@code d} or {@code f}, no hexadecimal floating point literals).
      *
      * @return double value or {@link Double#NaN} if not parsable.
      */
     @TruffleBoundary
     public static double parseDoubleOrNaN(String input) {
-        // A valid JS number must end with either a digit or '.'.
-        // Double.parseDouble also accepts a trailing 'd', 'D', 'f', 'F'.
-        if (input.isEmpty() || input.charAt(input.length() - 1) > '9') {
-            return Double.NaN;
-        }
-        try {
-            return Double.parseDouble(input);
-        } catch (NumberFormatException e) {
-            return Double.NaN;
-        }
+        return DoubleConversion.strtod(input, 0, input.length());
     }
 
     /**
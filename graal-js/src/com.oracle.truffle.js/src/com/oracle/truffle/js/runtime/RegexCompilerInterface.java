@@ -43,6 +43,7 @@ package com.oracle.truffle.js.runtime;
 import com.oracle.truffle.api.CompilerDirectives;
 import com.oracle.truffle.api.CompilerDirectives.TruffleBoundary;
 import com.oracle.truffle.api.TruffleException;
+import com.oracle.truffle.js.runtime.util.RegexCache;
 import com.oracle.truffle.js.runtime.util.TRegexUtil;
 
 public final class RegexCompilerInterface {
@@ -54,11 +55,17 @@ public final class RegexCompilerInterface {
     }
 
     public static Object compile(String pattern, String flags, JSContext context, TRegexUtil.CompileRegexNode compileRegexNode) {
+        // only valid pattern and flags are cached
+        Object cached = cacheLookup(context, pattern, flags);
+        if (cached != null) {
+            return cached;
+        }
         // RegexLanguage does its own validation of the flags. This call to validateFlags only
         // serves the purpose of mimicking the error messages of Nashorn and V8.
         validateFlags(flags, context.getEcmaScriptVersion(), context.isOptionNashornCompatibilityMode());
+        Object compiledRegex;
         try {
-            return compileRegexNode.execute(context.getRegexEngine(), pattern, flags);
+            compiledRegex = compileRegexNode.execute(context.getRegexEngine(), pattern, flags);
         } catch (RuntimeException e) {
             CompilerDirectives.transferToInterpreter();
             if (e instanceof TruffleException && ((TruffleException) e).isSyntaxError()) {
@@ -66,6 +73,22 @@ public final class RegexCompilerInterface {
             }
             throw e;
         }
+        cacheStore(context, pattern, flags, compiledRegex);
+        return compiledRegex;
+    }
+
+    @TruffleBoundary
+    private static Object cacheLookup(JSContext context, String pattern, String flags) {
+        RegexCache cache = context.getRegexCache();
+        return cache == null ? null : cache.get(pattern, flags);
+    }
+
+    @TruffleBoundary
+    private static void cacheStore(JSContext context, String pattern, String flags, Object compiledRegex) {
+        RegexCache cache = context.getRegexCache();
+        if (cache != null) {
+            cache.put(pattern, flags, compiledRegex);
+        }
     }
 
     @TruffleBoundary
@@ -76,6 +76,38 @@ abstract class ByteArrayAccess {
     public abstract void putDouble(byte[] buffer, int offset, int index, int bytesPerElement, double value);
 
     public abstract void putInt64(byte[] buffer, int offset, int index, int bytesPerElement, long value);
+
+    /**
+     * Returns the index of the first 8-bit or 16-bit element in [fromIndex, toIndex) whose bits are
+     * equal to the low bits of {@code value}, or -1. Compares a long worth of elements at a time.
+     */
+    public final int indexOfBits(byte[] buffer, int offset, int fromIndex, int toIndex, int bytesPerElement, int value) {
+        long lowBits = laneLowBits(bytesPerElement);
+        long highBits = lowBits << (bytesPerElement * Byte.SIZE - 1);
+        int mask = (1 << (bytesPerElement * Byte.SIZE)) - 1;
+        long pattern = lowBits * (value & mask);
+        int elementsPerWord = Long.BYTES / bytesPerElement;
+        int i = fromIndex;
+        for (; i <= toIndex - elementsPerWord; i += elementsPerWord) {
+            long word = getInt64(buffer, offset, i, bytesPerElement) ^ pattern;
+            // non-zero iff one of the lanes of word is zero
+            if (((word - lowBits) & ~word & highBits) != 0) {
+                break;
+            }
+        }
+        for (; i < toIndex; i++) {
+            int element = bytesPerElement == 1 ? getInt8(buffer, offset, i, bytesPerElement) : getInt16(buffer, offset, i, bytesPerElement);
+            if (((element ^ value) & mask) == 0) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    static long laneLowBits(int bytesPerElement) {
+        assert bytesPerElement == 1 || bytesPerElement == 2;
+        return bytesPerElement == 1 ? 0x0101010101010101L : 0x0001000100010001L;
+    }
 }
 
 abstract class NormalByteArrayAccess extends ByteArrayAccess {
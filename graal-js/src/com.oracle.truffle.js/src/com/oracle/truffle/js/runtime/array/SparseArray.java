@@ -48,19 +48,21 @@ import static com.oracle.truffle.js.runtime.builtins.JSAbstractArray.arraySetLen
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
-import java.util.Map;
-import java.util.NoSuchElementException;
-import java.util.Set;
-import java.util.TreeMap;
 
 import com.oracle.truffle.api.CompilerDirectives.TruffleBoundary;
 import com.oracle.truffle.api.object.DynamicObject;
 import com.oracle.truffle.js.runtime.Boundaries;
+import com.oracle.truffle.js.runtime.JSConfig;
 import com.oracle.truffle.js.runtime.JSRuntime;
+import com.oracle.truffle.js.runtime.array.dyn.ZeroBasedDoubleArray;
+import com.oracle.truffle.js.runtime.array.dyn.ZeroBasedIntArray;
+import com.oracle.truffle.js.runtime.array.dyn.ZeroBasedObjectArray;
 import com.oracle.truffle.js.runtime.objects.Undefined;
 
 /**
- * Array that stores its elements in a HashMap-like structure, e.g. in a TreeMap.
+ * Array that stores its elements in a {@link SparseArrayStorage}, i.e., in dense pages keyed by the
+ * high bits of the element index. Transitions back to a zero-based contiguous array once all
+ * holes have been filled in.
  */
 public final class SparseArray extends DynamicArray {
 
@@ -76,55 +78,73 @@ public final class SparseArray extends DynamicArray {
 
     public static SparseArray makeSparseArray(DynamicObject object, ScriptArray fromArray) {
         assert !(fromArray instanceof SparseArray);
-        TreeMap<Long, Object> arrayMap = createArrayMap();
-        copyArrayToMap(object, fromArray, arrayMap);
+        SparseArrayStorage storage = createArrayStorage();
+        copyArrayToStorage(object, fromArray, storage);
         arraySetLength(object, fromArray.length(object));
-        arraySetArray(object, arrayMap);
+        arraySetArray(object, storage);
         return createSparseArray();
     }
 
-    @TruffleBoundary
-    public static TreeMap<Long, Object> createArrayMap() {
-        return new TreeMap<>();
+    public static SparseArrayStorage createArrayStorage() {
+        return new SparseArrayStorage();
     }
 
-    protected static void copyArrayToMap(DynamicObject object, ScriptArray fromArray, Map<Long, Object> toMap) {
+    protected static void copyArrayToStorage(DynamicObject object, ScriptArray fromArray, SparseArrayStorage storage) {
         for (long index = fromArray.firstElementIndex(object); index <= fromArray.lastElementIndex(object); index = fromArray.nextElementIndex(object, index)) {
             assert fromArray.hasElement(object, index);
-            Boundaries.mapPut(toMap, index, fromArray.getElement(object, index));
+            storage.put(index, fromArray.getElement(object, index));
         }
     }
 
-    @SuppressWarnings("unchecked")
-    private static TreeMap<Long, Object> arrayMap(DynamicObject object, boolean condition) {
-        return (TreeMap<Long, Object>) arrayGetArray(object, condition);
+    private static SparseArrayStorage arrayStorage(DynamicObject object, boolean condition) {
+        return (SparseArrayStorage) arrayGetArray(object, condition);
     }
 
-    @TruffleBoundary
     @Override
     public Object getElement(DynamicObject object, long index, boolean condition) {
-        Object value = arrayMap(object, condition).get(index);
+        Object value = arrayStorage(object, condition).get(index);
         return value != null ? value : Undefined.instance;
     }
 
-    @TruffleBoundary
     @Override
     public Object getElementInBounds(DynamicObject object, long index, boolean condition) {
-        Object value = arrayMap(object, condition).get(index);
+        Object value = arrayStorage(object, condition).get(index);
         assert value != null;
         return value;
     }
 
-    @TruffleBoundary
     @Override
     public ScriptArray setElementImpl(DynamicObject object, long index, Object value, boolean strict, boolean condition) {
-        arrayMap(object, condition).put(index, value);
-        if (index >= length(object, condition)) {
-            arraySetLength(object, index + 1);
+        SparseArrayStorage storage = arrayStorage(object, condition);
+        storage.put(index, value);
+        long length = length(object, condition);
+        if (index >= length) {
+            length = index + 1;
+            arraySetLength(object, length);
+        }
+        if (storage.size() == length && length <= JSConfig.MaxFlatArraySize) {
+            ScriptArray newArray = toContiguous(object, storage, (int) length);
+            if (JSConfig.TraceArrayTransitions) {
+                traceArrayTransition(this, newArray, index, value);
+            }
+            return newArray;
         }
         return this;
     }
 
+    /**
+     * All holes have been filled in, switch back to a contiguous array representation.
+     */
+    private ScriptArray toContiguous(DynamicObject object, SparseArrayStorage storage, int length) {
+        if (storage.isIntOnly()) {
+            return ZeroBasedIntArray.makeZeroBasedIntArray(object, length, length, storage.toIntArray(length), integrityLevel);
+        } else if (storage.isNumberOnly()) {
+            return ZeroBasedDoubleArray.makeZeroBasedDoubleArray(object, length, length, storage.toDoubleArray(length), integrityLevel);
+        } else {
+            return ZeroBasedObjectArray.makeZeroBasedObjectArray(object, length, length, storage.toObjectArray(length), integrityLevel);
+        }
+    }
+
     @Override
     public long length(DynamicObject object, boolean condition) {
         return arrayGetLength(object, condition);
@@ -139,46 +159,33 @@ public final class SparseArray extends DynamicArray {
         return (int) len;
     }
 
-    @TruffleBoundary
     @Override
     public SparseArray setLengthImpl(DynamicObject object, long len, boolean condition, ProfileHolder profile) {
         arraySetLength(object, len);
-        arrayMap(object, condition).tailMap(len).clear();
+        arrayStorage(object, condition).truncate(len);
         return this;
     }
 
-    @TruffleBoundary
     @Override
     public long firstElementIndex(DynamicObject object, boolean condition) {
-        try {
-            return arrayMap(object, condition).firstKey();
-        } catch (NoSuchElementException ex) {
-            return 0;
-        }
+        long firstIndex = arrayStorage(object, condition).firstKey();
+        return firstIndex != SparseArrayStorage.NOT_FOUND ? firstIndex : 0;
     }
 
-    @TruffleBoundary
     @Override
     public long lastElementIndex(DynamicObject object, boolean condition) {
-        try {
-            return arrayMap(object, condition).lastKey();
-        } catch (NoSuchElementException ex) {
-            return -1;
-        }
+        return arrayStorage(object, condition).lastKey();
     }
 
-    @TruffleBoundary
     @Override
     public long nextElementIndex(DynamicObject object, long index, boolean condition) {
-        Long nextIndex = arrayMap(object, condition).higherKey(index);
-        return nextIndex != null ? nextIndex.longValue() : JSRuntime.MAX_SAFE_INTEGER_LONG;
+        long nextIndex = arrayStorage(object, condition).higherKey(index);
+        return nextIndex != SparseArrayStorage.NOT_FOUND ? nextIndex : JSRuntime.MAX_SAFE_INTEGER_LONG;
     }
 
-    @TruffleBoundary
     @Override
     public long previousElementIndex(DynamicObject object, long index, boolean condition) {
-        Long nextIndex = arrayMap(object, condition).lowerKey(index);
-        return nextIndex != null ? nextIndex.longValue() : -1;
+        return arrayStorage(object, condition).lowerKey(index);
     }
 
     @Override
@@ -194,17 +201,15 @@ public final class SparseArray extends DynamicArray {
         return newArray;
     }
 
-    @TruffleBoundary
     @Override
     public ScriptArray deleteElementImpl(DynamicObject object, long index, boolean strict, boolean condition) {
-        arrayMap(object, condition).remove(index);
+        arrayStorage(object, condition).remove(index);
         return this;
     }
 
-    @TruffleBoundary
     @Override
     public boolean hasElement(DynamicObject object, long index, boolean condition) {
-        return arrayMap(object, condition).containsKey(index);
+        return arrayStorage(object, condition).containsKey(index);
     }
 
     @Override
@@ -223,20 +228,21 @@ public final class SparseArray extends DynamicArray {
         assert start >= 0;
         assert end < length(object);
 
+        SparseArrayStorage storage = arrayStorage(object, arrayCondition());
         long delta = end - start + 1;
         long pos = start;
-        if (!hasElement(object, pos)) {
+        if (!storage.containsKey(pos)) {
             pos = nextElementIndex(object, pos, arrayCondition());
         }
         // delete the elements in the removed range
         while (pos <= end) {
-            deleteElementImpl(object, pos, false, arrayCondition());
+            storage.remove(pos);
             pos = nextElementIndex(object, pos, arrayCondition());
         }
         // move all element higher downwards
         while (pos < length(object)) {
-            setElement(object, pos - delta, getElement(object, pos), false);
-            deleteElementImpl(object, pos, false, arrayCondition());
+            storage.put(pos - delta, storage.get(pos));
+            storage.remove(pos);
             pos = nextElementIndex(object, pos, arrayCondition());
         }
         return this;
@@ -246,14 +252,18 @@ public final class SparseArray extends DynamicArray {
     public ScriptArray addRangeImpl(DynamicObject object, long offset, int size) {
         assert offset < length(object);
 
+        SparseArrayStorage storage = arrayStorage(object, arrayCondition());
         long pos = length(object);
-        if (!hasElement(object, pos)) {
+        if (!storage.containsKey(pos)) {
             pos = previousElementIndex(object, pos, arrayCondition());
         }
+        if (pos >= offset && pos + size >= length(object)) {
+            arraySetLength(object, pos + size + 1);
+        }
         // move all element higher upwards
         while (pos >= offset) {
-            setElement(object, pos + size, getElement(object, pos), false);
-            deleteElementImpl(object, pos, false, arrayCondition());
+            storage.put(pos + size, storage.get(pos));
+            storage.remove(pos);
             pos = previousElementIndex(object, pos, arrayCondition());
         }
         return this;
@@ -262,9 +272,9 @@ public final class SparseArray extends DynamicArray {
     @TruffleBoundary
     @Override
     public List<Object> ownPropertyKeys(DynamicObject object) {
-        Set<Long> keySet = arrayMap(object, arrayCondition()).keySet();
-        List<Object> list = new ArrayList<>(keySet.size());
-        for (long index : keySet) {
+        SparseArrayStorage storage = arrayStorage(object, arrayCondition());
+        List<Object> list = new ArrayList<>((int) Math.min(storage.size(), Integer.MAX_VALUE));
+        for (long index = storage.firstKey(); index != SparseArrayStorage.NOT_FOUND; index = storage.higherKey(index)) {
             list.add(Boundaries.stringValueOf(index));
         }
         return list;
@@ -0,0 +1,674 @@
+/*
+ * Copyright (c) 2020, 2020, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * The Universal Permissive License (UPL), Version 1.0
+ *
+ * Subject to the condition set forth below, permission is hereby granted to any
+ * person obtaining a copy of this software, associated documentation and/or
+ * data (collectively the "Software"), free of charge and under any and all
+ * copyright rights in the Software, and any and all patent rights owned or
+ * freely licensable by each licensor hereunder covering either (i) the
+ * unmodified Software as contributed to or provided by such licensor, or (ii)
+ * the Larger Works (as defined below), to deal in both
+ *
+ * (a) the Software, and
+ *
+ * (b) any piece of software and/or hardware listed in the lrgrwrks.txt file if
+ * one is included with the Software each a "Larger Work" to which the Software
+ * is contributed by such licensors),
+ *
+ * without restriction, including without limitation the rights to copy, create
+ * derivative works of, display, perform, and distribute the Software and make,
+ * use, sell, offer for sale, import, export, have made, and have sold the
+ * Software and the Larger Work(s), and to sublicense the foregoing rights on
+ * either these or other terms.
+ *
+ * This license is subject to the following condition:
+ *
+ * The above copyright notice and either this complete permission notice or at a
+ * minimum a reference to the UPL must be included in all copies or substantial
+ * portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.oracle.truffle.js.runtime.array;
+
+import java.util.Arrays;
+
+import com.oracle.truffle.api.CompilerDirectives.TruffleBoundary;
+
+/**
+ * Element storage of {@link SparseArray}. Elements are kept in fixed-size pages that are keyed by
+ * the high bits of the index and kept sorted in a flat page directory. A page starts out holding
+ * a single element, so that isolated indices do not allocate a full page each. When a second
+ * element is stored, it becomes a dense page specialized for {@code int} or {@code double} values
+ * that generalizes to {@code Object} on demand. Lookups and index iteration ({@link #higherKey}, {@link #lowerKey}) neither box nor
+ * allocate and do not need to be behind a {@link TruffleBoundary}.
+ */
+public final class SparseArrayStorage {
+
+    static final int PAGE_BITS = 7;
+    static final int PAGE_SIZE = 1 << PAGE_BITS;
+    static final int PAGE_MASK = PAGE_SIZE - 1;
+    private static final int BITMAP_WORDS = PAGE_SIZE / Long.SIZE;
+    private static final int INITIAL_DIRECTORY_SIZE = 4;
+
+    public static final long NOT_FOUND = -1;
+
+    /** Sorted page keys ({@code index >>> PAGE_BITS}). */
+    private long[] pageKeys;
+    private Page[] pages;
+    private int pageCount;
+    /** Directory slot of the most recently accessed page, speeds up sequential access. */
+    private int lastPage;
+    /** Number of elements. */
+    private long size;
+
+    public SparseArrayStorage() {
+        this.pageKeys = new long[INITIAL_DIRECTORY_SIZE];
+        this.pages = new Page[INITIAL_DIRECTORY_SIZE];
+    }
+
+    public long size() {
+        return size;
+    }
+
+    public Object get(long index) {
+        int slot = findPage(index >>> PAGE_BITS);
+        if (slot < 0) {
+            return null;
+        }
+        Page page = pages[slot];
+        int offset = (int) (index & PAGE_MASK);
+        return page.has(offset) ? page.get(offset) : null;
+    }
+
+    public boolean containsKey(long index) {
+        int slot = findPage(index >>> PAGE_BITS);
+        return slot >= 0 && pages[slot].has((int) (index & PAGE_MASK));
+    }
+
+    public void put(long index, Object value) {
+        assert index >= 0 && value != null;
+        int slot = findPage(index >>> PAGE_BITS);
+        int offset = (int) (index & PAGE_MASK);
+        if (slot >= 0 && pages[slot].canStore(offset, value)) {
+            Page page = pages[slot];
+            if (!page.has(offset)) {
+                page.mark(offset);
+                size++;
+            }
+            page.set(offset, value);
+        } else {
+            putSlow(slot, index, value);
+        }
+    }
+
+    @TruffleBoundary
+    private void putSlow(int foundSlot, long index, Object value) {
+        int slot = foundSlot;
+        if (slot < 0) {
+            slot = insertPage(-slot - 1, index >>> PAGE_BITS, new SinglePage());
+        } else {
+            pages[slot] = pages[slot].generalize(value);
+        }
+        Page page = pages[slot];
+        int offset = (int) (index & PAGE_MASK);
+        if (!page.has(offset)) {
+            page.mark(offset);
+            size++;
+        }
+        page.set(offset, value);
+    }
+
+    public boolean remove(long index) {
+        int slot = findPage(index >>> PAGE_BITS);
+        if (slot < 0) {
+            return false;
+        }
+        Page page = pages[slot];
+        int offset = (int) (index & PAGE_MASK);
+        if (!page.has(offset)) {
+            return false;
+        }
+        page.unmark(offset);
+        size--;
+        if (page.count == 0) {
+            removePages(slot, slot + 1);
+        }
+        return true;
+    }
+
+    /**
+     * Removes all elements with an index greater than or equal to {@code length}.
+     */
+    @TruffleBoundary
+    public void truncate(long length) {
+        long pageKey = length >>> PAGE_BITS;
+        int slot = findPage(pageKey);
+        int firstRemovedSlot;
+        if (slot >= 0) {
+            Page page = pages[slot];
+            int from = (int) (length & PAGE_MASK);
+            for (int offset = page.next(from - 1); offset >= 0; offset = page.next(offset)) {
+                page.unmark(offset);
+                size--;
+            }
+            firstRemovedSlot = page.count == 0 ? slot : slot + 1;
+        } else {
+            firstRemovedSlot = -slot - 1;
+        }
+        for (int i = firstRemovedSlot; i < pageCount; i++) {
+            size -= pages[i].count;
+        }
+        removePages(firstRemovedSlot, pageCount);
+    }
+
+    public long firstKey() {
+        if (pageCount == 0) {
+            return NOT_FOUND;
+        }
+        return (pageKeys[0] << PAGE_BITS) | pages[0].next(-1);
+    }
+
+    public long lastKey() {
+        if (pageCount == 0) {
+            return NOT_FOUND;
+        }
+        int slot = pageCount - 1;
+        return (pageKeys[slot] << PAGE_BITS) | pages[slot].previous(PAGE_SIZE);
+    }
+
+    /**
+     * Returns the smallest index strictly greater than {@code index}, or {@link #NOT_FOUND}.
+     */
+    public long higherKey(long index) {
+        if (index < 0) {
+            return firstKey();
+        }
+        long pageKey = index >>> PAGE_BITS;
+        int slot = findPage(pageKey);
+        if (slot >= 0) {
+            int offset = pages[slot].next((int) (index & PAGE_MASK));
+            if (offset >= 0) {
+                return (pageKey << PAGE_BITS) | offset;
+            }
+            slot++;
+        } else {
+            slot = -slot - 1;
+        }
+        if (slot < pageCount) {
+            // pages are never empty
+            lastPage = slot;
+            return (pageKeys[slot] << PAGE_BITS) | pages[slot].next(-1);
+        }
+        return NOT_FOUND;
+    }
+
+    /**
+     * Returns the largest index strictly smaller than {@code index}, or {@link #NOT_FOUND}.
+     */
+    public long lowerKey(long index) {
+        if (index <= 0) {
+            return NOT_FOUND;
+        }
+        long pageKey = index >>> PAGE_BITS;
+        int slot = findPage(pageKey);
+        if (slot >= 0) {
+            int offset = pages[slot].previous((int) (index & PAGE_MASK));
+            if (offset >= 0) {
+                return (pageKey << PAGE_BITS) | offset;
+            }
+            slot--;
+        } else {
+            slot = -slot - 2;
+        }
+        if (slot >= 0) {
+            lastPage = slot;
+            return (pageKeys[slot] << PAGE_BITS) | pages[slot].previous(PAGE_SIZE);
+        }
+        return NOT_FOUND;
+    }
+
+    /**
+     * Returns {@code true} if all elements are {@code int} values.
+     */
+    public boolean isIntOnly() {
+        for (int i = 0; i < pageCount; i++) {
+            if (!pages[i].isIntOnly()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns {@code true} if all elements are {@code int} or {@code double} values.
+     */
+    public boolean isNumberOnly() {
+        for (int i = 0; i < pageCount; i++) {
+            if (!pages[i].isNumberOnly()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Copies the elements in {@code [0, length)} into a dense array. Must only be called if the
+     * storage does not have any holes in that range.
+     */
+    @TruffleBoundary
+    public int[] toIntArray(int length) {
+        assert isIntOnly() && size == length;
+        int[] array = new int[length];
+        for (int i = 0; i < pageCount; i++) {
+            int start = (int) (pageKeys[i] << PAGE_BITS);
+            int end = Math.min(PAGE_SIZE, length - start);
+            Page page = pages[i];
+            if (page instanceof IntPage) {
+                System.arraycopy(((IntPage) page).values, 0, array, start, end);
+            } else {
+                for (int j = page.next(-1); j >= 0; j = page.next(j)) {
+                    array[start + j] = (int) page.get(j);
+                }
+            }
+        }
+        return array;
+    }
+
+    @TruffleBoundary
+    public double[] toDoubleArray(int length) {
+        assert isNumberOnly() && size == length;
+        double[] array = new double[length];
+        for (int i = 0; i < pageCount; i++) {
+            int start = (int) (pageKeys[i] << PAGE_BITS);
+            int end = Math.min(PAGE_SIZE, length - start);
+            Page page = pages[i];
+            if (page instanceof DoublePage) {
+                System.arraycopy(((DoublePage) page).values, 0, array, start, end);
+            } else if (page instanceof IntPage) {
+                int[] values = ((IntPage) page).values;
+                for (int j = 0; j < end; j++) {
+                    array[start + j] = values[j];
+                }
+            } else {
+                for (int j = page.next(-1); j >= 0; j = page.next(j)) {
+                    array[start + j] = ((Number) page.get(j)).doubleValue();
+                }
+            }
+        }
+        return array;
+    }
+
+    @TruffleBoundary
+    public Object[] toObjectArray(int length) {
+        assert size == length;
+        Object[] array = new Object[length];
+        for (int i = 0; i < pageCount; i++) {
+            int start = (int) (pageKeys[i] << PAGE_BITS);
+            int end = Math.min(PAGE_SIZE, length - start);
+            Page page = pages[i];
+            for (int j = page.next(-1); j >= 0 && j < end; j = page.next(j)) {
+                array[start + j] = page.get(j);
+            }
+        }
+        return array;
+    }
+
+    /**
+     * Returns the directory slot of the page with the given key, or {@code -(insertionPoint + 1)}
+     * if there is no such page.
+     */
+    private int findPage(long pageKey) {
+        int cached = lastPage;
+        if (cached < pageCount && pageKeys[cached] == pageKey) {
+            return cached;
+        }
+        int low = 0;
+        int high = pageCount - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            long midKey = pageKeys[mid];
+            if (midKey < pageKey) {
+                low = mid + 1;
+            } else if (midKey > pageKey) {
+                high = mid - 1;
+            } else {
+                lastPage = mid;
+                return mid;
+            }
+        }
+        return -(low + 1);
+    }
+
+    private int insertPage(int slot, long pageKey, Page page) {
+        if (pageCount == pages.length) {
+            int newLength = pages.length << 1;
+            pageKeys = Arrays.copyOf(pageKeys, newLength);
+            pages = Arrays.copyOf(pages, newLength);
+        }
+        System.arraycopy(pageKeys, slot, pageKeys, slot + 1, pageCount - slot);
+        System.arraycopy(pages, slot, pages, slot + 1, pageCount - slot);
+        pageKeys[slot] = pageKey;
+        pages[slot] = page;
+        pageCount++;
+        lastPage = slot;
+        return slot;
+    }
+
+    private void removePages(int fromSlot, int toSlot) {
+        int removed = toSlot - fromSlot;
+        if (removed <= 0) {
+            return;
+        }
+        System.arraycopy(pageKeys, toSlot, pageKeys, fromSlot, pageCount - toSlot);
+        System.arraycopy(pages, toSlot, pages, fromSlot, pageCount - toSlot);
+        Arrays.fill(pages, pageCount - removed, pageCount, null);
+        pageCount -= removed;
+        lastPage = 0;
+    }
+
+    @Override
+    public String toString() {
+        return "SparseArrayStorage [size=" + size + ", pages=" + pageCount + "]";
+    }
+
+    private abstract static class Page {
+        int count;
+
+        abstract boolean has(int offset);
+
+        abstract void mark(int offset);
+
+        /**
+         * Removes the element at {@code offset}, which must be present.
+         */
+        abstract void unmark(int offset);
+
+        /**
+         * Returns the first present offset greater than {@code offset}, or -1.
+         */
+        abstract int next(int offset);
+
+        /**
+         * Returns the last present offset smaller than {@code offset}, or -1.
+         */
+        abstract int previous(int offset);
+
+        /**
+         * Returns {@code true} if {@code value} can be stored at {@code offset} without
+         * {@link #generalize generalizing} the page.
+         */
+        abstract boolean canStore(int offset, Object value);
+
+        abstract Object get(int offset);
+
+        abstract void set(int offset, Object value);
+
+        abstract boolean isIntOnly();
+
+        abstract boolean isNumberOnly();
+
+        /**
+         * Returns a page that can store {@code value} in addition to the values of this page.
+         */
+        final Page generalize(Object value) {
+            DensePage newPage;
+            if (value instanceof Integer && isIntOnly()) {
+                newPage = new IntPage();
+            } else if ((value instanceof Integer || value instanceof Double) && isNumberOnly()) {
+                newPage = new DoublePage();
+            } else {
+                newPage = new ObjectPage();
+            }
+            for (int offset = next(-1); offset >= 0; offset = next(offset)) {
+                newPage.mark(offset);
+                newPage.set(offset, get(offset));
+            }
+            return newPage;
+        }
+    }
+
+    /**
+     * Page of an isolated index, holding at most one element of any type.
+     */
+    private static final class SinglePage extends Page {
+        private int offset;
+        private Object value;
+
+        @Override
+        boolean has(int o) {
+            return count != 0 && offset == o;
+        }
+
+        @Override
+        void mark(int o) {
+            assert count == 0;
+            offset = o;
+            count = 1;
+        }
+
+        @Override
+        void unmark(int o) {
+            assert has(o);
+            value = null;
+            count = 0;
+        }
+
+        @Override
+        int next(int o) {
+            return count != 0 && offset > o ? offset : -1;
+        }
+
+        @Override
+        int previous(int o) {
+            return count != 0 && offset < o ? offset : -1;
+        }
+
+        @Override
+        boolean canStore(int o, Object v) {
+            return count == 0 || offset == o;
+        }
+
+        @Override
+        Object get(int o) {
+            assert has(o);
+            return value;
+        }
+
+        @Override
+        void set(int o, Object v) {
+            assert has(o);
+            value = v;
+        }
+
+        @Override
+        boolean isIntOnly() {
+            return value instanceof Integer;
+        }
+
+        @Override
+        boolean isNumberOnly() {
+            return value instanceof Integer || value instanceof Double;
+        }
+    }
+
+    private abstract static class DensePage extends Page {
+        private final long[] present = new long[BITMAP_WORDS];
+
+        @Override
+        final boolean has(int offset) {
+            return (present[offset >> 6] & (1L << offset)) != 0;
+        }
+
+        @Override
+        final void mark(int offset) {
+            present[offset >> 6] |= 1L << offset;
+            count++;
+        }
+
+        @Override
+        final void unmark(int offset) {
+            present[offset >> 6] &= ~(1L << offset);
+            count--;
+            clear(offset);
+        }
+
+        @Override
+        final int next(int offset) {
+            int from = offset + 1;
+            if (from >= PAGE_SIZE) {
+                return -1;
+            }
+            int word = from >> 6;
+            long bits = present[word] & (-1L << from);
+            while (true) {
+                if (bits != 0) {
+                    return (word << 6) + Long.numberOfTrailingZeros(bits);
+                }
+                if (++word == BITMAP_WORDS) {
+                    return -1;
+                }
+                bits = present[word];
+            }
+        }
+
+        @Override
+        final int previous(int offset) {
+            int from = offset - 1;
+            if (from < 0) {
+                return -1;
+            }
+            int word = from >> 6;
+            long bits = present[word] & (-1L >>> (63 - (from & 63)));
+            while (true) {
+                if (bits != 0) {
+                    return (word << 6) + 63 - Long.numberOfLeadingZeros(bits);
+                }
+                if (--word < 0) {
+                    return -1;
+                }
+                bits = present[word];
+            }
+        }
+
+        @Override
+        final boolean canStore(int offset, Object value) {
+            return canStore(value);
+        }
+
+        abstract boolean canStore(Object value);
+
+        abstract void clear(int offset);
+    }
+
+    private static final class IntPage extends DensePage {
+        final int[] values = new int[PAGE_SIZE];
+
+        @Override
+        boolean canStore(Object value) {
+            return value instanceof Integer;
+        }
+
+        @Override
+        Object get(int offset) {
+            return values[offset];
+        }
+
+        @Override
+        void set(int offset, Object value) {
+            values[offset] = (int) value;
+        }
+
+        @Override
+        void clear(int offset) {
+            values[offset] = 0;
+        }
+
+        @Override
+        boolean isIntOnly() {
+            return true;
+        }
+
+        @Override
+        boolean isNumberOnly() {
+            return true;
+        }
+    }
+
+    private static final class DoublePage extends DensePage {
+        final double[] values = new double[PAGE_SIZE];
+
+        @Override
+        boolean canStore(Object value) {
+            return value instanceof Double || value instanceof Integer;
+        }
+
+        @Override
+        Object get(int offset) {
+            return values[offset];
+        }
+
+        @Override
+        void set(int offset, Object value) {
+            values[offset] = value instanceof Integer ? (int) value : (double) value;
+        }
+
+        @Override
+        void clear(int offset) {
+            values[offset] = 0;
+        }
+
+        @Override
+        boolean isIntOnly() {
+            return false;
+        }
+
+        @Override
+        boolean isNumberOnly() {
+            return true;
+        }
+    }
+
+    private static final class ObjectPage extends DensePage {
+        final Object[] values = new Object[PAGE_SIZE];
+
+        @Override
+        boolean canStore(Object value) {
+            return true;
+        }
+
+        @Override
+        Object get(int offset) {
+            return values[offset];
+        }
+
+        @Override
+        void set(int offset, Object value) {
+            values[offset] = value;
+        }
+
+        @Override
+        void clear(int offset) {
+            values[offset] = null;
+        }
+
+        @Override
+        boolean isIntOnly() {
+            return false;
+        }
+
+        @Override
+        boolean isNumberOnly() {
+            return false;
+        }
+    }
+}
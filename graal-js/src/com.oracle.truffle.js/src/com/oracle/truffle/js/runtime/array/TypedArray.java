@@ -45,10 +45,12 @@ import static com.oracle.truffle.js.runtime.builtins.JSArrayBufferView.typedArra
 import static com.oracle.truffle.js.runtime.builtins.JSArrayBufferView.typedArrayGetByteBuffer;
 import static com.oracle.truffle.js.runtime.builtins.JSArrayBufferView.typedArrayGetLength;
 import static com.oracle.truffle.js.runtime.builtins.JSArrayBufferView.typedArrayGetOffset;
+import static com.oracle.truffle.js.runtime.util.BufferUtil.asBaseBuffer;
 
 import java.nio.ByteBuffer;
 import java.nio.ByteOrder;
 
+import com.oracle.truffle.api.CompilerDirectives.TruffleBoundary;
 import com.oracle.truffle.api.object.DynamicObject;
 import com.oracle.truffle.js.runtime.BigInt;
 import com.oracle.truffle.js.runtime.Errors;
@@ -246,6 +248,118 @@ public abstract class TypedArray extends ScriptArray {
         return byteBuffer.duplicate().order(byteOrder);
     }
 
+    /**
+     * Returns the index of the first element in [fromIndex, toIndex) that is strictly equal to
+     * {@code searchElement} (or SameValueZero, if {@code sameValueZero} is set), or -1.
+     */
+    public abstract int indexOf(DynamicObject object, int fromIndex, int toIndex, Object searchElement, boolean sameValueZero, boolean condition);
+
+    /**
+     * Copies {@code count} elements from index {@code from} to index {@code to}. The ranges may
+     * overlap.
+     */
+    public final void copyWithin(DynamicObject object, int to, int from, int count, boolean condition) {
+        Object buffer = getBufferFromTypedArray(object, condition);
+        int offset = getOffset(object, condition);
+        if (isDirect()) {
+            moveBytes((ByteBuffer) buffer, offset + from * bytesPerElement, offset + to * bytesPerElement, count * bytesPerElement);
+        } else {
+            System.arraycopy(buffer, offset + from * bytesPerElement, buffer, offset + to * bytesPerElement, count * bytesPerElement);
+        }
+    }
+
+    /**
+     * Sets the elements in [start, end) to {@code value}, which has already been converted to a
+     * number or BigInt. The first element is set as usual, its bytes are then replicated by copies
+     * of doubling length.
+     */
+    public final void fill(DynamicObject object, int start, int end, Object value, boolean condition) {
+        assert start < end;
+        setElementImpl(object, start, value, false, condition);
+        Object buffer = getBufferFromTypedArray(object, condition);
+        int byteIndex = getOffset(object, condition) + start * bytesPerElement;
+        int byteLength = (end - start) * bytesPerElement;
+        for (int filled = bytesPerElement; filled < byteLength; filled <<= 1) {
+            copyBytes(buffer, isDirect(), byteIndex, buffer, isDirect(), byteIndex + filled, Math.min(filled, byteLength - filled));
+        }
+    }
+
+    /**
+     * Copies {@code count} elements to a typed array of the same element type that does not share
+     * the buffer of this one.
+     */
+    public final void copyElements(DynamicObject source, int sourceIndex, TypedArray targetType, DynamicObject target, int targetIndex, int count, boolean condition) {
+        assert getFactory() == targetType.getFactory();
+        Object sourceBuffer = getBufferFromTypedArray(source, condition);
+        Object targetBuffer = targetType.getBufferFromTypedArray(target, condition);
+        assert sourceBuffer != targetBuffer;
+        copyBytes(sourceBuffer, isDirect(), getOffset(source, condition) + sourceIndex * bytesPerElement,
+                        targetBuffer, targetType.isDirect(), targetType.getOffset(target, condition) + targetIndex * bytesPerElement, count * bytesPerElement);
+    }
+
+    /**
+     * Copies bytes between heap ({@code byte[]}) and direct ({@link ByteBuffer}) backing buffers.
+     * The ranges must not overlap.
+     */
+    public static void copyBytes(Object source, boolean sourceDirect, int sourceIndex, Object target, boolean targetDirect, int targetIndex, int length) {
+        if (sourceDirect || targetDirect) {
+            copyBytesDirect(source, sourceIndex, target, targetIndex, length);
+        } else {
+            System.arraycopy(source, sourceIndex, target, targetIndex, length);
+        }
+    }
+
+    @TruffleBoundary
+    private static void copyBytesDirect(Object source, int sourceIndex, Object target, int targetIndex, int length) {
+        if (target instanceof ByteBuffer) {
+            ByteBuffer targetBuffer = (ByteBuffer) asBaseBuffer(((ByteBuffer) target).duplicate()).position(targetIndex);
+            if (source instanceof ByteBuffer) {
+                targetBuffer.put((ByteBuffer) asBaseBuffer(((ByteBuffer) source).duplicate()).limit(sourceIndex + length).position(sourceIndex));
+            } else {
+                targetBuffer.put((byte[]) source, sourceIndex, length);
+            }
+        } else {
+            ((ByteBuffer) asBaseBuffer(((ByteBuffer) source).duplicate()).position(sourceIndex)).get((byte[]) target, targetIndex, length);
+        }
+    }
+
+    @TruffleBoundary
+    private static void moveBytes(ByteBuffer buffer, int sourceIndex, int targetIndex, int length) {
+        if (sourceIndex + length <= targetIndex || targetIndex + length <= sourceIndex) {
+            copyBytesDirect(buffer, sourceIndex, buffer, targetIndex, length);
+        } else {
+            byte[] bytes = new byte[length];
+            ((ByteBuffer) asBaseBuffer(buffer.duplicate()).position(sourceIndex)).get(bytes);
+            ((ByteBuffer) asBaseBuffer(buffer.duplicate()).position(targetIndex)).put(bytes);
+        }
+    }
+
+    /**
+     * Direct buffer counterpart of {@link ByteArrayAccess#indexOfBits}.
+     */
+    protected static int indexOfBits(ByteBuffer buffer, int offset, int fromIndex, int toIndex, int bytesPerElement, int value) {
+        ByteBuffer nativeBuffer = withNativeOrder(buffer);
+        long lowBits = ByteArrayAccess.laneLowBits(bytesPerElement);
+        long highBits = lowBits << (bytesPerElement * Byte.SIZE - 1);
+        int mask = (1 << (bytesPerElement * Byte.SIZE)) - 1;
+        long pattern = lowBits * (value & mask);
+        int elementsPerWord = Long.BYTES / bytesPerElement;
+        int i = fromIndex;
+        for (; i <= toIndex - elementsPerWord; i += elementsPerWord) {
+            long word = nativeBuffer.getLong(offset + i * bytesPerElement) ^ pattern;
+            if (((word - lowBits) & ~word & highBits) != 0) {
+                break;
+            }
+        }
+        for (; i < toIndex; i++) {
+            int element = bytesPerElement == 1 ? nativeBuffer.get(offset + i) : nativeBuffer.getShort(offset + i * bytesPerElement);
+            if (((element ^ value) & mask) == 0) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
     public abstract Object getBufferElement(DynamicObject buffer, int index, boolean littleEndian, boolean condition);
 
     public abstract void setBufferElement(DynamicObject buffer, int index, boolean littleEndian, boolean condition, Object value);
@@ -302,6 +416,48 @@ public abstract class TypedArray extends ScriptArray {
         public abstract int getIntImpl(T buffer, int offset, int index);
 
         public abstract void setIntImpl(T buffer, int offset, int index, int value);
+
+        @Override
+        public final int indexOf(DynamicObject object, int fromIndex, int toIndex, Object searchElement, boolean sameValueZero, boolean condition) {
+            boolean unsigned32 = this instanceof AbstractUint32Array;
+            int value;
+            if (searchElement instanceof Integer) {
+                value = (int) searchElement;
+                if (unsigned32 && value < 0) {
+                    return -1;
+                }
+            } else if (JSRuntime.isNumber(searchElement)) {
+                double doubleValue = JSRuntime.doubleValue((Number) searchElement);
+                long longValue = (long) doubleValue;
+                if (longValue != doubleValue || (unsigned32 ? (longValue < 0 || longValue > 0xFFFFFFFFL) : longValue != (int) longValue)) {
+                    return -1;
+                }
+                value = (int) longValue;
+            } else {
+                return -1;
+            }
+            return indexOfInt(getBufferFromTypedArrayT(object, condition), getOffset(object, condition), fromIndex, toIndex, value);
+        }
+
+        private int indexOfInt(T buffer, int offset, int fromIndex, int toIndex, int value) {
+            int bytesPerElement = bytesPerElement();
+            if (bytesPerElement <= 2) {
+                int index;
+                if (isDirect()) {
+                    index = indexOfBits((ByteBuffer) buffer, offset, fromIndex, toIndex, bytesPerElement, value);
+                } else {
+                    index = NATIVE_ORDER.indexOfBits((byte[]) buffer, offset, fromIndex, toIndex, bytesPerElement, value);
+                }
+                // elements with equal bits have equal values, so there is no other candidate
+                return index < 0 || getIntImpl(buffer, offset, index) == value ? index : -1;
+            }
+            for (int i = fromIndex; i < toIndex; i++) {
+                if (getIntImpl(buffer, offset, i) == value) {
+                    return i;
+                }
+            }
+            return -1;
+        }
     }
 
     static final int INT8_BYTES_PER_ELEMENT = 1;
@@ -811,6 +967,22 @@ public abstract class TypedArray extends ScriptArray {
         public abstract BigInt getBigIntImpl(T buffer, int offset, int index);
 
         public abstract void setBigIntImpl(T buffer, int offset, int index, BigInt value);
+
+        @Override
+        public final int indexOf(DynamicObject object, int fromIndex, int toIndex, Object searchElement, boolean sameValueZero, boolean condition) {
+            if (!(searchElement instanceof BigInt)) {
+                return -1;
+            }
+            BigInt value = (BigInt) searchElement;
+            T buffer = getBufferFromTypedArrayT(object, condition);
+            int offset = getOffset(object, condition);
+            for (int i = fromIndex; i < toIndex; i++) {
+                if (value.compareTo(getBigIntImpl(buffer, offset, i)) == 0) {
+                    return i;
+                }
+            }
+            return -1;
+        }
     }
 
     static final int BIGINT64_BYTES_PER_ELEMENT = 8;
@@ -976,6 +1148,32 @@ public abstract class TypedArray extends ScriptArray {
         public abstract double getDoubleImpl(T buffer, int offset, int index);
 
         public abstract void setDoubleImpl(T buffer, int offset, int index, double value);
+
+        @Override
+        public final int indexOf(DynamicObject object, int fromIndex, int toIndex, Object searchElement, boolean sameValueZero, boolean condition) {
+            if (!JSRuntime.isNumber(searchElement)) {
+                return -1;
+            }
+            double value = JSRuntime.doubleValue((Number) searchElement);
+            T buffer = getBufferFromTypedArrayT(object, condition);
+            int offset = getOffset(object, condition);
+            if (Double.isNaN(value)) {
+                if (sameValueZero) {
+                    for (int i = fromIndex; i < toIndex; i++) {
+                        if (Double.isNaN(getDoubleImpl(buffer, offset, i))) {
+                            return i;
+                        }
+                    }
+                }
+                return -1;
+            }
+            for (int i = fromIndex; i < toIndex; i++) {
+                if (getDoubleImpl(buffer, offset, i) == value) {
+                    return i;
+                }
+            }
+            return -1;
+        }
     }
 
     static final int FLOAT32_BYTES_PER_ELEMENT = 4;
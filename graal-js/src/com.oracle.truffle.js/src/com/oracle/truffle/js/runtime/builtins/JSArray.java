@@ -350,7 +350,7 @@ public final class JSArray extends JSAbstractArray implements JSConstructorFacto
     }
 
     public static DynamicObject createSparseArray(JSContext context, long length) {
-        return create(context, SparseArray.createSparseArray(), SparseArray.createArrayMap(), length);
+        return create(context, SparseArray.createSparseArray(), SparseArray.createArrayStorage(), length);
     }
 
     public static DynamicObject createLazyRegexArray(JSContext context, int length, Object regexResult, String input, DynamicObject groups, DynamicObject indicesGroups) {
@@ -51,6 +51,7 @@ import com.oracle.truffle.api.CompilerDirectives.TruffleBoundary;
 import com.oracle.truffle.api.Truffle;
 import com.oracle.truffle.api.frame.VirtualFrame;
 import com.oracle.truffle.api.object.DynamicObject;
+import com.oracle.truffle.api.object.HiddenKey;
 import com.oracle.truffle.api.object.Shape;
 import com.oracle.truffle.api.profiles.BranchProfile;
 import com.oracle.truffle.api.profiles.ConditionProfile;
@@ -67,6 +68,7 @@ import com.oracle.truffle.js.runtime.objects.JSAttributes;
 import com.oracle.truffle.js.runtime.objects.JSObject;
 import com.oracle.truffle.js.runtime.objects.JSObjectUtil;
 import com.oracle.truffle.js.runtime.objects.Undefined;
+import com.oracle.truffle.js.runtime.util.DirectByteBufferCleaner;
 import com.oracle.truffle.js.runtime.util.DirectByteBufferHelper;
 
 public final class JSArrayBuffer extends JSAbstractBuffer implements JSConstructorFactory.Default.WithFunctionsAndSpecies, PrototypeSupplier {
@@ -77,6 +79,8 @@ public final class JSArrayBuffer extends JSAbstractBuffer implements JSConstruct
     public static final JSArrayBuffer HEAP_INSTANCE = new JSArrayBuffer();
     public static final JSArrayBuffer DIRECT_INSTANCE = new JSArrayBuffer();
 
+    private static final HiddenKey MAPPED_FILE_ID = new HiddenKey("mappedFile");
+
     private JSArrayBuffer() {
     }
 
@@ -113,6 +117,17 @@ public final class JSArrayBuffer extends JSAbstractBuffer implements JSConstruct
         return obj;
     }
 
+    /**
+     * Creates a direct array buffer over a memory-mapped file region. The mapping is released
+     * explicitly by {@link #unmapArrayBuffer}, or when the buffer is garbage collected.
+     */
+    @TruffleBoundary
+    public static DynamicObject createMappedArrayBuffer(JSContext context, ByteBuffer buffer) {
+        DynamicObject obj = createDirectArrayBuffer(context, buffer);
+        obj.define(MAPPED_FILE_ID, Boolean.TRUE);
+        return obj;
+    }
+
     @Override
     public DynamicObject createPrototype(JSRealm realm, DynamicObject ctor) {
         JSContext context = realm.getContext();
@@ -214,6 +229,15 @@ public final class JSArrayBuffer extends JSAbstractBuffer implements JSConstruct
         return isInstance(obj, DIRECT_INSTANCE);
     }
 
+    public static boolean isJSMappedArrayBuffer(Object obj) {
+        return JSObject.isDynamicObject(obj) && isJSMappedArrayBuffer((DynamicObject) obj);
+    }
+
+    @TruffleBoundary
+    public static boolean isJSMappedArrayBuffer(DynamicObject obj) {
+        return isJSDirectArrayBuffer(obj) && obj.containsKey(MAPPED_FILE_ID);
+    }
+
     public static boolean isJSDirectOrSharedArrayBuffer(Object obj) {
         return isJSDirectArrayBuffer(obj) || JSSharedArrayBuffer.isJSSharedArrayBuffer(obj);
     }
@@ -252,6 +276,20 @@ public final class JSArrayBuffer extends JSAbstractBuffer implements JSConstruct
         }
     }
 
+    /**
+     * Detaches a memory-mapped array buffer and unmaps its file region right away. Does nothing if
+     * the buffer is already detached.
+     */
+    @TruffleBoundary
+    public static void unmapArrayBuffer(DynamicObject arrayBuffer) {
+        assert isJSMappedArrayBuffer(arrayBuffer);
+        ByteBuffer buffer = (ByteBuffer) BYTE_BUFFER_PROPERTY.get(arrayBuffer, true);
+        if (buffer != null) {
+            detachArrayBuffer(arrayBuffer);
+            DirectByteBufferCleaner.clean(buffer);
+        }
+    }
+
     @Override
     public DynamicObject getIntrinsicDefaultProto(JSRealm realm) {
         return realm.getArrayBufferPrototype();
@@ -81,6 +81,7 @@ import com.oracle.truffle.js.runtime.objects.JSObject;
 import com.oracle.truffle.js.runtime.objects.JSObjectUtil;
 import com.oracle.truffle.js.runtime.objects.JSShape;
 import com.oracle.truffle.js.runtime.objects.Undefined;
+import com.oracle.truffle.js.runtime.util.IntlFormatterCache;
 import com.oracle.truffle.js.runtime.util.IntlUtil;
 
 public final class JSCollator extends JSBuiltinObject implements JSConstructorFactory.Default.WithFunctions, PrototypeSupplier {
@@ -225,25 +226,42 @@ public final class JSCollator extends JSBuiltinObject implements JSConstructorFa
             collatorLocale = builder.setUnicodeLocaleKeyword("co", IntlUtil.SEARCH).build();
         }
 
-        state.collator = Collator.getInstance(collatorLocale);
-        state.collator.setDecomposition(Collator.CANONICAL_DECOMPOSITION);
-        switch (state.sensitivity) {
+        IntlFormatterCache cache = ctx.getRealm().getIntlFormatterCache();
+        if (cache == null) {
+            state.collator = createCollator(collatorLocale, state.sensitivity, state.ignorePunctuation);
+        } else {
+            String key = IntlFormatterCache.key(CLASS_NAME, collatorLocale.toLanguageTag(), state.sensitivity, state.ignorePunctuation);
+            Collator collator = (Collator) cache.get(key);
+            if (collator == null) {
+                // frozen collators are immutable and thread-safe, so they can be shared
+                collator = createCollator(collatorLocale, state.sensitivity, state.ignorePunctuation).freeze();
+                cache.put(key, collator);
+            }
+            state.collator = collator;
+        }
+    }
+
+    private static Collator createCollator(Locale collatorLocale, String sensitivity, boolean ignorePunctuation) {
+        Collator collator = Collator.getInstance(collatorLocale);
+        collator.setDecomposition(Collator.CANONICAL_DECOMPOSITION);
+        switch (sensitivity) {
             case IntlUtil.BASE:
-                state.collator.setStrength(Collator.PRIMARY);
+                collator.setStrength(Collator.PRIMARY);
                 break;
             case IntlUtil.ACCENT:
-                state.collator.setStrength(Collator.SECONDARY);
+                collator.setStrength(Collator.SECONDARY);
                 break;
             case IntlUtil.CASE:
             case IntlUtil.VARIANT:
-                state.collator.setStrength(Collator.TERTIARY);
+                collator.setStrength(Collator.TERTIARY);
                 break;
         }
-        if (state.ignorePunctuation) {
-            if (state.collator instanceof RuleBasedCollator) {
-                ((RuleBasedCollator) state.collator).setAlternateHandlingShifted(true);
+        if (ignorePunctuation) {
+            if (collator instanceof RuleBasedCollator) {
+                ((RuleBasedCollator) collator).setAlternateHandlingShifted(true);
             }
         }
+        return collator;
     }
 
     @Override
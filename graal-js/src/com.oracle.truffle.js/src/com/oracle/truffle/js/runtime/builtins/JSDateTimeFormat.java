@@ -93,6 +93,7 @@ import com.oracle.truffle.js.runtime.objects.JSObject;
 import com.oracle.truffle.js.runtime.objects.JSObjectUtil;
 import com.oracle.truffle.js.runtime.objects.JSShape;
 import com.oracle.truffle.js.runtime.objects.Undefined;
+import com.oracle.truffle.js.runtime.util.IntlFormatterCache;
 import com.oracle.truffle.js.runtime.util.IntlUtil;
 import com.oracle.truffle.js.runtime.util.LazyValue;
 
@@ -189,6 +190,18 @@ public final class JSDateTimeFormat extends JSBuiltinObject implements JSConstru
                     String numberingSystemOpt,
                     String dateStyleOpt,
                     String timeStyleOpt) {
+        IntlFormatterCache cache = ctx.getRealm().getIntlFormatterCache();
+        String cacheKey = null;
+        if (cache != null) {
+            cacheKey = IntlFormatterCache.key(CLASS_NAME, locales, weekdayOpt, eraOpt, yearOpt, monthOpt, dayOpt, hourOpt, hcOpt, hour12Opt, minuteOpt, secondOpt, tzNameOpt,
+                            timeZone.getID(), calendarOpt, numberingSystemOpt, dateStyleOpt, timeStyleOpt);
+            InternalState cachedState = (InternalState) cache.get(cacheKey);
+            if (cachedState != null) {
+                state.copyResolvedStateFrom(cachedState);
+                return;
+            }
+        }
+
         Locale selectedLocale = IntlUtil.selectedLocale(ctx, locales);
         Locale strippedLocale = selectedLocale.stripExtensions();
 
@@ -346,6 +359,12 @@ public final class JSDateTimeFormat extends JSBuiltinObject implements JSConstru
         state.dateFormat.setTimeZone(timeZone);
         state.timeZone = timeZone.getID();
         state.initialized = true;
+
+        if (cache != null) {
+            InternalState cachedState = new InternalState();
+            cachedState.copyResolvedStateFrom(state);
+            cache.put(cacheKey, cachedState);
+        }
     }
 
     private static int dateFormatStyle(String style) {
@@ -812,6 +831,32 @@ public final class JSDateTimeFormat extends JSBuiltinObject implements JSConstru
         private String dateStyle;
         private String timeStyle;
 
+        /**
+         * Copies the resolved options of an initialized state. The date format is cloned because
+         * it is mutable and not thread-safe.
+         */
+        void copyResolvedStateFrom(InternalState other) {
+            assert other.initialized;
+            this.dateFormat = (DateFormat) other.dateFormat.clone();
+            this.locale = other.locale;
+            this.calendar = other.calendar;
+            this.numberingSystem = other.numberingSystem;
+            this.weekday = other.weekday;
+            this.era = other.era;
+            this.year = other.year;
+            this.month = other.month;
+            this.day = other.day;
+            this.hour = other.hour;
+            this.minute = other.minute;
+            this.second = other.second;
+            this.hourCycle = other.hourCycle;
+            this.timeZoneName = other.timeZoneName;
+            this.timeZone = other.timeZone;
+            this.dateStyle = other.dateStyle;
+            this.timeStyle = other.timeStyle;
+            this.initialized = true;
+        }
+
         DynamicObject toResolvedOptionsObject(JSContext context) {
             DynamicObject result = JSUserObject.create(context);
             JSObjectUtil.defineDataProperty(result, IntlUtil.LOCALE, locale, JSAttributes.getDefault());
@@ -366,9 +366,19 @@ public final class JSFunctionData {
                     // release lazy initialization closure
                     if (!(init instanceof CallTargetInitializer)) {
                         lazyInit = init = (CallTargetInitializer) ((RootCallTarget) rootCallTarget).getRootNode();
+                        recordFirstCall(false);
                     }
                 }
             }
+        } else if (!(init instanceof CallTargetInitializer)) {
+            // materialized ahead of the first call
+            synchronized (context) {
+                init = lazyInit;
+                if (!(init instanceof CallTargetInitializer)) {
+                    lazyInit = init = (CallTargetInitializer) ((RootCallTarget) rootCallTarget).getRootNode();
+                    recordFirstCall(true);
+                }
+            }
         }
         assert rootCallTarget != null;
         AtomicReferenceFieldUpdater<JSFunctionData, CallTarget> updater = target.getUpdater();
@@ -388,6 +398,13 @@ public final class JSFunctionData {
         return result;
     }
 
+    private void recordFirstCall(boolean alreadyTranslated) {
+        BackgroundTranslationQueue translationQueue = context.getBackgroundTranslationQueue();
+        if (translationQueue != null) {
+            translationQueue.recordFirstCall(alreadyTranslated);
+        }
+    }
+
     public void materialize() {
         CompilerAsserts.neverPartOfCompilation();
         assert !isBuiltin();
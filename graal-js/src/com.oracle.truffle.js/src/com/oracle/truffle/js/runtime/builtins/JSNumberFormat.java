@@ -100,6 +100,7 @@ import com.oracle.truffle.js.runtime.objects.JSObject;
 import com.oracle.truffle.js.runtime.objects.JSObjectUtil;
 import com.oracle.truffle.js.runtime.objects.JSShape;
 import com.oracle.truffle.js.runtime.objects.Undefined;
+import com.oracle.truffle.js.runtime.util.IntlFormatterCache;
 import com.oracle.truffle.js.runtime.util.IntlUtil;
 import com.oracle.truffle.js.runtime.util.LazyValue;
 
@@ -733,6 +734,30 @@ public final class JSNumberFormat extends JSBuiltinObject implements JSConstruct
             this.setNumberFormatter(formatter);
         }
 
+        /**
+         * Like {@link #initializeNumberFormatter()}, but reuses a formatter of the realm's
+         * {@link IntlFormatterCache} resolved from the same locale and options, if any.
+         * {@link LocalizedNumberFormatter} is immutable, so it can be shared.
+         */
+        @TruffleBoundary
+        public void initializeNumberFormatter(JSContext context) {
+            IntlFormatterCache cache = context.getRealm().getIntlFormatterCache();
+            if (cache == null) {
+                initializeNumberFormatter();
+                return;
+            }
+            String key = IntlFormatterCache.key(CLASS_NAME, getJavaLocale().toLanguageTag(), getNumberingSystem(), getMinimumIntegerDigits(),
+                            getMinimumFractionDigits(), getMaximumFractionDigits(), getMinimumSignificantDigits(), getMaximumSignificantDigits(),
+                            style, currency, currencyDisplay, currencySign, unit, unitDisplay, useGrouping, notation, compactDisplay, signDisplay);
+            LocalizedNumberFormatter formatter = (LocalizedNumberFormatter) cache.get(key);
+            if (formatter == null) {
+                initializeNumberFormatter();
+                cache.put(key, getNumberFormatter());
+            } else {
+                setNumberFormatter(formatter);
+            }
+        }
+
         private String zeroWithSign;
         private String minusZeroWithSign;
 
@@ -41,20 +41,44 @@
 package com.oracle.truffle.js.runtime.objects;
 
 import com.oracle.truffle.api.CompilerAsserts;
+import com.oracle.truffle.api.CompilerDirectives.CompilationFinal;
 import com.oracle.truffle.api.CompilerDirectives.TruffleBoundary;
+import com.oracle.truffle.api.Truffle;
 import com.oracle.truffle.api.TruffleLanguage;
+import com.oracle.truffle.api.frame.FrameInstance;
 import com.oracle.truffle.api.interop.InteropLibrary;
 import com.oracle.truffle.api.interop.TruffleObject;
 import com.oracle.truffle.api.library.ExportLibrary;
 import com.oracle.truffle.api.library.ExportMessage;
+import com.oracle.truffle.api.nodes.Node;
 import com.oracle.truffle.api.profiles.ConditionProfile;
+import com.oracle.truffle.api.source.SourceSection;
 import com.oracle.truffle.js.lang.JavaScriptLanguage;
 import com.oracle.truffle.js.runtime.Errors;
 import com.oracle.truffle.js.runtime.JSConfig;
 import com.oracle.truffle.js.runtime.JSRuntime;
-
+import com.oracle.truffle.js.runtime.util.DebugCounter;
+
+/**
+ * A lazily concatenated string (rope). Concatenation builds a binary tree that is flattened into a
+ * single {@link String} when the string value is needed. Trees deeper than
+ * {@link JSConfig#LazyStringMaxDepth} are rebalanced, so {@link #charAt} and {@link #subSequence}
+ * can walk the tree in logarithmic time instead of flattening it. Short strings, and strings that
+ * are indexed repeatedly, are still flattened by {@link #charAt}.
+ */
 @ExportLibrary(InteropLibrary.class)
 public final class JSLazyString implements CharSequence, TruffleObject, JSLazyStringFlattened, JSLazyStringRaw {
+    private static final DebugCounter flattenCount = DebugCounter.create("Lazy strings flattened");
+    private static final DebugCounter flattenedCharCount = DebugCounter.create("Lazy string chars flattened");
+    private static final DebugCounter rebalanceCount = DebugCounter.create("Lazy strings rebalanced");
+    private static final DebugCounter indexedAccessCount = DebugCounter.create("Lazy string indexed accesses without flattening");
+
+    /**
+     * Minimum length of a balanced rope of a given depth: {@code FIB[depth] = F(depth + 2)}, i.e.,
+     * 1, 2, 3, 5, 8, ...
+     */
+    @CompilationFinal(dimensions = 1) private static final long[] FIB = createFibonacciTable(JSConfig.LazyStringMaxDepth + 2);
+
     @TruffleBoundary
     public static CharSequence create(CharSequence left, CharSequence right) {
         assert JSRuntime.isString(left);
@@ -72,7 +96,7 @@ public final class JSLazyString implements CharSequence, TruffleObject, JSLazySt
             if (resultLength < JSConfig.MinLazyStringLength) {
                 return left.toString().concat(right.toString());
             }
-            return new JSLazyString(left, right, resultLength);
+            return concat(left, right, resultLength);
         } else {
             return left.toString().concat(right.toString());
         }
@@ -84,7 +108,15 @@ public final class JSLazyString implements CharSequence, TruffleObject, JSLazySt
     @TruffleBoundary(allowInlining = true)
     public static JSLazyString createChecked(CharSequence left, CharSequence right, int length) {
         assert assertChecked(left, right, length);
-        return new JSLazyString(left, right, length);
+        return concat(left, right, length);
+    }
+
+    private static JSLazyString concat(CharSequence left, CharSequence right, int length) {
+        JSLazyString result = new JSLazyString(left, right, length);
+        if (result.depth > JSConfig.LazyStringMaxDepth) {
+            return rebalance(result);
+        }
+        return result;
     }
 
     @TruffleBoundary
@@ -145,7 +177,7 @@ public final class JSLazyString implements CharSequence, TruffleObject, JSLazySt
         if (left.length() == 0) {
             return String.valueOf(right); // bailout
         }
-        return new JSLazyString(left, new JSLazyIntWrapper(right));
+        return concat(left, new JSLazyIntWrapper(right), left.length() + JSLazyIntWrapper.length(right));
     }
 
     /**
@@ -159,22 +191,101 @@ public final class JSLazyString implements CharSequence, TruffleObject, JSLazySt
         if (right.length() == 0) {
             return String.valueOf(left); // bailout
         }
-        return new JSLazyString(new JSLazyIntWrapper(left), right);
+        return concat(new JSLazyIntWrapper(left), right, JSLazyIntWrapper.length(left) + right.length());
     }
 
     private CharSequence left;
     private CharSequence right;
     private final int length;
+    /** Depth of the (unflattened) tree, leaves have depth 0. */
+    private final int depth;
+    /** Leaf of the last {@link #charAt} access and its start index, speeds up sequential scans. */
+    private String cachedLeaf;
+    private int cachedLeafStart;
+    /** Number of {@link #charAt} accesses that walked the tree. */
+    private int indexedAccesses;
 
     private JSLazyString(CharSequence left, CharSequence right, int length) {
         assert left.length() > 0 && right.length() > 0 && length == left.length() + right.length();
         this.left = left;
         this.right = right;
         this.length = length;
+        this.depth = Math.max(depth(left), depth(right)) + 1;
+    }
+
+    private static int depth(CharSequence str) {
+        if (str instanceof JSLazyString) {
+            JSLazyString lazyString = (JSLazyString) str;
+            return lazyString.isFlat() ? 0 : lazyString.depth;
+        }
+        return 0;
+    }
+
+    private static long[] createFibonacciTable(int size) {
+        long[] fib = new long[size];
+        fib[0] = 1;
+        fib[1] = 2;
+        for (int i = 2; i < size; i++) {
+            fib[i] = fib[i - 1] + fib[i - 2];
+        }
+        return fib;
+    }
+
+    /**
+     * Rebalances the rope as described in Boehm, Atkinson, Plass: "Ropes: an Alternative to
+     * Strings". Leaves and already balanced subtrees are inserted into a forest of balanced ropes
+     * ordered by length, which is then concatenated into the result. Only the unbalanced upper part
+     * of the tree is decomposed, so repeatedly appending to a rebalanced rope stays cheap.
+     */
+    @TruffleBoundary
+    private static JSLazyString rebalance(JSLazyString root) {
+        rebalanceCount.inc();
+        CharSequence[] forest = new CharSequence[FIB.length];
+        addToForest(forest, root);
+        CharSequence result = null;
+        for (int i = 0; i < forest.length; i++) {
+            CharSequence part = forest[i];
+            if (part != null) {
+                result = result == null ? part : new JSLazyString(part, result, part.length() + result.length());
+            }
+        }
+        assert result instanceof JSLazyString && result.length() == root.length();
+        return (JSLazyString) result;
+    }
+
+    private static void addToForest(CharSequence[] forest, CharSequence str) {
+        if (str instanceof JSLazyString) {
+            JSLazyString lazyString = (JSLazyString) str;
+            if (lazyString.isFlat()) {
+                insertIntoForest(forest, lazyString.left);
+            } else if (lazyString.depth >= FIB.length || lazyString.length < FIB[lazyString.depth]) {
+                addToForest(forest, lazyString.left);
+                addToForest(forest, lazyString.right);
+            } else {
+                insertIntoForest(forest, lazyString);
+            }
+        } else {
+            insertIntoForest(forest, str);
+        }
     }
 
-    private JSLazyString(CharSequence left, CharSequence right) {
-        this(left, right, left.length() + right.length());
+    /**
+     * Slot {@code i} of the forest holds a balanced rope with a length in
+     * {@code [FIB[i], FIB[i + 1])}. Ropes in higher slots precede ropes in lower slots.
+     */
+    private static void insertIntoForest(CharSequence[] forest, CharSequence balanced) {
+        CharSequence str = balanced;
+        for (int i = 0; i < forest.length; i++) {
+            CharSequence prefix = forest[i];
+            if (prefix != null) {
+                str = new JSLazyString(prefix, str, prefix.length() + str.length());
+                forest[i] = null;
+            }
+            if (i + 1 == forest.length || str.length() < FIB[i + 1]) {
+                forest[i] = str;
+                return;
+            }
+        }
     }
 
     @Override
@@ -203,10 +314,29 @@ public final class JSLazyString implements CharSequence, TruffleObject, JSLazySt
 
     @TruffleBoundary
     private void flatten() {
+        flattenCount.inc();
+        flattenedCharCount.add(length);
+        if (JSConfig.TraceLazyStringFlatten) {
+            traceFlatten(length, depth);
+        }
         char[] dst = new char[length];
         flatten(this, 0, length, dst, 0);
         left = new String(dst);
         right = null;
+        cachedLeaf = null;
+    }
+
+    private static void traceFlatten(int length, int depth) {
+        Node callNode = Truffle.getRuntime().iterateFrames((FrameInstance frameInstance) -> {
+            Node node = frameInstance.getCallNode();
+            return node != null && node.getEncapsulatingSourceSection() != null ? node : null;
+        });
+        String caller = "<unknown>";
+        if (callNode != null) {
+            SourceSection sourceSection = callNode.getEncapsulatingSourceSection();
+            caller = (sourceSection.isAvailable() ? sourceSection.getSource().getName() : "<unknown>") + ":" + sourceSection.getStartLine();
+        }
+        System.out.printf("[js] lazy string flatten |length %8d |depth %3d |caller %s%n", length, depth, caller);
     }
 
     private static void flatten(CharSequence src, int srcBegin, int srcEnd, char[] dst, int dstBegin) {
@@ -263,19 +393,92 @@ public final class JSLazyString implements CharSequence, TruffleObject, JSLazySt
 
     @Override
     public char charAt(int index) {
-        return toString().charAt(index);
+        if (isFlat() || !JSConfig.LazyStringIndexedAccess || length <= JSConfig.LazyStringIndexedAccessMinLength ||
+                        indexedAccesses >= JSConfig.LazyStringIndexedAccessLimit) {
+            return toString().charAt(index);
+        }
+        indexedAccesses++;
+        return ropeCharAt(index);
+    }
+
+    @TruffleBoundary
+    private char ropeCharAt(int index) {
+        if (index < 0 || index >= length) {
+            throw new StringIndexOutOfBoundsException(index);
+        }
+        indexedAccessCount.inc();
+        String leaf = cachedLeaf;
+        int leafStart = cachedLeafStart;
+        if (leaf == null || index < leafStart || index >= leafStart + leaf.length()) {
+            CharSequence str = this;
+            leafStart = 0;
+            while (str instanceof JSLazyString && !((JSLazyString) str).isFlat()) {
+                JSLazyString lazyString = (JSLazyString) str;
+                int mid = lazyString.left.length();
+                if (index - leafStart < mid) {
+                    str = lazyString.left;
+                } else {
+                    leafStart += mid;
+                    str = lazyString.right;
+                }
+            }
+            leaf = str.toString();
+            cachedLeaf = leaf;
+            cachedLeafStart = leafStart;
+        }
+        return leaf.charAt(index - leafStart);
     }
 
     @Override
     public CharSequence subSequence(int start, int end) {
-        return toString().subSequence(start, end);
+        if (isFlat() || !JSConfig.LazyStringIndexedAccess) {
+            return toString().subSequence(start, end);
+        }
+        if (start < 0 || end > length || start > end) {
+            throw new StringIndexOutOfBoundsException("begin " + start + ", end " + end + ", length " + length);
+        }
+        return ropeSubSequence(this, start, end);
+    }
+
+    /**
+     * Extracts {@code [start, end)} from the rope, sharing fully covered subtrees.
+     */
+    @TruffleBoundary
+    private static CharSequence ropeSubSequence(CharSequence rope, int begin, int end) {
+        CharSequence str = rope;
+        int from = begin;
+        int to = end;
+        while (str instanceof JSLazyString && !((JSLazyString) str).isFlat()) {
+            JSLazyString lazyString = (JSLazyString) str;
+            if (from == 0 && to == lazyString.length) {
+                return lazyString;
+            }
+            indexedAccessCount.inc();
+            int mid = lazyString.left.length();
+            if (to <= mid) {
+                str = lazyString.left;
+            } else if (from >= mid) {
+                str = lazyString.right;
+                from -= mid;
+                to -= mid;
+            } else {
+                CharSequence leftPart = ropeSubSequence(lazyString.left, from, mid);
+                CharSequence rightPart = ropeSubSequence(lazyString.right, 0, to - mid);
+                int resultLength = to - from;
+                if (resultLength < JSConfig.MinLazyStringLength) {
+                    return leftPart.toString().concat(rightPart.toString());
+                }
+                return concat(leftPart, rightPart, resultLength);
+            }
+        }
+        return str.toString().substring(from, to);
     }
 
     public boolean isEmpty() {
         return length == 0;
     }
 
-    private static class JSLazyIntWrapper implements CharSequence {
+    private static final class JSLazyIntWrapper implements CharSequence {
 
         private final int value;
         private String str;
@@ -287,6 +490,10 @@ public final class JSLazyString implements CharSequence, TruffleObject, JSLazySt
 
         @Override
         public int length() {
+            return length(value);
+        }
+
+        static int length(int value) {
             long absValue = Math.abs((long) value);
             long temp = 10;
             int count = 1;
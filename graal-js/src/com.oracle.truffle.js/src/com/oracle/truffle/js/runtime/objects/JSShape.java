@@ -201,6 +201,32 @@ public final class JSShape {
         return JSShapeData.getPropertiesIfHasEnumerablePropertyNames(shape);
     }
 
+    /**
+     * Returns the serialization plan of JSON.stringify cached for this shape, or null.
+     */
+    public static Object getJSONStringifyPlan(Shape shape) {
+        assert JSConfig.FastOwnKeys;
+        return JSShapeData.getJSONStringifyPlan(shape);
+    }
+
+    /**
+     * Caches a serialization plan of JSON.stringify for this shape. The plan must be immutable, as
+     * it is shared by all threads using the shape.
+     */
+    public static void setJSONStringifyPlan(Shape shape, Object plan) {
+        assert JSConfig.FastOwnKeys;
+        JSShapeData.setJSONStringifyPlan(shape, plan);
+    }
+
+    /**
+     * Counts a serialization of an object of this shape by JSON.stringify without a cached plan and
+     * returns the number of such serializations so far.
+     */
+    public static int countJSONStringifyMiss(Shape shape) {
+        assert JSConfig.FastOwnKeys;
+        return JSShapeData.countJSONStringifyMiss(shape);
+    }
+
     /**
      * Internal constructor for null shape et al.
      */
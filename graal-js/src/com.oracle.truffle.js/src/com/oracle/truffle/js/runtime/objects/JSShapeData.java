@@ -65,6 +65,10 @@ public final class JSShapeData {
 
     private Property[] propertyArray;
     private String[] enumerablePropertyNames;
+    /** Cached serialization plan of JSON.stringify for objects of this shape. */
+    private Object jsonStringifyPlan;
+    /** Number of times JSON.stringify has serialized an object of this shape without a plan. */
+    private int jsonStringifyMisses;
 
     private JSShapeData() {
     }
@@ -168,6 +172,23 @@ public final class JSShapeData {
         return asUnmodifiableList(shape.getPropertyCount() == 0 ? EMPTY_PROPERTY_ARRAY : getPropertiesArrayIfHasEnumerablePropertyNames(shape));
     }
 
+    @TruffleBoundary
+    static Object getJSONStringifyPlan(Shape shape) {
+        return getShapeData(shape).jsonStringifyPlan;
+    }
+
+    @TruffleBoundary
+    static void setJSONStringifyPlan(Shape shape, Object plan) {
+        getShapeData(shape).jsonStringifyPlan = plan;
+    }
+
+    @TruffleBoundary
+    static int countJSONStringifyMiss(Shape shape) {
+        JSShapeData shapeData = getShapeData(shape);
+        // racy, but this is just a heuristic
+        return ++shapeData.jsonStringifyMisses;
+    }
+
     private static <T> UnmodifiableArrayList<T> asUnmodifiableList(T[] array) {
         return new UnmodifiableArrayList<>(array);
     }
@@ -0,0 +1,178 @@
+/*
+ * Copyright (c) 2020, 2020, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * The Universal Permissive License (UPL), Version 1.0
+ *
+ * Subject to the condition set forth below, permission is hereby granted to any
+ * person obtaining a copy of this software, associated documentation and/or
+ * data (collectively the "Software"), free of charge and under any and all
+ * copyright rights in the Software, and any and all patent rights owned or
+ * freely licensable by each licensor hereunder covering either (i) the
+ * unmodified Software as contributed to or provided by such licensor, or (ii)
+ * the Larger Works (as defined below), to deal in both
+ *
+ * (a) the Software, and
+ *
+ * (b) any piece of software and/or hardware listed in the lrgrwrks.txt file if
+ * one is included with the Software each a "Larger Work" to which the Software
+ * is contributed by such licensors),
+ *
+ * without restriction, including without limitation the rights to copy, create
+ * derivative works of, display, perform, and distribute the Software and make,
+ * use, sell, offer for sale, import, export, have made, and have sold the
+ * Software and the Larger Work(s), and to sublicense the foregoing rights on
+ * either these or other terms.
+ *
+ * This license is subject to the following condition:
+ *
+ * The above copyright notice and either this complete permission notice or at a
+ * minimum a reference to the UPL must be included in all copies or substantial
+ * portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.oracle.truffle.js.runtime.util;
+
+import java.util.Collection;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.oracle.truffle.api.CompilerAsserts;
+import com.oracle.truffle.js.runtime.builtins.JSFunctionData;
+
+/**
+ * Translates lazily translated functions that are likely to be called soon on a background
+ * thread, so that their first call does not have to wait for the translation.
+ *
+ * Functions are translated one at a time via {@link JSFunctionData#materialize()}, which holds
+ * the same lock as an on-demand translation and publishes the root call target safely. A call
+ * that arrives while its function is being translated in the background waits for it.
+ *
+ * The translation thread is a dedicated daemon thread that does not enter the polyglot context (a
+ * JavaScript context may only be entered by one thread at a time). Translating a function does not
+ * depend on the context, except for cases like early errors, which create error objects in the
+ * current realm. A translation that fails is dropped: the function is left untranslated, and its
+ * first call translates it in the context and reports any error there.
+ */
+public final class BackgroundTranslationQueue {
+
+    private static final long KEEP_ALIVE_SECONDS = 10;
+
+    private final ConcurrentLinkedQueue<JSFunctionData> queue = new ConcurrentLinkedQueue<>();
+    private final AtomicBoolean draining = new AtomicBoolean();
+    private final ThreadPoolExecutor executor;
+    private volatile boolean cancelled;
+
+    private final AtomicLong scheduled = new AtomicLong();
+    private final AtomicLong translated = new AtomicLong();
+    private final AtomicLong dropped = new AtomicLong();
+    private final AtomicLong firstCallsTranslated = new AtomicLong();
+    private final AtomicLong firstCallsUntranslated = new AtomicLong();
+
+    public BackgroundTranslationQueue() {
+        // a single thread that terminates when there is nothing to translate
+        this.executor = new ThreadPoolExecutor(0, 1, KEEP_ALIVE_SECONDS, TimeUnit.SECONDS, new LinkedBlockingQueue<>(), r -> {
+            Thread thread = new Thread(r, "JS-Background-Translation");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    public void schedule(Collection<JSFunctionData> functions) {
+        CompilerAsserts.neverPartOfCompilation();
+        if (functions.isEmpty() || cancelled) {
+            return;
+        }
+        queue.addAll(functions);
+        scheduled.addAndGet(functions.size());
+        startDraining();
+    }
+
+    private void startDraining() {
+        if (!queue.isEmpty() && !cancelled && draining.compareAndSet(false, true)) {
+            try {
+                executor.execute(this::drain);
+            } catch (RejectedExecutionException e) {
+                // cancelled concurrently
+                draining.set(false);
+            }
+        }
+    }
+
+    private void drain() {
+        try {
+            JSFunctionData functionData;
+            while (!cancelled && (functionData = queue.poll()) != null) {
+                try {
+                    functionData.materialize();
+                    translated.incrementAndGet();
+                } catch (RuntimeException e) {
+                    // needs the context; the function is translated on its first call
+                    dropped.incrementAndGet();
+                }
+            }
+        } finally {
+            draining.set(false);
+        }
+        // functions may have been scheduled after the last poll
+        startDraining();
+    }
+
+    /**
+     * Drops all pending translations and stops the translation thread. A translation that is in
+     * progress is completed. Functions scheduled afterwards are ignored.
+     */
+    public void cancel() {
+        cancelled = true;
+        queue.clear();
+        executor.shutdown();
+    }
+
+    /**
+     * Records whether the first call of a lazily translated function found it translated already.
+     */
+    public void recordFirstCall(boolean alreadyTranslated) {
+        if (alreadyTranslated) {
+            firstCallsTranslated.incrementAndGet();
+        } else {
+            firstCallsUntranslated.incrementAndGet();
+        }
+    }
+
+    /** Number of functions scheduled for background translation. */
+    public long getScheduledCount() {
+        return scheduled.get();
+    }
+
+    /** Number of scheduled functions processed by the background thread. */
+    public long getTranslatedCount() {
+        return translated.get();
+    }
+
+    /** Number of scheduled functions the background thread could not translate. */
+    public long getDroppedCount() {
+        return dropped.get();
+    }
+
+    /** Number of first calls that found their function translated already. */
+    public long getFirstCallsTranslatedCount() {
+        return firstCallsTranslated.get();
+    }
+
+    /** Number of first calls that had to translate their function themselves. */
+    public long getFirstCallsUntranslatedCount() {
+        return firstCallsUntranslated.get();
+    }
+}
@@ -54,6 +54,8 @@ public abstract class DebugCounter {
 
     public abstract void inc();
 
+    public abstract void add(long delta);
+
     public static DebugCounter create(String name) {
         return JSConfig.DebugCounters ? DebugCounterImpl.createImpl(name) : Dummy.INSTANCE;
     }
@@ -96,6 +98,11 @@ public abstract class DebugCounter {
             value.incrementAndGet();
         }
 
+        @Override
+        public void add(long delta) {
+            value.addAndGet(delta);
+        }
+
         @Override
         public String toString() {
             return name + ": " + get();
@@ -122,5 +129,9 @@ public abstract class DebugCounter {
         @Override
         public void inc() {
         }
+
+        @Override
+        public void add(long delta) {
+        }
     }
 }
@@ -45,7 +45,9 @@ import java.util.LinkedList;
 import java.util.List;
 import java.util.concurrent.ConcurrentLinkedDeque;
 import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.LockSupport;
 
 import org.graalvm.options.OptionDescriptor;
 import org.graalvm.options.OptionValues;
@@ -70,6 +72,8 @@ public class DebugJSAgent extends JSAgent {
 
     private boolean quit;
     private Object debugReceiveBroadcast;
+    /** Thread running the event loop of a spawned agent. */
+    private volatile Thread agentThread;
 
     @TruffleBoundary
     public DebugJSAgent(boolean canBlock, OptionValues optionValues) {
@@ -101,17 +105,21 @@ public class DebugJSAgent extends JSAgent {
 
                     DebugJSAgent debugJSAgent = (DebugJSAgent) JavaScriptLanguage.getCurrentJSRealm().getContext().getJSAgent();
                     AgentExecutor executor = registerChildAgent(Thread.currentThread(), debugJSAgent);
+                    debugJSAgent.agentThread = Thread.currentThread();
 
                     polyglotContext.eval(JavaScriptLanguage.ID, source);
 
                     barrier.countDown();
 
                     while (true) {
-                        try {
-                            Thread.sleep(1000);
-                        } catch (InterruptedException e) {
+                        // woken up by an interrupt (broadcast) or an unpark (async waiters)
+                        LockSupport.parkNanos(this, TimeUnit.SECONDS.toNanos(1));
+                        if (Thread.interrupted()) {
                             executor.executeBroadcastCallback();
                         }
+                        if (debugJSAgent.hasPendingAsyncWaiters()) {
+                            debugJSAgent.processAllPromises();
+                        }
                         if (executor.jsAgent.quit) {
                             return;
                         }
@@ -182,12 +190,10 @@ public class DebugJSAgent extends JSAgent {
     }
 
     @Override
-    @TruffleBoundary
-    public void wakeAgent(int w) {
-        for (AgentExecutor e : spawnedAgent) {
-            if (e.jsAgent.getSignifier() == w) {
-                e.thread.interrupt();
-            }
+    protected void asyncWaitersReady() {
+        Thread thread = agentThread;
+        if (thread != null) {
+            LockSupport.unpark(thread);
         }
     }
 
@@ -213,8 +219,8 @@ public class DebugJSAgent extends JSAgent {
 
         @TruffleBoundary
         public void executeBroadcastCallback() {
-            assert jsAgent.debugReceiveBroadcast != null;
             while (incoming.size() > 0) {
+                assert jsAgent.debugReceiveBroadcast != null;
                 DynamicObject cb = (DynamicObject) jsAgent.debugReceiveBroadcast;
                 JSFunction.call(cb, cb, new Object[]{incoming.pop()});
             }
@@ -40,8 +40,10 @@
  */
 package com.oracle.truffle.js.runtime.util;
 
+import java.io.IOException;
 import java.nio.ByteBuffer;
 import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
 
 import com.oracle.truffle.api.CompilerDirectives;
 import com.oracle.truffle.api.CompilerDirectives.TruffleBoundary;
@@ -61,6 +63,15 @@ public final class DirectByteBufferHelper {
         return cast(allocateDirectImpl(length));
     }
 
+    /**
+     * Maps a region of the file into memory. Only read-write mappings are supported since
+     * read-only mappings are not of the direct buffer class expected by {@link #cast}.
+     */
+    @TruffleBoundary
+    public static ByteBuffer map(FileChannel channel, long position, int length) throws IOException {
+        return cast(channel.map(FileChannel.MapMode.READ_WRITE, position, length).order(ByteOrder.nativeOrder()));
+    }
+
     public static ByteBuffer cast(ByteBuffer buffer) {
         return CompilerDirectives.castExact(buffer, DIRECT_BYTE_BUFFER_CLASS);
     }
@@ -0,0 +1,137 @@
+/*
+ * Copyright (c) 2020, 2020, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * The Universal Permissive License (UPL), Version 1.0
+ *
+ * Subject to the condition set forth below, permission is hereby granted to any
+ * person obtaining a copy of this software, associated documentation and/or
+ * data (collectively the "Software"), free of charge and under any and all
+ * copyright rights in the Software, and any and all patent rights owned or
+ * freely licensable by each licensor hereunder covering either (i) the
+ * unmodified Software as contributed to or provided by such licensor, or (ii)
+ * the Larger Works (as defined below), to deal in both
+ *
+ * (a) the Software, and
+ *
+ * (b) any piece of software and/or hardware listed in the lrgrwrks.txt file if
+ * one is included with the Software each a "Larger Work" to which the Software
+ * is contributed by such licensors),
+ *
+ * without restriction, including without limitation the rights to copy, create
+ * derivative works of, display, perform, and distribute the Software and make,
+ * use, sell, offer for sale, import, export, have made, and have sold the
+ * Software and the Larger Work(s), and to sublicense the foregoing rights on
+ * either these or other terms.
+ *
+ * This license is subject to the following condition:
+ *
+ * The above copyright notice and either this complete permission notice or at a
+ * minimum a reference to the UPL must be included in all copies or substantial
+ * portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.oracle.truffle.js.runtime.util;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import com.oracle.truffle.api.CompilerDirectives.TruffleBoundary;
+
+/**
+ * Bounded least-recently-used cache of resolved ICU formatter state (collators, number formatters,
+ * date formats), keyed by the canonicalized locale and options they were created from. Owned by a
+ * realm so that {@code toLocaleString}, {@code localeCompare} and the Intl constructors do not
+ * instantiate the same ICU objects over and over again.
+ *
+ * Cached values must either be immutable (frozen collators, {@code LocalizedNumberFormatter}s) or
+ * be cloned by the caller before use.
+ */
+public final class IntlFormatterCache {
+
+    private final LinkedHashMap<String, Object> cache;
+
+    private long hits;
+    private long misses;
+    private long evictions;
+
+    public IntlFormatterCache(int maxSize) {
+        this.cache = new LinkedHashMap<String, Object>(16, 0.75F, true) {
+            private static final long serialVersionUID = 2640912765218446123L;
+
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Object> eldest) {
+                if (size() > maxSize) {
+                    evictions++;
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    /**
+     * Returns the cached value for the given key, or {@code null}.
+     */
+    @TruffleBoundary
+    public synchronized Object get(String key) {
+        Object value = cache.get(key);
+        if (value == null) {
+            misses++;
+        } else {
+            hits++;
+        }
+        return value;
+    }
+
+    @TruffleBoundary
+    public synchronized void put(String key, Object value) {
+        cache.put(key, value);
+    }
+
+    /**
+     * Builds a cache key from the given kind of formatter and its resolved inputs.
+     */
+    @TruffleBoundary
+    public static String key(String kind, Object... parts) {
+        StringBuilder sb = new StringBuilder(kind);
+        for (Object part : parts) {
+            sb.append('\u0000');
+            if (part == null) {
+                sb.append('\u0002');
+            } else if (part instanceof Object[]) {
+                Object[] array = (Object[]) part;
+                sb.append(array.length);
+                for (Object element : array) {
+                    sb.append('\u0001').append(element);
+                }
+            } else {
+                sb.append(part);
+            }
+        }
+        return sb.toString();
+    }
+
+    public synchronized int size() {
+        return cache.size();
+    }
+
+    public synchronized long getHitCount() {
+        return hits;
+    }
+
+    public synchronized long getMissCount() {
+        return misses;
+    }
+
+    public synchronized long getEvictionCount() {
+        return evictions;
+    }
+}
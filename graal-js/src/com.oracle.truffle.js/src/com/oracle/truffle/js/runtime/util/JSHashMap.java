@@ -40,12 +40,19 @@
  */
 package com.oracle.truffle.js.runtime.util;
 
-import java.util.HashMap;
+import java.util.Arrays;
+import java.util.StringJoiner;
 
 import com.oracle.truffle.api.CompilerDirectives.TruffleBoundary;
 
 /**
  * ES6-compliant hash map implementation.
+ *
+ * Deterministic (insertion-ordered) hash table modeled after V8's OrderedHashMap. Keys, values and
+ * bucket chain links are kept in flat arrays; entries are appended in insertion order and removed
+ * entries leave holes that are squeezed out on the next rehash. A rehashed (or cleared) table is
+ * kept alive only by cursors still pointing into it, and records the positions of its holes so
+ * that such cursors can transition to the new table without losing their place.
  */
 public final class JSHashMap {
     public interface Cursor {
@@ -72,21 +79,19 @@ public final class JSHashMap {
         Cursor copy();
     }
 
-    private final HashMap<Object, Node> map;
-    private final Node head;
-    private Node tail;
+    private static final int NOT_FOUND = -1;
+    private static final int INITIAL_CAPACITY = 4;
+    private static final int LOAD_FACTOR = 2;
+    private static final int MAX_CAPACITY = 1 << 30;
+
+    private Table table;
 
-    @TruffleBoundary(allowInlining = true)
     public JSHashMap() {
-        this.map = new HashMap<>();
-        Node dummy = new Node(null, null, null, null);
-        this.head = dummy;
-        this.tail = dummy;
+        this.table = new Table(INITIAL_CAPACITY);
     }
 
-    @TruffleBoundary(allowInlining = true)
     public int size() {
-        return map.size();
+        return table.liveCount;
     }
 
     /**
@@ -94,172 +99,386 @@ public final class JSHashMap {
      */
     @TruffleBoundary
     public void put(Object key, Object value) {
-        Node newNode = new Node(key, value, null, null);
-        Node oldNode = map.putIfAbsent(key, newNode);
-        if (oldNode == null) {
-            newNode.setPrev(tail);
-            tail.setNext(newNode);
-            tail = newNode;
+        assert key != null && value != null;
+        int hash = hash(key);
+        int entry = table.find(key, hash);
+        if (entry != NOT_FOUND) {
+            table.values[entry] = value;
         } else {
-            oldNode.setValue(value);
+            append(key, value, hash);
         }
     }
 
     @TruffleBoundary
     public Object get(Object key) {
-        Node node = map.get(key);
-        return node == null ? null : node.getValue();
+        int entry = table.find(key, hash(key));
+        return entry == NOT_FOUND ? null : table.values[entry];
     }
 
     @TruffleBoundary
     public boolean has(Object key) {
-        return map.containsKey(key);
+        return table.find(key, hash(key)) != NOT_FOUND;
     }
 
     @TruffleBoundary
     public boolean remove(Object key) {
-        Node node = map.remove(key);
-        if (node == null) {
-            return false;
+        return removeEntry(table.find(key, hash(key)));
+    }
+
+    /**
+     * Specialized variant of {@link #put(Object, Object)} for {@code int} keys. Only boxes the key
+     * if a new entry has to be added.
+     */
+    public void putInt(int key, Object value) {
+        assert value != null;
+        int entry = table.findInt(key);
+        if (entry != NOT_FOUND) {
+            table.values[entry] = value;
         } else {
-            unlink(node);
-            return true;
+            append(key, value, hashInt(key));
         }
     }
 
-    private void unlink(Node node) {
-        Node next = node.getNext();
-        Node prev = node.getPrev();
-        prev.setNext(next);
-        if (next != null) {
-            next.setPrev(prev);
+    /**
+     * Specialized variant of {@link #get(Object)} for {@code int} keys.
+     */
+    public Object getInt(int key) {
+        int entry = table.findInt(key);
+        return entry == NOT_FOUND ? null : table.values[entry];
+    }
+
+    /**
+     * Specialized variant of {@link #has(Object)} for {@code int} keys.
+     */
+    public boolean hasInt(int key) {
+        return table.findInt(key) != NOT_FOUND;
+    }
+
+    /**
+     * Specialized variant of {@link #remove(Object)} for {@code int} keys.
+     */
+    public boolean removeInt(int key) {
+        return removeEntry(table.findInt(key));
+    }
+
+    /**
+     * Specialized variant of {@link #put(Object, Object)} for {@link String} keys.
+     */
+    public void putString(String key, Object value) {
+        assert value != null;
+        int hash = hashString(key);
+        int entry = table.findString(key, hash);
+        if (entry != NOT_FOUND) {
+            table.values[entry] = value;
         } else {
-            tail = prev;
+            append(key, value, hash);
         }
-        node.setEmpty();
+    }
+
+    /**
+     * Specialized variant of {@link #get(Object)} for {@link String} keys.
+     */
+    public Object getString(String key) {
+        int entry = table.findString(key, hashString(key));
+        return entry == NOT_FOUND ? null : table.values[entry];
+    }
+
+    /**
+     * Specialized variant of {@link #has(Object)} for {@link String} keys.
+     */
+    public boolean hasString(String key) {
+        return table.findString(key, hashString(key)) != NOT_FOUND;
+    }
+
+    /**
+     * Specialized variant of {@link #remove(Object)} for {@link String} keys.
+     */
+    public boolean removeString(String key) {
+        return removeEntry(table.findString(key, hashString(key)));
+    }
+
+    private void append(Object key, Object value, int hash) {
+        Table t = table;
+        if (t.usedCount == t.capacity()) {
+            t = grow(t);
+        }
+        t.append(key, value, hash);
+    }
+
+    private boolean removeEntry(int entry) {
+        if (entry == NOT_FOUND) {
+            return false;
+        }
+        Table t = table;
+        t.keys[entry] = null;
+        t.values[entry] = null;
+        t.liveCount--;
+        if (t.liveCount < (t.capacity() >> 2) && t.capacity() > INITIAL_CAPACITY) {
+            shrink(t);
+        }
+        return true;
     }
 
     @TruffleBoundary
-    public void clear() {
-        map.clear();
-        for (Node current = head.getNext(); current != null; current = current.getNext()) {
-            current.setEmpty();
+    private Table grow(Table oldTable) {
+        int capacity = oldTable.capacity();
+        // only grow if there are few holes, otherwise just squeeze them out
+        int newCapacity = oldTable.liveCount >= (capacity >> 1) ? capacity << 1 : capacity;
+        if (newCapacity > MAX_CAPACITY) {
+            throw new OutOfMemoryError();
+        }
+        return rehash(oldTable, newCapacity);
+    }
+
+    @TruffleBoundary
+    private void shrink(Table oldTable) {
+        rehash(oldTable, Math.max(INITIAL_CAPACITY, oldTable.capacity() >> 1));
+    }
+
+    private Table rehash(Table oldTable, int newCapacity) {
+        Table newTable = new Table(newCapacity);
+        int holeCount = oldTable.usedCount - oldTable.liveCount;
+        int[] holes = holeCount == 0 ? null : new int[holeCount];
+        int holeIndex = 0;
+        Object[] oldKeys = oldTable.keys;
+        Object[] oldValues = oldTable.values;
+        for (int i = 0; i < oldTable.usedCount; i++) {
+            Object key = oldKeys[i];
+            if (key == null) {
+                holes[holeIndex++] = i;
+            } else {
+                newTable.append(key, oldValues[i], hash(key));
+            }
         }
-        head.setNext(null);
-        tail = head;
+        assert holeIndex == holeCount && newTable.liveCount == oldTable.liveCount;
+        oldTable.retire(newTable, holes);
+        this.table = newTable;
+        return newTable;
+    }
+
+    @TruffleBoundary
+    public void clear() {
+        Table oldTable = table;
+        Table newTable = new Table(INITIAL_CAPACITY);
+        oldTable.retireCleared(newTable);
+        this.table = newTable;
     }
 
     @TruffleBoundary
     @Override
     public String toString() {
-        return map.toString();
+        StringJoiner sj = new StringJoiner(", ", "{", "}");
+        Table t = table;
+        for (int i = 0; i < t.usedCount; i++) {
+            if (t.keys[i] != null) {
+                sj.add(t.keys[i] + "=" + t.values[i]);
+            }
+        }
+        return sj.toString();
     }
 
     public Cursor getEntries() {
-        return new CursorImpl(head);
+        return new CursorImpl(table, NOT_FOUND);
     }
 
-    private static final class CursorImpl implements Cursor {
-        private Node current;
+    static int hash(Object key) {
+        int h = key.hashCode();
+        return h ^ (h >>> 16);
+    }
 
-        CursorImpl(Node head) {
-            this.current = head;
-        }
+    static int hashInt(int key) {
+        // consistent with Integer.hashCode()
+        return key ^ (key >>> 16);
+    }
 
-        @Override
-        public boolean advance() {
-            if (current == null) {
-                return false;
-            } else {
-                // if current is no longer in the map, back up to a previous node still in the map
-                while (current.isEmpty() && current.getPrev() != null) {
-                    current = current.getPrev();
-                }
-                Node next = current.getNext();
-                assert next == null || next.getKey() != null;
-                current = next;
-                return next != null;
-            }
+    static int hashString(String key) {
+        int h = key.hashCode();
+        return h ^ (h >>> 16);
+    }
+
+    /**
+     * Backing store of the hash map. Entries live in the flat {@link #keys}, {@link #values} and
+     * {@link #chain} arrays in insertion order; {@link #buckets} holds the index of the most
+     * recently added entry of each bucket, {@link #chain} the next entry index in the same bucket.
+     * Removed entries have a {@code null} key.
+     */
+    private static final class Table {
+        private int[] buckets;
+        private Object[] keys;
+        private Object[] values;
+        private int[] chain;
+        /** Number of entries (including holes). */
+        private int usedCount;
+        /** Number of live entries. */
+        private int liveCount;
+
+        /** The table that replaced this table or {@code null} if this is the current table. */
+        private Table successor;
+        /** Sorted indices of the holes this table had when it was rehashed. */
+        private int[] removedHoles;
+        private boolean cleared;
+
+        Table(int capacity) {
+            int bucketCount = capacity / LOAD_FACTOR;
+            assert Integer.bitCount(bucketCount) == 1;
+            this.buckets = new int[bucketCount];
+            Arrays.fill(buckets, NOT_FOUND);
+            this.keys = new Object[capacity];
+            this.values = new Object[capacity];
+            this.chain = new int[capacity];
         }
 
-        @Override
-        public Object getKey() {
-            Object key = current.getKey();
-            assert key != null;
-            return key;
+        int capacity() {
+            return keys.length;
         }
 
-        @Override
-        public Object getValue() {
-            Object value = current.getValue();
-            assert value != null;
-            return value;
+        void append(Object key, Object value, int hash) {
+            int entry = usedCount++;
+            int bucket = hash & (buckets.length - 1);
+            keys[entry] = key;
+            values[entry] = value;
+            chain[entry] = buckets[bucket];
+            buckets[bucket] = entry;
+            liveCount++;
         }
 
-        @Override
-        public String toString() {
-            return "Cursor [current=" + current + "]";
+        int find(Object key, int hash) {
+            for (int entry = buckets[hash & (buckets.length - 1)]; entry != NOT_FOUND; entry = chain[entry]) {
+                Object candidate = keys[entry];
+                if (candidate != null && (candidate == key || key.equals(candidate))) {
+                    return entry;
+                }
+            }
+            return NOT_FOUND;
         }
 
-        @Override
-        public Cursor copy() {
-            return new CursorImpl(current);
+        int findInt(int key) {
+            for (int entry = buckets[hashInt(key) & (buckets.length - 1)]; entry != NOT_FOUND; entry = chain[entry]) {
+                Object candidate = keys[entry];
+                if (candidate instanceof Integer && ((Integer) candidate).intValue() == key) {
+                    return entry;
+                }
+            }
+            return NOT_FOUND;
         }
-    }
 
-    private static final class Node {
-        private Object key;
-        private Object value;
-        private Node prev;
-        private Node next;
-
-        Node(Object key, Object value, Node prev, Node next) {
-            this.key = key;
-            this.value = value;
-            this.prev = prev;
-            this.next = next;
+        int findString(String key, int hash) {
+            for (int entry = buckets[hash & (buckets.length - 1)]; entry != NOT_FOUND; entry = chain[entry]) {
+                Object candidate = keys[entry];
+                if (candidate instanceof String && (candidate == key || key.equals(candidate))) {
+                    return entry;
+                }
+            }
+            return NOT_FOUND;
         }
 
-        Object getKey() {
-            return key;
+        void retire(Table newTable, int[] holes) {
+            this.successor = newTable;
+            this.removedHoles = holes;
+            dropStorage();
         }
 
-        Object getValue() {
-            return value;
+        void retireCleared(Table newTable) {
+            this.successor = newTable;
+            this.cleared = true;
+            dropStorage();
         }
 
-        void setValue(Object value) {
-            this.value = value;
+        /**
+         * Retired tables are only referenced by cursors, which just need the transition info.
+         */
+        private void dropStorage() {
+            this.buckets = null;
+            this.keys = null;
+            this.values = null;
+            this.chain = null;
         }
 
-        Node getPrev() {
-            return prev;
+        /**
+         * Maps an entry index of this (retired) table to the index of the last entry at or before
+         * it that survived the rehash.
+         */
+        int transitionIndex(int index) {
+            assert successor != null;
+            if (cleared) {
+                return NOT_FOUND;
+            }
+            if (removedHoles == null) {
+                return index;
+            }
+            int holesBefore = 0;
+            while (holesBefore < removedHoles.length && removedHoles[holesBefore] <= index) {
+                holesBefore++;
+            }
+            return index - holesBefore;
         }
+    }
 
-        void setPrev(Node prev) {
-            this.prev = prev;
+    private static final class CursorImpl implements Cursor {
+        /** The table the cursor points into, or {@code null} once iteration has finished. */
+        private Table table;
+        private int index;
+
+        CursorImpl(Table table, int index) {
+            this.table = table;
+            this.index = index;
         }
 
-        Node getNext() {
-            return next;
+        @Override
+        public boolean advance() {
+            Table t = table;
+            if (t == null) {
+                return false;
+            }
+            if (t.successor != null) {
+                t = transition(t);
+            }
+            Object[] keys = t.keys;
+            for (int i = index + 1; i < t.usedCount; i++) {
+                if (keys[i] != null) {
+                    index = i;
+                    return true;
+                }
+            }
+            table = null;
+            return false;
         }
 
-        void setNext(Node next) {
-            this.next = next;
+        @TruffleBoundary
+        private Table transition(Table retired) {
+            Table t = retired;
+            int i = index;
+            while (t.successor != null) {
+                i = t.transitionIndex(i);
+                t = t.successor;
+            }
+            this.table = t;
+            this.index = i;
+            return t;
         }
 
-        void setEmpty() {
-            this.key = null;
-            this.value = null;
+        @Override
+        public Object getKey() {
+            Object key = table.keys[index];
+            assert key != null;
+            return key;
         }
 
-        boolean isEmpty() {
-            return this.key == null;
+        @Override
+        public Object getValue() {
+            Object value = table.values[index];
+            assert value != null;
+            return value;
         }
 
         @Override
         public String toString() {
-            return "Node [key=" + key + ", value=" + value + "]";
+            return "Cursor [index=" + index + "]";
+        }
+
+        @Override
+        public Cursor copy() {
+            return new CursorImpl(table, index);
         }
     }
 }
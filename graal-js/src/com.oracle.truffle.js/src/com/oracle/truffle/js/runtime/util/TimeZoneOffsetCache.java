@@ -0,0 +1,213 @@
+/*
+ * Copyright (c) 2020, 2020, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * The Universal Permissive License (UPL), Version 1.0
+ *
+ * Subject to the condition set forth below, permission is hereby granted to any
+ * person obtaining a copy of this software, associated documentation and/or
+ * data (collectively the "Software"), free of charge and under any and all
+ * copyright rights in the Software, and any and all patent rights owned or
+ * freely licensable by each licensor hereunder covering either (i) the
+ * unmodified Software as contributed to or provided by such licensor, or (ii)
+ * the Larger Works (as defined below), to deal in both
+ *
+ * (a) the Software, and
+ *
+ * (b) any piece of software and/or hardware listed in the lrgrwrks.txt file if
+ * one is included with the Software each a "Larger Work" to which the Software
+ * is contributed by such licensors),
+ *
+ * without restriction, including without limitation the rights to copy, create
+ * derivative works of, display, perform, and distribute the Software and make,
+ * use, sell, offer for sale, import, export, have made, and have sold the
+ * Software and the Larger Work(s), and to sublicense the foregoing rights on
+ * either these or other terms.
+ *
+ * This license is subject to the following condition:
+ *
+ * The above copyright notice and either this complete permission notice or at a
+ * minimum a reference to the UPL must be included in all copies or substantial
+ * portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.oracle.truffle.js.runtime.util;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.zone.ZoneOffsetTransition;
+import java.time.zone.ZoneRules;
+
+import com.oracle.truffle.api.CompilerDirectives.TruffleBoundary;
+
+/**
+ * Cache of the offsets of a time zone, modeled on V8's DateCache. It keeps a few intervals of
+ * time between two consecutive offset transitions (the most recently used one first) so that
+ * conversions between UTC and local time usually need just a couple of comparisons and no
+ * allocation. A realm creates a new cache whenever its local time zone changes.
+ */
+public final class TimeZoneOffsetCache {
+
+    private static final int CACHE_SIZE = 8;
+
+    /**
+     * Local times near a transition are resolved using the neighbouring intervals. This is only
+     * done if none of them is shorter than this; offsets never differ by more than 36 hours.
+     */
+    private static final long MIN_SEGMENT_LENGTH = 2 * 24 * 60 * 60 * 1000L;
+
+    /** Times beyond this limit are never cached (they are time-clipped anyway). */
+    private static final long TIME_LIMIT = 8_640_000_000_000_000L + MIN_SEGMENT_LENGTH;
+
+    private final ZoneId zoneId;
+    private final ZoneRules rules;
+    private final boolean fixedOffset;
+    private final int fixedOffsetMillis;
+
+    /** Start (inclusive) of each cached interval; {@code Long.MIN_VALUE} if unbounded. */
+    private final long[] segmentStart = new long[CACHE_SIZE];
+    /** End (exclusive) of each cached interval; {@code Long.MAX_VALUE} if unbounded. */
+    private final long[] segmentEnd = new long[CACHE_SIZE];
+    /** Offset in milliseconds within each cached interval. */
+    private final int[] segmentOffset = new int[CACHE_SIZE];
+    private final long[] segmentLastUse = new long[CACHE_SIZE];
+    private int size;
+    private int current;
+    private long useCounter;
+
+    @TruffleBoundary
+    public TimeZoneOffsetCache(ZoneId zoneId) {
+        this.zoneId = zoneId;
+        this.rules = zoneId.getRules();
+        this.fixedOffset = rules.isFixedOffset();
+        this.fixedOffsetMillis = fixedOffset ? toMillis(rules.getOffset(Instant.EPOCH)) : 0;
+    }
+
+    public ZoneId getZoneId() {
+        return zoneId;
+    }
+
+    /**
+     * Returns the offset in milliseconds of this time zone at the given UTC time.
+     */
+    public long getOffsetFromUTC(long utcTime) {
+        if (fixedOffset) {
+            return fixedOffsetMillis;
+        }
+        if (utcTime < -TIME_LIMIT || utcTime > TIME_LIMIT) {
+            return offsetFromUTCUncached(utcTime);
+        }
+        return segmentOffset[findSegment(utcTime)];
+    }
+
+    /**
+     * Returns the offset in milliseconds of this time zone at the given local time. Local times in
+     * a gap or an overlap resolve to the offset before the transition, like
+     * {@link ZoneRules#getOffset(LocalDateTime)}.
+     */
+    public long getOffsetFromLocal(long localTime) {
+        if (fixedOffset) {
+            return fixedOffsetMillis;
+        }
+        if (localTime < -TIME_LIMIT || localTime > TIME_LIMIT) {
+            return offsetFromLocalUncached(localTime);
+        }
+        // the interval containing (or next to) the corresponding UTC time
+        int segment = findSegment(localTime - segmentOffset[findSegment(localTime)]);
+        long start = segmentStart[segment];
+        long end = segmentEnd[segment];
+        int offset = segmentOffset[segment];
+        if (isShort(start, end)) {
+            return offsetFromLocalUncached(localTime);
+        }
+        if (start != Long.MIN_VALUE && localTime - start < MIN_SEGMENT_LENGTH) {
+            int previous = findSegment(start - 1);
+            if (isShort(segmentStart[previous], segmentEnd[previous])) {
+                return offsetFromLocalUncached(localTime);
+            }
+            int offsetBefore = segmentOffset[previous];
+            if (localTime < start + Math.max(offsetBefore, offset)) {
+                return offsetBefore;
+            }
+        }
+        if (end != Long.MAX_VALUE && end - localTime < MIN_SEGMENT_LENGTH) {
+            int next = findSegment(end);
+            if (isShort(segmentStart[next], segmentEnd[next])) {
+                return offsetFromLocalUncached(localTime);
+            }
+            int offsetAfter = segmentOffset[next];
+            if (localTime >= end + Math.max(offset, offsetAfter)) {
+                return offsetAfter;
+            }
+        }
+        return offset;
+    }
+
+    private static boolean isShort(long start, long end) {
+        return start != Long.MIN_VALUE && end != Long.MAX_VALUE && end - start < MIN_SEGMENT_LENGTH;
+    }
+
+    private int findSegment(long utcTime) {
+        int index = current;
+        if (index < size && segmentStart[index] <= utcTime && utcTime < segmentEnd[index]) {
+            segmentLastUse[index] = ++useCounter;
+            return index;
+        }
+        for (int i = 0; i < size; i++) {
+            if (segmentStart[i] <= utcTime && utcTime < segmentEnd[i]) {
+                segmentLastUse[i] = ++useCounter;
+                current = i;
+                return i;
+            }
+        }
+        return addSegment(utcTime);
+    }
+
+    @TruffleBoundary
+    private int addSegment(long utcTime) {
+        int index;
+        if (size < CACHE_SIZE) {
+            index = size++;
+        } else {
+            index = 0;
+            for (int i = 1; i < CACHE_SIZE; i++) {
+                if (segmentLastUse[i] < segmentLastUse[index]) {
+                    index = i;
+                }
+            }
+        }
+        // previousTransition() returns the last transition strictly before the given instant
+        ZoneOffsetTransition previous = rules.previousTransition(Instant.ofEpochMilli(utcTime + 1));
+        ZoneOffsetTransition next = rules.nextTransition(Instant.ofEpochMilli(utcTime));
+        segmentStart[index] = previous == null ? Long.MIN_VALUE : previous.toEpochSecond() * 1000L;
+        segmentEnd[index] = next == null ? Long.MAX_VALUE : next.toEpochSecond() * 1000L;
+        segmentOffset[index] = toMillis(rules.getOffset(Instant.ofEpochMilli(utcTime)));
+        segmentLastUse[index] = ++useCounter;
+        current = index;
+        return index;
+    }
+
+    @TruffleBoundary
+    private long offsetFromUTCUncached(long utcTime) {
+        return toMillis(rules.getOffset(Instant.ofEpochMilli(utcTime)));
+    }
+
+    @TruffleBoundary
+    private long offsetFromLocalUncached(long localTime) {
+        LocalDateTime localDateTime = LocalDateTime.ofEpochSecond(Math.floorDiv(localTime, 1000L), (int) Math.floorMod(localTime, 1000L) * 1_000_000, ZoneOffset.UTC);
+        return toMillis(rules.getOffset(localDateTime));
+    }
+
+    private static int toMillis(ZoneOffset offset) {
+        return offset.getTotalSeconds() * 1000;
+    }
+}
@@ -152,4 +152,6 @@ jobject GraalExecutePrepareStackTraceCallback(JNIEnv* env, jclass nativeAccess,
 
 jobject GraalSyntheticModuleEvaluationSteps(JNIEnv* env, jclass nativeAccess, jlong callback, jobject java_context, jobject java_module);
 
+void GraalPostAsyncWaitersTask(JNIEnv* env, jclass nativeAccess, jlong isolate);
+
 #endif /* CALLBACKS_H_ */
@@ -65,6 +65,7 @@ v8::Local<v8::BigInt> GraalBigInt::NewFromUnsigned(v8::Isolate* isolate, uint64_
 
 v8::MaybeLocal<v8::BigInt> GraalBigInt::NewFromWords(v8::Local<v8::Context> context, int sign_bit, int word_count, const uint64_t* words) {
     GraalIsolate* graal_isolate = reinterpret_cast<GraalIsolate*> (context->GetIsolate());
+    graal_isolate->EnsureSharedBufferCapacity(2 * sizeof (int32_t) + word_count * sizeof (int64_t));
     graal_isolate->ResetSharedBuffer();
     graal_isolate->WriteInt32ToSharedBuffer(sign_bit);
     graal_isolate->WriteInt32ToSharedBuffer(word_count);
@@ -108,12 +109,15 @@ int GraalBigInt::WordCount() const {
 
 void GraalBigInt::ToWordsArray(int* sign_bit, int* word_count, uint64_t* words) const {
     GraalIsolate* graal_isolate = Isolate();
-    JNI_CALL_VOID(graal_isolate, GraalAccessMethod::big_int_to_words_array, GetJavaObject());
+    // *word_count is the capacity of words on input
+    int capacity = *word_count;
+    graal_isolate->EnsureSharedBufferCapacity(2 * sizeof (int32_t) + capacity * sizeof (int64_t));
+    JNI_CALL_VOID(graal_isolate, GraalAccessMethod::big_int_to_words_array, GetJavaObject(), (jint) capacity);
     graal_isolate->ResetSharedBuffer();
     int count = graal_isolate->ReadInt32FromSharedBuffer();
     *word_count = count;
     *sign_bit = graal_isolate->ReadInt32FromSharedBuffer();
-    for (int i = 0; i < count; i++) {
+    for (int i = 0; i < count && i < capacity; i++) {
         words[i] = static_cast<uint64_t> (graal_isolate->ReadInt64FromSharedBuffer());
     }
 }
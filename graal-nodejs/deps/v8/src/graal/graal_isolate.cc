@@ -560,6 +560,7 @@ GraalIsolate::GraalIsolate(JavaVM* jvm, JNIEnv* env, v8::Isolate::CreateParams c
     if (shared_buffer_id == NULL) EXIT_WITH_MESSAGE(env, "GraalAccess.sharedBuffer field not found!\n")
     jobject shared_buffer = env->GetObjectField(access_, shared_buffer_id);
     shared_buffer_ = env->GetDirectBufferAddress(shared_buffer);
+    shared_buffer_capacity_ = (int) env->GetDirectBufferCapacity(shared_buffer);
     ResetSharedBuffer();
 
     // Externalization support
@@ -583,6 +584,7 @@ GraalIsolate::GraalIsolate(JavaVM* jvm, JNIEnv* env, v8::Isolate::CreateParams c
 
     ACCESS_METHOD(GraalAccessMethod::undefined_instance, "undefinedInstance", "()Ljava/lang/Object;")
     ACCESS_METHOD(GraalAccessMethod::null_instance, "nullInstance", "()Ljava/lang/Object;")
+    ACCESS_METHOD(GraalAccessMethod::shared_buffer_ensure_capacity, "sharedBufferEnsureCapacity", "(I)Ljava/nio/ByteBuffer;")
     ACCESS_METHOD(GraalAccessMethod::value_type, "valueType", "(Ljava/lang/Object;)I");
     ACCESS_METHOD(GraalAccessMethod::value_double, "valueDouble", "(Ljava/lang/Object;)D")
     ACCESS_METHOD(GraalAccessMethod::value_string, "valueFlatten", "(Ljava/lang/Object;)Ljava/lang/Object;")
@@ -647,6 +649,7 @@ GraalIsolate::GraalIsolate(JavaVM* jvm, JNIEnv* env, v8::Isolate::CreateParams c
     ACCESS_METHOD(GraalAccessMethod::object_define_property, "objectDefineProperty", "(Ljava/lang/Object;Ljava/lang/Object;Ljava/lang/Object;Ljava/lang/Object;Ljava/lang/Object;ZZZZZZ)Z")
     ACCESS_METHOD(GraalAccessMethod::object_preview_entries, "objectPreviewEntries", "(Ljava/lang/Object;)Ljava/lang/Object;")
     ACCESS_METHOD(GraalAccessMethod::array_new, "arrayNew", "(Ljava/lang/Object;I)Ljava/lang/Object;")
+    ACCESS_METHOD(GraalAccessMethod::array_new_from_elements, "arrayNewFromElements", "(Ljava/lang/Object;[Ljava/lang/Object;)Ljava/lang/Object;")
     ACCESS_METHOD(GraalAccessMethod::array_length, "arrayLength", "(Ljava/lang/Object;)J")
     ACCESS_METHOD(GraalAccessMethod::array_buffer_new, "arrayBufferNew", "(Ljava/lang/Object;I)Ljava/lang/Object;")
     ACCESS_METHOD(GraalAccessMethod::array_buffer_new_buffer, "arrayBufferNew", "(Ljava/lang/Object;Ljava/lang/Object;J)Ljava/lang/Object;")
@@ -838,7 +841,7 @@ GraalIsolate::GraalIsolate(JavaVM* jvm, JNIEnv* env, v8::Isolate::CreateParams c
     ACCESS_METHOD(GraalAccessMethod::big_int_new_from_unsigned, "bigIntNewFromUnsigned", "(J)Ljava/lang/Object;")
     ACCESS_METHOD(GraalAccessMethod::big_int_new_from_words, "bigIntNewFromWords", "()Ljava/lang/Object;")
     ACCESS_METHOD(GraalAccessMethod::big_int_word_count, "bigIntWordCount", "(Ljava/lang/Object;)I")
-    ACCESS_METHOD(GraalAccessMethod::big_int_to_words_array, "bigIntToWordsArray", "(Ljava/lang/Object;)V")
+    ACCESS_METHOD(GraalAccessMethod::big_int_to_words_array, "bigIntToWordsArray", "(Ljava/lang/Object;I)V")
     ACCESS_METHOD(GraalAccessMethod::shared_array_buffer_new, "sharedArrayBufferNew", "(Ljava/lang/Object;Ljava/lang/Object;JZ)Ljava/lang/Object;")
     ACCESS_METHOD(GraalAccessMethod::shared_array_buffer_is_external, "sharedArrayBufferIsExternal", "(Ljava/lang/Object;)Z")
     ACCESS_METHOD(GraalAccessMethod::shared_array_buffer_get_contents, "sharedArrayBufferGetContents", "(Ljava/lang/Object;)Ljava/lang/Object;")
@@ -1100,6 +1103,14 @@ void GraalIsolate::WriteDoubleToSharedBuffer(double number) {
     *result = number;
 }
 
+void GraalIsolate::GrowSharedBuffer(int capacity) {
+    JNIEnv* env = GetJNIEnv();
+    JNI_CALL(jobject, shared_buffer, this, GraalAccessMethod::shared_buffer_ensure_capacity, Object, (jint) capacity);
+    shared_buffer_ = env->GetDirectBufferAddress(shared_buffer);
+    shared_buffer_capacity_ = (int) env->GetDirectBufferCapacity(shared_buffer);
+    env->DeleteLocalRef(shared_buffer);
+}
+
 jobject GraalIsolate::JNIGetObjectFieldOrCall(jobject java_object, GraalAccessField graal_field_id, GraalAccessMethod graal_method_id) {
     jfieldID field = GetJNIField(graal_field_id);
     jobject result;
@@ -1373,6 +1384,27 @@ v8::MaybeLocal<v8::Value> GraalIsolate::NotifyPrepareStackTraceCallback(v8::Loca
     }
 }
 
+// Foreground task that lets the isolate settle the promises of notified
+// or timed-out Atomics.waitAsync waiters (they are settled by the microtask
+// checkpoint, i.e., when the promise jobs are processed).
+class AsyncWaitersTask : public v8::Task {
+public:
+    AsyncWaitersTask(v8::Isolate* isolate) : isolate_(isolate) {
+    }
+
+    void Run() override {
+        v8::HandleScope scope(isolate_);
+        v8::MicrotasksScope::PerformCheckpoint(isolate_);
+    }
+private:
+    v8::Isolate* isolate_;
+};
+
+void GraalIsolate::PostAsyncWaitersTask() {
+    // May be called from any thread, the task runner is thread-safe
+    task_runner_->PostTask(std::make_unique<AsyncWaitersTask>(reinterpret_cast<v8::Isolate*> (this)));
+}
+
 void GraalIsolate::EnqueueMicrotask(v8::MicrotaskCallback microtask, void* data) {
     microtasks.push_back(std::pair<v8::MicrotaskCallback, void*>(microtask, data));
 }
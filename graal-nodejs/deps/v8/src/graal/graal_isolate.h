@@ -86,6 +86,7 @@ class GraalValue;
 enum GraalAccessMethod {
     undefined_instance,
     null_instance,
+    shared_buffer_ensure_capacity,
     value_type,
     value_double,
     value_string,
@@ -150,6 +151,7 @@ enum GraalAccessMethod {
     object_define_property,
     object_preview_entries,
     array_new,
+    array_new_from_elements,
     array_length,
     array_buffer_new,
     array_buffer_new_buffer,
@@ -375,6 +377,7 @@ public:
     void WriteInt32ToSharedBuffer(int32_t number);
     void WriteInt64ToSharedBuffer(int64_t number);
     void WriteDoubleToSharedBuffer(double number);
+    void GrowSharedBuffer(int capacity);
     void InternalErrorCheck();
     static v8::Isolate* New(v8::Isolate::CreateParams const& params, v8::Isolate* placement = nullptr);
     void SetPromiseHook(v8::PromiseHook promise_hook);
@@ -389,6 +392,7 @@ public:
     v8::MaybeLocal<v8::Value> NotifyPrepareStackTraceCallback(v8::Local<v8::Context> context, v8::Local<v8::Value> error, v8::Local<v8::Array> sites);
     void EnqueueMicrotask(v8::MicrotaskCallback microtask, void* data);
     void RunMicrotasks();
+    void PostAsyncWaitersTask();
     void Enter();
     void Exit();
     void HandleEmptyCallResult();
@@ -563,6 +567,13 @@ public:
         shared_buffer_pos_ = 0;
     }
 
+    // Use before passing a variable amount of data through the shared buffer
+    inline void EnsureSharedBufferCapacity(int capacity) {
+        if (capacity > shared_buffer_capacity_) {
+            GrowSharedBuffer(capacity);
+        }
+    }
+
     inline bool StackOverflowCheckEnabled() {
         return stack_check_enabled_;
     }
@@ -668,6 +679,7 @@ private:
     GraalNumber* number_cache_[number_cache_high_ - number_cache_low_ + 1] = {};
     void* shared_buffer_;
     int shared_buffer_pos_;
+    int shared_buffer_capacity_;
     v8::MessageCallback message_listener_;
     bool sending_message_;
     v8::Isolate::AbortOnUncaughtExceptionCallback abort_on_uncaught_exception_callback_;
@@ -44,9 +44,14 @@ const NIOBufferPrototypeAllocator = typeof graalExtension === 'undefined' ? argu
 
 function patchBufferPrototype(proto) {
 	if (NIOBufferPrototypeAllocator) {
-		const bufferBuiltin = NIOBufferPrototypeAllocator(proto.utf8Write, proto.utf8Slice);
-		proto.utf8Write = bufferBuiltin.utf8Write;
-		proto.utf8Slice = bufferBuiltin.utf8Slice;
+		// The native implementations are used as fallbacks (for unusual arguments)
+		const bufferBuiltin = NIOBufferPrototypeAllocator(proto.utf8Write, proto.utf8Slice,
+				proto.latin1Write, proto.latin1Slice, proto.hexWrite, proto.hexSlice,
+				proto.base64Write, proto.base64Slice, proto.ucs2Write, proto.ucs2Slice);
+		for (const encoding of ['utf8', 'latin1', 'hex', 'base64', 'ucs2']) {
+			proto[encoding + 'Write'] = bufferBuiltin[encoding + 'Write'];
+			proto[encoding + 'Slice'] = bufferBuiltin[encoding + 'Slice'];
+		}
 	}
 }
 
@@ -271,8 +271,15 @@ public final class GraalJSAccess {
      * Java. Use it with care: reset the buffer before you use it, make sure that you read the same
      * data in the same order as you write them and perform the reading as soon as possible (as the
      * buffer may be used by any subsequent transition from Java to C).
+     *
+     * The buffer starts small and is grown on request of the native side only (see
+     * {@link #sharedBufferEnsureCapacity}), so that the native code always knows the current
+     * address. Methods that return a variable amount of data through this buffer (BigInt words)
+     * rely on the native caller having reserved enough space.
      */
-    private final ByteBuffer sharedBuffer = ByteBuffer.allocateDirect(128).order(ByteOrder.nativeOrder());
+    private ByteBuffer sharedBuffer = ByteBuffer.allocateDirect(INITIAL_SHARED_BUFFER_SIZE).order(ByteOrder.nativeOrder());
+
+    private static final int INITIAL_SHARED_BUFFER_SIZE = 128;
 
     /**
      * Caching file content, as used by e.g. the require function. While Node.js currently caches
@@ -376,6 +383,25 @@ public final class GraalJSAccess {
         return sharedBuffer;
     }
 
+    /**
+     * Ensures that the shared buffer can hold at least {@code capacity} bytes. The content of the
+     * buffer (up to its current position) is preserved. Returns the (possibly new) shared buffer.
+     */
+    public ByteBuffer sharedBufferEnsureCapacity(int capacity) {
+        ByteBuffer oldBuffer = sharedBuffer;
+        int oldCapacity = oldBuffer.capacity();
+        if (capacity > oldCapacity) {
+            int newCapacity = (int) Math.min(Integer.MAX_VALUE, Math.max(capacity, 2L * oldCapacity));
+            ByteBuffer newBuffer = ByteBuffer.allocateDirect(newCapacity).order(ByteOrder.nativeOrder());
+            int position = oldBuffer.position();
+            asBaseBuffer(oldBuffer).flip();
+            newBuffer.put(oldBuffer);
+            asBaseBuffer(newBuffer).position(position);
+            sharedBuffer = newBuffer;
+        }
+        return sharedBuffer;
+    }
+
     public int valueType(Object value) {
         return valueType(value, false);
     }
@@ -1148,6 +1174,10 @@ public final class GraalJSAccess {
         return JSArray.createConstantEmptyArray(((JSRealm) context).getContext(), length);
     }
 
+    public Object arrayNewFromElements(Object context, Object[] elements) {
+        return JSArray.createConstantObjectArray(((JSRealm) context).getContext(), elements);
+    }
+
     public long arrayLength(Object object) {
         return JSArray.arrayGetLength((DynamicObject) object);
     }
@@ -2758,6 +2788,7 @@ public final class GraalJSAccess {
     }
 
     public void isolateDispose(boolean exit, int status) {
+        agent.close();
         if (exit) {
             exit(status);
         }
@@ -2867,6 +2898,7 @@ public final class GraalJSAccess {
         Object previous = mainJSRealm.getTruffleContext().enter();
         if (list.isEmpty()) {
             agent.setThread(Thread.currentThread());
+            agent.setIsolate(isolate);
         }
         list.push(new Pair<>(isolate, previous));
     }
@@ -3409,7 +3441,7 @@ public final class GraalJSAccess {
         return (bigInt.bitLength() + ((bigInt.signum() == -1) ? 1 : 0) + 63) / 64;
     }
 
-    public void bigIntToWordsArray(Object value) {
+    public void bigIntToWordsArray(Object value, int maxCount) {
         BigInteger bigInt = ((BigInt) value).bigIntegerValue();
         resetSharedBuffer();
         int count = bigIntWordCount(value);
@@ -3418,7 +3450,8 @@ public final class GraalJSAccess {
         if (bigInt.signum() == -1) {
             bigInt = bigInt.negate();
         }
-        for (int wordIdx = 0; wordIdx < count; wordIdx++) {
+        // the native caller reserved space for maxCount words only
+        for (int wordIdx = 0; wordIdx < Math.min(count, maxCount); wordIdx++) {
             long word = 0;
             for (int bit = 63; bit >= 0; bit--) {
                 word <<= 1;
@@ -162,4 +162,6 @@ public final class NativeAccess {
 
     public static native Object syntheticModuleEvaluationSteps(long callback, Object context, Object module);
 
+    public static native void postAsyncWaitersTask(long isolate);
+
 }
@@ -40,16 +40,12 @@
  */
 package com.oracle.truffle.trufflenode;
 
-import java.util.Collections;
-import java.util.HashSet;
-import java.util.Set;
-
 import com.oracle.truffle.js.runtime.JSAgent;
 
 public class NodeJSAgent extends JSAgent {
-    // The set of active agents, i.e., agents that entered an isolate
-    private static final Set<NodeJSAgent> agents = Collections.synchronizedSet(new HashSet<>());
     private Thread thread;
+    /** Pointer to the isolate of this agent, 0 once the isolate has been disposed. */
+    private long isolate;
 
     NodeJSAgent() {
         super(true);
@@ -57,29 +53,33 @@ public class NodeJSAgent extends JSAgent {
 
     void setThread(Thread thread) {
         this.thread = thread;
-        if (thread == null) {
-            agents.remove(this);
-        } else {
-            agents.add(this);
-        }
     }
 
     Thread getThread() {
         return thread;
     }
 
+    synchronized void setIsolate(long isolate) {
+        this.isolate = isolate;
+    }
+
+    /**
+     * Posts a foreground task to the isolate so that its event loop processes the promise jobs
+     * (and settles the waiters) even if no other work is pending.
+     */
     @Override
-    public void wakeAgent(int w) {
-        synchronized (agents) {
-            for (NodeJSAgent agent : agents) {
-                if (agent.getSignifier() == w) {
-                    agent.thread.interrupt();
-                    break;
-                }
-            }
+    protected synchronized void asyncWaitersReady() {
+        if (isolate != 0) {
+            NativeAccess.postAsyncWaitersTask(isolate);
         }
     }
 
+    @Override
+    public void close() {
+        setIsolate(0);
+        super.close();
+    }
+
     @Override
     public boolean isTerminated() {
         throw new UnsupportedOperationException();
@@ -44,6 +44,7 @@ import java.util.HashMap;
 import java.util.Map;
 
 import com.oracle.truffle.api.object.DynamicObject;
+import com.oracle.truffle.trufflenode.buffer.NIOBufferEncoding;
 
 /**
  * Realm-specific embedder data.
@@ -54,6 +55,8 @@ public final class RealmData {
 
     private DynamicObject nativeUtf8Write;
     private DynamicObject nativeUtf8Slice;
+    private final DynamicObject[] nativeBufferWrite = new DynamicObject[NIOBufferEncoding.values().length];
+    private final DynamicObject[] nativeBufferSlice = new DynamicObject[NIOBufferEncoding.values().length];
     private DynamicObject resolverFactory;
     private DynamicObject extrasBindingObject;
 
@@ -84,6 +87,22 @@ public final class RealmData {
         this.nativeUtf8Slice = nativeUtf8Slice;
     }
 
+    public DynamicObject getNativeBufferWrite(NIOBufferEncoding encoding) {
+        return nativeBufferWrite[encoding.ordinal()];
+    }
+
+    public void setNativeBufferWrite(NIOBufferEncoding encoding, DynamicObject nativeWrite) {
+        nativeBufferWrite[encoding.ordinal()] = nativeWrite;
+    }
+
+    public DynamicObject getNativeBufferSlice(NIOBufferEncoding encoding) {
+        return nativeBufferSlice[encoding.ordinal()];
+    }
+
+    public void setNativeBufferSlice(NIOBufferEncoding encoding, DynamicObject nativeSlice) {
+        nativeBufferSlice[encoding.ordinal()] = nativeSlice;
+    }
+
     public void setEmbedderData(int index, Object value) {
         embedderData.put(index, value);
     }
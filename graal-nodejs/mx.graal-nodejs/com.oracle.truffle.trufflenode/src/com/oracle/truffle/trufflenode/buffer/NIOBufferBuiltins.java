@@ -52,7 +52,15 @@ public final class NIOBufferBuiltins extends JSBuiltinsContainer.SwitchEnum<NIOB
 
     public enum Buffer implements BuiltinEnum<Buffer> {
         utf8Write(0),
-        utf8Slice(0);
+        utf8Slice(0),
+        latin1Write(0),
+        latin1Slice(0),
+        hexWrite(0),
+        hexSlice(0),
+        base64Write(0),
+        base64Slice(0),
+        ucs2Write(0),
+        ucs2Slice(0);
 
         private final int length;
 
@@ -73,6 +81,22 @@ public final class NIOBufferBuiltins extends JSBuiltinsContainer.SwitchEnum<NIOB
                 return NIOBufferUTF8WriteNodeGen.create(context, builtin, args().withThis().fixedArgs(3).createArgumentNodes(context));
             case utf8Slice:
                 return NIOBufferUTF8SliceNodeGen.create(context, builtin, args().withThis().fixedArgs(2).createArgumentNodes(context));
+            case latin1Write:
+                return NIOBufferWriteNodeGen.create(context, builtin, NIOBufferEncoding.LATIN1, args().withThis().fixedArgs(3).createArgumentNodes(context));
+            case latin1Slice:
+                return NIOBufferSliceNodeGen.create(context, builtin, NIOBufferEncoding.LATIN1, args().withThis().fixedArgs(2).createArgumentNodes(context));
+            case hexWrite:
+                return NIOBufferWriteNodeGen.create(context, builtin, NIOBufferEncoding.HEX, args().withThis().fixedArgs(3).createArgumentNodes(context));
+            case hexSlice:
+                return NIOBufferSliceNodeGen.create(context, builtin, NIOBufferEncoding.HEX, args().withThis().fixedArgs(2).createArgumentNodes(context));
+            case base64Write:
+                return NIOBufferWriteNodeGen.create(context, builtin, NIOBufferEncoding.BASE64, args().withThis().fixedArgs(3).createArgumentNodes(context));
+            case base64Slice:
+                return NIOBufferSliceNodeGen.create(context, builtin, NIOBufferEncoding.BASE64, args().withThis().fixedArgs(2).createArgumentNodes(context));
+            case ucs2Write:
+                return NIOBufferWriteNodeGen.create(context, builtin, NIOBufferEncoding.UCS2, args().withThis().fixedArgs(3).createArgumentNodes(context));
+            case ucs2Slice:
+                return NIOBufferSliceNodeGen.create(context, builtin, NIOBufferEncoding.UCS2, args().withThis().fixedArgs(2).createArgumentNodes(context));
         }
         return null;
     }
@@ -0,0 +1,361 @@
+/*
+ * Copyright (c) 2020, 2020, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * The Universal Permissive License (UPL), Version 1.0
+ *
+ * Subject to the condition set forth below, permission is hereby granted to any
+ * person obtaining a copy of this software, associated documentation and/or
+ * data (collectively the "Software"), free of charge and under any and all
+ * copyright rights in the Software, and any and all patent rights owned or
+ * freely licensable by each licensor hereunder covering either (i) the
+ * unmodified Software as contributed to or provided by such licensor, or (ii)
+ * the Larger Works (as defined below), to deal in both
+ *
+ * (a) the Software, and
+ *
+ * (b) any piece of software and/or hardware listed in the lrgrwrks.txt file if
+ * one is included with the Software each a "Larger Work" to which the Software
+ * is contributed by such licensors),
+ *
+ * without restriction, including without limitation the rights to copy, create
+ * derivative works of, display, perform, and distribute the Software and make,
+ * use, sell, offer for sale, import, export, have made, and have sold the
+ * Software and the Larger Work(s), and to sublicense the foregoing rights on
+ * either these or other terms.
+ *
+ * This license is subject to the following condition:
+ *
+ * The above copyright notice and either this complete permission notice or at a
+ * minimum a reference to the UPL must be included in all copies or substantial
+ * portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.oracle.truffle.trufflenode.buffer;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+import com.oracle.truffle.api.CompilerDirectives.TruffleBoundary;
+
+/**
+ * Implementation of the latin1, hex, base64 and ucs2 encodings of the buffer builtins. The
+ * behavior (including the handling of invalid input) follows {@code StringBytes::Encode} and
+ * {@code StringBytes::Write} of Node.js.
+ */
+final class NIOBufferCoder {
+
+    private static final byte[] HEX_DIGITS = "0123456789abcdef".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] BASE64_DIGITS = "ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789+/".getBytes(StandardCharsets.US_ASCII);
+
+    /** Values of hex digits, -1 for other characters. */
+    private static final byte[] UNHEX = new byte[256];
+    /** Values of base64 digits (including the URL-safe ones), -1 for other characters. */
+    private static final byte[] UNBASE64 = new byte[256];
+
+    static {
+        Arrays.fill(UNHEX, (byte) -1);
+        for (int i = 0; i < 16; i++) {
+            UNHEX[HEX_DIGITS[i]] = (byte) i;
+            UNHEX[Character.toUpperCase(HEX_DIGITS[i])] = (byte) i;
+        }
+        Arrays.fill(UNBASE64, (byte) -1);
+        for (int i = 0; i < 64; i++) {
+            UNBASE64[BASE64_DIGITS[i]] = (byte) i;
+        }
+        UNBASE64['-'] = 62;
+        UNBASE64['_'] = 63;
+    }
+
+    private NIOBufferCoder() {
+    }
+
+    /**
+     * Returns the length of the string produced by {@link #slice} from {@code byteLength} bytes.
+     */
+    static long sliceLength(NIOBufferEncoding encoding, int byteLength) {
+        switch (encoding) {
+            case LATIN1:
+                return byteLength;
+            case HEX:
+                return 2L * byteLength;
+            case BASE64:
+                return (byteLength + 2L) / 3 * 4;
+            case UCS2:
+                return byteLength / 2;
+            default:
+                throw new IllegalArgumentException(encoding.name());
+        }
+    }
+
+    /**
+     * Encodes the bytes between the position and the limit of {@code data} into a string.
+     */
+    @TruffleBoundary
+    static String slice(NIOBufferEncoding encoding, ByteBuffer data) {
+        byte[] bytes = new byte[data.remaining()];
+        data.get(bytes);
+        switch (encoding) {
+            case LATIN1:
+                return new String(bytes, StandardCharsets.ISO_8859_1);
+            case HEX:
+                return hexSlice(bytes);
+            case BASE64:
+                return base64Slice(bytes);
+            case UCS2:
+                return ucs2Slice(bytes);
+            default:
+                throw new IllegalArgumentException(encoding.name());
+        }
+    }
+
+    private static String hexSlice(byte[] bytes) {
+        byte[] result = new byte[2 * bytes.length];
+        for (int i = 0; i < bytes.length; i++) {
+            int b = bytes[i] & 0xFF;
+            result[2 * i] = HEX_DIGITS[b >> 4];
+            result[2 * i + 1] = HEX_DIGITS[b & 0x0F];
+        }
+        return new String(result, StandardCharsets.ISO_8859_1);
+    }
+
+    private static String base64Slice(byte[] bytes) {
+        int length = bytes.length;
+        byte[] result = new byte[(int) sliceLength(NIOBufferEncoding.BASE64, length)];
+        int n = length / 3 * 3;
+        int i = 0;
+        int k = 0;
+        while (i < n) {
+            int a = bytes[i] & 0xFF;
+            int b = bytes[i + 1] & 0xFF;
+            int c = bytes[i + 2] & 0xFF;
+            result[k] = BASE64_DIGITS[a >> 2];
+            result[k + 1] = BASE64_DIGITS[((a & 0x03) << 4) | (b >> 4)];
+            result[k + 2] = BASE64_DIGITS[((b & 0x0F) << 2) | (c >> 6)];
+            result[k + 3] = BASE64_DIGITS[c & 0x3F];
+            i += 3;
+            k += 4;
+        }
+        if (n != length) {
+            int a = bytes[i] & 0xFF;
+            result[k] = BASE64_DIGITS[a >> 2];
+            if (length - n == 1) {
+                result[k + 1] = BASE64_DIGITS[(a & 0x03) << 4];
+                result[k + 2] = '=';
+            } else {
+                int b = bytes[i + 1] & 0xFF;
+                result[k + 1] = BASE64_DIGITS[((a & 0x03) << 4) | (b >> 4)];
+                result[k + 2] = BASE64_DIGITS[(b & 0x0F) << 2];
+            }
+            result[k + 3] = '=';
+        }
+        return new String(result, StandardCharsets.ISO_8859_1);
+    }
+
+    private static String ucs2Slice(byte[] bytes) {
+        char[] result = new char[bytes.length / 2];
+        for (int i = 0; i < result.length; i++) {
+            // little-endian regardless of the platform
+            result[i] = (char) ((bytes[2 * i] & 0xFF) | ((bytes[2 * i + 1] & 0xFF) << 8));
+        }
+        return new String(result);
+    }
+
+    /**
+     * Decodes {@code str} into {@code buffer} between {@code offset} and {@code limit}. Returns the
+     * number of bytes written.
+     */
+    @TruffleBoundary
+    static int write(NIOBufferEncoding encoding, String str, ByteBuffer buffer, int offset, int limit) {
+        switch (encoding) {
+            case LATIN1:
+                return latin1Write(str, buffer, offset, limit);
+            case HEX:
+                return hexWrite(str, buffer, offset, limit);
+            case BASE64:
+                return new Base64Decoder(str, buffer, offset, limit).decode();
+            case UCS2:
+                return ucs2Write(str, buffer, offset, limit);
+            default:
+                throw new IllegalArgumentException(encoding.name());
+        }
+    }
+
+    private static int latin1Write(String str, ByteBuffer buffer, int offset, int limit) {
+        int length = Math.min(str.length(), limit - offset);
+        for (int i = 0; i < length; i++) {
+            buffer.put(offset + i, (byte) str.charAt(i));
+        }
+        return length;
+    }
+
+    private static int hexWrite(String str, ByteBuffer buffer, int offset, int limit) {
+        int srcLength = str.length();
+        int dstLength = limit - offset;
+        int i;
+        for (i = 0; i < dstLength && 2 * i + 1 < srcLength; i++) {
+            // only the low byte of the characters is considered, like in Node.js
+            int a = UNHEX[str.charAt(2 * i) & 0xFF];
+            int b = UNHEX[str.charAt(2 * i + 1) & 0xFF];
+            if (a < 0 || b < 0) {
+                break;
+            }
+            buffer.put(offset + i, (byte) ((a << 4) | b));
+        }
+        return i;
+    }
+
+    private static int ucs2Write(String str, ByteBuffer buffer, int offset, int limit) {
+        int length = Math.min(str.length(), (limit - offset) / 2);
+        for (int i = 0; i < length; i++) {
+            char c = str.charAt(i);
+            // little-endian regardless of the platform
+            buffer.put(offset + 2 * i, (byte) c);
+            buffer.put(offset + 2 * i + 1, (byte) (c >> 8));
+        }
+        return 2 * length;
+    }
+
+    /**
+     * Port of {@code base64_decode} of Node.js: characters that are not base64 digits are skipped,
+     * decoding stops at the first '=' that occurs at an unexpected place.
+     */
+    private static final class Base64Decoder {
+        private final String src;
+        private final int srcLength;
+        private final ByteBuffer dst;
+        private final int dstOffset;
+        private final int dstLength;
+        private int i;
+        private int k;
+
+        Base64Decoder(String src, ByteBuffer dst, int offset, int limit) {
+            this.src = src;
+            this.srcLength = src.length();
+            this.dst = dst;
+            this.dstOffset = offset;
+            this.dstLength = limit - offset;
+        }
+
+        private static int unbase64(char c) {
+            return UNBASE64[c & 0xFF];
+        }
+
+        int decode() {
+            int available = Math.min(dstLength, decodedSize());
+            int maxK = available / 3 * 3;
+            int maxI = srcLength / 4 * 4;
+            while (i < maxI && k < maxK) {
+                int a = unbase64(src.charAt(i));
+                int b = unbase64(src.charAt(i + 1));
+                int c = unbase64(src.charAt(i + 2));
+                int d = unbase64(src.charAt(i + 3));
+                if ((a | b | c | d) < 0) {
+                    // whitespace or invalid characters
+                    if (!decodeGroupSlow()) {
+                        return k;
+                    }
+                    maxI = i + (srcLength - i) / 4 * 4;
+                } else {
+                    put((a << 2) | (b >> 4));
+                    put(((b & 0x0F) << 4) | (c >> 2));
+                    put(((c & 0x03) << 6) | d);
+                    i += 4;
+                }
+            }
+            if (i < srcLength && k < dstLength) {
+                decodeGroupSlow();
+            }
+            return k;
+        }
+
+        private int decodedSize() {
+            int size = srcLength;
+            if (size == 0) {
+                return 0;
+            }
+            if (src.charAt(size - 1) == '=') {
+                size--;
+            }
+            if (size > 0 && src.charAt(size - 1) == '=') {
+                size--;
+            }
+            int remainder = size % 4;
+            int result = (size / 4) * 3;
+            if (remainder != 0) {
+                if (result == 0 && remainder == 1) {
+                    // 1-byte input cannot be decoded
+                    result = 0;
+                } else {
+                    result += 1 + (remainder == 3 ? 1 : 0);
+                }
+            }
+            return result;
+        }
+
+        private void put(int value) {
+            dst.put(dstOffset + k, (byte) value);
+            k++;
+        }
+
+        /**
+         * Returns the value of the next base64 digit or -1 when the decoding should stop.
+         */
+        private int nextDigit() {
+            while (true) {
+                char c = src.charAt(i);
+                int value = unbase64(c);
+                i++;
+                if (value >= 0) {
+                    return value;
+                }
+                if (c == '=' || i >= srcLength) {
+                    return -1;
+                }
+            }
+        }
+
+        /**
+         * Decodes one group of 4 digits skipping invalid characters. Returns {@code false} when
+         * the decoding should stop.
+         */
+        private boolean decodeGroupSlow() {
+            int hi = nextDigit();
+            if (hi < 0 || i >= srcLength || k >= dstLength) {
+                return false;
+            }
+            int lo = nextDigit();
+            if (lo < 0) {
+                return false;
+            }
+            put(((hi & 0x3F) << 2) | ((lo & 0x30) >> 4));
+            if (i >= srcLength || k >= dstLength) {
+                return false;
+            }
+            hi = lo;
+            lo = nextDigit();
+            if (lo < 0) {
+                return false;
+            }
+            put(((hi & 0x0F) << 4) | ((lo & 0x3C) >> 2));
+            if (i >= srcLength || k >= dstLength) {
+                return false;
+            }
+            hi = lo;
+            lo = nextDigit();
+            if (lo < 0) {
+                return false;
+            }
+            put(((hi & 0x03) << 6) | (lo & 0x3F));
+            return i < srcLength && k < dstLength;
+        }
+    }
+}
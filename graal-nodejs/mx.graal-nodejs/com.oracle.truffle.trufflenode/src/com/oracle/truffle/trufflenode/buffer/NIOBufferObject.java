@@ -87,16 +87,22 @@ public final class NIOBufferObject extends JSBuiltinObject {
             @Override
             public Object execute(VirtualFrame frame) {
                 Object[] args = frame.getArguments();
-                assert args.length == 4;
+                assert args.length == 4 + 2 * NIOBufferEncoding.values().length;
                 DynamicObject nativeUtf8Write = (DynamicObject) args[2];
                 DynamicObject nativeUtf8Slice = (DynamicObject) args[3];
                 RealmData embedderData = GraalJSAccess.getRealmEmbedderData(context.getRealm());
                 embedderData.setNativeUtf8Write(nativeUtf8Write);
                 embedderData.setNativeUtf8Slice(nativeUtf8Slice);
+                // followed by the write and slice functions of the other encodings
+                int index = 4;
+                for (NIOBufferEncoding encoding : NIOBufferEncoding.values()) {
+                    embedderData.setNativeBufferWrite(encoding, (DynamicObject) args[index++]);
+                    embedderData.setNativeBufferSlice(encoding, (DynamicObject) args[index++]);
+                }
                 return create(context);
             }
         };
-        JSFunctionData functionData = JSFunctionData.createCallOnly(context, Truffle.getRuntime().createCallTarget(wrapperNode), 2, "NIOBufferBuiltinsInitFunction");
+        JSFunctionData functionData = JSFunctionData.createCallOnly(context, Truffle.getRuntime().createCallTarget(wrapperNode), 10, "NIOBufferBuiltinsInitFunction");
         return JSFunction.create(realm, functionData);
     }
 
@@ -0,0 +1,284 @@
+/*
+ * Copyright (c) 2020, 2020, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * The Universal Permissive License (UPL), Version 1.0
+ *
+ * Subject to the condition set forth below, permission is hereby granted to any
+ * person obtaining a copy of this software, associated documentation and/or
+ * data (collectively the "Software"), free of charge and under any and all
+ * copyright rights in the Software, and any and all patent rights owned or
+ * freely licensable by each licensor hereunder covering either (i) the
+ * unmodified Software as contributed to or provided by such licensor, or (ii)
+ * the Larger Works (as defined below), to deal in both
+ *
+ * (a) the Software, and
+ *
+ * (b) any piece of software and/or hardware listed in the lrgrwrks.txt file if
+ * one is included with the Software each a "Larger Work" to which the Software
+ * is contributed by such licensors),
+ *
+ * without restriction, including without limitation the rights to copy, create
+ * derivative works of, display, perform, and distribute the Software and make,
+ * use, sell, offer for sale, import, export, have made, and have sold the
+ * Software and the Larger Work(s), and to sublicense the foregoing rights on
+ * either these or other terms.
+ *
+ * This license is subject to the following condition:
+ *
+ * The above copyright notice and either this complete permission notice or at a
+ * minimum a reference to the UPL must be included in all copies or substantial
+ * portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.oracle.truffle.trufflenode.buffer;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+
+import com.oracle.truffle.api.CompilerDirectives.TruffleBoundary;
+
+/**
+ * UTF-8 transcoder used by the {@code utf8Slice} and {@code utf8Write} buffer builtins. Invalid
+ * input is handled the same way as in V8 (so that no native fallback is needed): when decoding,
+ * every maximal subpart of an ill-formed sequence is replaced by U+FFFD; when encoding, unpaired
+ * surrogates are encoded as U+FFFD. Runs of ASCII characters are processed eight bytes at a time
+ * and strings that fit into Latin-1 are created from a {@code byte[]}.
+ */
+final class NIOBufferUTF8Coder {
+
+    private static final long NON_ASCII_MASK = 0x8080808080808080L;
+    private static final char REPLACEMENT_CHARACTER = '\uFFFD';
+
+    private NIOBufferUTF8Coder() {
+    }
+
+    /**
+     * Decodes the bytes between the position and the limit of {@code data}.
+     */
+    @TruffleBoundary
+    static String decode(ByteBuffer data) {
+        int start = data.position();
+        int end = data.limit();
+        int length = end - start;
+        byte[] latin1 = new byte[length];
+        int count = asciiPrefixLength(data, start, end);
+        data.get(latin1, 0, count);
+        int i = start + count;
+        while (i < end) {
+            int b = data.get(i);
+            if (b >= 0) {
+                if (i + Long.BYTES <= end && (data.getLong(i) & NON_ASCII_MASK) == 0) {
+                    for (int k = 0; k < Long.BYTES; k++) {
+                        latin1[count++] = data.get(i + k);
+                    }
+                    i += Long.BYTES;
+                } else {
+                    latin1[count++] = (byte) b;
+                    i++;
+                }
+                continue;
+            }
+            long sequence = decodeSequence(data, i, end);
+            int codePoint = (int) sequence;
+            if (codePoint > 0xFF) {
+                break;
+            }
+            latin1[count++] = (byte) codePoint;
+            i = (int) (sequence >>> 32);
+        }
+        if (i == end) {
+            return new String(latin1, 0, count, StandardCharsets.ISO_8859_1);
+        }
+
+        // at least one character outside of Latin-1
+        char[] chars = new char[length];
+        for (int k = 0; k < count; k++) {
+            chars[k] = (char) (latin1[k] & 0xFF);
+        }
+        while (i < end) {
+            int b = data.get(i);
+            if (b >= 0) {
+                if (i + Long.BYTES <= end && (data.getLong(i) & NON_ASCII_MASK) == 0) {
+                    for (int k = 0; k < Long.BYTES; k++) {
+                        chars[count++] = (char) data.get(i + k);
+                    }
+                    i += Long.BYTES;
+                } else {
+                    chars[count++] = (char) b;
+                    i++;
+                }
+                continue;
+            }
+            long sequence = decodeSequence(data, i, end);
+            int codePoint = (int) sequence;
+            if (codePoint >= Character.MIN_SUPPLEMENTARY_CODE_POINT) {
+                chars[count++] = Character.highSurrogate(codePoint);
+                chars[count++] = Character.lowSurrogate(codePoint);
+            } else {
+                chars[count++] = (char) codePoint;
+            }
+            i = (int) (sequence >>> 32);
+        }
+        return new String(chars, 0, count);
+    }
+
+    private static int asciiPrefixLength(ByteBuffer data, int start, int end) {
+        int i = start;
+        while (i + Long.BYTES <= end && (data.getLong(i) & NON_ASCII_MASK) == 0) {
+            i += Long.BYTES;
+        }
+        while (i < end && data.get(i) >= 0) {
+            i++;
+        }
+        return i - start;
+    }
+
+    /**
+     * Decodes the multi-byte sequence starting at {@code start}. Returns the index of the next
+     * sequence in the upper and the decoded code point in the lower 32 bits.
+     */
+    private static long decodeSequence(ByteBuffer data, int start, int end) {
+        int b = data.get(start) & 0xFF;
+        int continuationBytes;
+        int codePoint;
+        int lower = 0x80;
+        int upper = 0xBF;
+        if (b >= 0xC2 && b <= 0xDF) {
+            continuationBytes = 1;
+            codePoint = b & 0x1F;
+        } else if (b >= 0xE0 && b <= 0xEF) {
+            continuationBytes = 2;
+            codePoint = b & 0x0F;
+            if (b == 0xE0) {
+                lower = 0xA0; // overlong
+            } else if (b == 0xED) {
+                upper = 0x9F; // surrogate
+            }
+        } else if (b >= 0xF0 && b <= 0xF4) {
+            continuationBytes = 3;
+            codePoint = b & 0x07;
+            if (b == 0xF0) {
+                lower = 0x90; // overlong
+            } else if (b == 0xF4) {
+                upper = 0x8F; // above U+10FFFF
+            }
+        } else {
+            return sequence(start + 1, REPLACEMENT_CHARACTER);
+        }
+        int i = start + 1;
+        for (int k = 0; k < continuationBytes; k++) {
+            if (i == end) {
+                return sequence(i, REPLACEMENT_CHARACTER);
+            }
+            int c = data.get(i) & 0xFF;
+            if (c < lower || c > upper) {
+                // the offending byte starts the next sequence
+                return sequence(i, REPLACEMENT_CHARACTER);
+            }
+            codePoint = (codePoint << 6) | (c & 0x3F);
+            lower = 0x80;
+            upper = 0xBF;
+            i++;
+        }
+        return sequence(i, codePoint);
+    }
+
+    private static long sequence(int next, int codePoint) {
+        return ((long) next << 32) | codePoint;
+    }
+
+    /**
+     * Encodes as many whole characters of {@code str} as fit into {@code buffer} between
+     * {@code offset} and {@code limit}. Returns the number of bytes written.
+     */
+    @TruffleBoundary
+    static int encode(String str, ByteBuffer buffer, int offset, int limit) {
+        int length = str.length();
+        int pos = offset;
+        int i = 0;
+        int asciiEnd = Math.min(length, limit - offset);
+        boolean littleEndian = buffer.order() == ByteOrder.LITTLE_ENDIAN;
+        while (i + Long.BYTES <= asciiEnd) {
+            long word = 0;
+            int bits = 0;
+            for (int k = 0; k < Long.BYTES; k++) {
+                char c = str.charAt(i + k);
+                bits |= c;
+                word |= (long) c << (littleEndian ? (k << 3) : (56 - (k << 3)));
+            }
+            if (bits >= 0x80) {
+                break;
+            }
+            buffer.putLong(pos, word);
+            pos += Long.BYTES;
+            i += Long.BYTES;
+        }
+        while (i < length) {
+            char c = str.charAt(i);
+            if (c < 0x80) {
+                if (pos >= limit) {
+                    break;
+                }
+                buffer.put(pos++, (byte) c);
+            } else if (c < 0x800) {
+                if (pos + 2 > limit) {
+                    break;
+                }
+                buffer.put(pos++, (byte) (0xC0 | (c >> 6)));
+                buffer.put(pos++, (byte) (0x80 | (c & 0x3F)));
+            } else if (Character.isHighSurrogate(c) && i + 1 < length && Character.isLowSurrogate(str.charAt(i + 1))) {
+                if (pos + 4 > limit) {
+                    break;
+                }
+                int codePoint = Character.toCodePoint(c, str.charAt(i + 1));
+                buffer.put(pos++, (byte) (0xF0 | (codePoint >> 18)));
+                buffer.put(pos++, (byte) (0x80 | ((codePoint >> 12) & 0x3F)));
+                buffer.put(pos++, (byte) (0x80 | ((codePoint >> 6) & 0x3F)));
+                buffer.put(pos++, (byte) (0x80 | (codePoint & 0x3F)));
+                i++;
+            } else {
+                if (pos + 3 > limit) {
+                    break;
+                }
+                char ch = Character.isSurrogate(c) ? REPLACEMENT_CHARACTER : c;
+                buffer.put(pos++, (byte) (0xE0 | (ch >> 12)));
+                buffer.put(pos++, (byte) (0x80 | ((ch >> 6) & 0x3F)));
+                buffer.put(pos++, (byte) (0x80 | (ch & 0x3F)));
+            }
+            i++;
+        }
+        return pos - offset;
+    }
+
+    /**
+     * Returns the number of bytes needed to encode {@code str}.
+     */
+    @TruffleBoundary
+    static int utf8Length(String str) {
+        int length = str.length();
+        int result = length;
+        for (int i = 0; i < length; i++) {
+            char c = str.charAt(i);
+            if (c >= 0x80) {
+                if (c < 0x800) {
+                    result += 1;
+                } else if (Character.isHighSurrogate(c) && i + 1 < length && Character.isLowSurrogate(str.charAt(i + 1))) {
+                    result += 2; // 4 bytes for 2 chars
+                    i++;
+                } else {
+                    result += 2;
+                }
+            }
+        }
+        return result;
+    }
+}
@@ -179,6 +179,10 @@ public class Deserializer {
                 return readHostObject();
             case SHARED_JAVA_OBJECT:
                 return readSharedJavaObject(context);
+            case SHARED_JAVA_STRING:
+                return readSharedJavaValue();
+            case SHARED_JAVA_ARRAY_BUFFER:
+                return readSharedJavaArrayBuffer(context);
             default:
                 throw Errors.createError("Deserialization of a value tagged " + tag);
         }
@@ -318,10 +322,11 @@ public class Deserializer {
     private DynamicObject readJSArrayBuffer(JSContext context) {
         int byteLength = readVarInt();
         DynamicObject arrayBuffer = JSArrayBuffer.createDirectArrayBuffer(context, byteLength);
-        ByteBuffer byteBuffer = JSArrayBuffer.getDirectByteBuffer(arrayBuffer);
-        for (int i = 0; i < byteLength; i++) {
-            byteBuffer.put(i, buffer.get());
-        }
+        ByteBuffer byteBuffer = JSArrayBuffer.getDirectByteBuffer(arrayBuffer).duplicate();
+        ByteBuffer contents = buffer.duplicate();
+        asBaseBuffer(contents).limit(contents.position() + byteLength);
+        byteBuffer.put(contents);
+        asBaseBuffer(buffer).position(buffer.position() + byteLength);
         assignId(arrayBuffer);
         return (peekTag() == SerializationTag.ARRAY_BUFFER_VIEW) ? readJSArrayBufferView(context, arrayBuffer) : arrayBuffer;
     }
@@ -486,13 +491,30 @@ public class Deserializer {
     }
 
     public Object readSharedJavaObject(JSContext context) {
+        Object element = readSharedJavaValue();
+        return context.getRealm().getEnv().asGuestValue(element);
+    }
+
+    private DynamicObject readSharedJavaArrayBuffer(JSContext context) {
+        ByteBuffer contents = (ByteBuffer) readSharedJavaValue();
+        DynamicObject arrayBuffer = assignId(JSArrayBuffer.createDirectArrayBuffer(context, contents));
+        return (peekTag() == SerializationTag.ARRAY_BUFFER_VIEW) ? readJSArrayBufferView(context, arrayBuffer) : arrayBuffer;
+    }
+
+    /**
+     * Takes a value passed by reference from the Java reference queue of the message port.
+     */
+    private Object readSharedJavaValue() {
         long messagePortPointer = readVarLong();
         if (messagePortCache == null || messagePortCache.getMessagePortDataPointer() != messagePortPointer) {
             messagePortCache = SharedMemMessagingManager.getMessagePortDataFor(messagePortPointer);
         }
-        Object element = messagePortCache.removeJavaRef();
-        assert element != null;
-        return context.getRealm().getEnv().asGuestValue(element);
+        long id = readVarLong();
+        Object element = messagePortCache.removeJavaRef(id);
+        if (element == null) {
+            throw Errors.createError("Missing shared Java value " + id);
+        }
+        return element;
     }
 
     public int readBytes(int length) {
@@ -80,7 +80,9 @@ public enum SerializationTag {
     THE_HOLE('-'), // kTheHole
     OBJECT_REFERENCE('^'), // kObjectReference
     HOST_OBJECT('\\'), // kHostObject
-    SHARED_JAVA_OBJECT('J'); // Custom, for shared interop Java objects
+    SHARED_JAVA_OBJECT('J'), // Custom, for shared interop Java objects
+    SHARED_JAVA_STRING('j'), // Custom, for strings passed by reference between workers
+    SHARED_JAVA_ARRAY_BUFFER('P'); // Custom, for ArrayBuffer contents passed between workers
 
     private final byte tag;
 
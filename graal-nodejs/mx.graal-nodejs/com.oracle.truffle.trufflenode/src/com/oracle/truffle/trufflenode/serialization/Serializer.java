@@ -66,11 +66,14 @@ import com.oracle.truffle.js.runtime.builtins.JSString;
 import com.oracle.truffle.js.runtime.objects.JSObject;
 import com.oracle.truffle.js.runtime.objects.Null;
 import com.oracle.truffle.js.runtime.objects.Undefined;
+import com.oracle.truffle.js.runtime.util.DirectByteBufferHelper;
 import com.oracle.truffle.js.runtime.util.JSHashMap;
 import com.oracle.truffle.trufflenode.GraalJSAccess;
 import com.oracle.truffle.trufflenode.NativeAccess;
 import com.oracle.truffle.trufflenode.threading.JavaMessagePortData;
 
+import static com.oracle.truffle.js.runtime.util.BufferUtil.asBaseBuffer;
+
 import java.io.UnsupportedEncodingException;
 import java.math.BigInteger;
 import java.nio.ByteBuffer;
@@ -86,11 +89,16 @@ public class Serializer {
     static final byte VERSION = (byte) 0xFF; // SerializationTag::kVersion
     static final byte LATEST_VERSION = (byte) 13; // kLatestVersion
     static final String NATIVE_UTF16_ENCODING = (ByteOrder.nativeOrder() == ByteOrder.BIG_ENDIAN) ? "UTF-16BE" : "UTF-16LE";
+    /**
+     * Strings (in chars) and {@code ArrayBuffer}s (in bytes) of at least this size are handed to
+     * the receiving worker by reference instead of being encoded into the message.
+     */
+    static final int SHARED_JAVA_VALUE_THRESHOLD = 1024;
 
     /** Pointer to the corresponding v8::ValueSerializer. */
     private final long delegate;
     /** Buffer used for serialization. */
-    private ByteBuffer buffer = allocateBuffer(1024);
+    private ByteBuffer buffer;
     /** ID of the next serialized object. **/
     private int nextId;
     /** Maps a serialized object to its ID. */
@@ -102,11 +110,16 @@ public class Serializer {
 
     private final Env env;
     private final GraalJSAccess access;
+    /** Worker message port this message is posted to, {@code null} outside of postMessage. */
+    private final JavaMessagePortData messagePort;
 
     public Serializer(JSContext mainJSContext, GraalJSAccess access, long delegate) {
         this.delegate = delegate;
         this.env = mainJSContext.getRealm().getEnv();
         this.access = access;
+        this.messagePort = access.getCurrentMessagePortData();
+        ByteBuffer pooled = (messagePort == null) ? null : messagePort.acquireSerializationBuffer();
+        this.buffer = (pooled == null) ? allocateBuffer(1024) : pooled;
     }
 
     public void setTreatArrayBufferViewsAsHostObjects(boolean treatArrayBufferViewsAsHostObjects) {
@@ -164,16 +177,19 @@ public class Serializer {
             double doubleValue = ((Number) value).doubleValue();
             writeIntOrDouble(doubleValue);
         } else if (JSRuntime.isString(value)) {
-            writeString(JSRuntime.toString(value));
+            String string = JSRuntime.toString(value);
+            if (messagePort != null && string.length() >= SHARED_JAVA_VALUE_THRESHOLD) {
+                // strings are immutable, the receiving worker can use the same instance
+                writeSharedJavaValue(SerializationTag.SHARED_JAVA_STRING, string);
+            } else {
+                writeString(string);
+            }
         } else if (JSRuntime.isBigInt(value)) {
             writeTag(SerializationTag.BIG_INT);
             writeBigIntContents((BigInt) value);
-        } else if (env.isHostObject(value) && access.getCurrentMessagePortData() != null) {
-            JavaMessagePortData messagePort = access.getCurrentMessagePortData();
-            writeTag(SerializationTag.SHARED_JAVA_OBJECT);
-            writeVarInt(messagePort.getMessagePortDataPointer());
+        } else if (env.isHostObject(value) && messagePort != null) {
             assignId(value);
-            messagePort.enqueueJavaRef(env.asHostObject(value));
+            writeSharedJavaValue(SerializationTag.SHARED_JAVA_OBJECT, env.asHostObject(value));
         } else {
             writeObject(value);
         }
@@ -242,6 +258,17 @@ public class Serializer {
         }
     }
 
+    /**
+     * Passes a value to the receiving worker through the Java reference queue of the message port.
+     * Only valid for workers of the same process. The id of the reference is written as well, so
+     * that the receiver does not pick up references left over by a failed message.
+     */
+    private void writeSharedJavaValue(SerializationTag tag, Object value) {
+        writeTag(tag);
+        writeVarInt(messagePort.getMessagePortDataPointer());
+        writeVarInt(messagePort.enqueueJavaRef(value));
+    }
+
     private void writeInt(int value) {
         writeTag(SerializationTag.INT32);
         int zigzag = (value << 1) ^ (value >> 31);
@@ -355,12 +382,18 @@ public class Serializer {
         Integer id = transferMap.get(arrayBuffer);
         if (id == null) {
             int byteLength = JSArrayBuffer.getDirectByteLength(arrayBuffer);
-            ByteBuffer byteBuffer = JSArrayBuffer.getDirectByteBuffer(arrayBuffer);
-            writeTag(SerializationTag.ARRAY_BUFFER);
-            writeVarInt(byteLength);
-            ensureFreeSpace(byteLength);
-            for (int i = 0; i < byteLength; i++) {
-                buffer.put(byteBuffer.get(i));
+            ByteBuffer byteBuffer = JSArrayBuffer.getDirectByteBuffer(arrayBuffer).duplicate();
+            asBaseBuffer(byteBuffer).position(0).limit(byteLength);
+            if (messagePort != null && byteLength >= SHARED_JAVA_VALUE_THRESHOLD) {
+                // copy the contents once, straight into the backing store of the receiving side
+                ByteBuffer contents = DirectByteBufferHelper.allocateDirect(byteLength);
+                contents.put(byteBuffer);
+                writeSharedJavaValue(SerializationTag.SHARED_JAVA_ARRAY_BUFFER, contents);
+            } else {
+                writeTag(SerializationTag.ARRAY_BUFFER);
+                writeVarInt(byteLength);
+                ensureFreeSpace(byteLength);
+                buffer.put(byteBuffer);
             }
         } else {
             writeTag(SerializationTag.ARRAY_BUFFER_TRANSFER);
@@ -530,6 +563,10 @@ public class Serializer {
     public void release(ByteBuffer targetBuffer) {
         buffer.flip();
         targetBuffer.put(buffer);
+        if (messagePort != null) {
+            messagePort.releaseSerializationBuffer(buffer);
+            buffer = null;
+        }
     }
 
     private void assignId(Object object) {
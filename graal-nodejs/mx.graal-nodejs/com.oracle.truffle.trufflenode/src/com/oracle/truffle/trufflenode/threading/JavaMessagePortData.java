@@ -40,23 +40,33 @@
  */
 package com.oracle.truffle.trufflenode.threading;
 
+import java.nio.ByteBuffer;
 import java.util.Deque;
 import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.atomic.AtomicReference;
 
 import com.oracle.truffle.api.object.DynamicObject;
 import com.oracle.truffle.trufflenode.JSExternalObject;
 
 public class JavaMessagePortData {
 
+    /** Serialization buffers larger than this are not kept for reuse. */
+    private static final int MAX_POOLED_BUFFER_SIZE = 1 << 20;
+
     private final long nativePointer;
-    private final Deque<Object> queue;
+    private final Deque<JavaRef> queue;
     private int encodedRefs;
+    /** Id of the next reference enqueued by the sender. */
+    private long nextRefId;
+    /** Serialization buffer of the last message posted to this port, reused by the next one. */
+    private final AtomicReference<ByteBuffer> pooledBuffer;
 
     public JavaMessagePortData(DynamicObject external) {
         assert JSExternalObject.isJSExternalObject(external);
         this.encodedRefs = 0;
         this.queue = new ConcurrentLinkedDeque<>();
         this.nativePointer = JSExternalObject.getPointer(external);
+        this.pooledBuffer = new AtomicReference<>();
     }
 
     public long getMessagePortDataPointer() {
@@ -75,9 +85,15 @@ public class JavaMessagePortData {
         return encodedRefs > 0;
     }
 
-    public void enqueueJavaRef(Object hostObject) {
-        queue.add(hostObject);
+    /**
+     * Enqueues a reference for the receiving side and returns its id, which is to be written into
+     * the message.
+     */
+    public long enqueueJavaRef(Object hostObject) {
+        long id = nextRefId++;
+        queue.add(new JavaRef(id, hostObject));
         encodedRefs++;
+        return id;
     }
 
     public void disposeLastMessageRefs() {
@@ -87,8 +103,51 @@ public class JavaMessagePortData {
         encodedRefs = 0;
     }
 
-    public Object removeJavaRef() {
-        return queue.removeFirst();
+    /**
+     * Removes the reference with the given id from the queue. References enqueued before it are
+     * leftovers of messages that were not (fully) deserialized, e.g., because their serialization
+     * or deserialization failed; they are dropped. Returns {@code null} if there is no such
+     * reference.
+     */
+    public Object removeJavaRef(long id) {
+        JavaRef ref;
+        while ((ref = queue.pollFirst()) != null) {
+            if (ref.id == id) {
+                return ref.value;
+            } else if (ref.id > id) {
+                queue.addFirst(ref);
+                break;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Returns the pooled serialization buffer of this port (cleared), or {@code null} if there is
+     * none or it is in use.
+     */
+    public ByteBuffer acquireSerializationBuffer() {
+        ByteBuffer buffer = pooledBuffer.getAndSet(null);
+        if (buffer != null) {
+            buffer.clear();
+        }
+        return buffer;
+    }
+
+    public void releaseSerializationBuffer(ByteBuffer buffer) {
+        if (buffer.capacity() <= MAX_POOLED_BUFFER_SIZE) {
+            pooledBuffer.set(buffer);
+        }
+    }
+
+    private static final class JavaRef {
+        final long id;
+        final Object value;
+
+        JavaRef(long id, Object value) {
+            this.id = id;
+            this.value = value;
+        }
     }
 
 }
@@ -49,7 +49,9 @@ import com.oracle.truffle.trufflenode.JSExternalObject;
 
 /**
  * Registry of active node::MessagePortData objects that have exchanged Java object references
- * during message encoding using Node's workers.
+ * during message encoding using Node's workers. Besides interop Java objects, large strings and the
+ * contents of cloned {@code ArrayBuffer}s are exchanged this way, so that they are not copied into
+ * and out of the native message.
  */
 public class SharedMemMessagingManager {
 
@@ -56,4 +56,15 @@ EXPORT_TO_JS(New) {
     args.GetReturnValue().Set(Array::New(isolate, len));
 }
 
+EXPORT_TO_JS(NewFromElements) {
+    Isolate* isolate = args.GetIsolate();
+    int length = args.Length();
+    Local<Value>* elements = new Local<Value>[length];
+    for (int i = 0; i < length; i++) {
+        elements[i] = args[i];
+    }
+    args.GetReturnValue().Set(Array::New(isolate, elements, length));
+    delete[] elements;
+}
+
 #undef SUITE
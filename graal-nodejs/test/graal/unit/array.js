@@ -54,6 +54,47 @@ describe('Array', function () {
             assert.strictEqual(arr instanceof Array, true);
             assert.strictEqual(arr.length, 123);
         });
+        it('should create an empty array from no elements', function () {
+            var arr = module.Array_NewFromElements();
+            assert.strictEqual(Array.isArray(arr), true);
+            assert.strictEqual(arr.length, 0);
+        });
+        it('should create an array from elements in order', function () {
+            var arr = module.Array_NewFromElements(1, 'two', 3.5, true, null);
+            assert.strictEqual(Array.isArray(arr), true);
+            assert.deepStrictEqual(arr, [1, 'two', 3.5, true, null]);
+        });
+        it('should keep non-primitive elements by identity', function () {
+            var obj = {};
+            var fn = function () {};
+            var inner = [1, 2];
+            var sym = Symbol('elem');
+            var arr = module.Array_NewFromElements(obj, fn, inner, sym);
+            assert.strictEqual(arr.length, 4);
+            assert.strictEqual(arr[0], obj);
+            assert.strictEqual(arr[1], fn);
+            assert.strictEqual(arr[2], inner);
+            assert.strictEqual(arr[3], sym);
+        });
+        it('should not create holes for undefined elements', function () {
+            var arr = module.Array_NewFromElements.apply(null, [1, , 3, undefined]);
+            assert.strictEqual(arr.length, 4);
+            assert.strictEqual(1 in arr, true);
+            assert.strictEqual(arr[1], undefined);
+            assert.strictEqual(3 in arr, true);
+            assert.strictEqual(arr[3], undefined);
+            assert.strictEqual(arr[2], 3);
+        });
+        it('should create an array that can be modified', function () {
+            var arr = module.Array_NewFromElements(1, 2);
+            arr.push(3);
+            arr[0] = 'x';
+            arr[10] = 10;
+            assert.strictEqual(arr.length, 11);
+            assert.strictEqual(arr[0], 'x');
+            assert.strictEqual(arr[2], 3);
+            assert.strictEqual(5 in arr, false);
+        });
     });
     describe('Length', function () {
         it('should return 0 for []', function () {
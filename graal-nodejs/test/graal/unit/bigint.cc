@@ -101,4 +101,17 @@ EXPORT_TO_JS(WordCount) {
     args.GetReturnValue().Set(args[0].As<BigInt>()->WordCount());
 }
 
+// BigInt::ToWordsArray, BigInt::NewFromWords
+
+EXPORT_TO_JS(ToWordsAndBack) {
+    Local<BigInt> bigInt = args[0].As<BigInt>();
+    int word_count = bigInt->WordCount();
+    int sign_bit;
+    uint64_t* words = new uint64_t[word_count];
+    bigInt->ToWordsArray(&sign_bit, &word_count, words);
+    MaybeLocal<BigInt> result = BigInt::NewFromWords(args.GetIsolate()->GetCurrentContext(), sign_bit, word_count, words);
+    delete[] words;
+    args.GetReturnValue().Set(result.ToLocalChecked());
+}
+
 #undef SUITE
@@ -107,4 +107,15 @@ describe('BigInt', function () {
             }
         });
     });
+    describe('ToWordsArray', function () {
+        it('should round-trip through NewFromWords', function () {
+            assert.strictEqual(module.BigInt_ToWordsAndBack(0x123456789n), 0x123456789n);
+            assert.strictEqual(module.BigInt_ToWordsAndBack(-0x123456789n), -0x123456789n);
+        });
+        it('should round-trip values that do not fit into the initial shared buffer', function () {
+            var value = (1n << 1500n) + 0x123456789n;
+            assert.strictEqual(module.BigInt_ToWordsAndBack(value), value);
+            assert.strictEqual(module.BigInt_ToWordsAndBack(-value), -value);
+        });
+    });
 });
@@ -90,6 +90,17 @@ describe('Buffer.utf8Write', function() {
     it('should deal with utf8 inputs #2', function() {
         assert.strictEqual(Buffer.alloc(10).utf8Write('½½½'), 6);
     });
+    it('should not write partial characters', function() {
+        var buffer = Buffer.alloc(10);
+        assert.strictEqual(buffer.utf8Write('abcdefg\u{1F600}', 0, 10), 7);
+        assert.strictEqual(buffer.utf8Write('abcdef\u{1F600}', 0, 10), 10);
+        assert.strictEqual(buffer.utf8Slice(6, 10), '\u{1F600}');
+    });
+    it('should replace lone surrogates', function() {
+        var buffer = Buffer.alloc(10);
+        assert.strictEqual(buffer.utf8Write('a\uD800b'), 5);
+        assert.strictEqual(buffer.utf8Slice(0, 5), 'a\uFFFDb');
+    });
     it('length is zero', function() {
         assert.strictEqual(Buffer.alloc(0).utf8Write.length, 0);
     });
@@ -137,6 +148,21 @@ describe('Buffer.utf8Slice', function() {
     it('should return an empty string #4', function() {
         assert.strictEqual(Buffer.alloc(0).utf8Slice(true, false), '');
     });
+    it('should decode long ASCII and Latin-1 strings', function() {
+        var ascii = 'The quick brown fox jumps over the lazy dog. '.repeat(10);
+        assert.strictEqual(Buffer.from(ascii).utf8Slice(), ascii);
+        var latin1 = ascii + '\u00E4\u00F6\u00FC' + ascii;
+        assert.strictEqual(Buffer.from(latin1).utf8Slice(), latin1);
+        var twoByte = latin1 + '\u20AC\u{1F600}' + ascii;
+        assert.strictEqual(Buffer.from(twoByte).utf8Slice(), twoByte);
+    });
+    it('should replace invalid sequences', function() {
+        assert.strictEqual(Buffer.from([0x61, 0xFF, 0x62]).utf8Slice(), 'a\uFFFDb');
+        assert.strictEqual(Buffer.from([0x61, 0xE2, 0x82]).utf8Slice(), 'a\uFFFD');
+        assert.strictEqual(Buffer.from([0xE2, 0x82, 0x61]).utf8Slice(), '\uFFFDa');
+        assert.strictEqual(Buffer.from([0xED, 0xA0, 0x80]).utf8Slice(), '\uFFFD\uFFFD\uFFFD');
+        assert.strictEqual(Buffer.from([0xF0, 0x9F, 0x98]).utf8Slice(), '\uFFFD');
+    });
     it('should check buffer type', function() {
         assert.throws(() => {
             Buffer.prototype.utf8Slice.call(1)
@@ -145,4 +171,87 @@ describe('Buffer.utf8Slice', function() {
     it('length is zero', function() {
         assert.strictEqual(Buffer.alloc(0).utf8Slice.length, 0);
     });
-});
\ No newline at end of file
+});
+describe('Buffer.latin1Write/latin1Slice', function() {
+    it('should round-trip all Latin-1 characters', function() {
+        var str = '';
+        for (var i = 0; i < 256; i++) {
+            str += String.fromCharCode(i);
+        }
+        var buffer = Buffer.alloc(256);
+        assert.strictEqual(buffer.latin1Write(str, 0, 256), 256);
+        assert.strictEqual(buffer.latin1Slice(0, 256), str);
+    });
+    it('should use the low byte of other characters', function() {
+        var buffer = Buffer.alloc(2);
+        assert.strictEqual(buffer.latin1Write('Ł€'), 2);
+        assert.deepStrictEqual(Array.from(buffer), [0x41, 0xAC]);
+    });
+    it('should respect offset and length', function() {
+        var buffer = Buffer.alloc(6);
+        assert.strictEqual(buffer.latin1Write('abcdef', 2, 3), 3);
+        assert.strictEqual(buffer.latin1Slice(2, 6), 'abc\u0000');
+    });
+});
+
+describe('Buffer.hexWrite/hexSlice', function() {
+    it('should encode to lower-case hex', function() {
+        assert.strictEqual(Buffer.from([0x00, 0x7F, 0xAB, 0xFF]).hexSlice(0, 4), '007fabff');
+    });
+    it('should decode upper-case and lower-case hex', function() {
+        var buffer = Buffer.alloc(4);
+        assert.strictEqual(buffer.hexWrite('0a0B', 0, 4), 2);
+        assert.deepStrictEqual(Array.from(buffer), [0x0A, 0x0B, 0, 0]);
+    });
+    it('should stop at the first invalid pair', function() {
+        var buffer = Buffer.alloc(4);
+        assert.strictEqual(buffer.hexWrite('01zz02', 0, 4), 1);
+        assert.strictEqual(buffer.hexWrite('010', 0, 4), 1);
+    });
+    it('should agree with toString', function() {
+        var buffer = Buffer.from('The quick brown fox');
+        assert.strictEqual(Buffer.from(buffer.toString('hex'), 'hex').toString(), 'The quick brown fox');
+    });
+});
+
+describe('Buffer.base64Write/base64Slice', function() {
+    it('should encode with padding', function() {
+        assert.strictEqual(Buffer.from('f').base64Slice(0, 1), 'Zg==');
+        assert.strictEqual(Buffer.from('fo').base64Slice(0, 2), 'Zm8=');
+        assert.strictEqual(Buffer.from('foo').base64Slice(0, 3), 'Zm9v');
+        assert.strictEqual(Buffer.from([0xFB, 0xFF]).base64Slice(0, 2), '+/8=');
+    });
+    it('should decode with and without padding', function() {
+        assert.strictEqual(Buffer.from('Zm9vYg==', 'base64').toString(), 'foob');
+        assert.strictEqual(Buffer.from('Zm9vYg', 'base64').toString(), 'foob');
+    });
+    it('should decode the URL-safe alphabet', function() {
+        assert.deepStrictEqual(Array.from(Buffer.from('-_8', 'base64')), [0xFB, 0xFF]);
+    });
+    it('should skip whitespace and invalid characters', function() {
+        assert.strictEqual(Buffer.from('Zm9v\nYmFy', 'base64').toString(), 'foobar');
+        assert.strictEqual(Buffer.from('Zm 9v!YmFy', 'base64').toString(), 'foobar');
+    });
+    it('should stop at padding', function() {
+        assert.strictEqual(Buffer.from('Zg==Zm9v', 'base64').toString(), 'f');
+    });
+    it('should not write beyond the length', function() {
+        var buffer = Buffer.alloc(4);
+        assert.strictEqual(buffer.base64Write('Zm9vYmFy', 1, 2), 2);
+        assert.deepStrictEqual(Array.from(buffer), [0, 0x66, 0x6F, 0]);
+    });
+});
+
+describe('Buffer.ucs2Write/ucs2Slice', function() {
+    it('should use little-endian byte order', function() {
+        var buffer = Buffer.alloc(4);
+        assert.strictEqual(buffer.ucs2Write('Ă€'), 4);
+        assert.deepStrictEqual(Array.from(buffer), [0x02, 0x01, 0xAC, 0x20]);
+        assert.strictEqual(buffer.ucs2Slice(0, 4), 'Ă€');
+    });
+    it('should write whole characters only', function() {
+        var buffer = Buffer.alloc(5);
+        assert.strictEqual(buffer.ucs2Write('abc'), 4);
+        assert.strictEqual(buffer.ucs2Slice(0, 5), 'ab');
+    });
+});
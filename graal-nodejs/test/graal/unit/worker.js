@@ -121,4 +121,60 @@ describe('Worker', function () {
         }).timeout(5000);
 
     }
+    it('should clone large strings and typed arrays', function (done) {
+        const w = new Worker(`
+                        const {
+                            parentPort
+                        } = require('worker_threads');
+
+                        parentPort.on('message', (m) => {
+                            m.view[0]++;
+                            parentPort.postMessage(m);
+                        });
+        `, {
+            eval: true
+        });
+        const text = 'x'.repeat(100000);
+        const view = new Uint8Array(1 << 16);
+        view.fill(7);
+        w.on('message', (m) => {
+            assert.strictEqual(m.text, text);
+            assert.strictEqual(m.view.length, view.length);
+            assert.strictEqual(m.view[0], 8);
+            assert.strictEqual(m.view[1], 7);
+            assert.strictEqual(m.small[0], 1);
+            // the sender's copy is not affected
+            assert.strictEqual(view[0], 7);
+            w.terminate().then(() => done());
+        });
+        w.postMessage({text, view, small: new Int32Array([1, 2])});
+    }).timeout(5000);
+    it('should not pass values of a failed message to later messages', function (done) {
+        const w = new Worker(`
+                        const {
+                            parentPort
+                        } = require('worker_threads');
+
+                        parentPort.on('message', (m) => {
+                            parentPort.postMessage(m);
+                        });
+        `, {
+            eval: true
+        });
+        const stale = 'a'.repeat(5000);
+        const staleView = new Uint8Array(5000).fill(1);
+        assert.throws(() => {
+            // the large values are passed by reference before the function fails to be cloned
+            w.postMessage({stale, staleView, f: function () {}});
+        });
+        const text = 'b'.repeat(6000);
+        const view = new Uint8Array(6000).fill(2);
+        w.on('message', (m) => {
+            assert.strictEqual(m.text, text);
+            assert.strictEqual(m.view.length, view.length);
+            assert.strictEqual(m.view[0], 2);
+            w.terminate().then(() => done());
+        });
+        w.postMessage({text, view});
+    }).timeout(5000);
 });